@@ -183,6 +183,20 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_CONNECTIONS_PER_ROUTE = "max_connections_per_route";
 
+	/**
+	 * Whether HTTP compression is enabled when communicating with the Elasticsearch cluster.
+	 * <p>
+	 * When enabled, request bodies are compressed on the fly in the gzip format,
+	 * and Elasticsearch is allowed to send gzip-compressed responses, which are decompressed transparently.
+	 * This reduces network usage significantly, at the cost of additional CPU usage on both ends.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
 	/**
 	 * Whether automatic discovery of nodes in the Elasticsearch cluster is enabled.
 	 * <p>
@@ -276,6 +290,21 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to convert hits
+	 * for search queries executed asynchronously,
+	 * i.e. when calling {@code fetchAsync(...)}.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to the number of processor cores available to the JVM on startup.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_ASYNC_THREAD_POOL_SIZE = "search.async.thread_pool.size";
+
 	/**
 	 * Property for specifying the maximum duration a {@code Scroll} will be usable if no
 	 * other results are fetched from Elasticsearch.
@@ -303,6 +332,7 @@ private Defaults() {
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
 		public static final boolean DISCOVERY_ENABLED = false;
+		public static final boolean COMPRESSION_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final boolean VERSION_CHECK_ENABLED = true;
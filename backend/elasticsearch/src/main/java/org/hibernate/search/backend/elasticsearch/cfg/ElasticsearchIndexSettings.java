@@ -52,6 +52,26 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String SCHEMA_MANAGEMENT_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT = "schema_management.minimal_required_status_wait_timeout";
 
+	/**
+	 * The interval between checks of the Elasticsearch cluster state
+	 * for a rebuild of the index started by another application node.
+	 * <p>
+	 * While an index is being rebuilt aside from the live index,
+	 * changes are written to both the live index and the index being rebuilt,
+	 * including changes applied by application nodes other than the one that started the rebuild,
+	 * provided they detect the rebuild.
+	 * Starting and aborting a rebuild wait for this interval,
+	 * so that all application nodes detect the change.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} disables detection: only the application node that started the rebuild
+	 * will write changes to the index being rebuilt.
+	 * <p>
+	 * Defaults to {@link Defaults#SCHEMA_MANAGEMENT_REBUILD_DETECTION_INTERVAL}.
+	 */
+	public static final String SCHEMA_MANAGEMENT_REBUILD_DETECTION_INTERVAL = "schema_management.rebuild_detection_interval";
+
 	/**
 	 * The path to a settings file, allowing to add custom settings to indexes created by Hibernate Search as part of schema management.
 	 * <p>
@@ -144,6 +164,125 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size of the payload of bulk requests created when processing indexing queues, in bytes.
+	 * <p>
+	 * Bulk requests are split when either this limit or the {@link #INDEXING_MAX_BULK_SIZE maximum bulk size}
+	 * is reached.
+	 * The size of the payload is estimated from the JSON representation of each indexing request;
+	 * a single indexing request exceeding this limit is sent in a bulk request of its own.
+	 * <p>
+	 * Expects a strictly positive integer value in bytes, such as {@code 10485760} (10 MiB),
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to no limit.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_BYTES;
+
+	/**
+	 * The maximum number of bulk requests sent concurrently when processing a single indexing queue.
+	 * <p>
+	 * Bulk requests affecting the same document are still sent one after the other.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_CONCURRENT_BULKS}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_MAX_CONCURRENT_BULKS = INDEXING_PREFIX + IndexingRadicals.MAX_CONCURRENT_BULKS;
+
+	/**
+	 * The maximum time to wait for more works before processing a batch of works from an indexing queue,
+	 * in milliseconds.
+	 * <p>
+	 * When strictly positive, an indexing queue that contains fewer works than the
+	 * {@link #INDEXING_LINGER_BATCH_SIZE target batch size} will wait up to that long
+	 * for more works to be submitted, so as to process fewer, bigger batches.
+	 * <p>
+	 * Expects a positive integer value in milliseconds, such as {@code 5},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_LINGER_TIME}, i.e. never wait.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_LINGER_TIME = INDEXING_PREFIX + IndexingRadicals.LINGER_TIME;
+
+	/**
+	 * The maximum target size of batches when {@link #INDEXING_LINGER_TIME lingering}.
+	 * <p>
+	 * An indexing queue stops waiting as soon as it contains that many works.
+	 * The actual target adapts to the rate at which works are submitted,
+	 * and is lowered when works are not submitted fast enough to fill a batch within the linger time.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to the {@link #INDEXING_MAX_BULK_SIZE maximum size of bulk requests}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_LINGER_BATCH_SIZE = INDEXING_PREFIX + IndexingRadicals.LINGER_BATCH_SIZE;
+
+	/**
+	 * The maximum number of times a bulk request, or some of the works it contains,
+	 * will be retried when rejected by Elasticsearch because the cluster is overloaded.
+	 * <p>
+	 * Rejections are detected through the HTTP status of responses ({@code 429} or {@code 503})
+	 * or the status of individual works in bulk responses ({@code 429}).
+	 * Rejected works are sent again in a later bulk request after an exponentially increasing, randomized delay;
+	 * other works from the same indexing queue will wait for them, so as to preserve the order of execution.
+	 * When the number of retries is exhausted, rejected works are reported as failures.
+	 * <p>
+	 * Expects a positive integer value, such as {@code 3}, or a string that can be parsed to such integer value.
+	 * {@code 0} disables retries.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_RETRIES}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_MAX_RETRIES = INDEXING_PREFIX + IndexingRadicals.MAX_RETRIES;
+
+	/**
+	 * The delay before the first retry of works {@link #INDEXING_MAX_RETRIES rejected by Elasticsearch},
+	 * in milliseconds.
+	 * <p>
+	 * The delay doubles with each subsequent retry, up to {@link #INDEXING_RETRY_MAX_DELAY},
+	 * and is randomized to avoid all indexing queues retrying at the same time.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 100},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_INITIAL_DELAY}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_RETRY_INITIAL_DELAY = INDEXING_PREFIX + IndexingRadicals.RETRY_INITIAL_DELAY;
+
+	/**
+	 * The maximum delay before a retry of works {@link #INDEXING_MAX_RETRIES rejected by Elasticsearch},
+	 * in milliseconds.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 10000},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_MAX_DELAY}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_RETRY_MAX_DELAY = INDEXING_PREFIX + IndexingRadicals.RETRY_MAX_DELAY;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -155,6 +294,13 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_BYTES = "max_bulk_bytes";
+		public static final String MAX_CONCURRENT_BULKS = "max_concurrent_bulks";
+		public static final String LINGER_TIME = "linger_time";
+		public static final String LINGER_BATCH_SIZE = "linger_batch_size";
+		public static final String MAX_RETRIES = "max_retries";
+		public static final String RETRY_INITIAL_DELAY = "retry_initial_delay";
+		public static final String RETRY_MAX_DELAY = "retry_max_delay";
 	}
 
 	/**
@@ -167,9 +313,15 @@ private Defaults() {
 
 		public static final IndexStatus SCHEMA_MANAGEMENT_MINIMAL_REQUIRED_STATUS = IndexStatus.YELLOW;
 		public static final int SCHEMA_MANAGEMENT_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT = 10_000;
+		public static final int SCHEMA_MANAGEMENT_REBUILD_DETECTION_INTERVAL = 1000;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final int INDEXING_MAX_CONCURRENT_BULKS = 1;
+		public static final int INDEXING_LINGER_TIME = 0;
+		public static final int INDEXING_MAX_RETRIES = 3;
+		public static final int INDEXING_RETRY_INITIAL_DELAY = 100;
+		public static final int INDEXING_RETRY_MAX_DELAY = 10_000;
 		public static final DynamicMapping DYNAMIC_MAPPING = DynamicMapping.STRICT;
 	}
 
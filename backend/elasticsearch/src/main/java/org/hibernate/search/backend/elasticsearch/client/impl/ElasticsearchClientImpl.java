@@ -7,9 +7,6 @@
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -33,10 +30,13 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.entity.GzipDecompressingEntity;
 import org.apache.http.entity.ContentType;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.util.EntityUtils;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
@@ -60,19 +60,21 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private final Optional<Integer> requestTimeoutMs;
 	private final int connectionTimeoutMs;
+	private final boolean compressionEnabled;
 
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
 	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			ScheduledExecutorService timeoutExecutorService,
-			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
+			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs, boolean compressionEnabled,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
 		this.requestTimeoutMs = requestTimeoutMs;
 		this.connectionTimeoutMs = connectionTimeoutMs;
+		this.compressionEnabled = compressionEnabled;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
@@ -102,7 +104,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, compressionEnabled );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -202,12 +204,19 @@ private void setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchReques
 
 	private ElasticsearchResponse convertResponse(Response response) {
 		try {
-			JsonObject body = parseBody( response );
+			HttpEntity entity = response.getEntity();
+			if ( entity != null && isGzipEncoded( response, entity ) ) {
+				entity = new GzipDecompressingEntity( entity );
+			}
+			// The body is only parsed when necessary, and can be parsed in a streaming fashion:
+			// see ElasticsearchResponse#bodyReader.
 			return new ElasticsearchResponse(
 					response.getHost(),
 					response.getStatusLine().getStatusCode(),
 					response.getStatusLine().getReasonPhrase(),
-					body );
+					gson,
+					entity == null ? null : EntityUtils.toByteArray( entity ),
+					entity == null ? null : getCharset( entity ) );
 		}
 		catch (IOException | RuntimeException e) {
 			throw log.failedToParseElasticsearchResponse( response.getStatusLine().getStatusCode(),
@@ -215,17 +224,12 @@ private ElasticsearchResponse convertResponse(Response response) {
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
-		HttpEntity entity = response.getEntity();
-		if ( entity == null ) {
-			return null;
-		}
-
-		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
-				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
-		}
+	private static boolean isGzipEncoded(Response response, HttpEntity entity) {
+		// The REST client may have decompressed the entity already,
+		// in which case neither the entity nor the response will mention an encoding anymore.
+		Header contentEncoding = entity.getContentEncoding();
+		String encoding = contentEncoding != null ? contentEncoding.getValue() : response.getHeader( HTTP.CONTENT_ENCODING );
+		return GzipFormat.CONTENT_ENCODING.equalsIgnoreCase( encoding );
 	}
 
 	private static Charset getCharset(HttpEntity entity) {
@@ -44,11 +44,15 @@ public static boolean isSuccessCode(int code) {
 	}
 
 	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
+		return toEntity( gson, request, false );
+	}
+
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, boolean gzip) throws IOException {
 		final List<JsonObject> bodyParts = request.bodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		return new GsonHttpEntity( gson, bodyParts, gzip );
 	}
 
 	public static ElasticsearchVersion getElasticsearchVersion(ElasticsearchClient client) {
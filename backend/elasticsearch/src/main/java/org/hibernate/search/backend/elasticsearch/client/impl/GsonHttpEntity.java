@@ -14,6 +14,10 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -55,6 +59,11 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Optionally, the content can be compressed in the gzip format:
+ * compression then happens on the fly, page after page,
+ * in the same {@link ProgressiveCharBufferWriter} that encodes the JSON,
+ * so that large bulks are still sent with chunked-encoding without being buffered entirely.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -63,6 +72,8 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP = new BasicHeader( HTTP.CONTENT_ENCODING, GzipFormat.CONTENT_ENCODING );
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -82,6 +93,7 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private final Gson gson;
 	private final List<JsonObject> bodyParts;
+	private final boolean gzip;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -117,15 +129,20 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 * We keep this as a field level attribute as we might have
 	 * partially rendered JSON stored in its buffers while flow control
 	 * refuses to accept more bytes.
+	 * Created lazily, so that closing this entity doesn't allocate a new writer (and its compressor).
 	 */
-	private ProgressiveCharBufferWriter writer =
-			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+	private ProgressiveCharBufferWriter writer;
 
 	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+		this( gson, bodyParts, false );
+	}
+
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, boolean gzip) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
+		this.gzip = gzip;
 		this.contentLength = -1;
 		attemptOnePassEncoding();
 	}
@@ -153,6 +170,9 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
+		if ( gzip ) {
+			return CONTENT_ENCODING_GZIP;
+		}
 		//Apparently this is the correct value:
 		return null;
 	}
@@ -171,14 +191,39 @@ public void writeTo(OutputStream out) throws IOException {
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
-		Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
+		if ( gzip ) {
+			writeCompressedTo( countingStream );
+		}
+		else {
+			Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
+			writeBodyParts( outWriter );
+		}
+		//Now we finally know the content size in bytes:
+		hintContentLength( countingStream.getBytesWritten() );
+	}
+
+	private void writeCompressedTo(OutputStream out) throws IOException {
+		// Same output as ProgressiveCharBufferWriter, see GzipFormat.
+		Deflater deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+		try {
+			out.write( GzipFormat.HEADER );
+			DeflaterOutputStream deflaterStream = new DeflaterOutputStream( out, deflater, BYTE_BUFFER_PAGE_SIZE );
+			CheckedOutputStream checkedStream = new CheckedOutputStream( deflaterStream, new CRC32() );
+			writeBodyParts( new OutputStreamWriter( checkedStream, CHARSET ) );
+			deflaterStream.finish();
+			out.write( GzipFormat.trailer( checkedStream.getChecksum().getValue(), deflater.getBytesRead() ) );
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	private void writeBodyParts(Writer outWriter) throws IOException {
 		for ( JsonObject bodyPart : bodyParts ) {
 			gson.toJson( bodyPart, outWriter );
 			outWriter.append( '\n' );
 		}
 		outWriter.flush();
-		//Now we finally know the content size in bytes:
-		hintContentLength( countingStream.getBytesWritten() );
 	}
 
 	@Override
@@ -197,8 +242,19 @@ public void close() {
 		//Nothing to close but let's make sure we re-wind the stream
 		//so that we can start from the beginning if needed
 		this.nextBodyToEncodeIndex = 0;
-		//Discard previous buffers as they might contain in-process content:
-		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		//Discard previous buffers as they might contain in-process content,
+		//and release the resources of the compressor, if any:
+		if ( this.writer != null ) {
+			this.writer.close();
+			this.writer = null;
+		}
+	}
+
+	private ProgressiveCharBufferWriter writer() {
+		if ( writer == null ) {
+			writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE, gzip );
+		}
+		return writer;
 	}
 
 	/**
@@ -217,7 +273,7 @@ private void attemptOnePassEncoding() throws IOException {
 		// as it's not set yet.
 		triggerFullWrite();
 		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
-			writer.flush();
+			writer().finish();
 			// The buffer's content length so far is the final content length,
 			// as we know the entire content has been encoded already.
 			hintContentLength( writer.contentLength() );
@@ -233,6 +289,7 @@ private void attemptOnePassEncoding() throws IOException {
 	 * @throws IOException If writing fails.
 	 */
 	private void triggerFullWrite() throws IOException {
+		ProgressiveCharBufferWriter writer = writer();
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
 			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
 			gson.toJson( bodyPart, writer );
@@ -252,6 +309,7 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// to have available space !
 		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
 
+		ProgressiveCharBufferWriter writer = writer();
 		//Re-set the encoder as it might be a different one than a previously used instance:
 		writer.setOutput( encoder );
 
@@ -264,6 +322,12 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 
 		triggerFullWrite();
 
+		if ( writer.isFlowControlPushingBack() ) {
+			//Just quit: return control to the caller and trust we'll be called again.
+			return;
+		}
+		// When compressing, this writes the end of the compressed stream; it does nothing if called again.
+		writer.finish();
 		if ( writer.isFlowControlPushingBack() ) {
 			//Just quit: return control to the caller and trust we'll be called again.
 			return;
@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+/**
+ * Constants and helpers for the gzip format (RFC 1952),
+ * for use with a raw {@link java.util.zip.Deflater} (no zlib wrapper).
+ * <p>
+ * The header is the same as the one written by {@link java.util.zip.GZIPOutputStream},
+ * except for the operating system field, which that class sets to 255 ("unknown") starting with JDK 16.
+ */
+final class GzipFormat {
+
+	static final String CONTENT_ENCODING = "gzip";
+
+	static final byte[] HEADER = new byte[] {
+			(byte) 0x1f, (byte) 0x8b, // Magic number
+			8, // Compression method: deflate
+			0, // Flags
+			0, 0, 0, 0, // Modification time
+			0, // Extra flags
+			0 // Operating system
+	};
+
+	private GzipFormat() {
+	}
+
+	/**
+	 * @param crc The CRC-32 of the uncompressed data.
+	 * @param uncompressedSize The size of the uncompressed data, in bytes.
+	 * @return The gzip trailer.
+	 */
+	static byte[] trailer(long crc, long uncompressedSize) {
+		byte[] trailer = new byte[8];
+		writeIntLittleEndian( trailer, 0, crc );
+		writeIntLittleEndian( trailer, 4, uncompressedSize );
+		return trailer;
+	}
+
+	private static void writeIntLittleEndian(byte[] bytes, int offset, long value) {
+		bytes[offset] = (byte) value;
+		bytes[offset + 1] = (byte) ( value >> 8 );
+		bytes[offset + 2] = (byte) ( value >> 16 );
+		bytes[offset + 3] = (byte) ( value >> 24 );
+	}
+
+}
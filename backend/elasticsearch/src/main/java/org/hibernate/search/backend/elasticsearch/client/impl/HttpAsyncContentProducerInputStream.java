@@ -67,7 +67,7 @@ private void writeToBuffer() throws IOException {
 
 	private int readFromBuffer() {
 		if ( buffer.hasRemaining() ) {
-			return buffer.get();
+			return buffer.get() & 0xFF;
 		}
 		else {
 			return -1;
@@ -16,6 +16,8 @@
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 import org.apache.http.nio.ContentEncoder;
 
@@ -26,6 +28,10 @@
  * To be used when your input source is not reactive (uses {@link Writer}),
  * but you have multiple elements to write and thus could take advantage of
  * reactive output to some extent.
+ * <p>
+ * Optionally, the content can be compressed on the fly in the gzip format:
+ * encoded bytes then go through a {@link Deflater} before being stored in the buffer pages,
+ * and {@link #finish()} must be called once all content has been written.
  *
  * @author Sanne Grinovero
  */
@@ -72,10 +78,39 @@ class ProgressiveCharBufferWriter extends Writer {
 
 	private int contentLength = 0;
 
+	/**
+	 * The compressor, or null if compression is disabled.
+	 */
+	private final Deflater deflater;
+
+	/**
+	 * When compression is enabled, a buffer for encoded bytes that haven't been compressed yet.
+	 */
+	private final ByteBuffer uncompressedBuffer;
+
+	private final CRC32 uncompressedChecksum;
+
+	private boolean finished = false;
+
 	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize) {
+		this( charset, charBufferSize, pageSize, false );
+	}
+
+	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize, boolean gzip) {
 		this.charsetEncoder = charset.newEncoder();
 		this.pageSize = pageSize;
 		this.charBuffer = CharBuffer.allocate( charBufferSize );
+		if ( gzip ) {
+			this.deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+			this.uncompressedBuffer = ByteBuffer.allocate( pageSize );
+			this.uncompressedChecksum = new CRC32();
+			writeRawBytes( GzipFormat.HEADER );
+		}
+		else {
+			this.deflater = null;
+			this.uncompressedBuffer = null;
+			this.uncompressedChecksum = null;
+		}
 	}
 
 	/**
@@ -158,7 +193,32 @@ public void flush() throws IOException {
 
 	@Override
 	public void close() {
-		// Nothing to do
+		if ( deflater != null ) {
+			// Release native resources; this is a no-op if already done in finish()
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Signal that all content has been written,
+	 * so that the end of the compressed stream can be stored in the buffer pages.
+	 * <p>
+	 * Calling this method is only necessary when compression is enabled.
+	 * Calling it multiple times is safe.
+	 *
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void finish() throws IOException {
+		flush();
+		if ( deflater == null || finished ) {
+			return;
+		}
+		finished = true;
+		deflater.finish();
+		deflateToPages();
+		writeRawBytes( GzipFormat.trailer( uncompressedChecksum.getValue(), deflater.getBytesRead() ) );
+		// The compressed content is entirely stored in buffer pages: release native resources early.
+		deflater.end();
 	}
 
 	/**
@@ -207,6 +267,10 @@ public int contentLength() {
 	}
 
 	private void writeToByteBuffer(CharBuffer input) throws IOException {
+		if ( deflater != null ) {
+			writeToCompressedByteBuffer( input );
+			return;
+		}
 		while ( true ) {
 			if ( currentPage == null ) {
 				currentPage = ByteBuffer.allocate( pageSize );
@@ -218,17 +282,7 @@ private void writeToByteBuffer(CharBuffer input) throws IOException {
 				return;
 			}
 			else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
-				// Avoid storing buffers if we can simply flush them
-				attemptFlushPendingBuffers( true );
-				if ( currentPage != null ) {
-					/*
-					 * We couldn't flush the current page, but it's full,
-					 * so let's move it out of the way.
-					 */
-					currentPage.flip();
-					needWritingPages.add( currentPage );
-					currentPage = null;
-				}
+				onCurrentPageFull();
 			}
 			else {
 				//Encoding exception
@@ -238,6 +292,82 @@ else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
 		}
 	}
 
+	private void writeToCompressedByteBuffer(CharBuffer input) throws IOException {
+		while ( true ) {
+			CoderResult coderResult = charsetEncoder.encode( input, uncompressedBuffer, false );
+			if ( coderResult.isError() ) {
+				//Encoding exception
+				coderResult.throwException();
+				return; //Unreachable
+			}
+			uncompressedBuffer.flip();
+			if ( uncompressedBuffer.hasRemaining() ) {
+				byte[] array = uncompressedBuffer.array();
+				int offset = uncompressedBuffer.arrayOffset() + uncompressedBuffer.position();
+				int length = uncompressedBuffer.remaining();
+				uncompressedChecksum.update( array, offset, length );
+				deflater.setInput( array, offset, length );
+				deflateToPages();
+			}
+			uncompressedBuffer.clear();
+			if ( coderResult.equals( CoderResult.UNDERFLOW ) ) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Store the output of the deflater in buffer pages
+	 * until it needs more input or, after {@link Deflater#finish()}, until it is finished.
+	 */
+	private void deflateToPages() throws IOException {
+		while ( finished ? !deflater.finished() : !deflater.needsInput() ) {
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			int written = deflater.deflate( currentPage.array(), currentPage.arrayOffset() + currentPage.position(),
+					currentPage.remaining() );
+			currentPage.position( currentPage.position() + written );
+			contentLength += written;
+			if ( !currentPage.hasRemaining() ) {
+				onCurrentPageFull();
+			}
+		}
+	}
+
+	private void writeRawBytes(byte[] bytes) {
+		int offset = 0;
+		while ( offset < bytes.length ) {
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			int length = Math.min( currentPage.remaining(), bytes.length - offset );
+			currentPage.put( bytes, offset, length );
+			offset += length;
+			contentLength += length;
+			if ( !currentPage.hasRemaining() ) {
+				// Don't attempt to flush here, just move the page out of the way.
+				currentPage.flip();
+				needWritingPages.add( currentPage );
+				currentPage = null;
+			}
+		}
+	}
+
+	private void onCurrentPageFull() throws IOException {
+		// Avoid storing buffers if we can simply flush them
+		attemptFlushPendingBuffers( true );
+		if ( currentPage != null ) {
+			/*
+			 * We couldn't flush the current page, but it's full,
+			 * so let's move it out of the way.
+			 */
+			currentPage.flip();
+			needWritingPages.add( currentPage );
+			currentPage = null;
+		}
+	}
+
 	/**
 	 * @return {@code true} if this buffer contains content to be written, {@code false} otherwise.
 	 */
@@ -6,26 +6,67 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.Charset;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import org.apache.http.HttpHost;
 
 
 public final class ElasticsearchResponse {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final HttpHost host;
 	private final int statusCode;
 
 	private final String statusMessage;
 
-	private final JsonObject body;
+	private final Gson gson;
+	private final Charset charset;
+	private byte[] rawBody;
+	private JsonObject body;
 
 	public ElasticsearchResponse(HttpHost host, int statusCode, String statusMessage, JsonObject body) {
 		this.host = host;
 		this.statusCode = statusCode;
 		this.statusMessage = statusMessage;
+		this.gson = null;
+		this.charset = null;
+		this.rawBody = null;
 		this.body = body;
 	}
 
+	/**
+	 * Creates a response whose body will only be parsed when necessary.
+	 *
+	 * @param host The host that sent the response.
+	 * @param statusCode The HTTP status code.
+	 * @param statusMessage The HTTP status message.
+	 * @param gson The Gson instance to use to parse the body into a {@link JsonObject}.
+	 * @param rawBody The unparsed body, or {@code null} if there is no body.
+	 * @param charset The charset of the unparsed body.
+	 */
+	public ElasticsearchResponse(HttpHost host, int statusCode, String statusMessage,
+			Gson gson, byte[] rawBody, Charset charset) {
+		this.host = host;
+		this.statusCode = statusCode;
+		this.statusMessage = statusMessage;
+		this.gson = gson;
+		this.charset = charset;
+		this.rawBody = rawBody;
+		this.body = null;
+	}
+
 	public HttpHost host() {
 		return host;
 	}
@@ -38,8 +79,38 @@ public String statusMessage() {
 		return statusMessage;
 	}
 
-	public JsonObject body() {
+	/**
+	 * @return The body of the response, parsed into an in-memory tree, or {@code null} if there is no body.
+	 * For large responses, prefer {@link #bodyReader()} when the tree is not necessary.
+	 */
+	public synchronized JsonObject body() {
+		if ( body == null && rawBody != null ) {
+			try ( Reader reader = bodyReader() ) {
+				body = gson.fromJson( reader, JsonObject.class );
+			}
+			catch (IOException | RuntimeException e) {
+				throw log.failedToParseElasticsearchResponse( statusCode, statusMessage, e.getMessage(), e );
+			}
+			// The raw body is no longer necessary: free up memory.
+			rawBody = null;
+		}
 		return body;
 	}
 
+	/**
+	 * @return A reader for the body of the response, allowing to parse the body in a streaming fashion
+	 * without building an in-memory tree, or {@code null} if there is no body.
+	 */
+	public synchronized Reader bodyReader() {
+		if ( rawBody != null ) {
+			return new InputStreamReader( new ByteArrayInputStream( rawBody ), charset );
+		}
+		else if ( body != null ) {
+			return new StringReader( body.toString() );
+		}
+		else {
+			return null;
+		}
+	}
+
 }
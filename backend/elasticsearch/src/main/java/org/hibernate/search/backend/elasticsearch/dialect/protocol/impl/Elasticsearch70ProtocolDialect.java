@@ -17,7 +17,7 @@
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 
 /**
- * The protocol dialect for Elasticsearch 7.0 and later 7.x.
+ * The protocol dialect for Elasticsearch 7.0 to 7.11, and OpenSearch.
  */
 public class Elasticsearch70ProtocolDialect implements ElasticsearchProtocolDialect {
 
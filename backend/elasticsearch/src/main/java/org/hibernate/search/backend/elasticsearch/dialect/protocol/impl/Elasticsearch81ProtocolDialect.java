@@ -13,7 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.Elasticsearch7SearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
-import org.hibernate.search.backend.elasticsearch.work.factory.impl.Elasticsearch7WorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.Elasticsearch712WorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 
 /**
@@ -33,7 +33,7 @@ public ElasticsearchSearchSyntax createSearchSyntax() {
 
 	@Override
 	public ElasticsearchWorkFactory createWorkFactory(GsonProvider gsonProvider) {
-		return new Elasticsearch7WorkFactory( gsonProvider );
+		return new Elasticsearch712WorkFactory( gsonProvider );
 	}
 
 	@Override
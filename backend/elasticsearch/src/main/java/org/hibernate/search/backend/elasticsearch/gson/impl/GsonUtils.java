@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.gson.impl;
 
+import java.util.Map;
+
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 public final class GsonUtils {
 
@@ -61,4 +64,74 @@ public static <T> T deepCopy(Gson gson, Class<T> objectType, T object) {
 		return gson.fromJson( gson.toJsonTree( object ), objectType );
 	}
 
+	/**
+	 * Estimates the size of the compact JSON representation of an element, encoded in UTF-8,
+	 * without actually serializing it.
+	 * <p>
+	 * The estimate ignores escape sequences in strings,
+	 * so it may be slightly lower than the actual size for strings containing many special characters.
+	 *
+	 * @param element A JSON element, or {@code null}.
+	 * @return The estimated size in bytes, or {@code 0} if {@code element} is {@code null}.
+	 */
+	public static long estimateSerializedSize(JsonElement element) {
+		if ( element == null ) {
+			return 0L;
+		}
+		else if ( element.isJsonObject() ) {
+			long size = 2L; // {}
+			boolean first = true;
+			for ( Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet() ) {
+				size += first ? 0L : 1L; // ,
+				first = false;
+				size += estimateStringSize( entry.getKey() ) + 1L; // :
+				size += estimateSerializedSize( entry.getValue() );
+			}
+			return size;
+		}
+		else if ( element.isJsonArray() ) {
+			JsonArray array = element.getAsJsonArray();
+			long size = 2L + Math.max( 0, array.size() - 1 ); // [] and commas
+			for ( JsonElement item : array ) {
+				size += estimateSerializedSize( item );
+			}
+			return size;
+		}
+		else if ( element.isJsonPrimitive() ) {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if ( primitive.isString() ) {
+				return estimateStringSize( primitive.getAsString() );
+			}
+			else {
+				// Numbers and booleans: ASCII
+				return primitive.getAsString().length();
+			}
+		}
+		else {
+			return 4L; // null
+		}
+	}
+
+	private static long estimateStringSize(String string) {
+		long size = 2L; // Quotes
+		for ( int i = 0; i < string.length(); i++ ) {
+			char c = string.charAt( i );
+			if ( c < 0x80 ) {
+				size += 1;
+			}
+			else if ( c < 0x800 ) {
+				size += 2;
+			}
+			else if ( Character.isHighSurrogate( c ) ) {
+				// Surrogate pairs take 4 bytes in total
+				size += 4;
+				i++;
+			}
+			else {
+				size += 3;
+			}
+		}
+		return size;
+	}
+
 }
@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.index;
 
+import java.util.Optional;
+
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.metamodel.ElasticsearchIndexDescriptor;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 public interface ElasticsearchIndexManager extends IndexManager {
 
@@ -18,4 +22,12 @@ public interface ElasticsearchIndexManager extends IndexManager {
 	@Override
 	ElasticsearchIndexDescriptor descriptor();
 
+	/**
+	 * @return Statistics about the retries of indexing works rejected by Elasticsearch for this index,
+	 * or an empty optional if retries are disabled for this index.
+	 * See {@link ElasticsearchIndexSettings#INDEXING_MAX_RETRIES}.
+	 */
+	@Incubating
+	Optional<IndexingRetryStatistics> indexingRetryStatistics();
+
 }
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Statistics about the retries of indexing works rejected by Elasticsearch for an index.
+ * <p>
+ * Retries can be configured through the
+ * {@link ElasticsearchIndexSettings#INDEXING_MAX_RETRIES configuration properties}.
+ */
+@Incubating
+public interface IndexingRetryStatistics {
+
+	/**
+	 * @return The number of times a bulk request was sent again
+	 * because Elasticsearch rejected it as a whole.
+	 */
+	long retriedRequestCount();
+
+	/**
+	 * @return The number of times a work was sent again in a later bulk request
+	 * because Elasticsearch rejected it while accepting other works from the same bulk request.
+	 */
+	long retriedWorkCount();
+
+	/**
+	 * @return The number of rejections that were not retried because the maximum number of retries was reached,
+	 * each counting as one for a bulk request rejected as a whole, or as one per rejected work otherwise.
+	 */
+	long exhaustedRetryCount();
+
+}
@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
@@ -18,6 +19,7 @@
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
 import org.hibernate.search.backend.elasticsearch.index.ElasticsearchIndexManager;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
+import org.hibernate.search.backend.elasticsearch.index.IndexingRetryStatistics;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBatchingWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.schema.management.impl.ElasticsearchIndexLifecycleExecutionOptions;
@@ -72,6 +74,12 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor,
 					.withDefault( ElasticsearchIndexSettings.Defaults.SCHEMA_MANAGEMENT_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<Integer> LIFECYCLE_REBUILD_DETECTION_INTERVAL =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.SCHEMA_MANAGEMENT_REBUILD_DETECTION_INTERVAL )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.SCHEMA_MANAGEMENT_REBUILD_DETECTION_INTERVAL )
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 
 	private final ElasticsearchIndexModel model;
@@ -152,6 +160,31 @@ public URLEncodedString getElasticsearchIndexWriteName() {
 		return model.names().write();
 	}
 
+	@Override
+	public URLEncodedString getElasticsearchIndexRebuildName() {
+		return schemaManager.rebuildIndexName();
+	}
+
+	@Override
+	public URLEncodedString getElasticsearchIndexLocalRebuildName() {
+		return schemaManager.localRebuildIndexName();
+	}
+
+	@Override
+	public CompletableFuture<?> startRebuild() {
+		return schemaManager.startRebuild();
+	}
+
+	@Override
+	public CompletableFuture<?> finishRebuild() {
+		return schemaManager.finishRebuild();
+	}
+
+	@Override
+	public CompletableFuture<?> abortRebuild() {
+		return schemaManager.abortRebuild();
+	}
+
 	@Override
 	public String toElasticsearchId(String tenantId, String id) {
 		return backendContext.toElasticsearchId( tenantId, id );
@@ -240,6 +273,11 @@ public ElasticsearchIndexDescriptor descriptor() {
 		return model;
 	}
 
+	@Override
+	public Optional<IndexingRetryStatistics> indexingRetryStatistics() {
+		return indexingOrchestrator.retryStatistics();
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // Checked using reflection
 	public <T> T unwrap(Class<T> clazz) {
@@ -261,7 +299,8 @@ private ElasticsearchIndexLifecycleExecutionOptions createLifecycleExecutionOpti
 			ConfigurationPropertySource propertySource) {
 		return new ElasticsearchIndexLifecycleExecutionOptions(
 				LIFECYCLE_MINIMAL_REQUIRED_STATUS.get( propertySource ),
-				LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT.get( propertySource )
+				LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT.get( propertySource ),
+				LIFECYCLE_REBUILD_DETECTION_INTERVAL.get( propertySource )
 		);
 	}
 
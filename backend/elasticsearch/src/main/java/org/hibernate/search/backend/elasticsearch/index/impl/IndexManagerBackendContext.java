@@ -160,7 +160,7 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 		multiTenancyStrategy.documentIdHelper().checkTenantId( sessionContext.tenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
 				link.getWorkFactory(), link.getSearchResultExtractorFactory(),
-				generalPurposeOrchestrator,
+				generalPurposeOrchestrator, threads.getSearchAsyncExecutor(),
 				scope, sessionContext, loadingContextBuilder, rootProjection,
 				link.getScrollTimeout()
 		);
@@ -185,6 +185,7 @@ ElasticsearchIndexSchemaManager createSchemaManager(ElasticsearchIndexModel mode
 		IndexMetadata expectedMetadata = builder.build();
 		return new ElasticsearchIndexSchemaManager(
 				link.getWorkFactory(), generalPurposeOrchestrator,
+				threads.getWorkExecutor(),
 				indexLayoutStrategy, model.names(), expectedMetadata,
 				lifecycleExecutionOptions
 		);
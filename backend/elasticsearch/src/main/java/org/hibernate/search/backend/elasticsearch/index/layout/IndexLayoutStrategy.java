@@ -28,6 +28,28 @@ public interface IndexLayoutStrategy {
 	 */
 	String createInitialElasticsearchIndexName(String hibernateSearchIndexName);
 
+	/**
+	 * Generates a new non-alias Elasticsearch name for an index,
+	 * to be used when rebuilding that index aside from the current one
+	 * before switching aliases to the rebuilt index.
+	 * <p>
+	 * This method is only called when both {@link #createReadAlias(String)} and {@link #createWriteAlias(String)}
+	 * return a non-null value.
+	 * The returned name must be different from the current name.
+	 * <p>
+	 * By default, this returns the same as {@link #createInitialElasticsearchIndexName(String)},
+	 * which is only appropriate if that method returns a different name on each call
+	 * (for example a name including a timestamp).
+	 *
+	 * @param hibernateSearchIndexName The Hibernate Search name of an index.
+	 * @param currentElasticsearchIndexName The non-alias Elasticsearch name of the index currently targeted by aliases.
+	 * @return The new non-alias Elasticsearch name for this index.
+	 */
+	default String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		return createInitialElasticsearchIndexName( hibernateSearchIndexName );
+	}
+
 	/**
 	 * Generates the write alias for an index.
 	 * <p>
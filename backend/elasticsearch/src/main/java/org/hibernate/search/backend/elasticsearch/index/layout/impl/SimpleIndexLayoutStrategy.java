@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.index.layout.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -23,6 +24,8 @@
  *     </li>
  *     <li>The write alias is {@code <hsearchname>-write}.
  *     <li>The read alias is {@code <hsearchname>-read}.
+ *     <li>When an index is rebuilt aside from the current one,
+ *     the rebuilt index gets the next number: {@code <hsearchname>-000002}, {@code <hsearchname>-000003}, ...
  * </ul>
  */
 public final class SimpleIndexLayoutStrategy implements IndexLayoutStrategy {
@@ -33,11 +36,28 @@ public final class SimpleIndexLayoutStrategy implements IndexLayoutStrategy {
 
 	public static final Pattern UNIQUE_KEY_EXTRACTION_PATTERN = Pattern.compile( "(.*)-\\d{6}" );
 
+	private static final Pattern GENERATION_EXTRACTION_PATTERN = Pattern.compile( "(.*)-(\\d{6})" );
+	private static final int MAX_GENERATION = 999_999;
+
 	@Override
 	public String createInitialElasticsearchIndexName(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-000001";
 	}
 
+	@Override
+	public String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		Matcher matcher = GENERATION_EXTRACTION_PATTERN.matcher( currentElasticsearchIndexName );
+		if ( !matcher.matches() ) {
+			return createInitialElasticsearchIndexName( hibernateSearchIndexName );
+		}
+		int nextGeneration = Integer.parseInt( matcher.group( 2 ) ) + 1;
+		if ( nextGeneration > MAX_GENERATION ) {
+			nextGeneration = 1;
+		}
+		return String.format( Locale.ROOT, "%s-%06d", matcher.group( 1 ), nextGeneration );
+	}
+
 	@Override
 	public String createWriteAlias(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-write";
@@ -726,4 +726,73 @@ SearchException invalidContextForProjectionOnField(String absolutePath,
 	SearchException invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(String absolutePath,
 			String objectFieldAbsolutePath);
 
+	@Message(id = ID_OFFSET + 156,
+			value = "Invalid search cursor: '%1$s'."
+					+ " A cursor can only be passed to the query it was retrieved from,"
+					+ " or to a query with the same sorts targeting the same indexes.")
+	SearchException invalidSearchCursor(Object cursor);
+
+	@Message(id = ID_OFFSET + 157,
+			value = "Elasticsearch request failed: %3$s\nRequest: %1$s (executed as part of a multi-search request)\nResponse: %2$s")
+	SearchException elasticsearchMultiSearchItemFailed(
+			@FormatWith(ElasticsearchRequestFormatter.class) ElasticsearchRequest request,
+			String responseItem, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 158,
+			value = "Elasticsearch rejected a bulk request with status %1$s."
+					+ " Retrying in %2$sms (retry %3$s out of %4$s).")
+	void retryingRejectedBulkRequest(int statusCode, long delayMs, int retry, int maxRetries);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 159,
+			value = "Elasticsearch rejected %1$s works out of %2$s in a bulk request."
+					+ " Retrying these works in %3$sms (retry %4$s out of %5$s).")
+	void retryingRejectedBulkedWorks(int rejectedWorkCount, int workCount, long delayMs, int retry, int maxRetries);
+
+	@Message(id = ID_OFFSET + 160,
+			value = "Unable to rebuild index '%1$s' aside from the live index:"
+					+ " the index layout strategy does not define both a read alias and a write alias for this index."
+					+ " Rebuilding an index requires aliases, so that they can be switched to the rebuilt index.")
+	SearchException indexRebuildRequiresAliases(String hibernateSearchIndexName);
+
+	@Message(id = ID_OFFSET + 161,
+			value = "Unable to rebuild index '%1$s': a rebuild of this index is already in progress.")
+	SearchException indexRebuildAlreadyInProgress(String hibernateSearchIndexName);
+
+	@Message(id = ID_OFFSET + 162,
+			value = "Unable to finish the rebuild of index '%1$s': no rebuild of this index is in progress.")
+	SearchException noIndexRebuildInProgress(String hibernateSearchIndexName);
+
+	@Message(id = ID_OFFSET + 163,
+			value = "Unable to rebuild index '%1$s': the index layout strategy returned '%2$s' as the name of the new index,"
+					+ " but that is also the name of the current index."
+					+ " Implement 'IndexLayoutStrategy.createNextElasticsearchIndexName' to return a different name.")
+	SearchException indexRebuildNameConflict(String hibernateSearchIndexName, String elasticsearchIndexName);
+
+	@Message(id = ID_OFFSET + 164,
+			value = "Unable to switch aliases from index '%1$s' to rebuilt index '%2$s': %3$s")
+	SearchException elasticsearchAliasSwitchFailed(Object previousIndexName, Object newIndexName,
+			String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 165,
+			value = "Unable to rebuild the index for tenant '%1$s': rebuilding an index replaces its whole content,"
+					+ " which would affect other tenants.")
+	SearchException unableToRebuildIndexForSingleTenant(String tenantId);
+
+	@Message(id = ID_OFFSET + 166,
+			value = "Unable to fetch hits asynchronously: this query loads entities,"
+					+ " which can only be done in the thread that owns the session."
+					+ " Use 'fetch(...)' instead, or a projection that does not load entities.")
+	SearchException cannotFetchAsyncWithEntityLoading();
+
+	@Message(id = ID_OFFSET + 167,
+			value = "Unable to rebuild index '%1$s': the rebuild alias '%2$s' already targets index(es) %3$s."
+					+ " Either another application node is rebuilding this index,"
+					+ " or a previous rebuild did not complete, for example because the application node crashed."
+					+ " In the latter case, delete the partially rebuilt index(es) before rebuilding again;"
+					+ " no change was lost, since changes are written to the live index throughout a rebuild.")
+	SearchException indexRebuildInProgressInCluster(String hibernateSearchIndexName, String rebuildAlias,
+			Set<String> elasticsearchIndexNames);
+
 }
@@ -79,6 +79,12 @@ public DiscriminatorMultiTenancyIdProjectionExtractionHelper idProjectionExtract
 		return idProjectionExtractionHelper;
 	}
 
+	@Override
+	public String idSortFieldName() {
+		// Unique among the documents of a tenant, which are the only ones returned by search queries.
+		return ID_FIELD_NAME;
+	}
+
 	private static class DiscriminatorMultiTenancyIndexSchemaRootContributor implements IndexSchemaRootContributor {
 		@Override
 		public void contribute(RootTypeMapping rootTypeMapping) {
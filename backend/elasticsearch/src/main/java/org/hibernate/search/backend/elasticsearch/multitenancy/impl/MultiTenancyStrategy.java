@@ -56,4 +56,9 @@ public interface MultiTenancyStrategy {
 	 * @return A helper for projections that need to extract the document id from search hits.
 	 */
 	ProjectionExtractionHelper<String> idProjectionExtractionHelper();
+
+	/**
+	 * @return The name of a field holding the document id, that search queries can be sorted on.
+	 */
+	String idSortFieldName();
 }
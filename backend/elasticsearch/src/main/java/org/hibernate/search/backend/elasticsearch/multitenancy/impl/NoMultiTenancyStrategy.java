@@ -64,6 +64,14 @@ public NoMultiTenancyIdProjectionExtractionHelper idProjectionExtractionHelper()
 		return idProjectionExtractionHelper;
 	}
 
+	@Override
+	public String idSortFieldName() {
+		// Sorting on "_id" relies on fielddata, which is disabled by default in Elasticsearch 8.
+		// This is only used with versions that do not support points in time (sorted on "_shard_doc" instead),
+		// i.e. Elasticsearch before 7.12 and OpenSearch, where fielddata on "_id" is enabled by default.
+		return "_id";
+	}
+
 	private static final class NoMultiTenancyElasticsearchDocumentIdHelper implements DocumentIdHelper {
 		@Override
 		public void checkTenantId(String tenantId, EventContext backendContext) {
@@ -6,42 +6,84 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
-import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
 
 /**
  * A processor for batched works that triggers work execution
  * in the order they are submitted in.
  * <p>
- * Works are added by submitting as many works as necessary through {@link #submit(BulkableWork)}.
+ * Works are added by submitting as many works as necessary through {@link #submit(IndexingWork)}.
  * Execution starts as soon as possible,
  * which may be as late as when {@link #endBatch()} is called.
  * <p>
  * Two works submitted to this orchestrator in the same batch will always be executed
  * one after the other, never in parallel.
  * <p>
+ * Works from different batches may be executed in parallel, up to a given number of batches in flight.
+ * Even then, works with the same {@link IndexingWork#getQueuingKey() queuing key} (i.e. the same document)
+ * are always executed in the order they were submitted in:
+ * a batch containing a work with the same queuing key as a batch in flight
+ * will only start executing after that batch completes.
+ * <p>
  * This class is mutable and not thread-safe.
  */
 class ElasticsearchBatchedWorkProcessor implements BatchedWorkProcessor {
 
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final ElasticsearchWorkBulker bulker;
+	private final int maxBatchesInFlight;
+
+	private final List<BatchInFlight> batchesInFlight = new ArrayList<>();
+	private volatile CompletableFuture<?> batchesInFlightCompletion = CompletableFuture.completedFuture( null );
+
+	private CompletableFuture<Void> currentBatchStart;
+	private Set<String> currentBatchQueuingKeys;
 
 	public ElasticsearchBatchedWorkProcessor(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			ElasticsearchWorkBulker bulker) {
+		this( sequenceBuilder, bulker, 1 );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to.
+	 * @param bulker The bulker to add works to.
+	 * @param maxBatchesInFlight The maximum number of batches whose execution may be in progress
+	 * when {@link #endBatch()} returns a completed future, allowing the next batch to start.
+	 */
+	public ElasticsearchBatchedWorkProcessor(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			ElasticsearchWorkBulker bulker, int maxBatchesInFlight) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulker = bulker;
+		this.maxBatchesInFlight = maxBatchesInFlight;
 	}
 
 	@Override
 	public void beginBatch() {
 		bulker.reset();
-		sequenceBuilder.init( CompletableFuture.completedFuture( null ) );
+		if ( maxBatchesInFlight > 1 ) {
+			// The start of the batch will be delayed until conflicting batches complete: see endBatch().
+			currentBatchStart = new CompletableFuture<>();
+			currentBatchQueuingKeys = new HashSet<>();
+			sequenceBuilder.init( currentBatchStart );
+		}
+		else {
+			sequenceBuilder.init( CompletableFuture.completedFuture( null ) );
+		}
 	}
 
-	public <T> CompletableFuture<T> submit(BulkableWork<T> work) {
+	public <T> CompletableFuture<T> submit(IndexingWork<T> work) {
+		if ( currentBatchQueuingKeys != null ) {
+			currentBatchQueuingKeys.add( work.getQueuingKey() );
+		}
 		return bulker.add( work );
 	}
 
@@ -49,13 +91,77 @@ public <T> CompletableFuture<T> submit(BulkableWork<T> work) {
 	public CompletableFuture<Void> endBatch() {
 		CompletableFuture<Void> future = sequenceBuilder.build();
 		bulker.finalizeBulkWork();
-		// Sequence futures are not expected to fail even if one work fails,
-		// so we can safely return this future directly.
-		return future;
+		if ( maxBatchesInFlight <= 1 ) {
+			// Sequence futures are not expected to fail even if one work fails,
+			// so we can safely return this future directly.
+			return future;
+		}
+
+		startCurrentBatch();
+		batchesInFlight.add( new BatchInFlight( currentBatchQueuingKeys, future ) );
+		currentBatchStart = null;
+		currentBatchQueuingKeys = null;
+
+		CompletableFuture<?>[] futuresInFlight = new CompletableFuture[batchesInFlight.size()];
+		for ( int i = 0; i < futuresInFlight.length; i++ ) {
+			futuresInFlight[i] = batchesInFlight.get( i ).future;
+		}
+		batchesInFlightCompletion = CompletableFuture.allOf( futuresInFlight );
+
+		if ( batchesInFlight.size() < maxBatchesInFlight ) {
+			// Let the next batch start immediately.
+			return CompletableFuture.completedFuture( null );
+		}
+		else {
+			// Let the next batch start as soon as one of the batches in flight completes.
+			// Sequence futures are not expected to fail even if one work fails,
+			// so we can safely ignore failures.
+			return CompletableFuture.anyOf( futuresInFlight ).handle( (ignored1, ignored2) -> null );
+		}
 	}
 
 	@Override
 	public void complete() {
 		// Nothing to do: if all individual works have completed, we're done.
 	}
-}
\ No newline at end of file
+
+	/**
+	 * @return A future that completes when all batches in flight have been executed.
+	 * Unlike the other methods, this can be called from any thread.
+	 */
+	CompletableFuture<?> batchesInFlightCompletion() {
+		return batchesInFlightCompletion;
+	}
+
+	private void startCurrentBatch() {
+		List<CompletableFuture<?>> conflictingFutures = new ArrayList<>();
+		for ( Iterator<BatchInFlight> iterator = batchesInFlight.iterator(); iterator.hasNext(); ) {
+			BatchInFlight batchInFlight = iterator.next();
+			if ( batchInFlight.future.isDone() ) {
+				iterator.remove();
+			}
+			else if ( !Collections.disjoint( batchInFlight.queuingKeys, currentBatchQueuingKeys ) ) {
+				conflictingFutures.add( batchInFlight.future );
+			}
+		}
+		if ( conflictingFutures.isEmpty() ) {
+			currentBatchStart.complete( null );
+		}
+		else {
+			// Preserve the relative order of works affecting the same document.
+			CompletableFuture<Void> batchStart = currentBatchStart;
+			CompletableFuture.allOf( conflictingFutures.toArray( new CompletableFuture[0] ) )
+					.whenComplete( (ignored1, ignored2) -> batchStart.complete( null ) );
+		}
+	}
+
+	private static final class BatchInFlight {
+		private final Set<String> queuingKeys;
+		private final CompletableFuture<Void> future;
+
+		private BatchInFlight(Set<String> queuingKeys, CompletableFuture<Void> future) {
+			this.queuingKeys = queuingKeys;
+			this.future = future;
+		}
+	}
+}
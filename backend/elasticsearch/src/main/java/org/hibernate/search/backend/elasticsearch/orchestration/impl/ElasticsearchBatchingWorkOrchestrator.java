@@ -6,15 +6,21 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.index.IndexingRetryStatistics;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkRetrier;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.HashTable;
@@ -53,10 +59,52 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTES )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_CONCURRENT_BULKS =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_CONCURRENT_BULKS )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_CONCURRENT_BULKS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> LINGER_TIME =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_LINGER_TIME )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_LINGER_TIME )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> LINGER_BATCH_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_LINGER_BATCH_SIZE )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_RETRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_RETRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_INITIAL_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_INITIAL_DELAY )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_INITIAL_DELAY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_MAX_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_MAX_DELAY )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_MAX_DELAY )
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
 
 	private HashTable<BatchingExecutor<ElasticsearchBatchedWorkProcessor>> executors;
+	private List<ElasticsearchBatchedWorkProcessor> processors;
+	private BulkRetrier bulkRetrier;
 
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
@@ -84,18 +132,32 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		long maxBulkBytes = MAX_BULK_BYTES.get( propertySource ).map( Integer::longValue ).orElse( Long.MAX_VALUE );
+		int maxConcurrentBulks = MAX_CONCURRENT_BULKS.get( propertySource );
+		int lingerTime = LINGER_TIME.get( propertySource );
+		int lingerBatchSize = LINGER_BATCH_SIZE.get( propertySource ).orElse( maxBulkSize );
+		int maxRetries = MAX_RETRIES.get( propertySource );
+		if ( maxRetries > 0 ) {
+			bulkRetrier = new BulkRetrier( threads.getWorkExecutor(), maxRetries,
+					RETRY_INITIAL_DELAY.get( propertySource ), RETRY_MAX_DELAY.get( propertySource ) );
+		}
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
+		processors = new ArrayList<>( executors.size() );
 		for ( int i = 0; i < executors.size(); i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize,
+					maxBulkBytes, maxConcurrentBulks );
+			processors.add( processor );
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
 					queueSize,
 					true,
+					lingerTime,
+					lingerBatchSize,
 					failureHandler
 			) );
 		}
@@ -105,6 +167,13 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		}
 	}
 
+	/**
+	 * @return Statistics about retries of rejected works, or an empty optional if retries are disabled.
+	 */
+	public Optional<IndexingRetryStatistics> retryStatistics() {
+		return Optional.ofNullable( bulkRetrier );
+	}
+
 	@Override
 	protected void doSubmit(ElasticsearchBatchedWork<?> work) throws InterruptedException {
 		executors.get( work.getQueuingKey() ).submit( work );
@@ -114,7 +183,11 @@ protected void doSubmit(ElasticsearchBatchedWork<?> work) throws InterruptedExce
 	protected CompletableFuture<?> completion() {
 		CompletableFuture<?>[] completions = new CompletableFuture[executors.size()];
 		for ( int i = 0; i < executors.size(); i++ ) {
-			completions[i] = executors.get( i ).completion();
+			ElasticsearchBatchedWorkProcessor processor = processors.get( i );
+			// Processors may let executors move on to the next batch before the previous ones are executed,
+			// so we need to wait for batches still in flight.
+			completions[i] = executors.get( i ).completion()
+					.thenCompose( ignored -> processor.batchesInFlightCompletion() );
 		}
 		return CompletableFuture.allOf( completions );
 	}
@@ -127,15 +200,17 @@ protected void doStop() {
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			int maxBulkSize, long maxBulkBytes, int maxConcurrentBulks) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
 				(worksToBulk, refreshStrategy) ->
-						link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+						link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy )
+								.retrier( bulkRetrier ).build(),
+				maxBulkSize,
+				maxBulkBytes
 		);
-		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
+		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker, maxConcurrentBulks );
 	}
 
 }
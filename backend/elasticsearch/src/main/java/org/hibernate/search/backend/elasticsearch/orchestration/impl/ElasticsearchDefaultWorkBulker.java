@@ -11,18 +11,23 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.GsonUtils;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
+import com.google.gson.JsonObject;
+
 class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory;
 	private final int maxBulkSize;
+	private final long maxBulkBytes;
 
 	private final List<BulkableWork<?>> currentBulkItems;
+	private long currentBulkBytes;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -37,9 +42,27 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
 			int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, maxBulkSize, Long.MAX_VALUE );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param maxBulkSize Maximum number of works in a single bulk.
+	 * If a bulk reaches this size, it will be automatically
+	 * {@link #finalizeBulkWork() finalized}.
+	 * @param maxBulkBytes Maximum estimated size of the payload of a single bulk, in bytes.
+	 * If adding a work to a non-empty bulk would exceed this size, the bulk will be
+	 * {@link #finalizeBulkWork() finalized} before the work is added to a new bulk.
+	 * A single work exceeding this size will be sent in a bulk of its own.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			int maxBulkSize, long maxBulkBytes) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkWorkFuture = null;
@@ -58,6 +81,17 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		long workBytes = 0L;
+		if ( maxBulkBytes != Long.MAX_VALUE ) {
+			workBytes = estimateBulkBytes( work );
+			if ( !currentBulkItems.isEmpty() && currentBulkBytes + workBytes > maxBulkBytes ) {
+				// This work would make the bulk payload too large; send it in the next bulk.
+				DocumentRefreshStrategy refreshStrategy = currentBulkRefreshStrategy;
+				finalizeBulkWork();
+				currentBulkRefreshStrategy = refreshStrategy;
+			}
+		}
+
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
 			currentBulkResultFuture = sequenceBuilder.addBulkExecution( currentBulkWorkFuture );
@@ -65,12 +99,13 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 
 		int currentBulkWorkIndex = currentBulkItems.size();
 		currentBulkItems.add( work );
+		currentBulkBytes += workBytes;
 
 		CompletableFuture<T> future = sequenceBuilder.addBulkResultExtraction(
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= maxBulkSize || currentBulkBytes >= maxBulkBytes ) {
 			finalizeBulkWork();
 		}
 
@@ -89,9 +124,20 @@ public void finalizeBulkWork() {
 		reset();
 	}
 
+	private static long estimateBulkBytes(BulkableWork<?> work) {
+		// Each part of the bulk payload is followed by a newline
+		long bytes = GsonUtils.estimateSerializedSize( work.getBulkableActionMetadata() ) + 1L;
+		JsonObject body = work.getBulkableActionBody();
+		if ( body != null ) {
+			bytes += GsonUtils.estimateSerializedSize( body ) + 1L;
+		}
+		return bytes;
+	}
+
 	@Override
 	public void reset() {
 		this.currentBulkItems.clear();
+		this.currentBulkBytes = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
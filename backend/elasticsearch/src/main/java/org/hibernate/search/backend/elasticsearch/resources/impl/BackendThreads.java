@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.resources.impl;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
@@ -15,6 +16,7 @@
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Closer;
 
 public class BackendThreads {
 
@@ -23,10 +25,16 @@ public class BackendThreads {
 					.asIntegerStrictlyPositive()
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> SEARCH_ASYNC_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SEARCH_ASYNC_THREAD_POOL_SIZE )
+					.asIntegerStrictlyPositive()
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService workExecutor;
+	private ExecutorService searchAsyncExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -45,11 +53,21 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.workExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+		// Responses are received in the HTTP client's I/O threads,
+		// where we must not perform blocking operations such as entity loading.
+		// Threads are only created on demand, so applications that never execute queries asynchronously
+		// will not pay for this pool.
+		int searchAsyncThreadPoolSize = SEARCH_ASYNC_THREAD_POOL_SIZE.get( propertySource )
+				.orElse( Runtime.getRuntime().availableProcessors() );
+		this.searchAsyncExecutor = threadPoolProvider.newFixedThreadPool(
+				searchAsyncThreadPoolSize, prefix + " - Async search thread"
+		);
 	}
 
 	public void onStop() {
-		if ( workExecutor != null ) {
-			workExecutor.shutdownNow();
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( ExecutorService::shutdownNow, workExecutor );
+			closer.push( ExecutorService::shutdownNow, searchAsyncExecutor );
 		}
 	}
 
@@ -67,6 +85,11 @@ public ScheduledExecutorService getWorkExecutor() {
 		return workExecutor;
 	}
 
+	public ExecutorService getSearchAsyncExecutor() {
+		checkStarted();
+		return searchAsyncExecutor;
+	}
+
 	private void checkStarted() {
 		if ( workExecutor == null ) {
 			throw new AssertionFailure(
@@ -17,10 +17,14 @@ public class ElasticsearchIndexLifecycleExecutionOptions {
 
 	private final int requiredStatusTimeoutInMs;
 
+	private final int rebuildDetectionIntervalInMs;
+
 	public ElasticsearchIndexLifecycleExecutionOptions(
-			IndexStatus requiredStatus, int requiredStatusTimeoutInMs) {
+			IndexStatus requiredStatus, int requiredStatusTimeoutInMs,
+			int rebuildDetectionIntervalInMs) {
 		this.requiredStatus = requiredStatus;
 		this.requiredStatusTimeoutInMs = requiredStatusTimeoutInMs;
+		this.rebuildDetectionIntervalInMs = rebuildDetectionIntervalInMs;
 	}
 
 	/**
@@ -37,4 +41,12 @@ public int getRequiredStatusTimeoutInMs() {
 		return requiredStatusTimeoutInMs;
 	}
 
+	/**
+	 * @return the interval between checks of the cluster state for a rebuild started by another node,
+	 * in milliseconds, or {@code 0} if such checks are disabled.
+	 */
+	public int getRebuildDetectionIntervalInMs() {
+		return rebuildDetectionIntervalInMs;
+	}
+
 }
@@ -6,31 +6,75 @@
  */
 package org.hibernate.search.backend.elasticsearch.schema.management.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
 
 public class ElasticsearchIndexSchemaManager implements IndexSchemaManager {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String REFRESH_INTERVAL_SETTING = "refresh_interval";
+	private static final String NUMBER_OF_REPLICAS_SETTING = "number_of_replicas";
+	private static final String AUTO_EXPAND_REPLICAS_SETTING = "auto_expand_replicas";
+
+	private static final String REBUILD_ALIAS_SUFFIX = "-rebuild";
+
 	private final ElasticsearchSchemaAccessor schemaAccessor;
 	private final ElasticsearchSchemaCreator schemaCreator;
 	private final ElasticsearchSchemaDropper schemaDropper;
 	private final ElasticsearchSchemaValidator schemaValidator;
 	private final ElasticsearchSchemaMigrator schemaMigrator;
 
+	private final ScheduledExecutorService timingExecutor;
+
 	private final IndexNames indexNames;
+	private final URLEncodedString rebuildAlias;
 	private final IndexMetadata expectedMetadata;
 	private final ElasticsearchIndexLifecycleExecutionOptions executionOptions;
 
+	private final Object bulkIndexingLock = new Object();
+	private URLEncodedString bulkIndexingPrimaryIndexName;
+	private JsonObject settingsToRestoreAfterBulkIndexing;
+
+	private final Object rebuildLock = new Object();
+	private boolean rebuildInProgress;
+	private URLEncodedString rebuildPreviousIndexName;
+	private URLEncodedString rebuildIndexName;
+
+	private final Object rebuildDetectionLock = new Object();
+	private boolean rebuildDetected;
+	private long rebuildDetectionExpiration;
+	private URLEncodedString detectedRebuildIndexName;
+
 	public ElasticsearchIndexSchemaManager(ElasticsearchWorkFactory workFactory,
 			ElasticsearchParallelWorkOrchestrator workOrchestrator,
+			ScheduledExecutorService timingExecutor,
 			IndexLayoutStrategy indexLayoutStrategy,
 			IndexNames indexNames, IndexMetadata expectedMetadata,
 			ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
@@ -41,7 +85,10 @@ public ElasticsearchIndexSchemaManager(ElasticsearchWorkFactory workFactory,
 		this.schemaValidator = new ElasticsearchSchemaValidator();
 		this.schemaMigrator = new ElasticsearchSchemaMigrator( schemaAccessor, schemaValidator );
 
+		this.timingExecutor = timingExecutor;
+
 		this.indexNames = indexNames;
+		this.rebuildAlias = IndexNames.encodeName( indexNames.hibernateSearchIndex() + REBUILD_ALIAS_SUFFIX );
 		this.expectedMetadata = expectedMetadata;
 		this.executionOptions = executionOptions;
 	}
@@ -110,4 +157,266 @@ public CompletableFuture<?> validate(ContextualFailureCollector failureCollector
 						: schemaAccessor.waitForIndexStatus( indexNames, executionOptions )
 				);
 	}
+
+	@Override
+	public CompletableFuture<?> prepareForBulkIndexing() {
+		synchronized ( bulkIndexingLock ) {
+			if ( settingsToRestoreAfterBulkIndexing != null ) {
+				// Already prepared: do not overwrite the original settings with bulk indexing settings.
+				return CompletableFuture.completedFuture( null );
+			}
+		}
+		URLEncodedString currentRebuildIndexName;
+		synchronized ( rebuildLock ) {
+			currentRebuildIndexName = rebuildIndexName;
+		}
+		if ( currentRebuildIndexName != null ) {
+			// Bulk indexing will target the index being rebuilt, which we created with the expected settings.
+			return applyBulkIndexingSettings( currentRebuildIndexName,
+					dynamicSettingsAffectingBulkIndexing( expectedMetadata.getSettings() ) );
+		}
+		return schemaAccessor.getCurrentIndexMetadata( indexNames )
+				.thenCompose( existingIndexMetadata -> applyBulkIndexingSettings(
+						URLEncodedString.fromString( existingIndexMetadata.getPrimaryName() ),
+						dynamicSettingsAffectingBulkIndexing( existingIndexMetadata.getMetadata().getSettings() )
+				) );
+	}
+
+	@Override
+	public CompletableFuture<?> restoreAfterBulkIndexing() {
+		URLEncodedString primaryIndexName;
+		JsonObject originalSettings;
+		synchronized ( bulkIndexingLock ) {
+			primaryIndexName = bulkIndexingPrimaryIndexName;
+			originalSettings = settingsToRestoreAfterBulkIndexing;
+			bulkIndexingPrimaryIndexName = null;
+			settingsToRestoreAfterBulkIndexing = null;
+		}
+		if ( originalSettings == null ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return schemaAccessor.updateSettings( primaryIndexName, originalSettings );
+	}
+
+	/**
+	 * Starts rebuilding the index aside from the live index:
+	 * creates a new index carrying a rebuild alias, but not the read and write aliases,
+	 * so that searches and writes keep targeting the live index.
+	 * <p>
+	 * The rebuild alias records the rebuild in the cluster state:
+	 * application nodes check it periodically,
+	 * and while it exists they write changes to both the live index and the new index.
+	 * The returned future only completes after the detection interval has elapsed,
+	 * so that every application node writes changes to the new index before it starts being populated.
+	 *
+	 * @return A future.
+	 */
+	public CompletableFuture<?> startRebuild() {
+		String hibernateSearchIndexName = indexNames.hibernateSearchIndex();
+		if ( !indexNames.writeIsAlias() || !indexNames.readIsAlias() ) {
+			throw log.indexRebuildRequiresAliases( hibernateSearchIndexName );
+		}
+		synchronized ( rebuildLock ) {
+			if ( rebuildInProgress ) {
+				throw log.indexRebuildAlreadyInProgress( hibernateSearchIndexName );
+			}
+			rebuildInProgress = true;
+		}
+		return schemaAccessor.getIndexMetadata( rebuildAlias )
+				.thenCompose( rebuildAliasIndexMetadata -> {
+					if ( !rebuildAliasIndexMetadata.isEmpty() ) {
+						throw log.indexRebuildInProgressInCluster( hibernateSearchIndexName, rebuildAlias.original,
+								primaryNames( rebuildAliasIndexMetadata ) );
+					}
+					return schemaAccessor.getCurrentIndexMetadata( indexNames );
+				} )
+				.thenCompose( existingIndexMetadata -> {
+					URLEncodedString previousIndexName =
+							URLEncodedString.fromString( existingIndexMetadata.getPrimaryName() );
+					return schemaCreator.createNextIndexGeneration(
+							indexNames, existingIndexMetadata.getPrimaryName(), expectedMetadata,
+							Collections.singletonMap( rebuildAlias.original, new IndexAliasDefinition() )
+					)
+							.thenCompose( newIndexName -> {
+								CompletableFuture<?> future = schemaAccessor.waitForIndexStatus( newIndexName, executionOptions )
+										.thenRun( () -> {
+											synchronized ( rebuildLock ) {
+												rebuildPreviousIndexName = previousIndexName;
+												// From now on, this node writes documents to the new index, too.
+												rebuildIndexName = newIndexName;
+											}
+										} )
+										// Give other nodes the time to detect the rebuild.
+										.thenCompose( ignored -> delay( executionOptions.getRebuildDetectionIntervalInMs() ) );
+								return Futures.whenCompleteExecute( future, () -> {
+									if ( !future.isCompletedExceptionally() ) {
+										return CompletableFuture.completedFuture( null );
+									}
+									clearRebuild();
+									return discardRebuildIndex( newIndexName );
+								} );
+							} );
+				} )
+				.whenComplete( (ignored, throwable) -> {
+					if ( throwable != null ) {
+						clearRebuild();
+					}
+				} );
+	}
+
+	/**
+	 * Finishes rebuilding the index aside from the live index:
+	 * atomically switches the read and write aliases from the live index to the rebuilt index
+	 * and removes the rebuild alias, then drops the previous live index.
+	 *
+	 * @return A future.
+	 */
+	public CompletableFuture<?> finishRebuild() {
+		URLEncodedString previousIndexName;
+		URLEncodedString newIndexName;
+		synchronized ( rebuildLock ) {
+			if ( rebuildIndexName == null ) {
+				throw log.noIndexRebuildInProgress( indexNames.hibernateSearchIndex() );
+			}
+			previousIndexName = rebuildPreviousIndexName;
+			newIndexName = rebuildIndexName;
+		}
+		// Other nodes may still write to the rebuilt index explicitly until they detect the end of the rebuild,
+		// but that is harmless since the write alias now targets the same index.
+		return schemaAccessor.switchAliases( previousIndexName, newIndexName, expectedMetadata.getAliases(),
+				rebuildAlias.original )
+				.thenCompose( ignored -> {
+					clearRebuild();
+					return schemaAccessor.dropIndexIfExisting( previousIndexName );
+				} );
+	}
+
+	/**
+	 * Aborts rebuilding the index aside from the live index, if a rebuild is in progress:
+	 * removes the rebuild alias, waits for other application nodes to detect that,
+	 * then drops the partially rebuilt index.
+	 * <p>
+	 * No change is lost, since changes were written to the live index throughout the rebuild.
+	 *
+	 * @return A future.
+	 */
+	public CompletableFuture<?> abortRebuild() {
+		URLEncodedString newIndexName;
+		synchronized ( rebuildLock ) {
+			newIndexName = rebuildIndexName;
+			if ( newIndexName == null ) {
+				return CompletableFuture.completedFuture( null );
+			}
+		}
+		clearRebuild();
+		synchronized ( bulkIndexingLock ) {
+			if ( newIndexName.equals( bulkIndexingPrimaryIndexName ) ) {
+				// No need to restore settings on an index we are about to drop.
+				bulkIndexingPrimaryIndexName = null;
+				settingsToRestoreAfterBulkIndexing = null;
+			}
+		}
+		return discardRebuildIndex( newIndexName );
+	}
+
+	/**
+	 * @return The name of the index being rebuilt aside from the live index by this application node,
+	 * or {@code null} if this application node is not rebuilding the index.
+	 */
+	public URLEncodedString localRebuildIndexName() {
+		synchronized ( rebuildLock ) {
+			return rebuildIndexName;
+		}
+	}
+
+	/**
+	 * @return The name of the index being rebuilt aside from the live index,
+	 * by this application node or, if detected, by another one,
+	 * or {@code null} if no rebuild is in progress.
+	 * Blocks while checking the cluster state if the last check is older than the detection interval.
+	 */
+	public URLEncodedString rebuildIndexName() {
+		URLEncodedString localName = localRebuildIndexName();
+		if ( localName != null ) {
+			return localName;
+		}
+		int detectionIntervalInMs = executionOptions.getRebuildDetectionIntervalInMs();
+		if ( detectionIntervalInMs <= 0 ) {
+			return null;
+		}
+		synchronized ( rebuildDetectionLock ) {
+			long now = System.nanoTime();
+			if ( !rebuildDetected || now - rebuildDetectionExpiration >= 0 ) {
+				List<ExistingIndexMetadata> rebuildAliasIndexMetadata =
+						Futures.unwrappedExceptionJoin( schemaAccessor.getIndexMetadata( rebuildAlias ) );
+				detectedRebuildIndexName = rebuildAliasIndexMetadata.isEmpty()
+						? null
+						: URLEncodedString.fromString( rebuildAliasIndexMetadata.get( 0 ).getPrimaryName() );
+				// The expiration is computed from the time the check started, to stay on the safe side.
+				rebuildDetectionExpiration = now + TimeUnit.MILLISECONDS.toNanos( detectionIntervalInMs );
+				rebuildDetected = true;
+			}
+			return detectedRebuildIndexName;
+		}
+	}
+
+	private void clearRebuild() {
+		synchronized ( rebuildLock ) {
+			rebuildIndexName = null;
+			rebuildPreviousIndexName = null;
+			rebuildInProgress = false;
+		}
+	}
+
+	private CompletableFuture<?> discardRebuildIndex(URLEncodedString newIndexName) {
+		return schemaAccessor.removeAlias( newIndexName, rebuildAlias.original )
+				// Do not drop the index while other nodes may still write to it explicitly:
+				// Elasticsearch could create it again automatically.
+				.thenCompose( ignored -> delay( executionOptions.getRebuildDetectionIntervalInMs() ) )
+				.thenCompose( ignored -> schemaAccessor.dropIndexIfExisting( newIndexName ) );
+	}
+
+	private CompletableFuture<?> delay(long delayMs) {
+		if ( delayMs <= 0 ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		CompletableFuture<?> future = new CompletableFuture<>();
+		Runnable completion = () -> future.complete( null );
+		timingExecutor.schedule( completion, delayMs, TimeUnit.MILLISECONDS );
+		return future;
+	}
+
+	private static Set<String> primaryNames(List<ExistingIndexMetadata> indexMetadata) {
+		return indexMetadata.stream().map( ExistingIndexMetadata::getPrimaryName ).collect( Collectors.toSet() );
+	}
+
+	private CompletableFuture<?> applyBulkIndexingSettings(URLEncodedString primaryIndexName,
+			JsonObject originalSettings) {
+		synchronized ( bulkIndexingLock ) {
+			if ( settingsToRestoreAfterBulkIndexing != null ) {
+				return CompletableFuture.completedFuture( null );
+			}
+			bulkIndexingPrimaryIndexName = primaryIndexName;
+			settingsToRestoreAfterBulkIndexing = originalSettings;
+		}
+		JsonObject bulkIndexingSettings = new JsonObject();
+		// Disable periodic refreshes: the mass indexer will refresh explicitly when done.
+		bulkIndexingSettings.addProperty( REFRESH_INTERVAL_SETTING, "-1" );
+		// Do not replicate each bulk request: replicas will be rebuilt from the primary when restored.
+		bulkIndexingSettings.addProperty( AUTO_EXPAND_REPLICAS_SETTING, "false" );
+		bulkIndexingSettings.addProperty( NUMBER_OF_REPLICAS_SETTING, 0 );
+		return schemaAccessor.updateSettings( primaryIndexName, bulkIndexingSettings );
+	}
+
+	private static JsonObject dynamicSettingsAffectingBulkIndexing(IndexSettings settings) {
+		Map<String, JsonElement> extraAttributes = settings == null ? null : settings.getExtraAttributes();
+		JsonObject result = new JsonObject();
+		for ( String name : new String[] { REFRESH_INTERVAL_SETTING, AUTO_EXPAND_REPLICAS_SETTING,
+				NUMBER_OF_REPLICAS_SETTING } ) {
+			JsonElement value = extraAttributes == null ? null : extraAttributes.get( name );
+			// A null value will reset the setting to its default when restoring.
+			result.add( name, value == null ? JsonNull.INSTANCE : value );
+		}
+		return result;
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.schema.management.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -28,6 +29,8 @@
 import org.hibernate.search.util.common.impl.Throwables;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonObject;
+
 /**
  * A utility implementing primitives for the various {@code ElasticsearchSchema*Impl}.
  * @author Gunnar Morling
@@ -112,6 +115,21 @@ private CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadata(IndexNa
 				} );
 	}
 
+	/**
+	 * @param name The name of an index or alias.
+	 * @return A future holding the metadata of each index matching the given name, if any.
+	 */
+	public CompletableFuture<List<ExistingIndexMetadata>> getIndexMetadata(URLEncodedString name) {
+		NonBulkableWork<List<ExistingIndexMetadata>> work = getWorkFactory().getIndexMetadata()
+				.index( name )
+				.build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchIndexMetadataRetrievalFailed( e.getMessage(),
+							Throwables.expectException( e ) );
+				} ) );
+	}
+
 	public CompletableFuture<?> updateAliases(URLEncodedString indexName, Map<String, IndexAliasDefinition> aliases) {
 		NonBulkableWork<?> work = getWorkFactory().putIndexAliases( indexName, aliases ).build();
 		return execute( work )
@@ -121,6 +139,39 @@ public CompletableFuture<?> updateAliases(URLEncodedString indexName, Map<String
 				} ) );
 	}
 
+	public CompletableFuture<?> removeAlias(URLEncodedString indexName, String alias) {
+		NonBulkableWork<?> work = getWorkFactory().putIndexAliases( indexName, Collections.emptyMap() )
+				.remove( indexName, alias )
+				.build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchAliasUpdateFailed( indexName.original, e.getMessage(),
+							Throwables.expectException( e ) );
+				} ) );
+	}
+
+	/**
+	 * Switches aliases from one index to another atomically.
+	 *
+	 * @param previousIndexName The name of the index the aliases should be removed from.
+	 * @param newIndexName The name of the index the aliases should be added to.
+	 * @param aliases The aliases to switch.
+	 * @param newIndexAliasToRemove An alias to remove from the new index in the same request.
+	 * @return A future.
+	 */
+	public CompletableFuture<?> switchAliases(URLEncodedString previousIndexName, URLEncodedString newIndexName,
+			Map<String, IndexAliasDefinition> aliases, String newIndexAliasToRemove) {
+		NonBulkableWork<?> work = getWorkFactory().putIndexAliases( newIndexName, aliases )
+				.removeFrom( previousIndexName )
+				.remove( newIndexName, newIndexAliasToRemove )
+				.build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchAliasSwitchFailed( previousIndexName.original, newIndexName.original,
+							e.getMessage(), Throwables.expectException( e ) );
+				} ) );
+	}
+
 	public CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSettings settings) {
 		NonBulkableWork<?> work = getWorkFactory().putIndexSettings( indexName, settings ).build();
 		return execute( work )
@@ -130,6 +181,15 @@ public CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSett
 				} ) );
 	}
 
+	public CompletableFuture<?> updateSettings(URLEncodedString indexName, JsonObject settings) {
+		NonBulkableWork<?> work = getWorkFactory().putIndexSettings( indexName, settings ).build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchSettingsUpdateFailed( indexName.original, e.getMessage(),
+							Throwables.expectException( e ) );
+				} ) );
+	}
+
 	public CompletableFuture<?> updateMapping(URLEncodedString indexName, RootTypeMapping mapping) {
 		NonBulkableWork<?> work = getWorkFactory().putIndexTypeMapping( indexName, mapping ).build();
 		return execute( work )
@@ -141,11 +201,13 @@ public CompletableFuture<?> updateMapping(URLEncodedString indexName, RootTypeMa
 	}
 
 	public CompletableFuture<?> waitForIndexStatus(IndexNames indexNames, ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
+		return waitForIndexStatus( indexNames.write(), executionOptions );
+	}
+
+	public CompletableFuture<?> waitForIndexStatus(URLEncodedString name, ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
 		IndexStatus requiredIndexStatus = executionOptions.getRequiredStatus();
 		int requiredStatusTimeoutInMs = executionOptions.getRequiredStatusTimeoutInMs();
 
-		URLEncodedString name = indexNames.write();
-
 		NonBulkableWork<?> work =
 				getWorkFactory().waitForIndexStatusWork( name, requiredIndexStatus, requiredStatusTimeoutInMs )
 						.build();
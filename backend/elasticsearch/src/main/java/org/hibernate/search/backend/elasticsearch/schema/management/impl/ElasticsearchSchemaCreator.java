@@ -6,14 +6,19 @@
  */
 package org.hibernate.search.backend.elasticsearch.schema.management.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
  * An object responsible for creating an index and its mappings based on provided metadata.
@@ -21,6 +26,8 @@
  */
 final class ElasticsearchSchemaCreator {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchSchemaAccessor schemaAccessor;
 
 	private final IndexLayoutStrategy indexLayoutStrategy;
@@ -74,6 +81,38 @@ public CompletableFuture<ExistingIndexMetadata> createIndexIfAbsent(IndexNames i
 				} );
 	}
 
+	/**
+	 * Create a new generation of an index, aside from the current one,
+	 * with the given aliases instead of the aliases of the current one.
+	 *
+	 * @param indexNames The index names.
+	 * @param currentPrimaryIndexName The name of the index currently targeted by aliases.
+	 * @param indexMetadata The expected index metadata.
+	 * @param aliases The aliases for the new index.
+	 * @return A future holding the name of the new index.
+	 * @throws SearchException If an error occurs.
+	 */
+	public CompletableFuture<URLEncodedString> createNextIndexGeneration(IndexNames indexNames,
+			String currentPrimaryIndexName, IndexMetadata indexMetadata,
+			Map<String, IndexAliasDefinition> aliases) {
+		String hibernateSearchIndexName = indexNames.hibernateSearchIndex();
+		URLEncodedString nextPrimaryIndexName = IndexNames.encodeName(
+				indexLayoutStrategy.createNextElasticsearchIndexName( hibernateSearchIndexName, currentPrimaryIndexName )
+		);
+		if ( nextPrimaryIndexName.original.equals( currentPrimaryIndexName ) ) {
+			throw log.indexRebuildNameConflict( hibernateSearchIndexName, currentPrimaryIndexName );
+		}
+		// The new index may be a leftover from a previous rebuild that was not completed: drop it.
+		return schemaAccessor.dropIndexIfExisting( nextPrimaryIndexName )
+				.thenCompose( ignored -> schemaAccessor.createIndexAssumeNonExisting(
+						nextPrimaryIndexName,
+						aliases,
+						indexMetadata.getSettings(),
+						indexMetadata.getMapping()
+				) )
+				.thenApply( ignored -> nextPrimaryIndexName );
+	}
+
 	private URLEncodedString createPrimaryIndexName(IndexNames indexNames) {
 		return IndexNames.encodeName(
 				indexLayoutStrategy.createInitialElasticsearchIndexName( indexNames.hibernateSearchIndex() )
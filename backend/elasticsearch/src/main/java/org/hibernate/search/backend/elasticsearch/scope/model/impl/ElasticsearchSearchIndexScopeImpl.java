@@ -217,6 +217,11 @@ public JsonObject filterOrNull(String tenantId) {
 		return multiTenancyStrategy.filterOrNull( tenantId );
 	}
 
+	@Override
+	public String idSortFieldName() {
+		return multiTenancyStrategy.idSortFieldName();
+	}
+
 	@Override
 	public TimeoutManager createTimeoutManager(Long timeout,
 			TimeUnit timeUnit, boolean exceptionOnTimeout) {
@@ -35,6 +35,8 @@
 
 	JsonObject filterOrNull(String tenantId);
 
+	String idSortFieldName();
+
 	TimeoutManager createTimeoutManager(Long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout);
 
 	Collection<ElasticsearchSearchIndexContext> indexes();
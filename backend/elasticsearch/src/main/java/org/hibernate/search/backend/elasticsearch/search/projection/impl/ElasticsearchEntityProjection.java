@@ -33,6 +33,7 @@ public String toString() {
 	@Override
 	public Extractor<?, E> request(JsonObject requestBody, ProjectionRequestContext context) {
 		helper.request( requestBody, context );
+		context.requireEntityLoading();
 		return this;
 	}
 
@@ -45,6 +45,11 @@ public Integer getDistanceSortIndex(String absoluteFieldPath, GeoPoint location)
 		return root.getDistanceSortIndex( absoluteFieldPath, location );
 	}
 
+	@Override
+	public void requireEntityLoading() {
+		root.requireEntityLoading();
+	}
+
 	@Override
 	public ElasticsearchSearchSyntax getSearchSyntax() {
 		return root.getSearchSyntax();
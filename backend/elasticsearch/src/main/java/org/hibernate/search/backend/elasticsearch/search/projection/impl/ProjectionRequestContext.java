@@ -13,6 +13,8 @@ public interface ProjectionRequestContext {
 
 	Integer getDistanceSortIndex(String absoluteFieldPath, GeoPoint location);
 
+	void requireEntityLoading();
+
 	ElasticsearchSearchSyntax getSearchSyntax();
 
 	void checkValidField(String absoluteFieldPath);
@@ -39,6 +39,42 @@
 	@Incubating
 	ElasticsearchSearchQueryOptionsStep<H, LOS> requestTransformer(ElasticsearchSearchRequestTransformer transformer);
 
+	/**
+	 * Enable or disable the Elasticsearch shard request cache for this search query.
+	 * <p>
+	 * By default, Elasticsearch only caches requests that do not return any hit,
+	 * e.g. queries fetched with a limit of {@code 0} to only retrieve aggregations or the total hit count.
+	 * Such requests are good candidates for caching if they are executed repeatedly,
+	 * e.g. for dashboards.
+	 * <p>
+	 * Scrolls are never cached: this option is ignored for scrolls.
+	 * <p>
+	 * Defaults to the setting of the targeted indexes, which is to enable caching unless configured otherwise.
+	 * <p>
+	 * See <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/shard-request-cache.html">the Elasticsearch documentation</a>.
+	 *
+	 * @param enabled {@code true} to enable the shard request cache, {@code false} to disable it.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	ElasticsearchSearchQueryOptionsStep<H, LOS> requestCache(boolean enabled);
+
+	/**
+	 * Set the preference for this search query, i.e. the shard copies to execute the search on.
+	 * <p>
+	 * Setting a stable preference, e.g. a user session identifier, will route repeated executions
+	 * of the same query to the same shard copies, improving the use of caches
+	 * and avoiding inconsistent scoring between copies.
+	 * <p>
+	 * See <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/search-search.html">the Elasticsearch documentation</a>.
+	 *
+	 * @param preference The preference, as expected by Elasticsearch:
+	 * either an arbitrary string or one of the values supported by Elasticsearch, e.g. {@code _local}.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	ElasticsearchSearchQueryOptionsStep<H, LOS> preference(String preference);
+
 	@Override
 	ElasticsearchSearchQuery<H> toQuery();
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -28,6 +29,8 @@
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 
 class Elasticsearch7SearchResultExtractor<H> implements ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> {
 
@@ -95,7 +98,8 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 				extractHits( extractContext ) : Collections.emptyList();
 
 		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
-				Collections.emptyMap() : extractAggregations( extractContext, responseBody );
+				Collections.emptyMap() : extractAggregations( extractContext,
+						AGGREGATIONS_ACCESSOR.get( responseBody ).orElse( null ) );
 
 		String scrollId = extractScrollId( responseBody );
 
@@ -110,6 +114,93 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 		);
 	}
 
+	@Override
+	public ElasticsearchLoadableSearchResult<H> extract(JsonReader responseBodyReader,
+			Deadline deadline) throws IOException {
+		// No response body: it is never built in memory.
+		ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext( null );
+		ProjectionHitMapper<?, ?> hitMapper = extractContext.getProjectionHitMapper();
+		ProjectionExtractContext projectionExtractContext = extractContext.createProjectionExtractContext();
+
+		Integer took = null;
+		boolean timedOut = false;
+		JsonObject responseBodyWithoutHits = new JsonObject();
+		JsonObject jsonAggregations = null;
+		String scrollId = null;
+		List<Object> extractedHits = new ArrayList<>();
+
+		responseBodyReader.beginObject();
+		while ( responseBodyReader.hasNext() ) {
+			switch ( responseBodyReader.nextName() ) {
+				case "took":
+					took = responseBodyReader.nextInt();
+					break;
+				case "timed_out":
+					timedOut = responseBodyReader.nextBoolean();
+					break;
+				case "_scroll_id":
+					scrollId = responseBodyReader.nextString();
+					break;
+				case "hits":
+					JsonObject jsonHitsWithoutHits = new JsonObject();
+					responseBodyWithoutHits.add( "hits", jsonHitsWithoutHits );
+					responseBodyReader.beginObject();
+					while ( responseBodyReader.hasNext() ) {
+						String name = responseBodyReader.nextName();
+						if ( "hits".equals( name ) ) {
+							// Extract hits one by one, so that only one hit is ever held in memory as a tree.
+							responseBodyReader.beginArray();
+							while ( responseBodyReader.hasNext() ) {
+								JsonObject hitObject = JsonParser.parseReader( responseBodyReader ).getAsJsonObject();
+								JsonObject source = HIT_SOURCE_ACCESSOR.get( hitObject ).orElse( null );
+								extractedHits.add( rootExtractor.extract(
+										hitMapper, hitObject, source, projectionExtractContext
+								) );
+							}
+							responseBodyReader.endArray();
+						}
+						else {
+							// Small values, e.g. "total" or "max_score"
+							jsonHitsWithoutHits.add( name, JsonParser.parseReader( responseBodyReader ) );
+						}
+					}
+					responseBodyReader.endObject();
+					break;
+				case "aggregations":
+					if ( aggregations.isEmpty() ) {
+						responseBodyReader.skipValue();
+					}
+					else {
+						jsonAggregations = JsonParser.parseReader( responseBodyReader ).getAsJsonObject();
+					}
+					break;
+				default:
+					responseBodyReader.skipValue();
+					break;
+			}
+		}
+		responseBodyReader.endObject();
+
+		SearchResultTotal total = extractTotal( responseBodyWithoutHits );
+		if ( timedOut ) {
+			// See extract(JsonObject, Deadline)
+			total = SimpleSearchResultTotal.lowerBound( total.hitCountLowerBound() );
+		}
+
+		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
+				Collections.emptyMap() : extractAggregations( extractContext, jsonAggregations );
+
+		return new ElasticsearchLoadableSearchResult<>(
+				extractContext,
+				rootExtractor,
+				total,
+				extractedHits,
+				extractedAggregations,
+				took, timedOut, scrollId,
+				deadline
+		);
+	}
+
 	protected SearchResultTotal extractTotal(JsonObject responseBody) {
 		Long hitsTotal = HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
 		Optional<String> hitsTotalRelation = HITS_TOTAL_RELATION_ACCESSOR.get( responseBody );
@@ -138,8 +229,8 @@ private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractC
 	}
 
 	private Map<AggregationKey<?>, ?> extractAggregations(ElasticsearchSearchQueryExtractContext extractContext,
-			JsonObject responseBody) {
-		JsonObject jsonAggregations = AGGREGATIONS_ACCESSOR.get( responseBody ).orElseGet( JsonObject::new );
+			JsonObject jsonAggregationsOrNull) {
+		JsonObject jsonAggregations = jsonAggregationsOrNull == null ? new JsonObject() : jsonAggregationsOrNull;
 
 		Map<AggregationKey<?>, Object> extractedMap = new LinkedHashMap<>();
 
@@ -17,6 +17,9 @@
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.common.timing.Deadline;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
@@ -61,6 +64,14 @@
 	}
 
 	ElasticsearchSearchResultImpl<H> loadBlocking() {
+		return loadBlocking( null );
+	}
+
+	/**
+	 * @param keysetSortOrNull The keyset sort the query was executed with, see {@link ElasticsearchSearchCursor},
+	 * or {@code null} if the result should not expose a cursor.
+	 */
+	ElasticsearchSearchResultImpl<H> loadBlocking(JsonArray keysetSortOrNull) {
 		ProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		LoadingResult<?, ?> loadingResult = extractContext.getProjectionHitMapper()
@@ -95,10 +106,14 @@ ElasticsearchSearchResultImpl<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedHits = null;
 
+		// The response body is null if it was read in a streaming fashion.
+		JsonObject responseBody = extractContext.getResponseBody();
 		return new ElasticsearchSearchResultImpl<>(
-				extractContext.getResponseBody(),
+				responseBody,
 				resultTotal, loadedHits, extractedAggregations,
-				took, timedOut, scrollId );
+				took, timedOut, scrollId,
+				keysetSortOrNull == null || responseBody == null ? null
+						: ElasticsearchSearchCursor.fromLastHitOrNull( keysetSortOrNull, responseBody ) );
 	}
 
 	boolean hasHits() {
@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.engine.search.query.SearchCursor;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * A cursor pointing to an Elasticsearch hit, i.e. its sort values for the "keyset" sort of a query,
+ * to be passed to Elasticsearch as the {@code search_after} parameter.
+ * <p>
+ * The keyset sort is the sort of the query, followed by a tie-breaker,
+ * so that the sort values of a hit identify that hit
+ * and hits with identical sort values are always returned in the same order.
+ * When Elasticsearch supports points in time, the tie-breaker is {@code _shard_doc},
+ * and the cursor also holds the identifier of the point in time that was searched.
+ * Otherwise, the tie-breaker is a field holding the document identifier.
+ */
+final class ElasticsearchSearchCursor implements SearchCursor {
+
+	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
+			JsonAccessor.root().property( "hits" ).property( "hits" ).asArray();
+
+	private static final JsonAccessor<JsonArray> HIT_SORT_ACCESSOR =
+			JsonAccessor.root().property( "sort" ).asArray();
+
+	private static final JsonAccessor<String> POINT_IN_TIME_ID_ACCESSOR =
+			JsonAccessor.root().property( "pit_id" ).asString();
+
+	static final String SHARD_DOC_SORT_FIELD_NAME = "_shard_doc";
+
+	/**
+	 * @param sortOrNull The sort of a query, or {@code null} for queries sorted by score.
+	 * @param tieBreakerFieldName The name of the field to sort on after the sort of the query:
+	 * either {@value #SHARD_DOC_SORT_FIELD_NAME} when searching a point in time,
+	 * or a field holding the document identifier.
+	 * @return The sort to use when fetching hits of that query after a cursor.
+	 */
+	static JsonArray keysetSort(JsonArray sortOrNull, String tieBreakerFieldName) {
+		JsonArray keysetSort = new JsonArray();
+		if ( sortOrNull == null ) {
+			keysetSort.add( new JsonPrimitive( "_score" ) );
+		}
+		else {
+			keysetSort.addAll( sortOrNull );
+		}
+		JsonObject tieBreakerSort = new JsonObject();
+		tieBreakerSort.addProperty( tieBreakerFieldName, "asc" );
+		keysetSort.add( tieBreakerSort );
+		return keysetSort;
+	}
+
+	/**
+	 * @param keysetSort The keyset sort of the query, see {@link #keysetSort(JsonArray, String)}.
+	 * @param responseBody The body of a search response.
+	 * @return A cursor pointing to the last hit in the response,
+	 * or {@code null} if there are no hits.
+	 */
+	static ElasticsearchSearchCursor fromLastHitOrNull(JsonArray keysetSort, JsonObject responseBody) {
+		JsonArray hits = HITS_HITS_ACCESSOR.get( responseBody ).orElse( null );
+		if ( hits == null || hits.size() == 0 ) {
+			return null;
+		}
+		// Elasticsearch may return a new identifier for the point in time: it must be used in the next search.
+		String pointInTimeId = POINT_IN_TIME_ID_ACCESSOR.get( responseBody ).orElse( null );
+		return HIT_SORT_ACCESSOR.get( hits.get( hits.size() - 1 ).getAsJsonObject() )
+				.map( sortValues -> new ElasticsearchSearchCursor( keysetSort, sortValues, pointInTimeId ) )
+				.orElse( null );
+	}
+
+	private final JsonArray keysetSort;
+	private final JsonArray sortValues;
+	private final String pointInTimeId;
+
+	private ElasticsearchSearchCursor(JsonArray keysetSort, JsonArray sortValues, String pointInTimeId) {
+		this.keysetSort = keysetSort;
+		this.sortValues = sortValues;
+		this.pointInTimeId = pointInTimeId;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[sort=" + keysetSort + ", sortValues=" + sortValues
+				+ ", pointInTimeId=" + pointInTimeId + "]";
+	}
+
+	JsonArray sortValues() {
+		return sortValues;
+	}
+
+	/**
+	 * @return The identifier of the point in time the hit was found in,
+	 * or {@code null} if the query did not search a point in time.
+	 */
+	String pointInTimeId() {
+		return pointInTimeId;
+	}
+
+	/**
+	 * @param keysetSort The keyset sort of a query, see {@link #keysetSort(JsonArray, String)}.
+	 * @return {@code true} if this cursor was retrieved from a query with the same keyset sort,
+	 * i.e. if its sort values can be used to locate hits of the given query.
+	 */
+	boolean isCompatibleWith(JsonArray keysetSort) {
+		return this.keysetSort.equals( keysetSort ) && sortValues.size() == keysetSort.size();
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchItem;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * Executes batches of Elasticsearch search queries.
+ * <p>
+ * Compatible queries are sent to Elasticsearch in a single multi-search request;
+ * the others (e.g. queries with a hard timeout) are sent in parallel, each in its own request.
+ * Entity loading happens in the calling thread.
+ */
+final class ElasticsearchSearchQueryBatchExecutor implements SearchQueryBatchExecutor {
+
+	private final ElasticsearchWorkFactory workFactory;
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+
+	ElasticsearchSearchQueryBatchExecutor(ElasticsearchWorkFactory workFactory,
+			ElasticsearchParallelWorkOrchestrator queryOrchestrator) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		ElasticsearchSearchQueryBatchExecutor other = (ElasticsearchSearchQueryBatchExecutor) obj;
+		return queryOrchestrator == other.queryOrchestrator;
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode( queryOrchestrator );
+	}
+
+	@Override
+	public void execute(List<? extends SearchQueryBatchItem<?>> items) {
+		List<Execution<?>> executions = new ArrayList<>( items.size() );
+		for ( SearchQueryBatchItem<?> item : items ) {
+			executions.add( createExecution( item ) );
+		}
+
+		List<SearchWork<?>> multiSearchWorks = new ArrayList<>();
+		for ( Execution<?> execution : executions ) {
+			if ( execution.work().isMultiSearchCompatible() ) {
+				multiSearchWorks.add( execution.work() );
+			}
+		}
+		// A multi-search request is pointless for a single search.
+		boolean useMultiSearch = multiSearchWorks.size() > 1;
+
+		CompletableFuture<MultiSearchResult> multiSearchFuture = useMultiSearch
+				? queryOrchestrator.submit( workFactory.multiSearch( multiSearchWorks ).build() )
+				: null;
+		int multiSearchIndex = 0;
+		for ( Execution<?> execution : executions ) {
+			if ( useMultiSearch && execution.work().isMultiSearchCompatible() ) {
+				execution.startAsPartOfMultiSearch( multiSearchFuture, multiSearchIndex );
+				++multiSearchIndex;
+			}
+			else {
+				execution.start();
+			}
+		}
+
+		// Loading must happen in the calling thread, so we do it sequentially.
+		for ( Execution<?> execution : executions ) {
+			execution.load();
+		}
+	}
+
+	private <H> Execution<H> createExecution(SearchQueryBatchItem<H> item) {
+		ElasticsearchSearchQueryImpl<H> query = (ElasticsearchSearchQueryImpl<H>) item.query();
+		return new Execution<>( item, query.startBatchFetch( item.offset(), item.limit() ) );
+	}
+
+	private final class Execution<H> {
+		private final SearchQueryBatchItem<H> item;
+		private final ElasticsearchSearchQueryImpl<H>.BatchFetch fetch;
+
+		private CompletableFuture<ElasticsearchLoadableSearchResult<H>> searchFuture;
+
+		private Execution(SearchQueryBatchItem<H> item, ElasticsearchSearchQueryImpl<H>.BatchFetch fetch) {
+			this.item = item;
+			this.fetch = fetch;
+		}
+
+		SearchWork<ElasticsearchLoadableSearchResult<H>> work() {
+			return fetch.work();
+		}
+
+		void start() {
+			searchFuture = queryOrchestrator.submit( fetch.work() );
+		}
+
+		void startAsPartOfMultiSearch(CompletableFuture<MultiSearchResult> multiSearchFuture, int index) {
+			searchFuture = multiSearchFuture.thenApply( result -> result.extract( fetch.work(), index ) );
+		}
+
+		void load() {
+			ElasticsearchLoadableSearchResult<H> loadableResult;
+			try {
+				loadableResult = Futures.unwrappedExceptionJoin( searchFuture );
+			}
+			catch (RuntimeException e) {
+				item.completeExceptionally( e );
+				return;
+			}
+			// Loading failures are not specific to this query: let them propagate,
+			// the batch will report them for this query and all remaining ones.
+			item.complete( fetch.load( loadableResult ) );
+		}
+	}
+}
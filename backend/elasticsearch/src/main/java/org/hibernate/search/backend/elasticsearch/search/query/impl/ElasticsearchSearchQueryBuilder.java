@@ -12,6 +12,7 @@
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -38,7 +39,6 @@
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.sort.SearchSort;
-import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.impl.CollectionHelper;
 import org.hibernate.search.util.common.impl.Contracts;
@@ -59,6 +59,7 @@
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final Executor asyncSearchExecutor;
 
 	private final ElasticsearchSearchIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
@@ -78,11 +79,14 @@
 	private boolean exceptionOnTimeout;
 	private Long totalHitCountThreshold;
 	private ElasticsearchSearchRequestTransformer requestTransformer;
+	private Boolean requestCache;
+	private String preference;
 
 	public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkFactory workFactory,
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			Executor asyncSearchExecutor,
 			ElasticsearchSearchIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?, ?> loadingContextBuilder,
@@ -91,6 +95,7 @@ public ElasticsearchSearchQueryBuilder(
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.asyncSearchExecutor = asyncSearchExecutor;
 
 		this.scope = scope;
 		this.sessionContext = sessionContext;
@@ -192,6 +197,15 @@ public void requestTransformer(ElasticsearchSearchRequestTransformer transformer
 		this.requestTransformer = transformer;
 	}
 
+	public void requestCache(boolean enabled) {
+		this.requestCache = enabled;
+	}
+
+	public void preference(String preference) {
+		Contracts.assertNotNullNorEmpty( preference, "preference" );
+		this.preference = preference;
+	}
+
 	@Override
 	public ElasticsearchSearchQuery<H> build() {
 		JsonObject payload = new JsonObject();
@@ -236,9 +250,6 @@ public ElasticsearchSearchQuery<H> build() {
 			REQUEST_SOURCE_ACCESSOR.set( payload, new JsonPrimitive( Boolean.FALSE ) );
 		}
 
-		TimeoutManager timeoutManager = scope.createTimeoutManager(
-				timeoutValue, timeoutUnit, exceptionOnTimeout );
-
 		ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor =
 				searchResultExtractorFactory.createResultExtractor(
 						requestContext,
@@ -247,12 +258,13 @@ public ElasticsearchSearchQuery<H> build() {
 				);
 
 		return new ElasticsearchSearchQueryImpl<>(
-				workFactory, queryOrchestrator,
+				workFactory, queryOrchestrator, asyncSearchExecutor,
 				scope, sessionContext, loadingContext, routingKeys,
-				payload, requestTransformer,
+				payload, requestTransformer, requestCache, preference,
 				searchResultExtractor,
-				timeoutManager,
-				scrollTimeout, totalHitCountThreshold
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
+				scrollTimeout, totalHitCountThreshold,
+				requestContext.isEntityLoadingRequired()
 		);
 	}
 }
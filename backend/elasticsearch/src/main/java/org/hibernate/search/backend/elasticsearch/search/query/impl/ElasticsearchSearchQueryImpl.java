@@ -11,6 +11,8 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -27,6 +29,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -34,13 +37,16 @@
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
@@ -50,47 +56,67 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final JsonAccessor<JsonArray> REQUEST_SORT_ACCESSOR = JsonAccessor.root().property( "sort" ).asArray();
+
+	private static final JsonAccessor<JsonArray> REQUEST_SEARCH_AFTER_ACCESSOR =
+			JsonAccessor.root().property( "search_after" ).asArray();
+
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final Executor asyncSearchExecutor;
 	private final ElasticsearchSearchIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
 	private final SearchLoadingContext<?, ?> loadingContext;
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
+	private final Boolean requestCache;
+	private final String preference;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 	private final Integer scrollTimeout;
 	private final Long totalHitCountThreshold;
+	private final boolean loadsEntities;
 
 	/**
 	 * ES limit for (limit + offset); any search query beyond that limit will be rejected.
 	 */
 	private final int maxResultWindow;
 
-	private TimeoutManager timeoutManager;
+	private Long timeoutValue;
+	private TimeUnit timeoutUnit;
+	private boolean exceptionOnTimeout;
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkFactory workFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			Executor asyncSearchExecutor,
 			ElasticsearchSearchIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContext<?, ?> loadingContext,
 			Set<String> routingKeys,
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
+			Boolean requestCache, String preference,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			TimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold) {
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			Integer scrollTimeout, Long totalHitCountThreshold, boolean loadsEntities) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.asyncSearchExecutor = asyncSearchExecutor;
 		this.scope = scope;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
 		this.routingKeys = routingKeys;
 		this.payload = payload;
 		this.requestTransformer = requestTransformer;
+		this.requestCache = requestCache;
+		this.preference = preference;
 		this.searchResultExtractor = searchResultExtractor;
-		this.timeoutManager = timeoutManager;
+		this.timeoutValue = timeoutValue;
+		this.timeoutUnit = timeoutUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
 		this.scrollTimeout = scrollTimeout;
 		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.loadsEntities = loadsEntities;
 		this.maxResultWindow = scope.maxResultWindow();
 	}
 
@@ -113,93 +139,173 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
+		return doFetch( payload, offset, limit, null, null );
+	}
+
+	@Override
+	public ElasticsearchSearchResult<H> fetchAfter(SearchCursor cursor, Integer limit) {
+		JsonObject afterPayload = payload.deepCopy();
+		// Elasticsearch only returns sort values for sorted queries, and search_after requires sort values.
+		// The internal doc ID ("_doc") is specific to each shard (and each replica), so it cannot be used
+		// as a tie-breaker: use "_shard_doc" when searching a point in time,
+		// or a field holding the document identifier otherwise.
+		boolean pointInTimeSupported = workFactory.isPointInTimeSupported();
+		JsonArray keysetSort = ElasticsearchSearchCursor.keysetSort( REQUEST_SORT_ACCESSOR.get( afterPayload )
+				.orElse( null ),
+				pointInTimeSupported ? ElasticsearchSearchCursor.SHARD_DOC_SORT_FIELD_NAME : scope.idSortFieldName() );
+		REQUEST_SORT_ACCESSOR.set( afterPayload, keysetSort );
+		String pointInTimeId = null;
+		if ( cursor != null ) {
+			if ( !( cursor instanceof ElasticsearchSearchCursor )
+					|| !( (ElasticsearchSearchCursor) cursor ).isCompatibleWith( keysetSort )
+					|| pointInTimeSupported && ( (ElasticsearchSearchCursor) cursor ).pointInTimeId() == null ) {
+				throw log.invalidSearchCursor( cursor );
+			}
+			REQUEST_SEARCH_AFTER_ACCESSOR.set( afterPayload, ( (ElasticsearchSearchCursor) cursor ).sortValues() );
+			pointInTimeId = ( (ElasticsearchSearchCursor) cursor ).pointInTimeId();
+		}
+		else if ( pointInTimeSupported ) {
+			// The first page: all subsequent pages will search the same point in time,
+			// so that "_shard_doc" values remain comparable.
+			pointInTimeId = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( openPointInTimeWork() ) );
+		}
+		// The offset must be zero when using search_after.
+		return doFetch( afterPayload, null, limit, keysetSort, pointInTimeId );
+	}
+
+	private ElasticsearchSearchResult<H> doFetch(JsonObject requestPayload, Integer offset, Integer limit,
+			JsonArray keysetSortOrNull, String pointInTimeIdOrNull) {
+		TimeoutManager timeoutManager = createTimeoutManager();
 		timeoutManager.start();
 		Integer defaultedLimit = defaultedLimit( limit, offset );
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
+		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> builder = searchWorkBuilder( requestPayload,
+				timeoutManager )
 				.paging( defaultedLimit, offset )
-				.totalHitCountThreshold( totalHitCountThreshold )
-				.build();
+				.totalHitCountThreshold( totalHitCountThreshold );
+		if ( pointInTimeIdOrNull != null ) {
+			builder.pointInTime( pointInTimeIdOrNull, pointInTimeKeepAlive() );
+		}
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = builder.build();
 
 		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
 				queryOrchestrator.submit( work ) )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * For async query execution, see fetchAsync.
 				 */
-				.loadBlocking();
+				.loadBlocking( keysetSortOrNull );
 		timeoutManager.stop();
 
-		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
-			// user may not be aware of this defaultedLimit
-			log.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
-		}
+		logIfDefaultedLimitExceeded( limit, defaultedLimit, result );
 		return result;
 	}
 
+	@Override
+	public CompletionStage<ElasticsearchSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		// Entities are loaded through the session, which must not be used from another thread.
+		if ( loadsEntities ) {
+			throw log.cannotFetchAsyncWithEntityLoading();
+		}
+		return Futures.create( () -> {
+			// Each execution gets its own timeout manager, since several may run concurrently.
+			TimeoutManager timeoutManager = createTimeoutManager();
+			timeoutManager.start();
+			Integer defaultedLimit = defaultedLimit( limit, offset );
+			NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWork( payload, offset, defaultedLimit,
+					timeoutManager );
+
+			return queryOrchestrator.submit( work )
+					// The response is received in an I/O thread of the HTTP client,
+					// and extracting hits may run user code (e.g. projection converters):
+					// do it in a thread dedicated to asynchronous searches instead.
+					.<ElasticsearchSearchResult<H>>thenApplyAsync( loadableResult -> {
+						ElasticsearchSearchResultImpl<H> result = loadableResult.loadBlocking();
+						timeoutManager.stop();
+						logIfDefaultedLimitExceeded( limit, defaultedLimit, result );
+						return result;
+					}, asyncSearchExecutor );
+		} );
+	}
+
+	@Override
+	public Optional<SearchQueryBatchExecutor> batchExecutor() {
+		return Optional.of( new ElasticsearchSearchQueryBatchExecutor( workFactory, queryOrchestrator ) );
+	}
+
+	/**
+	 * Starts fetching results as part of a batch.
+	 * <p>
+	 * The work of the returned fetch is to be executed by the caller, either on its own
+	 * or as part of a multi-search request, and its result passed to {@link BatchFetch#load(ElasticsearchLoadableSearchResult)}.
+	 */
+	BatchFetch startBatchFetch(Integer offset, Integer limit) {
+		TimeoutManager timeoutManager = createTimeoutManager();
+		timeoutManager.start();
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+		SearchWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder( payload, timeoutManager )
+				.paging( defaultedLimit, offset )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.build();
+		return new BatchFetch( work, timeoutManager, limit, defaultedLimit );
+	}
+
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
+		TimeoutManager timeoutManager = createTimeoutManager();
 		timeoutManager.start();
 		Integer defaultedLimit = defaultedLimit( limit, offset );
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder( payload, timeoutManager )
 				.paging( defaultedLimit, offset )
 				.disableTrackTotalHits()
+				// Only hits are returned: no need to keep the response body in memory.
+				.streamResponseBody()
 				.build();
 
 		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
 				queryOrchestrator.submit( work ) )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * For async query execution, see fetchAsync.
 				 */
 				.loadBlocking();
 		timeoutManager.stop();
 
-		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
-			// user may not be aware of this defaultedLimit
-			log.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
-		}
+		logIfDefaultedLimitExceeded( limit, defaultedLimit, result );
 		return result.hits();
 	}
 
 	@Override
 	public long fetchTotalHitCount() {
+		TimeoutManager timeoutManager = createTimeoutManager();
 		timeoutManager.start();
-
-		JsonObject filteredPayload = new JsonObject();
-		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
-		if ( querySubTree.isPresent() ) {
-			filteredPayload.add( "query", querySubTree.get() );
-		}
-
-		CountWork.Builder builder = workFactory.count();
-		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
-			builder.index( index.names().read() );
-		}
-		builder.query( filteredPayload )
-				.routingKeys( routingKeys )
-				// soft timeout has no meaning for a count work
-				.deadline( timeoutManager.hardDeadlineOrNull() )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				);
-		NonBulkableWork<Long> work = builder.build();
-		Long result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		Long result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( countWork( timeoutManager ) ) );
 		timeoutManager.stop();
 		return result;
 	}
 
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> {
+			TimeoutManager timeoutManager = createTimeoutManager();
+			timeoutManager.start();
+			// Nothing to load: the result can be returned directly from the I/O thread.
+			return queryOrchestrator.submit( countWork( timeoutManager ) )
+					.thenApply( result -> {
+						timeoutManager.stop();
+						return result;
+					} );
+		} );
+	}
+
 	@Override
 	public ElasticsearchSearchScroll<H> scroll(int chunkSize) {
 		String scrollTimeoutString = this.scrollTimeout + "s";
+		TimeoutManager timeoutManager = createTimeoutManager();
 
-		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> firstScroll = searchWorkBuilder()
-				.scrolling( chunkSize, scrollTimeoutString );
+		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> firstScroll = searchWorkBuilder( payload, timeoutManager )
+				.scrolling( chunkSize, scrollTimeoutString )
+				// Scroll results do not expose the response body: no need to keep it in memory.
+				.streamResponseBody();
 
 		return new ElasticsearchSearchScrollImpl<>( queryOrchestrator, workFactory, searchResultExtractor,
 				scrollTimeoutString, firstScroll, timeoutManager );
@@ -233,14 +339,62 @@ public JsonObject explain(String typeName, Object id) {
 		return doExplain( index, id );
 	}
 
-	private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder() {
+	private NonBulkableWork<Long> countWork(TimeoutManager timeoutManager) {
+		JsonObject filteredPayload = new JsonObject();
+		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
+		if ( querySubTree.isPresent() ) {
+			filteredPayload.add( "query", querySubTree.get() );
+		}
+
+		CountWork.Builder builder = workFactory.count();
+		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
+			builder.index( index.names().read() );
+		}
+		builder.query( filteredPayload )
+				.routingKeys( routingKeys )
+				.preference( preference )
+				// soft timeout has no meaning for a count work
+				.deadline( timeoutManager.hardDeadlineOrNull() )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				);
+		return builder.build();
+	}
+
+	private NonBulkableWork<ElasticsearchLoadableSearchResult<H>> searchWork(JsonObject requestPayload,
+			Integer offset, Integer defaultedLimit, TimeoutManager timeoutManager) {
+		return searchWorkBuilder( requestPayload, timeoutManager )
+				.paging( defaultedLimit, offset )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.build();
+	}
+
+	private NonBulkableWork<String> openPointInTimeWork() {
+		OpenPointInTimeWork.Builder builder = workFactory.openPointInTime( pointInTimeKeepAlive() );
+		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
+			builder.index( index.names().read() );
+		}
+		builder.routingKeys( routingKeys )
+				.preference( preference );
+		return builder.build();
+	}
+
+	private String pointInTimeKeepAlive() {
+		// Points in time are kept alive between two pages for as long as scrolls are kept alive between two chunks.
+		return this.scrollTimeout + "s";
+	}
+
+	private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder(JsonObject requestPayload,
+			TimeoutManager timeoutManager) {
 		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> builder =
-				workFactory.search( payload, searchResultExtractor );
+				workFactory.search( requestPayload, searchResultExtractor );
 		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
 			builder.index( index.names().read() );
 		}
 		builder
 				.routingKeys( routingKeys )
+				.requestCache( requestCache )
+				.preference( preference )
 				.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
 				.requestTransformer(
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
@@ -248,6 +402,10 @@ private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuild
 		return builder;
 	}
 
+	private TimeoutManager createTimeoutManager() {
+		return scope.createTimeoutManager( timeoutValue, timeoutUnit, exceptionOnTimeout );
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
@@ -266,6 +424,14 @@ private Integer defaultedLimit(Integer limit, Integer offset) {
 		}
 	}
 
+	private void logIfDefaultedLimitExceeded(Integer limit, Integer defaultedLimit,
+			ElasticsearchSearchResult<H> result) {
+		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
+			// user may not be aware of this defaultedLimit
+			log.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
+		}
+	}
+
 	private JsonObject doExplain(ElasticsearchSearchIndexContext index, Object id) {
 		JsonObject queryOnlyPayload = new JsonObject();
 		JsonElement query = payload.get( "query" );
@@ -295,9 +461,38 @@ private URLEncodedString toElasticsearchId(ElasticsearchSearchIndexContext index
 				.toElasticsearchId( sessionContext.tenantIdentifier(), documentId ) );
 	}
 
+	final class BatchFetch {
+		private final SearchWork<ElasticsearchLoadableSearchResult<H>> work;
+		private final TimeoutManager timeoutManager;
+		private final Integer limit;
+		private final Integer defaultedLimit;
+
+		private BatchFetch(SearchWork<ElasticsearchLoadableSearchResult<H>> work, TimeoutManager timeoutManager,
+				Integer limit, Integer defaultedLimit) {
+			this.work = work;
+			this.timeoutManager = timeoutManager;
+			this.limit = limit;
+			this.defaultedLimit = defaultedLimit;
+		}
+
+		SearchWork<ElasticsearchLoadableSearchResult<H>> work() {
+			return work;
+		}
+
+		ElasticsearchSearchResult<H> load(ElasticsearchLoadableSearchResult<H> loadableResult) {
+			// WARNING: this must run in the user thread, see doFetch.
+			ElasticsearchSearchResultImpl<H> result = loadableResult.loadBlocking();
+			timeoutManager.stop();
+			logIfDefaultedLimitExceeded( limit, defaultedLimit, result );
+			return result;
+		}
+	}
+
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
-		// replace the timeout manager on already created query instance
-		timeoutManager = scope.createTimeoutManager( timeout, timeUnit, true );
+		// applies to executions started after this call
+		this.timeoutValue = timeout;
+		this.timeoutUnit = timeUnit;
+		this.exceptionOnTimeout = true;
 	}
 }
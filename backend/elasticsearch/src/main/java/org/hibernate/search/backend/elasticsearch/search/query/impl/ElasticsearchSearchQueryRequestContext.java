@@ -41,6 +41,8 @@ class ElasticsearchSearchQueryRequestContext implements ProjectionRequestContext
 	private final PredicateRequestContext rootPredicateContext;
 	private final Map<DistanceSortKey, Integer> distanceSorts;
 
+	private boolean requireEntityLoading;
+
 	ElasticsearchSearchQueryRequestContext(
 			ElasticsearchSearchIndexScope<?> scope,
 			BackendSessionContext sessionContext,
@@ -68,6 +70,15 @@ public Integer getDistanceSortIndex(String absoluteFieldPath, GeoPoint location)
 		return distanceSorts.get( new DistanceSortKey( absoluteFieldPath, location ) );
 	}
 
+	@Override
+	public void requireEntityLoading() {
+		requireEntityLoading = true;
+	}
+
+	boolean isEntityLoadingRequired() {
+		return requireEntityLoading;
+	}
+
 	@Override
 	public ElasticsearchSearchSyntax getSearchSyntax() {
 		return scope.searchSyntax();
@@ -24,8 +24,10 @@
 	private final String scrollId;
 
 	ElasticsearchSearchResultImpl(JsonObject responseBody, SearchResultTotal resultTotal, List<H> hits,
-			Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut, String scrollId) {
-		super( resultTotal, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut );
+			Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut, String scrollId,
+			ElasticsearchSearchCursor cursorOrNull) {
+		super( resultTotal, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut,
+				cursorOrNull );
 		this.responseBody = responseBody;
 		this.scrollId = scrollId;
 	}
@@ -56,6 +56,7 @@ public ElasticsearchSearchScrollResult<H> next() {
 		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> scroll = ( scrollId == null ) ? firstScroll.build() :
 				workFactory.scroll( scrollId, scrollTimeoutString, searchResultExtractor )
 						.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
+						.streamResponseBody()
 						.build();
 
 		ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( scroll ) );
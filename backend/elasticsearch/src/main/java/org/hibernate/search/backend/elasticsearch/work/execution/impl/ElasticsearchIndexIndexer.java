@@ -7,8 +7,10 @@
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSerialWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
@@ -58,15 +60,14 @@ public CompletableFuture<?> delete(DocumentReferenceProvider referenceProvider,
 		String elasticsearchId = indexManagerContext.toElasticsearchId( tenantId, id );
 		String routingKey = referenceProvider.routingKey();
 
-		SingleDocumentIndexingWork work = workFactory.delete(
+		return submit( indexName -> workFactory.delete(
 				indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
-				indexManagerContext.getElasticsearchIndexWriteName(),
-				elasticsearchId, routingKey
+				indexName, elasticsearchId, routingKey
 		)
 				// The commit strategy is ignored, because Elasticsearch always commits changes to its transaction log.
 				.refresh( refreshStrategy )
-				.build();
-		return orchestrator.submit( work );
+				.build()
+		);
 	}
 
 	private CompletableFuture<?> index(DocumentReferenceProvider referenceProvider,
@@ -78,14 +79,31 @@ private CompletableFuture<?> index(DocumentReferenceProvider referenceProvider,
 
 		JsonObject document = indexManagerContext.createDocument( tenantId, id, documentContributor );
 
-		SingleDocumentIndexingWork work = workFactory.index(
+		return submit( indexName -> workFactory.index(
 				indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
-				indexManagerContext.getElasticsearchIndexWriteName(),
-				elasticsearchId, routingKey, document
+				indexName, elasticsearchId, routingKey, document
 		)
 				// The commit strategy is ignored, because Elasticsearch always commits changes to its transaction log.
 				.refresh( refreshStrategy )
-				.build();
-		return orchestrator.submit( work );
+				.build()
+		);
+	}
+
+	private CompletableFuture<?> submit(Function<URLEncodedString, SingleDocumentIndexingWork> workBuilder) {
+		URLEncodedString localRebuildName = indexManagerContext.getElasticsearchIndexLocalRebuildName();
+		if ( localRebuildName != null ) {
+			// While this node rebuilds the index, the indexer (used in particular by the mass indexer)
+			// only writes to the index being rebuilt.
+			return orchestrator.submit( workBuilder.apply( localRebuildName ) );
+		}
+		CompletableFuture<?> writeFuture =
+				orchestrator.submit( workBuilder.apply( indexManagerContext.getElasticsearchIndexWriteName() ) );
+		URLEncodedString rebuildName = indexManagerContext.getElasticsearchIndexRebuildName();
+		if ( rebuildName == null ) {
+			return writeFuture;
+		}
+		// While another node rebuilds the index, changes are written to both the live index
+		// and the index being rebuilt.
+		return CompletableFuture.allOf( writeFuture, orchestrator.submit( workBuilder.apply( rebuildName ) ) );
 	}
 }
@@ -9,8 +9,10 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSerialWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
@@ -33,7 +35,7 @@ public class ElasticsearchIndexIndexingPlan implements IndexIndexingPlan {
 	private final String tenantId;
 	private final DocumentRefreshStrategy refreshStrategy;
 
-	private final List<SingleDocumentIndexingWork> works = new ArrayList<>();
+	private final List<Function<URLEncodedString, SingleDocumentIndexingWork>> workBuilders = new ArrayList<>();
 
 	public ElasticsearchIndexIndexingPlan(ElasticsearchWorkFactory workFactory,
 			ElasticsearchSerialWorkOrchestrator orchestrator,
@@ -64,14 +66,12 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 		String elasticsearchId = indexManagerContext.toElasticsearchId( tenantId, referenceProvider.identifier() );
 		String routingKey = referenceProvider.routingKey();
 
-		collect(
-				workFactory.delete(
-						indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
-						indexManagerContext.getElasticsearchIndexWriteName(),
-						elasticsearchId, routingKey
-				)
-						.refresh( refreshStrategy )
-						.build()
+		collect( indexName -> workFactory.delete(
+				indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
+				indexName, elasticsearchId, routingKey
+		)
+				.refresh( refreshStrategy )
+				.build()
 		);
 	}
 
@@ -81,18 +81,18 @@ public <R> CompletableFuture<MultiEntityOperationExecutionReport<R>> executeAndR
 		try {
 			ElasticsearchIndexIndexingPlanExecution<R> execution = new ElasticsearchIndexIndexingPlanExecution<>(
 					orchestrator, entityReferenceFactory,
-					new ArrayList<>( works ) // Copy the list, as we're going to clear it below
+					buildWorks() // Build a new list, as we're going to clear the builders below
 			);
 			return execution.execute();
 		}
 		finally {
-			works.clear();
+			workBuilders.clear();
 		}
 	}
 
 	@Override
 	public void discard() {
-		works.clear();
+		workBuilders.clear();
 	}
 
 	private void index(DocumentReferenceProvider referenceProvider,
@@ -103,19 +103,36 @@ private void index(DocumentReferenceProvider referenceProvider,
 
 		JsonObject document = indexManagerContext.createDocument( tenantId, id, documentContributor );
 
-		collect(
-				workFactory.index(
-						indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
-						indexManagerContext.getElasticsearchIndexWriteName(),
-						elasticsearchId, routingKey, document
-				)
-						.refresh( refreshStrategy )
-						.build()
+		collect( indexName -> workFactory.index(
+				indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
+				indexName, elasticsearchId, routingKey, document
+		)
+				.refresh( refreshStrategy )
+				.build()
 		);
 	}
 
-	private void collect(SingleDocumentIndexingWork work) {
-		works.add( work );
+	private void collect(Function<URLEncodedString, SingleDocumentIndexingWork> workBuilder) {
+		workBuilders.add( workBuilder );
+	}
+
+	private List<SingleDocumentIndexingWork> buildWorks() {
+		// The rebuild is checked upon execution rather than when collecting works,
+		// so that changes are written to the index being rebuilt as soon as the rebuild is detected.
+		URLEncodedString writeName = indexManagerContext.getElasticsearchIndexWriteName();
+		URLEncodedString rebuildName = indexManagerContext.getElasticsearchIndexRebuildName();
+		List<SingleDocumentIndexingWork> works = new ArrayList<>(
+				rebuildName == null ? workBuilders.size() : 2 * workBuilders.size() );
+		for ( Function<URLEncodedString, SingleDocumentIndexingWork> workBuilder : workBuilders ) {
+			works.add( workBuilder.apply( writeName ) );
+			if ( rebuildName != null ) {
+				// While the index is being rebuilt, changes are written both to the live index,
+				// so that they are visible to searches immediately,
+				// and to the index being rebuilt, so that they are not lost when switching to that index.
+				works.add( workBuilder.apply( rebuildName ) );
+			}
+		}
+		return works;
 	}
 
 }
@@ -6,9 +6,11 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
@@ -16,16 +18,19 @@
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 public class ElasticsearchIndexWorkspace implements IndexWorkspace {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final ElasticsearchParallelWorkOrchestrator orchestrator;
-	private final URLEncodedString indexName;
+	private final WorkExecutionIndexManagerContext indexManagerContext;
 	private final DetachedBackendSessionContext sessionContext;
 
 	public ElasticsearchIndexWorkspace(ElasticsearchWorkFactory workFactory,
@@ -35,13 +40,13 @@ public ElasticsearchIndexWorkspace(ElasticsearchWorkFactory workFactory,
 		this.workFactory = workFactory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
-		this.indexName = indexManagerContext.getElasticsearchIndexWriteName();
+		this.indexManagerContext = indexManagerContext;
 		this.sessionContext = sessionContext;
 	}
 
 	@Override
 	public CompletableFuture<?> mergeSegments() {
-		return orchestrator.submit( workFactory.mergeSegments().index( indexName ).build() );
+		return orchestrator.submit( workFactory.mergeSegments().index( targetIndexName() ).build() );
 	}
 
 	@Override
@@ -62,7 +67,7 @@ public CompletableFuture<?> purge(Set<String> routingKeys) {
 		);
 
 		return orchestrator.submit(
-				workFactory.deleteByQuery( indexName, payload )
+				workFactory.deleteByQuery( targetIndexName(), payload )
 						.routingKeys( routingKeys )
 						.build()
 		);
@@ -70,11 +75,37 @@ public CompletableFuture<?> purge(Set<String> routingKeys) {
 
 	@Override
 	public CompletableFuture<?> flush() {
-		return orchestrator.submit( workFactory.flush().index( indexName ).build() );
+		return orchestrator.submit( workFactory.flush().index( targetIndexName() ).build() );
 	}
 
 	@Override
 	public CompletableFuture<?> refresh() {
-		return orchestrator.submit( workFactory.refresh().index( indexName ).build() );
+		return orchestrator.submit( workFactory.refresh().index( targetIndexName() ).build() );
+	}
+
+	@Override
+	public CompletableFuture<?> startRebuild() {
+		String tenantId = sessionContext.tenantIdentifier();
+		if ( tenantId != null ) {
+			throw log.unableToRebuildIndexForSingleTenant( tenantId );
+		}
+		return indexManagerContext.startRebuild();
+	}
+
+	@Override
+	public CompletableFuture<?> finishRebuild() {
+		return indexManagerContext.finishRebuild();
+	}
+
+	@Override
+	public CompletableFuture<?> abortRebuild() {
+		return indexManagerContext.abortRebuild();
+	}
+
+	private URLEncodedString targetIndexName() {
+		// While this node rebuilds the index, management operations (used in particular by the mass indexer)
+		// target the index being rebuilt.
+		URLEncodedString localRebuildName = indexManagerContext.getElasticsearchIndexLocalRebuildName();
+		return localRebuildName != null ? localRebuildName : indexManagerContext.getElasticsearchIndexWriteName();
 	}
 }
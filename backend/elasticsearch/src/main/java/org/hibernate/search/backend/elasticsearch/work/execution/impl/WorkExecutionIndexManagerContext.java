@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 
@@ -28,6 +30,26 @@ public interface WorkExecutionIndexManagerContext {
 
 	URLEncodedString getElasticsearchIndexWriteName();
 
+	/**
+	 * @return The name of the index being rebuilt aside from the live index,
+	 * by this application node or by another one,
+	 * or {@code null} if no rebuild is in progress.
+	 * May block while checking the cluster state for a rebuild started by another application node.
+	 */
+	URLEncodedString getElasticsearchIndexRebuildName();
+
+	/**
+	 * @return The name of the index being rebuilt aside from the live index by this application node,
+	 * or {@code null} if this application node is not rebuilding the index.
+	 */
+	URLEncodedString getElasticsearchIndexLocalRebuildName();
+
+	CompletableFuture<?> startRebuild();
+
+	CompletableFuture<?> finishRebuild();
+
+	CompletableFuture<?> abortRebuild();
+
 	String toElasticsearchId(String tenantId, String id);
 
 	JsonObject createDocument(String tenantId, String id,
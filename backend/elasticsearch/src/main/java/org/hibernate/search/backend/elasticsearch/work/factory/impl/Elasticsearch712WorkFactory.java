@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.factory.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
+
+/**
+ * A work builder factory for ES7.12+.
+ * <p>
+ * Compared to ES7.0:
+ * <ul>
+ *     <li>We can open points in time, and sort searches on a point in time by "_shard_doc"</li>
+ * </ul>
+ */
+public class Elasticsearch712WorkFactory extends Elasticsearch7WorkFactory {
+
+	public Elasticsearch712WorkFactory(GsonProvider gsonProvider) {
+		super( gsonProvider );
+	}
+
+	@Override
+	public boolean isPointInTimeSupported() {
+		return true;
+	}
+
+	@Override
+	public OpenPointInTimeWork.Builder openPointInTime(String keepAlive) {
+		return new OpenPointInTimeWork.Builder( keepAlive );
+	}
+
+}
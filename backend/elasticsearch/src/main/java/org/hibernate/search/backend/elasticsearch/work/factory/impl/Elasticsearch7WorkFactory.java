@@ -30,7 +30,9 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
@@ -38,11 +40,12 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ScrollWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.WaitForIndexStatusWork;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import com.google.gson.JsonObject;
 
 /**
- * A work builder factory for ES7.0+.
+ * A work builder factory for ES7.0 to ES7.11.
  */
 public class Elasticsearch7WorkFactory implements ElasticsearchWorkFactory {
 
@@ -97,6 +100,11 @@ public <T> SearchWork.Builder<T> search(JsonObject payload, ElasticsearchSearchR
 		return SearchWork.Builder.forElasticsearch7AndAbove( payload, searchResultExtractor );
 	}
 
+	@Override
+	public MultiSearchWork.Builder multiSearch(List<? extends SearchWork<?>> searchWorks) {
+		return new MultiSearchWork.Builder( searchWorks );
+	}
+
 	@Override
 	public CountWork.Builder count() {
 		return new CountWork.Builder();
@@ -118,6 +126,16 @@ public ClearScrollWork.Builder clearScroll(String scrollId) {
 		return new ClearScrollWork.Builder( scrollId );
 	}
 
+	@Override
+	public boolean isPointInTimeSupported() {
+		return false;
+	}
+
+	@Override
+	public OpenPointInTimeWork.Builder openPointInTime(String keepAlive) {
+		throw new AssertionFailure( "Points in time are not supported in this version of Elasticsearch" );
+	}
+
 	@Override
 	public CreateIndexWork.Builder createIndex(URLEncodedString indexName) {
 		return CreateIndexWork.Builder.forElasticsearch7AndAbove( gsonProvider, indexName );
@@ -148,6 +166,11 @@ public PutIndexSettingsWork.Builder putIndexSettings(URLEncodedString indexName,
 		return new PutIndexSettingsWork.Builder( gsonProvider, indexName, settings );
 	}
 
+	@Override
+	public PutIndexSettingsWork.Builder putIndexSettings(URLEncodedString indexName, JsonObject settings) {
+		return new PutIndexSettingsWork.Builder( indexName, settings );
+	}
+
 	@Override
 	public PutIndexMappingWork.Builder putIndexTypeMapping(URLEncodedString indexName, RootTypeMapping mapping) {
 		return PutIndexMappingWork.Builder.forElasticsearch7AndAbove( gsonProvider, indexName, mapping );
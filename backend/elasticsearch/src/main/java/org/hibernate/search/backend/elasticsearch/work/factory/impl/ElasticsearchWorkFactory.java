@@ -29,7 +29,9 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
@@ -63,6 +65,8 @@ DeleteWork.Builder delete(String entityTypeName, Object entityIdentifier,
 
 	<T> SearchWork.Builder<T> search(JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor);
 
+	MultiSearchWork.Builder multiSearch(List<? extends SearchWork<?>> searchWorks);
+
 	CountWork.Builder count();
 
 	ExplainWork.Builder explain(URLEncodedString indexName, URLEncodedString id, JsonObject payload);
@@ -72,6 +76,14 @@ <T> ScrollWork.Builder<T> scroll(String scrollId, String scrollTimeout,
 
 	ClearScrollWork.Builder clearScroll(String scrollId);
 
+	/**
+	 * @return {@code true} if points in time can be opened with {@link #openPointInTime(String)},
+	 * and searches on a point in time can be sorted on "_shard_doc".
+	 */
+	boolean isPointInTimeSupported();
+
+	OpenPointInTimeWork.Builder openPointInTime(String keepAlive);
+
 	CreateIndexWork.Builder createIndex(URLEncodedString indexName);
 
 	DropIndexWork.Builder dropIndex(URLEncodedString indexName);
@@ -84,6 +96,8 @@ <T> ScrollWork.Builder<T> scroll(String scrollId, String scrollTimeout,
 
 	PutIndexSettingsWork.Builder putIndexSettings(URLEncodedString indexName, IndexSettings settings);
 
+	PutIndexSettingsWork.Builder putIndexSettings(URLEncodedString indexName, JsonObject settings);
+
 	PutIndexMappingWork.Builder putIndexTypeMapping(URLEncodedString indexName, RootTypeMapping mapping);
 
 	WaitForIndexStatusWork.Builder waitForIndexStatusWork(URLEncodedString indexName, IndexStatus requiredStatus,
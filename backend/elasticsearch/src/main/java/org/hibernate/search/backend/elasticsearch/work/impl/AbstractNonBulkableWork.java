@@ -48,7 +48,7 @@ public String toString() {
 	@Override
 	public final CompletableFuture<R> execute(ElasticsearchWorkExecutionContext executionContext) {
 		return Futures.create( () -> beforeExecute( executionContext, request ) )
-				.thenCompose( ignored -> executionContext.getClient().submit( request ) )
+				.thenCompose( ignored -> submit( executionContext, request ) )
 				.exceptionally( Futures.handler( throwable -> {
 					// if we already have a SearchExececption, throw that,
 					// since it will be more specific
@@ -71,6 +71,11 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 		return SUCCESSFUL_FUTURE;
 	}
 
+	protected CompletableFuture<ElasticsearchResponse> submit(ElasticsearchWorkExecutionContext executionContext,
+			ElasticsearchRequest request) {
+		return executionContext.getClient().submit( request );
+	}
+
 	protected abstract R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response);
 
 	private R handleResult(ElasticsearchWorkExecutionContext executionContext, ElasticsearchResponse response) {
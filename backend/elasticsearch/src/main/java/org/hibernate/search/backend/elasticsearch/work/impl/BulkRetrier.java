@@ -0,0 +1,229 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.index.IndexingRetryStatistics;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Sends bulk requests again when Elasticsearch rejects them because it is overloaded.
+ * <p>
+ * Requests rejected as a whole (HTTP status 429 or 503) are sent again as is.
+ * Requests where only some bulked works were rejected (item status 429)
+ * lead to a new bulk request containing only the rejected works,
+ * whose response items then replace the rejected items in the original response.
+ * <p>
+ * Retries are delayed exponentially, with random jitter,
+ * and the number of retries for a given request is bounded.
+ * Once that number is reached, the last response is returned as is,
+ * so that rejected works will be reported as failed.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class BulkRetrier implements IndexingRetryStatistics {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final JsonAccessor<Integer> ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
+	private static final int SERVICE_UNAVAILABLE_HTTP_STATUS_CODE = 503;
+
+	private final ScheduledExecutorService timingExecutor;
+	private final int maxRetries;
+	private final long initialDelayMs;
+	private final long maxDelayMs;
+
+	private final LongAdder retriedRequestCount = new LongAdder();
+	private final LongAdder retriedWorkCount = new LongAdder();
+	private final LongAdder exhaustedRetryCount = new LongAdder();
+
+	/**
+	 * @param timingExecutor The executor to use to delay retries.
+	 * @param maxRetries The maximum number of retries for a given request.
+	 * @param initialDelayMs The delay before the first retry, in milliseconds.
+	 * @param maxDelayMs The maximum delay before a retry, in milliseconds.
+	 */
+	public BulkRetrier(ScheduledExecutorService timingExecutor, int maxRetries,
+			long initialDelayMs, long maxDelayMs) {
+		this.timingExecutor = timingExecutor;
+		this.maxRetries = maxRetries;
+		this.initialDelayMs = initialDelayMs;
+		this.maxDelayMs = Math.max( initialDelayMs, maxDelayMs );
+	}
+
+	@Override
+	public long retriedRequestCount() {
+		return retriedRequestCount.sum();
+	}
+
+	@Override
+	public long retriedWorkCount() {
+		return retriedWorkCount.sum();
+	}
+
+	@Override
+	public long exhaustedRetryCount() {
+		return exhaustedRetryCount.sum();
+	}
+
+	/**
+	 * @param client The client to submit requests to.
+	 * @param request The bulk request.
+	 * @param bulkableWorks The works in the bulk request, in order.
+	 * @param requestFactory A factory for bulk requests containing only some of the works.
+	 * @return A future that will ultimately provide the response to the request,
+	 * with items of rejected works replaced with the items of successful retries, if any.
+	 */
+	CompletableFuture<ElasticsearchResponse> submit(ElasticsearchClient client, ElasticsearchRequest request,
+			List<? extends BulkableWork<?>> bulkableWorks,
+			Function<List<? extends BulkableWork<?>>, ElasticsearchRequest> requestFactory) {
+		return submit( client, request, bulkableWorks, requestFactory, 0 );
+	}
+
+	private CompletableFuture<ElasticsearchResponse> submit(ElasticsearchClient client, ElasticsearchRequest request,
+			List<? extends BulkableWork<?>> bulkableWorks,
+			Function<List<? extends BulkableWork<?>>, ElasticsearchRequest> requestFactory,
+			int retryCount) {
+		return client.submit( request ).thenCompose( response -> {
+			if ( isRequestRejection( response.statusCode() ) ) {
+				if ( retryCount >= maxRetries ) {
+					exhaustedRetryCount.increment();
+					return CompletableFuture.completedFuture( response );
+				}
+				retriedRequestCount.increment();
+				long delayMs = computeDelayMs( retryCount );
+				log.retryingRejectedBulkRequest( response.statusCode(), delayMs, retryCount + 1, maxRetries );
+				return delay( delayMs )
+						.thenCompose( ignored -> submit( client, request, bulkableWorks, requestFactory,
+								retryCount + 1 ) );
+			}
+
+			if ( !ElasticsearchClientUtils.isSuccessCode( response.statusCode() ) ) {
+				return CompletableFuture.completedFuture( response );
+			}
+			JsonArray items = BULK_ITEMS.get( response.body() ).orElse( null );
+			if ( items == null || items.size() != bulkableWorks.size() ) {
+				return CompletableFuture.completedFuture( response );
+			}
+			List<Integer> rejectedIndexes = new ArrayList<>();
+			for ( int i = 0; i < items.size(); i++ ) {
+				if ( isItemRejection( items.get( i ) ) ) {
+					rejectedIndexes.add( i );
+				}
+			}
+			if ( rejectedIndexes.isEmpty() ) {
+				return CompletableFuture.completedFuture( response );
+			}
+			if ( retryCount >= maxRetries ) {
+				exhaustedRetryCount.add( rejectedIndexes.size() );
+				return CompletableFuture.completedFuture( response );
+			}
+
+			List<BulkableWork<?>> rejectedWorks = new ArrayList<>( rejectedIndexes.size() );
+			for ( int index : rejectedIndexes ) {
+				rejectedWorks.add( bulkableWorks.get( index ) );
+			}
+			retriedWorkCount.add( rejectedWorks.size() );
+			long delayMs = computeDelayMs( retryCount );
+			log.retryingRejectedBulkedWorks( rejectedWorks.size(), bulkableWorks.size(), delayMs,
+					retryCount + 1, maxRetries );
+			ElasticsearchRequest retryRequest = requestFactory.apply( rejectedWorks );
+			return delay( delayMs )
+					.thenCompose( ignored -> submit( client, retryRequest, rejectedWorks, requestFactory,
+							retryCount + 1 ) )
+					.thenApply( retryResponse -> merge( response, items, rejectedIndexes, retryResponse ) );
+		} );
+	}
+
+	private static boolean isRequestRejection(int statusCode) {
+		return statusCode == TOO_MANY_REQUESTS_HTTP_STATUS_CODE
+				|| statusCode == SERVICE_UNAVAILABLE_HTTP_STATUS_CODE;
+	}
+
+	private static boolean isItemRejection(JsonElement item) {
+		// Result items have the following format: { "actionName" : { "status" : 201, ... } }
+		if ( item == null || !item.isJsonObject() ) {
+			return false;
+		}
+		Iterator<Map.Entry<String, JsonElement>> iterator = item.getAsJsonObject().entrySet().iterator();
+		if ( !iterator.hasNext() ) {
+			return false;
+		}
+		JsonElement itemBody = iterator.next().getValue();
+		return itemBody.isJsonObject() && ITEM_STATUS_CODE.get( itemBody.getAsJsonObject() )
+				.map( statusCode -> statusCode == TOO_MANY_REQUESTS_HTTP_STATUS_CODE )
+				.orElse( false );
+	}
+
+	private long computeDelayMs(int retryCount) {
+		// Exponential backoff, capped, with "equal jitter":
+		// the actual delay is randomly picked between half the computed delay and the computed delay.
+		long delayMs = initialDelayMs << Math.min( retryCount, 30 );
+		if ( delayMs <= 0 || delayMs > maxDelayMs ) {
+			delayMs = maxDelayMs;
+		}
+		long halfDelayMs = delayMs / 2;
+		return halfDelayMs + ThreadLocalRandom.current().nextLong( delayMs - halfDelayMs + 1 );
+	}
+
+	private CompletableFuture<?> delay(long delayMs) {
+		CompletableFuture<?> future = new CompletableFuture<>();
+		Runnable completion = () -> future.complete( null );
+		timingExecutor.schedule( completion, delayMs, TimeUnit.MILLISECONDS );
+		return future;
+	}
+
+	private static ElasticsearchResponse merge(ElasticsearchResponse originalResponse, JsonArray originalItems,
+			List<Integer> rejectedIndexes, ElasticsearchResponse retryResponse) {
+		if ( !ElasticsearchClientUtils.isSuccessCode( retryResponse.statusCode() ) ) {
+			// The retry failed as a whole: leave the original items,
+			// so that rejected works will be reported as failed.
+			return originalResponse;
+		}
+		JsonArray retryItems = BULK_ITEMS.get( retryResponse.body() ).orElse( null );
+		if ( retryItems == null || retryItems.size() != rejectedIndexes.size() ) {
+			return originalResponse;
+		}
+		JsonArray mergedItems = new JsonArray();
+		mergedItems.addAll( originalItems );
+		for ( int i = 0; i < rejectedIndexes.size(); i++ ) {
+			mergedItems.set( rejectedIndexes.get( i ), retryItems.get( i ) );
+		}
+		JsonObject mergedBody = new JsonObject();
+		for ( Map.Entry<String, JsonElement> entry : originalResponse.body().entrySet() ) {
+			mergedBody.add( entry.getKey(), entry.getValue() );
+		}
+		mergedBody.add( "items", mergedItems );
+		return new ElasticsearchResponse( originalResponse.host(), originalResponse.statusCode(),
+				originalResponse.statusMessage(), mergedBody );
+	}
+
+}
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -23,8 +24,25 @@ public class BulkWork extends AbstractNonBulkableWork<BulkResult> {
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
 
+	private final List<? extends BulkableWork<?>> bulkableWorks;
+	private final DocumentRefreshStrategy refreshStrategy;
+	private final BulkRetrier retrier;
+
 	protected BulkWork(Builder builder) {
 		super( builder );
+		this.bulkableWorks = builder.bulkableWorks;
+		this.refreshStrategy = builder.refreshStrategy;
+		this.retrier = builder.retrier;
+	}
+
+	@Override
+	protected CompletableFuture<ElasticsearchResponse> submit(ElasticsearchWorkExecutionContext executionContext,
+			ElasticsearchRequest request) {
+		if ( retrier == null ) {
+			return super.submit( executionContext, request );
+		}
+		return retrier.submit( executionContext.getClient(), request, bulkableWorks,
+				works -> createRequest( works, refreshStrategy ) );
 	}
 
 	@Override
@@ -38,6 +56,7 @@ public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Buil
 		private final List<? extends BulkableWork<?>> bulkableWorks;
 
 		private DocumentRefreshStrategy refreshStrategy = DocumentRefreshStrategy.NONE;
+		private BulkRetrier retrier;
 
 		public Builder(List<? extends BulkableWork<?>> bulkableWorks) {
 			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
@@ -49,28 +68,19 @@ public Builder refresh(DocumentRefreshStrategy refreshStrategy) {
 			return this;
 		}
 
+		/**
+		 * @param retrier The retrier to use when Elasticsearch rejects the request or some of the bulked works,
+		 * or {@code null} to never retry.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder retrier(BulkRetrier retrier) {
+			this.retrier = retrier;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
-			ElasticsearchRequest.Builder builder =
-					ElasticsearchRequest.post()
-					.pathComponent( Paths._BULK );
-			switch ( refreshStrategy ) {
-				case FORCE:
-					builder.param( "refresh", true );
-					break;
-				case NONE:
-					break;
-			}
-
-			for ( BulkableWork<?> work : bulkableWorks ) {
-				builder.body( work.getBulkableActionMetadata() );
-				JsonObject actionBody = work.getBulkableActionBody();
-				if ( actionBody != null ) {
-					builder.body( actionBody );
-				}
-			}
-
-			return builder.build();
+			return createRequest( bulkableWorks, refreshStrategy );
 		}
 
 		@Override
@@ -79,6 +89,30 @@ public BulkWork build() {
 		}
 	}
 
+	private static ElasticsearchRequest createRequest(List<? extends BulkableWork<?>> bulkableWorks,
+			DocumentRefreshStrategy refreshStrategy) {
+		ElasticsearchRequest.Builder builder =
+				ElasticsearchRequest.post()
+				.pathComponent( Paths._BULK );
+		switch ( refreshStrategy ) {
+			case FORCE:
+				builder.param( "refresh", true );
+				break;
+			case NONE:
+				break;
+		}
+
+		for ( BulkableWork<?> work : bulkableWorks ) {
+			builder.body( work.getBulkableActionMetadata() );
+			JsonObject actionBody = work.getBulkableActionBody();
+			if ( actionBody != null ) {
+				builder.body( actionBody );
+			}
+		}
+
+		return builder.build();
+	}
+
 	private static class BulkResultImpl implements BulkResult {
 		private final JsonArray results;
 
@@ -38,6 +38,7 @@ public static class Builder extends AbstractBuilder<Builder> {
 		private final List<URLEncodedString> indexNames = new ArrayList<>();
 		private JsonObject query;
 		private Set<String> routingKeys;
+		private String preference;
 		private Deadline deadline;
 
 		public Builder() {
@@ -59,6 +60,11 @@ public Builder routingKeys(Set<String> routingKeys) {
 			return this;
 		}
 
+		public Builder preference(String preference) {
+			this.preference = preference;
+			return this;
+		}
+
 		public Builder deadline(Deadline deadline) {
 			this.deadline = deadline;
 			return this;
@@ -80,6 +86,10 @@ protected ElasticsearchRequest buildRequest() {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
+			if ( preference != null ) {
+				builder.param( "preference", preference );
+			}
+
 			if ( deadline != null ) {
 				builder.deadline( deadline );
 			}
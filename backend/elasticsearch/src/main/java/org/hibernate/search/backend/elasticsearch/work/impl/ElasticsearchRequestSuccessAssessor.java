@@ -29,7 +29,7 @@ public class ElasticsearchRequestSuccessAssessor {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+	private static final JsonAccessor<Integer> ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
 	private static final JsonAccessor<String> ERROR_TYPE = JsonAccessor.root().property( "error" ).property( "type" ).asString();
 
 	private static final int TIME_OUT_HTTP_STATUS_CODE = 408;
@@ -85,9 +85,12 @@ public String toString() {
 	 * @throws SearchException If the result is a failure.
 	 */
 	public void checkSuccess(ElasticsearchResponse response) throws SearchException {
-		JsonObject responseBody = response.body();
-		Optional<Integer> statusCode = Optional.of( response.statusCode() );
-		checkSuccess( statusCode, responseBody );
+		int statusCode = response.statusCode();
+		if ( isSuccess( statusCode ) ) {
+			// Don't parse the body: the work may want to stream it instead.
+			return;
+		}
+		checkSuccess( Optional.of( statusCode ), response.body() );
 	}
 
 	/**
@@ -98,10 +101,21 @@ public void checkSuccess(ElasticsearchResponse response) throws SearchException
 	public void checkSuccess(JsonObject bulkResponseItem) {
 		// Result items have the following format: { "actionName" : { "status" : 201, ... } }
 		JsonObject responseBody = bulkResponseItem == null ? null : bulkResponseItem.entrySet().iterator().next().getValue().getAsJsonObject();
-		Optional<Integer> statusCode = BULK_ITEM_STATUS_CODE.get( responseBody );
+		Optional<Integer> statusCode = ITEM_STATUS_CODE.get( responseBody );
 		checkSuccess( statusCode, responseBody );
 	}
 
+	/**
+	 * Check the given multi-search response item, throwing an exception if it indicates a failure.
+	 * @param multiSearchResponseItem The part of the response body concerning the search whose success is to be assessed.
+	 * @throws SearchException If the result is a failure.
+	 */
+	public void checkMultiSearchItemSuccess(JsonObject multiSearchResponseItem) {
+		// Result items have the following format: { "status" : 200, "hits": ... }
+		Optional<Integer> statusCode = ITEM_STATUS_CODE.get( multiSearchResponseItem );
+		checkSuccess( statusCode, multiSearchResponseItem );
+	}
+
 	private void checkSuccess(Optional<Integer> statusCode, JsonObject responseBody) {
 		if ( !isSuccess( statusCode, responseBody ) ) {
 			if ( statusCode.filter( isEqual( TIME_OUT_HTTP_STATUS_CODE ) ).isPresent() ) {
@@ -114,11 +128,12 @@ private void checkSuccess(Optional<Integer> statusCode, JsonObject responseBody)
 	}
 
 	private boolean isSuccess(Optional<Integer> statusCode, JsonObject responseBody) {
-		return statusCode.map(
-				c -> ElasticsearchClientUtils.isSuccessCode( c ) || ignoredErrorStatuses.contains( c )
-				)
-				.orElse( false )
+		return statusCode.map( this::isSuccess ).orElse( false )
 				|| ERROR_TYPE.get( responseBody ).map( ignoredErrorTypes::contains ).orElse( false );
 	}
 
+	private boolean isSuccess(int statusCode) {
+		return ElasticsearchClientUtils.isSuccessCode( statusCode ) || ignoredErrorStatuses.contains( statusCode );
+	}
+
 }
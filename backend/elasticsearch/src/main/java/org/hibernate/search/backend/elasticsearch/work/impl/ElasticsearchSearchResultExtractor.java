@@ -6,12 +6,28 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+
 import org.hibernate.search.engine.common.timing.Deadline;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 public interface ElasticsearchSearchResultExtractor<R> {
 
 	R extract(JsonObject responseBody, Deadline deadline);
 
+	/**
+	 * Extracts the result while reading the response body,
+	 * without ever building an in-memory tree for the whole body.
+	 * <p>
+	 * Results extracted this way do not give access to the response body.
+	 *
+	 * @param responseBodyReader A reader for the response body.
+	 * @param deadline The deadline, or {@code null}.
+	 * @return The extracted result.
+	 * @throws IOException If reading the response body fails.
+	 */
+	R extract(JsonReader responseBodyReader, Deadline deadline) throws IOException;
+
 }
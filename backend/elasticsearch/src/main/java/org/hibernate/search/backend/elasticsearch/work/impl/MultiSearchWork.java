@@ -0,0 +1,79 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+
+public class MultiSearchWork extends AbstractNonBulkableWork<MultiSearchResult> {
+
+	private static final JsonAccessor<JsonArray> RESPONSES = JsonAccessor.root().property( "responses" ).asArray();
+
+	protected MultiSearchWork(Builder builder) {
+		super( builder );
+	}
+
+	@Override
+	protected MultiSearchResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		JsonObject parsedResponseBody = response.body();
+		JsonArray responses = RESPONSES.get( parsedResponseBody ).orElseGet( JsonArray::new );
+		return new MultiSearchResultImpl( responses );
+	}
+
+	public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Builder> {
+		private final List<? extends SearchWork<?>> searchWorks;
+
+		public Builder(List<? extends SearchWork<?>> searchWorks) {
+			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
+			this.searchWorks = searchWorks;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._MSEARCH );
+
+			for ( SearchWork<?> work : searchWorks ) {
+				builder.body( work.multiSearchHeader() );
+				builder.body( work.multiSearchBody() );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		public MultiSearchWork build() {
+			return new MultiSearchWork( this );
+		}
+	}
+
+	private static class MultiSearchResultImpl implements MultiSearchResult {
+		private final JsonArray responses;
+
+		public MultiSearchResultImpl(JsonArray responses) {
+			super();
+			this.responses = responses;
+		}
+
+		@Override
+		public <T> T extract(SearchWork<T> work, int index) {
+			JsonObject responseItem = index < responses.size() ? responses.get( index ).getAsJsonObject() : null;
+			return work.handleMultiSearchResult( responseItem );
+		}
+	}
+
+}
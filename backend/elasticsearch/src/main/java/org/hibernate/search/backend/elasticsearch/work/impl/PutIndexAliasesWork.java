@@ -34,11 +34,44 @@ protected Void generateResult(ElasticsearchWorkExecutionContext context, Elastic
 	public static class Builder
 			extends AbstractBuilder<Builder> {
 		private final JsonObject payload;
+		private final Map<String, IndexAliasDefinition> aliases;
 
 		public Builder(GsonProvider gsonProvider, URLEncodedString indexName,
 				Map<String, IndexAliasDefinition> aliases) {
 			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
 			this.payload = createPayload( gsonProvider, indexName.original, aliases );
+			this.aliases = aliases;
+		}
+
+		/**
+		 * Removes the aliases from another index in the same request,
+		 * so that the aliases are switched from one index to the other atomically.
+		 *
+		 * @param previousIndexName The name of the index the aliases should be removed from.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder removeFrom(URLEncodedString previousIndexName) {
+			for ( String alias : aliases.keySet() ) {
+				remove( previousIndexName, alias );
+			}
+			return this;
+		}
+
+		/**
+		 * Removes an alias from an index in the same request.
+		 *
+		 * @param indexName The name of the index the alias should be removed from.
+		 * @param alias The alias to remove.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder remove(URLEncodedString indexName, String alias) {
+			JsonObject removeDefinition = new JsonObject();
+			removeDefinition.addProperty( "index", indexName.original );
+			removeDefinition.addProperty( "alias", alias );
+			JsonObject action = new JsonObject();
+			action.add( "remove", removeDefinition );
+			payload.getAsJsonArray( "actions" ).add( action );
+			return this;
 		}
 
 		@Override
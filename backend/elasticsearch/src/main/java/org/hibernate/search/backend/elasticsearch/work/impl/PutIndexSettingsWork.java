@@ -46,6 +46,17 @@ public Builder(
 			this.payload = gson.toJsonTree( settings ).getAsJsonObject();
 		}
 
+		/**
+		 * @param indexName The name of the index to update.
+		 * @param settings The settings to apply, as JSON.
+		 * Properties with a {@code null} value will reset the corresponding setting to its default.
+		 */
+		public Builder(URLEncodedString indexName, JsonObject settings) {
+			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
+			this.indexName = indexName;
+			this.payload = settings;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -19,16 +19,21 @@
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 	private final Deadline deadline;
 	private final boolean failOnDeadline;
+	private final boolean streamResponseBody;
 
 	protected ScrollWork(Builder<R> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
 		this.deadline = builder.deadline;
 		this.failOnDeadline = builder.failOnDeadline;
+		this.streamResponseBody = builder.streamResponseBody;
 	}
 
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		if ( streamResponseBody ) {
+			return SearchWork.extractStreaming( resultExtractor, response, failOnDeadline ? deadline : null );
+		}
 		JsonObject body = response.body();
 		return resultExtractor.extract( body, failOnDeadline ? deadline : null );
 	}
@@ -40,6 +45,7 @@ protected R generateResult(ElasticsearchWorkExecutionContext context, Elasticsea
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 		private Deadline deadline;
 		private boolean failOnDeadline;
+		private boolean streamResponseBody;
 
 		public Builder(String scrollId, String scrollTimeout, ElasticsearchSearchResultExtractor<R> resultExtractor) {
 			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
@@ -54,6 +60,14 @@ public Builder<R> deadline(Deadline deadline, boolean failOnDeadline) {
 			return this;
 		}
 
+		/**
+		 * @see SearchWork.Builder#streamResponseBody()
+		 */
+		public Builder<R> streamResponseBody() {
+			this.streamResponseBody = true;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			JsonObject body = new JsonObject();
@@ -6,9 +6,15 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
@@ -20,21 +26,117 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
 
 
 public class SearchWork<R> extends AbstractNonBulkableWork<R> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
+	/**
+	 * Query parameters that must be passed in the header of each search in a multi-search request.
+	 */
+	private static final Set<String> MULTI_SEARCH_HEADER_BOOLEAN_PARAMS = Collections.unmodifiableSet( new HashSet<>(
+			Arrays.asList( "allow_partial_search_results", "request_cache", "ignore_unavailable", "allow_no_indices" ) ) );
+	private static final Set<String> MULTI_SEARCH_HEADER_STRING_PARAMS = Collections.unmodifiableSet( new HashSet<>(
+			Arrays.asList( "routing", "preference", "search_type", "expand_wildcards" ) ) );
+	/**
+	 * Query parameters that must be passed in the body of each search in a multi-search request.
+	 */
+	private static final Set<String> MULTI_SEARCH_BODY_PARAMS = Collections.unmodifiableSet( new HashSet<>(
+			Arrays.asList( "from", "size", "track_total_hits", "timeout", "terminate_after" ) ) );
+
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 	private final Deadline deadline;
 	private final boolean failOnDeadline;
+	private final Set<URLEncodedString> indexes;
+	private final String untransformedPath;
+	private final boolean streamResponseBody;
+	private final boolean pointInTime;
 
 	protected SearchWork(Builder<R> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
 		this.deadline = builder.deadline;
 		this.failOnDeadline = builder.failOnDeadline;
+		this.indexes = builder.indexes;
+		this.untransformedPath = builder.untransformedPath;
+		this.streamResponseBody = builder.streamResponseBody;
+		this.pointInTime = builder.pointInTimeId != null;
+	}
+
+	/**
+	 * @return {@code true} if this search can be executed as part of a multi-search request,
+	 * i.e. if it is a plain search, and a request transformer did not alter it in a way
+	 * that cannot be expressed in a multi-search request.
+	 */
+	public boolean isMultiSearchCompatible() {
+		if ( pointInTime || !"POST".equals( request.method() ) || !request.path().equals( untransformedPath )
+				|| request.bodyParts().size() != 1 ) {
+			return false;
+		}
+		if ( request.deadline() != null ) {
+			// Client-side timeouts apply to a whole request,
+			// so they cannot be applied to a single search in a multi-search request.
+			return false;
+		}
+		for ( String paramName : request.parameters().keySet() ) {
+			if ( !MULTI_SEARCH_HEADER_BOOLEAN_PARAMS.contains( paramName )
+					&& !MULTI_SEARCH_HEADER_STRING_PARAMS.contains( paramName )
+					&& !MULTI_SEARCH_BODY_PARAMS.contains( paramName ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return The header of this search in a multi-search request.
+	 * Only available if {@link #isMultiSearchCompatible()} returns {@code true}.
+	 */
+	JsonObject multiSearchHeader() {
+		JsonObject header = new JsonObject();
+		header.addProperty( "index", indexes.stream().map( index -> index.original )
+				.collect( Collectors.joining( "," ) ) );
+		for ( Map.Entry<String, String> param : request.parameters().entrySet() ) {
+			String name = param.getKey();
+			if ( MULTI_SEARCH_HEADER_BOOLEAN_PARAMS.contains( name ) ) {
+				header.addProperty( name, Boolean.parseBoolean( param.getValue() ) );
+			}
+			else if ( MULTI_SEARCH_HEADER_STRING_PARAMS.contains( name ) ) {
+				header.addProperty( name, param.getValue() );
+			}
+		}
+		return header;
+	}
+
+	/**
+	 * @return The body of this search in a multi-search request.
+	 * Only available if {@link #isMultiSearchCompatible()} returns {@code true}.
+	 */
+	JsonObject multiSearchBody() {
+		JsonObject body = request.bodyParts().get( 0 ).deepCopy();
+		for ( Map.Entry<String, String> param : request.parameters().entrySet() ) {
+			String name = param.getKey();
+			if ( MULTI_SEARCH_BODY_PARAMS.contains( name ) ) {
+				body.add( name, toBodyValue( param.getValue() ) );
+			}
+		}
+		return body;
+	}
+
+	public R handleMultiSearchResult(JsonObject responseItem) {
+		try {
+			resultAssessor.checkMultiSearchItemSuccess( responseItem );
+			return resultExtractor.extract( responseItem, failOnDeadline ? deadline : null );
+		}
+		catch (RuntimeException e) {
+			throw log.elasticsearchMultiSearchItemFailed( request, String.valueOf( responseItem ),
+					e.getMessage(), e );
+		}
 	}
 
 	@Override
@@ -49,10 +151,37 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		if ( streamResponseBody ) {
+			return extractStreaming( resultExtractor, response, failOnDeadline ? deadline : null );
+		}
 		JsonObject body = response.body();
 		return resultExtractor.extract( body, failOnDeadline ? deadline : null );
 	}
 
+	static <R> R extractStreaming(ElasticsearchSearchResultExtractor<R> resultExtractor,
+			ElasticsearchResponse response, Deadline deadline) {
+		try ( JsonReader reader = new JsonReader( response.bodyReader() ) ) {
+			return resultExtractor.extract( reader, deadline );
+		}
+		catch (IOException e) {
+			throw log.failedToParseElasticsearchResponse( response.statusCode(), response.statusMessage(),
+					e.getMessage(), e );
+		}
+	}
+
+	private static JsonPrimitive toBodyValue(String paramValue) {
+		if ( "true".equals( paramValue ) || "false".equals( paramValue ) ) {
+			return new JsonPrimitive( Boolean.parseBoolean( paramValue ) );
+		}
+		try {
+			return new JsonPrimitive( Long.parseLong( paramValue ) );
+		}
+		catch (NumberFormatException e) {
+			// e.g. "timeout": "1000ms"
+			return new JsonPrimitive( paramValue );
+		}
+	}
+
 	public static class Builder<R>
 			extends AbstractBuilder<Builder<R>> {
 
@@ -84,8 +213,14 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Integer scrollSize;
 		private String scrollTimeout;
 		private Set<String> routingKeys;
+		private Boolean requestCache;
+		private String preference;
 		private Deadline deadline;
 		private boolean failOnDeadline;
+		private String untransformedPath;
+		private boolean streamResponseBody;
+		private String pointInTimeId;
+		private String pointInTimeKeepAlive;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
 				boolean allowPartialSearchResultsSupported) {
@@ -118,12 +253,50 @@ public Builder<R> routingKeys(Set<String> routingKeys) {
 			return this;
 		}
 
+		public Builder<R> requestCache(Boolean requestCache) {
+			this.requestCache = requestCache;
+			return this;
+		}
+
+		public Builder<R> preference(String preference) {
+			this.preference = preference;
+			return this;
+		}
+
 		public Builder<R> deadline(Deadline deadline, boolean failOnDeadline) {
 			this.deadline = deadline;
 			this.failOnDeadline = failOnDeadline;
 			return this;
 		}
 
+		/**
+		 * Search a point in time instead of the indexes.
+		 * <p>
+		 * Indexes, routing keys and preference are then ignored:
+		 * they must be passed when opening the point in time instead.
+		 *
+		 * @param id The identifier of the point in time.
+		 * @param keepAlive How long the point in time should be extended by.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder<R> pointInTime(String id, String keepAlive) {
+			this.pointInTimeId = id;
+			this.pointInTimeKeepAlive = keepAlive;
+			return this;
+		}
+
+		/**
+		 * Extract the result while reading the response body,
+		 * without ever building an in-memory tree for the whole body.
+		 * <p>
+		 * Only use this when the response body does not need to be exposed in the result,
+		 * e.g. when only hits are returned to the user.
+		 */
+		public Builder<R> streamResponseBody() {
+			this.streamResponseBody = true;
+			return this;
+		}
+
 		public Builder<R> disableTrackTotalHits() {
 			// setting trackTotalHits to false only if this parameter was already set,
 			// the parameter is not supported by the older Elasticsearch server
@@ -144,11 +317,21 @@ public Builder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
 
 		@Override
 		protected ElasticsearchRequest buildRequest() {
-			ElasticsearchRequest.Builder builder =
-					ElasticsearchRequest.post()
-					.multiValuedPathComponent( indexes )
-					.pathComponent( Paths._SEARCH )
-					.body( payload );
+			ElasticsearchRequest.Builder builder = ElasticsearchRequest.post();
+			if ( pointInTimeId == null ) {
+				builder.multiValuedPathComponent( indexes )
+						.pathComponent( Paths._SEARCH )
+						.body( payload );
+			}
+			else {
+				JsonObject pointInTime = new JsonObject();
+				pointInTime.addProperty( "id", pointInTimeId );
+				pointInTime.addProperty( "keep_alive", pointInTimeKeepAlive );
+				JsonObject pointInTimePayload = payload.deepCopy();
+				pointInTimePayload.add( "pit", pointInTime );
+				builder.pathComponent( Paths._SEARCH )
+						.body( pointInTimePayload );
+			}
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -163,10 +346,20 @@ protected ElasticsearchRequest buildRequest() {
 				builder.param( "scroll", scrollTimeout );
 			}
 
-			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+			if ( routingKeys != null && !routingKeys.isEmpty() && pointInTimeId == null ) {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
+			// Elasticsearch rejects scroll requests that explicitly enable the request cache,
+			// and never caches them anyway.
+			if ( requestCache != null && scrollTimeout == null ) {
+				builder.param( "request_cache", requestCache );
+			}
+
+			if ( preference != null && pointInTimeId == null ) {
+				builder.param( "preference", preference );
+			}
+
 			if ( trackTotalHits != null ) {
 				if ( trackTotalHits && totalHitCountThreshold != null ) {
 					// total hits is tracked but a with a limited precision
@@ -179,7 +372,9 @@ protected ElasticsearchRequest buildRequest() {
 
 			handleDeadline( builder );
 
-			return builder.build();
+			ElasticsearchRequest request = builder.build();
+			untransformedPath = request.path();
+			return request;
 		}
 
 		@Override
@@ -9,13 +9,11 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assume.assumeTrue;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.Reader;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -24,6 +22,8 @@
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 
@@ -42,8 +42,20 @@
 @RunWith(Parameterized.class)
 public class GsonHttpEntityTest {
 
-	@Parameterized.Parameters(name = "{0}")
+	private static final int GZIP_HEADER_OS_INDEX = 9;
+
+	@Parameterized.Parameters(name = "{0}, gzip = {2}")
 	public static List<Object[]> params() {
+		List<Object[]> params = new ArrayList<>();
+		for ( Object[] payloadParams : payloadParams() ) {
+			for ( boolean gzip : new boolean[] { false, true } ) {
+				params.add( new Object[] { payloadParams[0], payloadParams[1], gzip } );
+			}
+		}
+		return params;
+	}
+
+	private static List<Object[]> payloadParams() {
 		List<Object[]> params = new ArrayList<>();
 		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
 
@@ -141,22 +153,40 @@ public static List<Object[]> params() {
 	}
 
 	private final List<JsonObject> payload;
+	private final boolean gzip;
 	private final GsonHttpEntity gsonEntity;
 	private final String expectedPayloadString;
+	private final byte[] expectedContent;
 	private final int expectedContentLength;
 
 	@SuppressWarnings("unused")
-	public GsonHttpEntityTest(String ignoredLabel, List<JsonObject> payload) throws IOException {
+	public GsonHttpEntityTest(String ignoredLabel, List<JsonObject> payload, boolean gzip) throws IOException {
 		this.payload = payload;
+		this.gzip = gzip;
 		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
-		this.gsonEntity = new GsonHttpEntity( gson, payload );
+		this.gsonEntity = new GsonHttpEntity( gson, payload, gzip );
 		StringBuilder builder = new StringBuilder();
 		for ( JsonObject object : payload ) {
 			gson.toJson( object, builder );
 			builder.append( "\n" );
 		}
 		this.expectedPayloadString = builder.toString();
-		this.expectedContentLength = StandardCharsets.UTF_8.encode( expectedPayloadString ).limit();
+		byte[] expectedPayloadBytes = expectedPayloadString.getBytes( StandardCharsets.UTF_8 );
+		if ( gzip ) {
+			// The entity is expected to produce exactly the same output as the JDK's implementation.
+			try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+				try ( GZIPOutputStream gzipStream = new GZIPOutputStream( outputStream ) ) {
+					gzipStream.write( expectedPayloadBytes );
+				}
+				this.expectedContent = outputStream.toByteArray();
+				// The operating system field of the header depends on the JDK version (0 before JDK 16, 255 after).
+				this.expectedContent[GZIP_HEADER_OS_INDEX] = 0;
+			}
+		}
+		else {
+			this.expectedContent = expectedPayloadBytes;
+		}
+		this.expectedContentLength = expectedContent.length;
 	}
 
 	@Test
@@ -174,6 +204,18 @@ public void contentType() {
 		assertThat( contentType.getValue() ).isEqualTo( "application/json; charset=UTF-8" );
 	}
 
+	@Test
+	public void contentEncoding() {
+		Header contentEncoding = gsonEntity.getContentEncoding();
+		if ( gzip ) {
+			assertThat( contentEncoding.getName() ).isEqualTo( "Content-Encoding" );
+			assertThat( contentEncoding.getValue() ).isEqualTo( "gzip" );
+		}
+		else {
+			assertThat( contentEncoding ).isNull();
+		}
+	}
+
 	@Test
 	public void produceContent_noPushBack() throws IOException {
 		int pushBackPeriod = Integer.MAX_VALUE;
@@ -244,7 +286,7 @@ private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throw
 			while ( !contentEncoder.isCompleted() ) {
 				entity.produceContent( contentEncoder, StubIOControl.INSTANCE );
 			}
-			return outputStream.toString( StandardCharsets.UTF_8.name() );
+			return checkAndDecode( outputStream.toByteArray() );
 		}
 		finally {
 			entity.close();
@@ -254,20 +296,39 @@ private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throw
 	private String doWriteTo(GsonHttpEntity entity) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			entity.writeTo( outputStream );
-			return outputStream.toString( StandardCharsets.UTF_8.name() );
+			return checkAndDecode( outputStream.toByteArray() );
 		}
 	}
 
 	private String doGetContent(GsonHttpEntity entity) throws IOException {
 		try ( InputStream inputStream = entity.getContent();
-				Reader reader = new InputStreamReader( inputStream, StandardCharsets.UTF_8 );
-				BufferedReader bufferedReader = new BufferedReader( reader ) ) {
-			StringBuilder builder = new StringBuilder();
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+			// Read byte by byte, to check the single-byte read() method too.
+			int read;
+			while ( ( read = inputStream.read() ) >= 0 ) {
+				outputStream.write( read );
+			}
+			return checkAndDecode( outputStream.toByteArray() );
+		}
+	}
+
+	private String checkAndDecode(byte[] bytes) throws IOException {
+		assertThat( bytes ).isEqualTo( expectedContent );
+		return decode( bytes );
+	}
+
+	private String decode(byte[] bytes) throws IOException {
+		if ( !gzip ) {
+			return new String( bytes, StandardCharsets.UTF_8 );
+		}
+		try ( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( bytes ) );
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+			byte[] buffer = new byte[1024];
 			int read;
-			while ( ( read = bufferedReader.read() ) >= 0 ) {
-				builder.appendCodePoint( read );
+			while ( ( read = inputStream.read( buffer ) ) >= 0 ) {
+				outputStream.write( buffer, 0, read );
 			}
-			return builder.toString();
+			return new String( outputStream.toByteArray(), StandardCharsets.UTF_8 );
 		}
 	}
 
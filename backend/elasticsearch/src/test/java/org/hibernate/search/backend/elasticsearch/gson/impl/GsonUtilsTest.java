@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+
+public class GsonUtilsTest {
+
+	private final Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
+
+	@Test
+	public void estimateSerializedSize_null() {
+		assertThat( GsonUtils.estimateSerializedSize( null ) ).isZero();
+		assertEstimateIsExact( JsonNull.INSTANCE );
+	}
+
+	@Test
+	public void estimateSerializedSize_primitives() {
+		assertEstimateIsExact( JsonParser.parseString( "42" ) );
+		assertEstimateIsExact( JsonParser.parseString( "-42.5" ) );
+		assertEstimateIsExact( JsonParser.parseString( "true" ) );
+		assertEstimateIsExact( JsonParser.parseString( "\"foo\"" ) );
+		assertEstimateIsExact( JsonParser.parseString( "\"\"" ) );
+	}
+
+	@Test
+	public void estimateSerializedSize_nonAscii() {
+		assertEstimateIsExact( JsonParser.parseString( "\"caf\u00e9\"" ) );
+		assertEstimateIsExact( JsonParser.parseString( "\"\u6771\u4eac\"" ) );
+		assertEstimateIsExact( JsonParser.parseString( "\"\ud83d\ude00\"" ) );
+	}
+
+	@Test
+	public void estimateSerializedSize_composite() {
+		assertEstimateIsExact( JsonParser.parseString( "{}" ) );
+		assertEstimateIsExact( JsonParser.parseString( "[]" ) );
+		assertEstimateIsExact( JsonParser.parseString(
+				"{\"foo\":\"bar\",\"baz\":[1,2,{\"a\":null}],\"obj\":{\"b\":false}}" ) );
+		assertEstimateIsExact( JsonParser.parseString( "[[],{},\"\u00e9\",[1]]" ) );
+	}
+
+	private void assertEstimateIsExact(JsonElement element) {
+		long actualSize = gson.toJson( element ).getBytes( StandardCharsets.UTF_8 ).length;
+		assertThat( GsonUtils.estimateSerializedSize( element ) ).isEqualTo( actualSize );
+	}
+}
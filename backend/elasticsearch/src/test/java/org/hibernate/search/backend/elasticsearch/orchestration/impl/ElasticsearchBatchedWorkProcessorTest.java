@@ -16,11 +16,12 @@
 
 import java.util.concurrent.CompletableFuture;
 
-import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
 
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -46,7 +47,7 @@ private static <T> T unusedReturnValue() {
 
 	@Test
 	public void simple_singleWork() {
-		BulkableWork<Object> work = bulkableWorkMock( 1 );
+		IndexingWork<Object> work = bulkableWorkMock( 1 );
 
 		CompletableFuture<Void> sequenceFuture = new CompletableFuture<>();
 
@@ -80,8 +81,8 @@ public void simple_singleWork() {
 
 	@Test
 	public void simple_multipleWorks() {
-		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
-		BulkableWork<Object> work2 = bulkableWorkMock( 2 );
+		IndexingWork<Object> work1 = bulkableWorkMock( 1 );
+		IndexingWork<Object> work2 = bulkableWorkMock( 2 );
 
 		CompletableFuture<Void> sequenceFuture = new CompletableFuture<>();
 
@@ -119,9 +120,9 @@ public void simple_multipleWorks() {
 
 	@Test
 	public void newSequenceBetweenBatches() {
-		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
+		IndexingWork<Object> work1 = bulkableWorkMock( 1 );
 
-		BulkableWork<Object> work2 = bulkableWorkMock( 2 );
+		IndexingWork<Object> work2 = bulkableWorkMock( 2 );
 
 		CompletableFuture<Void> sequence1Future = new CompletableFuture<>();
 		CompletableFuture<Void> sequence2Future = new CompletableFuture<>();
@@ -171,6 +172,92 @@ public void newSequenceBetweenBatches() {
 		checkComplete( processor );
 	}
 
+	@Test
+	public void batchesInFlight() {
+		IndexingWork<Object> work1 = bulkableWorkMock( 1, "1" );
+		IndexingWork<Object> work2 = bulkableWorkMock( 2, "2" );
+		IndexingWork<Object> work3 = bulkableWorkMock( 3, "2" );
+
+		CompletableFuture<Void> sequence1Future = new CompletableFuture<>();
+		CompletableFuture<Void> sequence2Future = new CompletableFuture<>();
+		CompletableFuture<Void> sequence3Future = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<?>> sequenceStartCaptor = futureCaptor();
+
+		ElasticsearchBatchedWorkProcessor processor =
+				new ElasticsearchBatchedWorkProcessor( sequenceBuilderMock, bulkerMock, 2 );
+		verifyNoOtherInteractionsAndReset();
+
+		// First batch: starts immediately, and the next batch can start immediately too
+		processor.beginBatch();
+		verify( bulkerMock ).reset();
+		verify( sequenceBuilderMock ).init( sequenceStartCaptor.capture() );
+		verifyNoOtherInteractionsAndReset();
+		CompletableFuture<?> sequence1Start = sequenceStartCaptor.getValue();
+
+		when( bulkerMock.add( work1 ) ).thenReturn( unusedReturnValue() );
+		processor.submit( work1 );
+		verifyNoOtherInteractionsAndReset();
+
+		when( sequenceBuilderMock.build() ).thenReturn( sequence1Future );
+		CompletableFuture<Void> batch1Future = processor.endBatch();
+		verify( bulkerMock ).finalizeBulkWork();
+		verifyNoOtherInteractionsAndReset();
+		assertThatFuture( sequence1Start ).isSuccessful();
+		assertThatFuture( batch1Future ).isSuccessful();
+
+		// Second batch: no conflict with the first one, so it starts immediately,
+		// but the maximum number of batches in flight is reached, so the next batch must wait.
+		processor.beginBatch();
+		verify( bulkerMock ).reset();
+		verify( sequenceBuilderMock ).init( sequenceStartCaptor.capture() );
+		verifyNoOtherInteractionsAndReset();
+		CompletableFuture<?> sequence2Start = sequenceStartCaptor.getValue();
+
+		when( bulkerMock.add( work2 ) ).thenReturn( unusedReturnValue() );
+		processor.submit( work2 );
+		verifyNoOtherInteractionsAndReset();
+
+		when( sequenceBuilderMock.build() ).thenReturn( sequence2Future );
+		CompletableFuture<Void> batch2Future = processor.endBatch();
+		verify( bulkerMock ).finalizeBulkWork();
+		verifyNoOtherInteractionsAndReset();
+		assertThatFuture( sequence2Start ).isSuccessful();
+		assertThatFuture( batch2Future ).isPending();
+
+		sequence1Future.complete( null );
+		assertThatFuture( batch2Future ).isSuccessful();
+
+		// Third batch: affects the same document as the second batch, so it must wait for the second batch.
+		processor.beginBatch();
+		verify( bulkerMock ).reset();
+		verify( sequenceBuilderMock ).init( sequenceStartCaptor.capture() );
+		verifyNoOtherInteractionsAndReset();
+		CompletableFuture<?> sequence3Start = sequenceStartCaptor.getValue();
+
+		when( bulkerMock.add( work3 ) ).thenReturn( unusedReturnValue() );
+		processor.submit( work3 );
+		verifyNoOtherInteractionsAndReset();
+
+		when( sequenceBuilderMock.build() ).thenReturn( sequence3Future );
+		CompletableFuture<Void> batch3Future = processor.endBatch();
+		verify( bulkerMock ).finalizeBulkWork();
+		verifyNoOtherInteractionsAndReset();
+		assertThatFuture( sequence3Start ).isPending();
+		assertThatFuture( batch3Future ).isPending();
+		CompletableFuture<?> inFlightCompletion = processor.batchesInFlightCompletion();
+		assertThatFuture( inFlightCompletion ).isPending();
+
+		sequence2Future.complete( null );
+		assertThatFuture( sequence3Start ).isSuccessful();
+		assertThatFuture( batch3Future ).isSuccessful();
+		assertThatFuture( inFlightCompletion ).isPending();
+
+		sequence3Future.complete( null );
+		assertThatFuture( inFlightCompletion ).isSuccessful();
+
+		checkComplete( processor );
+	}
+
 	private void verifyNoOtherInteractionsAndReset() {
 		verifyNoMoreInteractions( sequenceBuilderMock, bulkerMock );
 		reset( sequenceBuilderMock, bulkerMock );
@@ -181,8 +268,19 @@ private void checkComplete(ElasticsearchBatchedWorkProcessor processor) {
 		verifyNoOtherInteractionsAndReset();
 	}
 
+	@SuppressWarnings({"unchecked", "rawtypes"}) // Raw types are the only way to capture parameterized types
+	private static ArgumentCaptor<CompletableFuture<?>> futureCaptor() {
+		return (ArgumentCaptor) ArgumentCaptor.forClass( CompletableFuture.class );
+	}
+
 	@SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
-	private <T> BulkableWork<T> bulkableWorkMock(int index) {
-		return mock( BulkableWork.class, "bulkableWork" + index );
+	private <T> IndexingWork<T> bulkableWorkMock(int index) {
+		return mock( IndexingWork.class, "bulkableWork" + index );
+	}
+
+	private <T> IndexingWork<T> bulkableWorkMock(int index, String queuingKey) {
+		IndexingWork<T> mock = bulkableWorkMock( index );
+		when( mock.getQueuingKey() ).thenReturn( queuingKey );
+		return mock;
 	}
 }
@@ -14,6 +14,7 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
@@ -32,6 +33,8 @@
 import org.mockito.junit.MockitoRule;
 import org.mockito.quality.Strictness;
 
+import com.google.gson.JsonObject;
+
 @SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
 public class ElasticsearchDefaultWorkBulkerTest {
 
@@ -262,6 +265,62 @@ public void newBulkOnDifferentRefresh() {
 		verifyNoOtherSequenceInteractionsAndReset();
 	}
 
+	@Test
+	public void maxBulkBytes() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1, 40 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2, 40 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3, 40 );
+		BulkableWork<Void> work4 = bulkableWorkMock( 4, 200 );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 5 );
+		NonBulkableWork<BulkResult> bulkWork2 = workMock( 6 );
+
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork3ResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork3FutureArgumentCaptor = futureCaptor();
+
+		// Two works fit in 100 bytes, but not three
+		ElasticsearchDefaultWorkBulker bulker =
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE, 100L );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( sequenceBuilderMock.addBulkExecution( bulkWork1FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork1ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work1 );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work2 );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		// Adding the third work would exceed the limit => new bulk
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork2FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork2ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, work3, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work3 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork1 );
+
+		// A work exceeding the limit on its own => new bulk, finalized immediately
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork3FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork3ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork3ResultFuture, work4, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work4 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		bulker.add( work4 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork2 );
+		assertThatFuture( bulkWork3FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork1 );
+
+		bulker.finalizeBulkWork();
+		verifyNoOtherSequenceInteractionsAndReset();
+	}
+
 	private void verifyNoOtherSequenceInteractionsAndReset() {
 		verifyNoMoreInteractions( sequenceBuilderMock, bulkWorkFactoryMock );
 		reset( sequenceBuilderMock, bulkWorkFactoryMock );
@@ -278,4 +337,18 @@ private <T> NonBulkableWork<T> workMock(int index) {
 	private <T> BulkableWork<T> bulkableWorkMock(int index) {
 		return mock( BulkableWork.class, "bulkableWork" + index );
 	}
+
+	/*
+	 * Creates a mock for a work whose metadata, serialized as JSON and followed by a newline,
+	 * takes exactly the given number of bytes.
+	 */
+	private <T> BulkableWork<T> bulkableWorkMock(int index, int bytes) {
+		BulkableWork<T> mock = bulkableWorkMock( index );
+		JsonObject metadata = new JsonObject();
+		// {"a":""} followed by a newline takes 9 bytes
+		metadata.addProperty( "a", String.join( "", Collections.nCopies( bytes - 9, "a" ) ) );
+		when( mock.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( mock.getBulkableActionMetadata() ).thenReturn( metadata );
+		return mock;
+	}
 }
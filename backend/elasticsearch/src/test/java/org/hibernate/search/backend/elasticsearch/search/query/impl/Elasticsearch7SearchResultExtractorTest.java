@@ -0,0 +1,210 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ProjectionExtractContext;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ProjectionTransformContext;
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
+import org.hibernate.search.engine.search.query.SearchResult;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+/**
+ * Checks that extracting results from a response body in a streaming fashion
+ * gives the same results as extracting them from an in-memory tree.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"}) // Raw types are the only way to mock parameterized types
+public class Elasticsearch7SearchResultExtractorTest {
+
+	private static final String RESPONSE_BODY = "{"
+			+ "\"took\": 12,"
+			+ "\"timed_out\": false,"
+			+ "\"_shards\": { \"total\": 1, \"successful\": 1, \"skipped\": 0, \"failed\": 0 },"
+			+ "\"hits\": {"
+			+ "  \"total\": { \"value\": 3, \"relation\": \"eq\" },"
+			+ "  \"max_score\": null,"
+			+ "  \"hits\": ["
+			+ "    { \"_index\": \"idx\", \"_id\": \"1\", \"_score\": null, \"_source\": { \"title\": \"one\" },"
+			+ "      \"sort\": [ 1, \"1\" ] },"
+			+ "    { \"_index\": \"idx\", \"_id\": \"2\", \"_score\": null, \"_source\": { \"title\": \"two\" },"
+			+ "      \"sort\": [ 2, \"2\" ], \"fields\": { \"nested\": [ { \"a\": [ 1 ] } ] } },"
+			+ "    { \"_index\": \"idx\", \"_id\": \"3\", \"_score\": null,"
+			+ "      \"sort\": [ 3, \"3\" ] }"
+			+ "  ]"
+			+ "},"
+			+ "\"aggregations\": { \"myAgg\": { \"value\": 42.0 } }"
+			+ "}";
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
+
+	@Mock
+	private ElasticsearchSearchIndexScope scopeMock;
+	@Mock
+	private BackendSessionContext sessionContextMock;
+	@Mock
+	private SearchLoadingContext loadingContextMock;
+	@Mock(lenient = true)
+	private ProjectionHitMapper projectionHitMapperMock;
+	@Mock
+	private LoadingResult loadingResultMock;
+	@Mock
+	private ElasticsearchSearchAggregation aggregationMock;
+
+	private ElasticsearchSearchQueryRequestContext requestContext;
+
+	@Before
+	public void setup() {
+		requestContext = new ElasticsearchSearchQueryRequestContext( scopeMock, sessionContextMock,
+				loadingContextMock, null, null );
+		when( loadingContextMock.createProjectionHitMapper() ).thenReturn( projectionHitMapperMock );
+		when( projectionHitMapperMock.loadBlocking( any() ) ).thenReturn( loadingResultMock );
+	}
+
+	@Test
+	public void sameResultAsTree() throws IOException {
+		Elasticsearch7SearchResultExtractor<String> extractor =
+				new Elasticsearch7SearchResultExtractor<>( requestContext, new IdAndTitleExtractor(),
+						Collections.emptyMap() );
+
+		SearchResult<String> fromTree = extractor.extract( JsonParser.parseString( RESPONSE_BODY ).getAsJsonObject(),
+				null ).loadBlocking();
+		SearchResult<String> streamed = extractor.extract( reader( RESPONSE_BODY ), null ).loadBlocking();
+
+		assertThat( streamed.hits() )
+				.containsExactly( "1:one", "2:two", "3:null" )
+				.isEqualTo( fromTree.hits() );
+		assertThat( streamed.total().hitCount() ).isEqualTo( 3L ).isEqualTo( fromTree.total().hitCount() );
+		assertThat( streamed.total().isHitCountExact() ).isTrue();
+		assertThat( streamed.took() ).isEqualTo( Duration.ofMillis( 12 ) ).isEqualTo( fromTree.took() );
+		assertThat( streamed.timedOut() ).isFalse();
+		// The response body is not built when streaming
+		assertThat( ( (ElasticsearchSearchResultImpl<String>) streamed ).responseBody() ).isNull();
+	}
+
+	@Test
+	public void aggregations() throws IOException {
+		AggregationKey<Object> key = AggregationKey.of( "myAgg" );
+		Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations = new LinkedHashMap<>();
+		aggregations.put( key, aggregationMock );
+		when( aggregationMock.extract( any(), any() ) )
+				.thenAnswer( invocation -> invocation.getArgument( 0 ).toString() );
+		Elasticsearch7SearchResultExtractor<String> extractor =
+				new Elasticsearch7SearchResultExtractor<>( requestContext, new IdAndTitleExtractor(), aggregations );
+
+		SearchResult<String> streamed = extractor.extract( reader( RESPONSE_BODY ), null ).loadBlocking();
+
+		assertThat( streamed.aggregation( key ) ).isEqualTo( "{\"value\":42.0}" );
+		assertThat( streamed.hits() ).containsExactly( "1:one", "2:two", "3:null" );
+	}
+
+	@Test
+	public void timedOut() throws IOException {
+		String responseBody = "{ \"took\": 5, \"timed_out\": true,"
+				+ " \"hits\": { \"total\": { \"value\": 1, \"relation\": \"eq\" },"
+				+ " \"hits\": [ { \"_id\": \"1\", \"_source\": { \"title\": \"one\" } } ] } }";
+		Elasticsearch7SearchResultExtractor<String> extractor =
+				new Elasticsearch7SearchResultExtractor<>( requestContext, new IdAndTitleExtractor(),
+						Collections.emptyMap() );
+
+		SearchResult<String> streamed = extractor.extract( reader( responseBody ), null ).loadBlocking();
+
+		assertThat( streamed.timedOut() ).isTrue();
+		// Elasticsearch says the count is exact, but it isn't
+		assertThat( streamed.total().isHitCountLowerBound() ).isTrue();
+		assertThat( streamed.total().hitCountLowerBound() ).isEqualTo( 1L );
+		assertThat( streamed.hits() ).containsExactly( "1:one" );
+	}
+
+	@Test
+	public void noHits() throws IOException {
+		String responseBody = "{ \"took\": 1, \"timed_out\": false,"
+				+ " \"hits\": { \"total\": { \"value\": 0, \"relation\": \"eq\" }, \"hits\": [] } }";
+		Elasticsearch7SearchResultExtractor<String> extractor =
+				new Elasticsearch7SearchResultExtractor<>( requestContext, new IdAndTitleExtractor(),
+						Collections.emptyMap() );
+
+		SearchResult<String> streamed = extractor.extract( reader( responseBody ), null ).loadBlocking();
+
+		assertThat( streamed.hits() ).isEmpty();
+		assertThat( streamed.total().hitCount() ).isZero();
+	}
+
+	@Test
+	public void scrollId() throws IOException {
+		String responseBody = "{ \"_scroll_id\": \"someScrollId\", \"took\": 1, \"timed_out\": false,"
+				+ " \"hits\": { \"total\": { \"value\": 1, \"relation\": \"eq\" },"
+				+ " \"hits\": [ { \"_id\": \"1\", \"_source\": { \"title\": \"one\" } } ] } }";
+		Elasticsearch7SearchResultExtractor<String> extractor =
+				new Elasticsearch7SearchResultExtractor<>( requestContext, new IdAndTitleExtractor(),
+						Collections.emptyMap() );
+
+		ElasticsearchSearchResultImpl<String> streamed = extractor.extract( reader( responseBody ), null )
+				.loadBlocking();
+
+		assertThat( streamed.scrollId() ).isEqualTo( "someScrollId" );
+		assertThat( streamed.hits() ).containsExactly( "1:one" );
+	}
+
+	@Test
+	public void malformed() {
+		Elasticsearch7SearchResultExtractor<String> extractor =
+				new Elasticsearch7SearchResultExtractor<>( requestContext, new IdAndTitleExtractor(),
+						Collections.emptyMap() );
+
+		assertThatThrownBy( () -> extractor.extract( reader( "{ \"took\": 1, \"timed_out\": " ), null ) )
+				.isInstanceOf( IOException.class );
+	}
+
+	private static JsonReader reader(String json) {
+		return new JsonReader( new StringReader( json ) );
+	}
+
+	private static class IdAndTitleExtractor implements ElasticsearchSearchProjection.Extractor<String, String> {
+		@Override
+		public String extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit, JsonObject source,
+				ProjectionExtractContext context) {
+			String title = source == null ? null : source.get( "title" ).getAsString();
+			return hit.get( "_id" ).getAsString() + ":" + title;
+		}
+
+		@Override
+		public String transform(LoadingResult<?, ?> loadingResult, String extractedData,
+				ProjectionTransformContext context) {
+			return extractedData;
+		}
+	}
+}
@@ -9,6 +9,8 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -19,6 +21,8 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -50,6 +54,8 @@ public class BulkWorkTest {
 	private ElasticsearchClient clientMock;
 	@Mock(lenient = true)
 	private ElasticsearchWorkExecutionContext contextMock;
+	@Mock
+	private ScheduledExecutorService timingExecutorMock;
 
 	@Before
 	public void setup() {
@@ -140,6 +146,147 @@ public void execute_http500() {
 				) );
 	}
 
+	@Test
+	public void execute_itemRejected_retry() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+		BulkableWork<Object> bulkableWork2 = bulkableWork( 2 );
+
+		stubBulkableWork( bulkableWork0, 0 );
+		stubBulkableWork( bulkableWork1, 1 );
+		stubBulkableWork( bulkableWork2, 2 );
+		BulkRetrier retrier = new BulkRetrier( timingExecutorMock, 3, 100, 10_000 );
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1, bulkableWork2 ) )
+				.retrier( retrier )
+				.build();
+
+		ArgumentCaptor<ElasticsearchRequest> requestCaptor = ArgumentCaptor.forClass( ElasticsearchRequest.class );
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		when( clientMock.submit( requestCaptor.capture() ) ).thenReturn( futureFromClient );
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+		verifyNoOtherClientInteractionsAndReset();
+		assertBulkRequest( requestCaptor.getValue(), 0, 1, 2 );
+
+		// Works 0 and 2 are rejected: they should be retried in a bulk request of their own.
+		JsonObject item0Rejected = bulkResponseItem( 429 );
+		JsonObject item1 = bulkResponseItem( 201 );
+		JsonObject item2Rejected = bulkResponseItem( 429 );
+		ArgumentCaptor<Runnable> delayedRetryCaptor = ArgumentCaptor.forClass( Runnable.class );
+		ArgumentCaptor<Long> delayCaptor = ArgumentCaptor.forClass( Long.class );
+		when( timingExecutorMock.schedule( delayedRetryCaptor.capture(), delayCaptor.capture(),
+				same( TimeUnit.MILLISECONDS ) ) )
+				.thenReturn( null );
+		futureFromClient.complete( bulkResponse( 200, item0Rejected, item1, item2Rejected ) );
+		assertThat( delayCaptor.getValue() ).isBetween( 50L, 100L );
+		verifyNoOtherClientInteractionsAndReset();
+		assertThatFuture( returnedFuture ).isPending();
+
+		requestCaptor = ArgumentCaptor.forClass( ElasticsearchRequest.class );
+		CompletableFuture<ElasticsearchResponse> retryFutureFromClient = new CompletableFuture<>();
+		when( clientMock.submit( requestCaptor.capture() ) ).thenReturn( retryFutureFromClient );
+		delayedRetryCaptor.getValue().run();
+		verifyNoOtherClientInteractionsAndReset();
+		assertBulkRequest( requestCaptor.getValue(), 0, 2 );
+		assertThatFuture( returnedFuture ).isPending();
+
+		JsonObject item0 = bulkResponseItem( 201 );
+		JsonObject item2 = bulkResponseItem( 201 );
+		retryFutureFromClient.complete( bulkResponse( 200, item0, item2 ) );
+		verifyNoOtherClientInteractionsAndReset();
+
+		assertThatFuture( returnedFuture ).isSuccessful();
+		BulkResult result = returnedFuture.join();
+		Object bulkableResult = new Object();
+		when( bulkableWork0.handleBulkResult( same( contextMock ), same( item0 ) ) ).thenReturn( bulkableResult );
+		assertThat( result.extract( contextMock, bulkableWork0, 0 ) ).isSameAs( bulkableResult );
+		when( bulkableWork1.handleBulkResult( same( contextMock ), same( item1 ) ) ).thenReturn( bulkableResult );
+		assertThat( result.extract( contextMock, bulkableWork1, 1 ) ).isSameAs( bulkableResult );
+		when( bulkableWork2.handleBulkResult( same( contextMock ), same( item2 ) ) ).thenReturn( bulkableResult );
+		assertThat( result.extract( contextMock, bulkableWork2, 2 ) ).isSameAs( bulkableResult );
+
+		assertThat( retrier.retriedRequestCount() ).isZero();
+		assertThat( retrier.retriedWorkCount() ).isEqualTo( 2 );
+		assertThat( retrier.exhaustedRetryCount() ).isZero();
+	}
+
+	@Test
+	public void execute_http429_retry() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+
+		stubBulkableWork( bulkableWork0, 0 );
+		BulkRetrier retrier = new BulkRetrier( timingExecutorMock, 3, 100, 10_000 );
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0 ) ).retrier( retrier ).build();
+		when( timingExecutorMock.schedule( any( Runnable.class ), anyLong(), same( TimeUnit.MILLISECONDS ) ) )
+				.thenAnswer( invocation -> {
+					( (Runnable) invocation.getArgument( 0 ) ).run();
+					return null;
+				} );
+
+		JsonObject item0 = bulkResponseItem( 201 );
+		when( clientMock.submit( any() ) )
+				.thenReturn( CompletableFuture.completedFuture( bulkResponse( 429 ) ) )
+				.thenReturn( CompletableFuture.completedFuture( bulkResponse( 503 ) ) )
+				.thenReturn( CompletableFuture.completedFuture( bulkResponse( 200, item0 ) ) );
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+
+		assertThatFuture( returnedFuture ).isSuccessful();
+		BulkResult result = returnedFuture.join();
+		Object bulkableResult = new Object();
+		when( bulkableWork0.handleBulkResult( same( contextMock ), same( item0 ) ) ).thenReturn( bulkableResult );
+		assertThat( result.extract( contextMock, bulkableWork0, 0 ) ).isSameAs( bulkableResult );
+
+		assertThat( retrier.retriedRequestCount() ).isEqualTo( 2 );
+		assertThat( retrier.retriedWorkCount() ).isZero();
+		assertThat( retrier.exhaustedRetryCount() ).isZero();
+	}
+
+	@Test
+	public void execute_itemRejected_retriesExhausted() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+
+		stubBulkableWork( bulkableWork0, 0 );
+		stubBulkableWork( bulkableWork1, 1 );
+		BulkRetrier retrier = new BulkRetrier( timingExecutorMock, 2, 100, 150 );
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) )
+				.retrier( retrier )
+				.build();
+		ArgumentCaptor<Long> delayCaptor = ArgumentCaptor.forClass( Long.class );
+		when( timingExecutorMock.schedule( any( Runnable.class ), delayCaptor.capture(),
+				same( TimeUnit.MILLISECONDS ) ) )
+				.thenAnswer( invocation -> {
+					( (Runnable) invocation.getArgument( 0 ) ).run();
+					return null;
+				} );
+
+		JsonObject item0 = bulkResponseItem( 201 );
+		JsonObject item1Rejected = bulkResponseItem( 429 );
+		when( clientMock.submit( any() ) )
+				.thenReturn( CompletableFuture.completedFuture( bulkResponse( 200, item0, item1Rejected ) ) )
+				.thenReturn( CompletableFuture.completedFuture( bulkResponse( 200, bulkResponseItem( 429 ) ) ) )
+				.thenReturn( CompletableFuture.completedFuture( bulkResponse( 200, item1Rejected ) ) );
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+
+		// The delay grows exponentially, but never beyond the maximum.
+		assertThat( delayCaptor.getAllValues() ).hasSize( 2 );
+		assertThat( delayCaptor.getAllValues().get( 0 ) ).isBetween( 50L, 100L );
+		assertThat( delayCaptor.getAllValues().get( 1 ) ).isBetween( 75L, 150L );
+
+		// The last rejection is passed on, so that the work will be reported as failed.
+		assertThatFuture( returnedFuture ).isSuccessful();
+		BulkResult result = returnedFuture.join();
+		Object bulkableResult = new Object();
+		when( bulkableWork0.handleBulkResult( same( contextMock ), same( item0 ) ) ).thenReturn( bulkableResult );
+		assertThat( result.extract( contextMock, bulkableWork0, 0 ) ).isSameAs( bulkableResult );
+		when( bulkableWork1.handleBulkResult( same( contextMock ), same( item1Rejected ) ) )
+				.thenReturn( bulkableResult );
+		assertThat( result.extract( contextMock, bulkableWork1, 1 ) ).isSameAs( bulkableResult );
+
+		assertThat( retrier.retriedRequestCount() ).isZero();
+		assertThat( retrier.retriedWorkCount() ).isEqualTo( 2 );
+		assertThat( retrier.exhaustedRetryCount() ).isEqualTo( 1 );
+	}
+
 	private void assertBulkRequest(ElasticsearchRequest request, int ... bulkableIndices) {
 		assertThat( request ).isNotNull();
 		assertSoftly( softly -> {
@@ -163,6 +310,31 @@ private <T> BulkableWork<T> bulkableWork(int index) {
 		return mock( BulkableWork.class, "bulkableWork" + index );
 	}
 
+	private static void stubBulkableWork(BulkableWork<Object> bulkableWork, int index) {
+		when( bulkableWork.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( index ) );
+		when( bulkableWork.getBulkableActionBody() ).thenReturn( bulkableWorkBody( index ) );
+	}
+
+	private static ElasticsearchResponse bulkResponse(int statusCode, JsonObject ... items) {
+		JsonObject responseBody = new JsonObject();
+		if ( items.length > 0 ) {
+			JsonArray itemArray = new JsonArray();
+			for ( JsonObject item : items ) {
+				itemArray.add( item );
+			}
+			responseBody.add( "items", itemArray );
+		}
+		return new ElasticsearchResponse( new HttpHost( "mockHost:9200" ), statusCode, "SomeStatus", responseBody );
+	}
+
+	private static JsonObject bulkResponseItem(int statusCode) {
+		JsonObject itemBody = new JsonObject();
+		itemBody.addProperty( "status", statusCode );
+		JsonObject item = new JsonObject();
+		item.add( "index", itemBody );
+		return item;
+	}
+
 	private static JsonObject bulkableWorkMetadata(int index) {
 		JsonObject result = new JsonObject();
 		result.addProperty( "type", "metadata" );
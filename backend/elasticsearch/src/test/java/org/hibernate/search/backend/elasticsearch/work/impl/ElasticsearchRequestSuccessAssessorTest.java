@@ -0,0 +1,85 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import org.apache.http.HttpHost;
+
+public class ElasticsearchRequestSuccessAssessorTest {
+
+	private static final Gson GSON = new Gson();
+
+	@Test
+	public void success_doesNotParseBody() {
+		// Not valid JSON: parsing would fail
+		ElasticsearchResponse response = response( 200, "{ \"hits\": [" );
+
+		assertThatCode( () -> ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE.checkSuccess( response ) )
+				.doesNotThrowAnyException();
+		// The body can still be streamed
+		assertThat( response.bodyReader() ).isNotNull();
+	}
+
+	@Test
+	public void failure() {
+		ElasticsearchResponse response = response( 500, "{ \"error\": { \"type\": \"some_exception\" } }" );
+
+		assertThatThrownBy( () -> ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE.checkSuccess( response ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Elasticsearch response indicates a failure" );
+	}
+
+	@Test
+	public void failure_timeout() {
+		ElasticsearchResponse response = response( 408, "{}" );
+
+		assertThatThrownBy( () -> ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE.checkSuccess( response ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Elasticsearch response indicates a timeout (HTTP status 408)" );
+	}
+
+	@Test
+	public void ignoredErrorStatus_doesNotParseBody() {
+		ElasticsearchRequestSuccessAssessor assessor = ElasticsearchRequestSuccessAssessor.builder()
+				.ignoreErrorStatuses( 404 )
+				.build();
+		ElasticsearchResponse response = response( 404, "not JSON" );
+
+		assertThatCode( () -> assessor.checkSuccess( response ) )
+				.doesNotThrowAnyException();
+	}
+
+	@Test
+	public void ignoredErrorType() {
+		ElasticsearchRequestSuccessAssessor assessor = ElasticsearchRequestSuccessAssessor.builder()
+				.ignoreErrorTypes( "index_not_found_exception" )
+				.build();
+
+		assertThatCode( () -> assessor.checkSuccess(
+				response( 404, "{ \"error\": { \"type\": \"index_not_found_exception\" } }" ) ) )
+				.doesNotThrowAnyException();
+		assertThatThrownBy( () -> assessor.checkSuccess(
+				response( 404, "{ \"error\": { \"type\": \"some_exception\" } }" ) ) )
+				.isInstanceOf( SearchException.class );
+	}
+
+	private static ElasticsearchResponse response(int statusCode, String body) {
+		return new ElasticsearchResponse( new HttpHost( "localhost", 9200 ), statusCode, "Some message",
+				GSON, body.getBytes( StandardCharsets.UTF_8 ), StandardCharsets.UTF_8 );
+	}
+}
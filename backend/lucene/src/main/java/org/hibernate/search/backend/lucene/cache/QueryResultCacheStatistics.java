@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Statistics about the query result cache of an index.
+ * <p>
+ * The query result cache can be enabled through the
+ * {@link LuceneIndexSettings#QUERY_RESULT_CACHE_SIZE configuration properties}.
+ */
+@Incubating
+public interface QueryResultCacheStatistics {
+
+	/**
+	 * @return The number of query executions whose result was retrieved from the cache.
+	 */
+	long hitCount();
+
+	/**
+	 * @return The number of query executions whose result could not be retrieved from the cache,
+	 * either because the query was never executed before,
+	 * or because the index changed since the result was cached.
+	 */
+	long missCount();
+
+	/**
+	 * @return The number of entries that were evicted because the cache was full.
+	 */
+	long evictionCount();
+
+	/**
+	 * @return The number of entries currently in the cache.
+	 */
+	int size();
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.cache.QueryResultCacheStatistics;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+
+/**
+ * A size-bounded, least-recently-used cache for the results of search queries targeting a single index.
+ * <p>
+ * Each entry is associated with the "generation" of the index reader it was computed from,
+ * i.e. the identity of the underlying directory readers.
+ * Index readers are only re-opened when the index changes,
+ * so an entry retrieved with a different generation is stale: it is dropped and treated as a miss.
+ */
+public final class LuceneQueryResultCache implements QueryResultCacheStatistics {
+
+	private final int maxSize;
+	private final Map<Object, CachedValue> entries;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public LuceneQueryResultCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<Object, CachedValue>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, CachedValue> eldest) {
+				if ( size() > LuceneQueryResultCache.this.maxSize ) {
+					evictionCount.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxSize=" + maxSize
+				+ ", size=" + size()
+				+ ", hitCount=" + hitCount
+				+ ", missCount=" + missCount
+				+ ", evictionCount=" + evictionCount
+				+ "]";
+	}
+
+	/**
+	 * @param indexReader An index reader.
+	 * @return The generation of the given index reader, to be passed to {@link #get(Object, Object)}
+	 * and {@link #put(Object, Object, Object)},
+	 * or {@code null} if the index reader does not support caching.
+	 */
+	public static Object generation(IndexReader indexReader) {
+		IndexReaderContext context = indexReader.getContext();
+		List<IndexReaderContext> children = context.children();
+		if ( children == null ) {
+			// Not a composite reader
+			return cacheKeyOrNull( indexReader );
+		}
+		List<Object> generation = new ArrayList<>( children.size() );
+		for ( IndexReaderContext child : children ) {
+			Object cacheKey = cacheKeyOrNull( child.reader() );
+			if ( cacheKey == null ) {
+				return null;
+			}
+			generation.add( cacheKey );
+		}
+		return generation;
+	}
+
+	private static Object cacheKeyOrNull(IndexReader indexReader) {
+		IndexReader.CacheHelper cacheHelper = indexReader.getReaderCacheHelper();
+		return cacheHelper == null ? null : cacheHelper.getKey();
+	}
+
+	/**
+	 * @param key The key of the query result.
+	 * @param generation The generation of the index reader the query would be executed on.
+	 * @param <T> The expected type of the cached value.
+	 * @return The cached value, or {@code null} if there is none or it was computed from a different index reader.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Object generation) {
+		CachedValue entry;
+		synchronized (entries) {
+			entry = entries.get( key );
+			if ( entry != null && !entry.generation.equals( generation ) ) {
+				// The index changed: this entry will never be valid again.
+				entries.remove( key );
+				entry = null;
+			}
+		}
+		if ( entry == null ) {
+			missCount.increment();
+			return null;
+		}
+		hitCount.increment();
+		return (T) entry.value;
+	}
+
+	public void put(Object key, Object generation, Object value) {
+		synchronized (entries) {
+			entries.put( key, new CachedValue( generation, value ) );
+		}
+	}
+
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	@Override
+	public long hitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long missCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long evictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private static final class CachedValue {
+		private final Object generation;
+		private final Object value;
+
+		private CachedValue(Object generation, Object value) {
+			this.generation = generation;
+			this.value = value;
+		}
+	}
+}
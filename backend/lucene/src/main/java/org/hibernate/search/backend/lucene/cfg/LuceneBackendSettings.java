@@ -91,6 +91,34 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to execute a single search query concurrently
+	 * over multiple index segments and shards.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to no value, meaning search queries are executed sequentially, in the calling thread.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool.size";
+
+	/**
+	 * The size of the thread pool used to execute search queries asynchronously,
+	 * i.e. when calling {@code fetchAsync(...)} or {@code fetchTotalHitCountAsync()}.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to the number of processor cores available to the JVM on startup.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_ASYNC_THREAD_POOL_SIZE = "search.async.thread_pool.size";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -146,6 +146,25 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether index readers should be refreshed in the background, instead of in the thread executing a search query.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy, with a non-zero {@link #IO_REFRESH_INTERVAL refresh interval}:
+	 * this setting is ignored, with a warning, if the refresh interval is zero.
+	 * <p>
+	 * When enabled, a background task re-opens the index reader every {@link #IO_REFRESH_INTERVAL refresh interval}
+	 * if the index changed, and search queries always use the latest open index reader without any blocking.
+	 * Forced refreshes (for example with the "searchable" automatic indexing synchronization strategy in the ORM mapper)
+	 * still happen immediately, in the thread applying index changes,
+	 * so that changes are visible to search queries as soon as the write operation completes.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_BACKGROUND_REFRESH}.
+	 */
+	public static final String IO_BACKGROUND_REFRESH = IO_PREFIX + IORadicals.BACKGROUND_REFRESH;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -175,6 +194,23 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_WRITER_RAM_BUFFER_SIZE = IO_WRITER_PREFIX + WriterRadicals.RAM_BUFFER_SIZE;
 
+	/**
+	 * The value to pass to {@link IndexWriterConfig#setRAMBufferSizeMB(double)}
+	 * for index writers used to build an index from scratch before swapping it in place of the live index,
+	 * e.g. when mass indexing with "build-then-swap" enabled.
+	 * <p>
+	 * Such index writers never commit before the end of the rebuild and defer merges until then,
+	 * so a large buffer is generally preferable: it leads to fewer, larger segments.
+	 * <p>
+	 * Expects a positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_WRITER_REBUILD_RAM_BUFFER_SIZE}.
+	 *
+	 * @see IndexWriterConfig#setRAMBufferSizeMB(double)
+	 */
+	public static final String IO_WRITER_REBUILD_RAM_BUFFER_SIZE = IO_WRITER_PREFIX + WriterRadicals.REBUILD_RAM_BUFFER_SIZE;
+
 	/**
 	 * Whether to log the {@link IndexWriterConfig#setInfoStream(InfoStream)} (at the trace level) or not.
 	 * <p>
@@ -344,6 +380,64 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * The maximum time to wait for more works before processing a batch of works from an indexing queue,
+	 * in milliseconds.
+	 * <p>
+	 * When strictly positive, an indexing queue that contains fewer works than the
+	 * {@link #INDEXING_LINGER_BATCH_SIZE target batch size} will wait up to that long
+	 * for more works to be submitted, so as to process fewer, bigger batches.
+	 * <p>
+	 * Expects a positive integer value in milliseconds, such as {@code 5},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_LINGER_TIME}, i.e. never wait.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_LINGER_TIME = INDEXING_PREFIX + IndexingRadicals.LINGER_TIME;
+
+	/**
+	 * The maximum target size of batches when {@link #INDEXING_LINGER_TIME lingering}.
+	 * <p>
+	 * An indexing queue stops waiting as soon as it contains that many works.
+	 * The actual target adapts to the rate at which works are submitted,
+	 * and is lowered when works are not submitted fast enough to fill a batch within the linger time.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to the {@link #INDEXING_QUEUE_SIZE size of indexing queues}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_LINGER_BATCH_SIZE = INDEXING_PREFIX + IndexingRadicals.LINGER_BATCH_SIZE;
+
+	/**
+	 * The prefix for query-related property keys.
+	 */
+	public static final String QUERY_PREFIX = "query.";
+
+	/**
+	 * The maximum number of entries in the query result cache of each index.
+	 * <p>
+	 * When strictly positive, the total hit count, top documents and aggregations of search queries
+	 * targeting this index (and only this index) are cached,
+	 * and reused for later executions of equivalent queries until the index changes.
+	 * When the cache is full, least recently used entries are evicted.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_SIZE}, i.e. no caching.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Query result cache",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String QUERY_RESULT_CACHE_SIZE = QUERY_PREFIX + QueryRadicals.RESULT_CACHE_SIZE;
+
 	/**
 	 * Builds a configuration property key for the given shard of all indexes of the default backend,
 	 * with the given radical.
@@ -434,6 +528,7 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String BACKGROUND_REFRESH = "background_refresh";
 	}
 
 	/**
@@ -446,6 +541,7 @@ private WriterRadicals() {
 
 		public static final String MAX_BUFFERED_DOCS = "max_buffered_docs";
 		public static final String RAM_BUFFER_SIZE = "ram_buffer_size";
+		public static final String REBUILD_RAM_BUFFER_SIZE = "rebuild_ram_buffer_size";
 		public static final String INFOSTREAM = "infostream";
 
 	}
@@ -490,6 +586,19 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String LINGER_TIME = "linger_time";
+		public static final String LINGER_BATCH_SIZE = "linger_batch_size";
+	}
+
+	/**
+	 * Configuration property keys for queries, without the {@link #QUERY_PREFIX prefix}.
+	 */
+	public static final class QueryRadicals {
+
+		private QueryRadicals() {
+		}
+
+		public static final String RESULT_CACHE_SIZE = "result_cache.size";
 	}
 
 	/**
@@ -508,7 +617,11 @@ private Defaults() {
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_BACKGROUND_REFRESH = false;
+		public static final int IO_WRITER_REBUILD_RAM_BUFFER_SIZE = 256;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final int INDEXING_LINGER_TIME = 0;
+		public static final int QUERY_RESULT_CACHE_SIZE = 0;
 	}
 }
@@ -67,7 +67,8 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 		Similarity similarity = analysisDefinitionRegistry.getSimilarity();
 
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext
+				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext,
+				threads
 		);
 
 		this.indexManagerBackendContext = new IndexManagerBackendContext(
@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.backend.lucene.index;
 
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.QueryResultCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.analysis.Analyzer;
 
@@ -42,4 +46,12 @@ public interface LuceneIndexManager extends IndexManager {
 	 */
 	CompletionStage<Long> computeSizeInBytesAsync();
 
+	/**
+	 * @return Statistics about the query result cache of this index,
+	 * or an empty optional if the query result cache is disabled for this index.
+	 * See {@link LuceneIndexSettings#QUERY_RESULT_CACHE_SIZE}.
+	 */
+	@Incubating
+	Optional<QueryResultCacheStatistics> queryResultCacheStatistics();
+
 }
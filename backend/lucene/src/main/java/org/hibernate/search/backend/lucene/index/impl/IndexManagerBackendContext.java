@@ -197,6 +197,7 @@ LuceneIndexSchemaManager createSchemaManager(SchemaManagementIndexManagerContext
 	}
 
 	Shard createShard(LuceneIndexModel model, EventContext shardEventContext, DirectoryHolder directoryHolder,
+			DirectoryHolder rebuildDirectoryHolder,
 			IOStrategy ioStrategy, ConfigurationPropertySource propertySource) {
 		LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 		LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
@@ -205,10 +206,14 @@ Shard createShard(LuceneIndexModel model, EventContext shardEventContext, Direct
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
 				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
 		);
+		IndexWriterConfigSource rebuildWriterConfigSource = IndexWriterConfigSource.createForRebuild(
+				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
+		);
 
 		try {
 			indexAccessor = ioStrategy.createIndexAccessor(
-					indexName, shardEventContext, directoryHolder, writerConfigSource
+					indexName, shardEventContext, directoryHolder, writerConfigSource,
+					rebuildDirectoryHolder, rebuildWriterConfigSource
 			);
 			managementOrchestrator = createIndexManagementOrchestrator( shardEventContext, indexAccessor );
 			indexingOrchestrator = createIndexingOrchestrator( shardEventContext, indexAccessor );
@@ -9,10 +9,14 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.QueryResultCacheStatistics;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
@@ -34,6 +38,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.common.spi.SearchIndexIdentifierContext;
 import org.hibernate.search.util.common.impl.Closer;
@@ -49,6 +54,12 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<Integer> QUERY_RESULT_CACHE_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.QUERY_RESULT_CACHE_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.QUERY_RESULT_CACHE_SIZE )
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 
 	private final String indexName;
@@ -59,6 +70,8 @@
 
 	private final LuceneIndexSchemaManager schemaManager;
 
+	private LuceneQueryResultCache queryResultCache;
+
 	LuceneIndexManagerImpl(IndexManagerBackendContext backendContext,
 			String indexName, LuceneIndexModel model, LuceneIndexEntryFactory indexEntryFactory) {
 		this.backendContext = backendContext;
@@ -83,6 +96,10 @@ public String toString() {
 	@Override
 	public void start(IndexManagerStartContext context) {
 		shardHolder.start( context );
+		int queryResultCacheSize = QUERY_RESULT_CACHE_SIZE.get( context.configurationPropertySource() );
+		if ( queryResultCacheSize > 0 ) {
+			queryResultCache = new LuceneQueryResultCache( queryResultCacheSize );
+		}
 	}
 
 	@Override
@@ -95,6 +112,7 @@ public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( ShardHolder::stop, shardHolder );
 			closer.push( LuceneIndexModel::close, model );
+			closer.push( LuceneQueryResultCache::clear, queryResultCache );
 		}
 	}
 
@@ -150,6 +168,11 @@ public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector r
 		shardHolder.openIndexReaders( routingKeys, readerCollector );
 	}
 
+	@Override
+	public LuceneQueryResultCache queryResultCacheOrNull() {
+		return queryResultCache;
+	}
+
 	@Override
 	public LuceneIndexModel model() {
 		return model;
@@ -195,6 +218,11 @@ public CompletableFuture<Long> computeSizeInBytesAsync() {
 		return schemaManager.computeSizeInBytes();
 	}
 
+	@Override
+	public Optional<QueryResultCacheStatistics> queryResultCacheStatistics() {
+		return Optional.ofNullable( queryResultCache );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // Checked using reflection
 	public <T> T unwrap(Class<T> clazz) {
@@ -11,6 +11,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
@@ -18,6 +19,7 @@
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategyInitializationContext;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryCreationContextImpl;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LazyDirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
@@ -52,6 +54,12 @@ class ShardingStrategyInitializationContextImpl implements ShardingStrategyIniti
 					.withDefault( BeanReference.of( DirectoryProvider.class, LuceneIndexSettings.Defaults.DIRECTORY_TYPE ) )
 					.build();
 
+	/**
+	 * The suffix appended to the index name when creating the directory used to rebuild an index,
+	 * e.g. during mass indexing with "build-then-swap" enabled.
+	 */
+	private static final String REBUILD_INDEX_NAME_SUFFIX = "-rebuild";
+
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 	private final IndexManagerStartContext startContext;
@@ -130,20 +138,27 @@ private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector,
 						: indexPropertySource;
 
 		DirectoryHolder directoryHolder = null;
+		DirectoryHolder rebuildDirectoryHolder = null;
 		try ( BeanHolder<? extends DirectoryProvider> directoryProviderHolder =
 				DIRECTORY_TYPE.getAndTransform( shardPropertySource, startContext.beanResolver()::resolve ) ) {
+			ConfigurationPropertySource directoryPropertySource = shardPropertySource.withMask( "directory" );
 			DirectoryCreationContext context = new DirectoryCreationContextImpl( shardEventContext,
-					indexName(), shardId, beanResolver(), shardPropertySource.withMask( "directory" ) );
+					indexName(), shardId, beanResolver(), directoryPropertySource );
 			directoryHolder = directoryProviderHolder.get().createDirectoryHolder( context );
+			// The directory holder for rebuilds is only created when a rebuild actually starts.
+			DirectoryCreationContext rebuildContext = new DirectoryCreationContextImpl( shardEventContext,
+					indexName() + REBUILD_INDEX_NAME_SUFFIX, shardId, beanResolver(), directoryPropertySource );
+			rebuildDirectoryHolder = new LazyDirectoryHolder(
+					createDirectoryHolderFactory( beanResolver(), shardPropertySource, rebuildContext ) );
 
 			IOStrategy ioStrategy = backendContext.createIOStrategy( shardPropertySource );
 
-			Shard shard = backendContext.createShard( model, shardEventContext, directoryHolder, ioStrategy,
-					shardPropertySource );
+			Shard shard = backendContext.createShard( model, shardEventContext, directoryHolder,
+					rebuildDirectoryHolder, ioStrategy, shardPropertySource );
 			shardCollector.put( shardId.orElse( null ), shard );
 		}
 		catch (RuntimeException e) {
-			new SuppressingCloser( e ).push( directoryHolder );
+			new SuppressingCloser( e ).push( directoryHolder ).push( rebuildDirectoryHolder );
 
 			ContextualFailureCollector failureCollector = startContext.failureCollector();
 			if ( shardId.isPresent() ) {
@@ -152,4 +167,14 @@ private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector,
 			failureCollector.add( e );
 		}
 	}
+
+	private static Supplier<DirectoryHolder> createDirectoryHolderFactory(BeanResolver beanResolver,
+			ConfigurationPropertySource shardPropertySource, DirectoryCreationContext context) {
+		return () -> {
+			try ( BeanHolder<? extends DirectoryProvider> directoryProviderHolder =
+					DIRECTORY_TYPE.getAndTransform( shardPropertySource, beanResolver::resolve ) ) {
+				return directoryProviderHolder.get().createDirectoryHolder( context );
+			}
+		};
+	}
 }
@@ -108,6 +108,9 @@ public interface Log extends BasicLogger {
 	@Message(value = "Index Merge operation on index '%1$s'")
 	String indexMergeOperation(String indexName);
 
+	@Message(value = "Background refresh of the index reader for %1$s")
+	String indexReaderBackgroundRefreshOperation(String eventContext);
+
 	@LogMessage(level = Level.WARN)
 	@Message(id = ID_OFFSET_LEGACY_ENGINE + 225,
 			value = "Unable to acquire lock on the index while initializing directory '%s'."
@@ -605,4 +608,70 @@ SearchException invalidContextForProjectionOnField(String absolutePath,
 	SearchException invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(String absolutePath,
 			String objectFieldAbsolutePath);
 
+	@Message(id = ID_OFFSET + 154,
+			value = "Invalid search cursor: '%1$s'."
+					+ " A cursor can only be passed to the query it was retrieved from,"
+					+ " or to a query with the same sorts targeting the same indexes.")
+	SearchException invalidSearchCursor(Object cursor);
+
+	@Message(id = ID_OFFSET + 155,
+			value = "Unable to index or delete a bulk of %1$d entities: %2$s")
+	SearchException unableToApplyIndexingWorkBulk(int entityCount, String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 156,
+			value = "Unable to start rebuilding the index: %1$s")
+	SearchException unableToStartIndexRebuild(String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 157,
+			value = "Unable to swap the rebuilt index in place of the live index: %1$s")
+	SearchException unableToFinishIndexRebuild(String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 158,
+			value = "Unable to discard the rebuilt index: %1$s")
+	SearchException unableToAbortIndexRebuild(String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 159,
+			value = "A rebuild of this index is already in progress.")
+	SearchException indexRebuildAlreadyInProgress(@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 160,
+			value = "No rebuild of this index is in progress.")
+	SearchException noIndexRebuildInProgress(@Param EventContext context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 161,
+			value = "The rebuilt index replaced the live index, but it could not be discarded afterwards: %1$s %2$s")
+	void unableToDiscardRebuiltIndex(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 162,
+			value = "Unable to rebuild the index for tenant '%1$s': rebuilding an index replaces its whole content,"
+					+ " which would affect other tenants.")
+	SearchException unableToRebuildIndexForSingleTenant(String tenantId);
+
+	@Message(id = ID_OFFSET + 163,
+			value = "Unable to fetch hits asynchronously: this query loads entities,"
+					+ " which can only be done in the thread that owns the session."
+					+ " Use 'fetch(...)' instead, or a projection that does not load entities.")
+	SearchException cannotFetchAsyncWithEntityLoading();
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 164,
+			value = "Unable to refresh the index reader; the current index reader was dropped"
+					+ " and a new one will be opened for the next search query: %1$s %2$s")
+	void unableToRefreshIndexReader(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 165,
+			value = "Ignoring configuration property '%1$s': background refresh requires a positive refresh interval,"
+					+ " but configuration property '%2$s' is set to 0."
+					+ " Index readers will be refreshed in the thread executing search queries.")
+	void ignoringBackgroundRefreshWithZeroRefreshInterval(String backgroundRefreshPropertyKey,
+			String refreshIntervalPropertyKey);
+
 }
@@ -11,14 +11,16 @@
 /**
  * Tagging interface for collector keys.
  * <p>
- * This is used for de-duplication of collectors, to avoid collecting the same data twice during the same search.
+ * This is used for de-duplication of collectors, to avoid collecting the same data twice during the same search,
+ * and to retrieve the collected data once the search is done.
  *
  * @param <C> The type of collector.
+ * @param <T> The type of collected data, i.e. the result of reducing one or more collectors.
  */
-public interface CollectorKey<C extends Collector> {
+public interface CollectorKey<C extends Collector, T> {
 
-	static <C extends Collector> CollectorKey<C> create() {
-		return new CollectorKey<C>() {
+	static <C extends Collector, T> CollectorKey<C, T> create() {
+		return new CollectorKey<C, T>() {
 		};
 	}
 
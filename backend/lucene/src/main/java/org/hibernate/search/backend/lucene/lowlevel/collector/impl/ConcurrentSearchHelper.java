@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+
+public final class ConcurrentSearchHelper {
+
+	private ConcurrentSearchHelper() {
+	}
+
+	/**
+	 * Searches the given query with the given collector manager,
+	 * concurrently if the searcher has an executor.
+	 * <p>
+	 * When slices are searched in other threads, Lucene wraps any failure
+	 * in a {@link RuntimeException} caused by an {@link ExecutionException}:
+	 * this method unwraps such failures so that they can be handled the same way
+	 * as failures happening in the current thread (timeouts in particular).
+	 *
+	 * @param indexSearcher The searcher.
+	 * @param query The query.
+	 * @param collectorManager The collector manager.
+	 * @param <C> The type of collectors.
+	 * @param <T> The type of the reduced result.
+	 * @return The reduced result.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	public static <C extends Collector, T> T search(IndexSearcher indexSearcher, Query query,
+			CollectorManager<C, T> collectorManager) throws IOException {
+		try {
+			return indexSearcher.search( query, collectorManager );
+		}
+		catch (RuntimeException e) {
+			Throwable cause = e.getCause();
+			if ( !( cause instanceof ExecutionException ) ) {
+				throw e;
+			}
+			Throwable sliceFailure = cause.getCause();
+			if ( sliceFailure instanceof RuntimeException ) {
+				throw (RuntimeException) sliceFailure;
+			}
+			else if ( sliceFailure instanceof IOException ) {
+				throw (IOException) sliceFailure;
+			}
+			else if ( sliceFailure instanceof Error ) {
+				throw (Error) sliceFailure;
+			}
+			throw e;
+		}
+	}
+}
@@ -6,20 +6,56 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
 import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
 
-public class FacetsCollectorFactory implements CollectorFactory<FacetsCollector> {
-	public static final CollectorKey<FacetsCollector> KEY = CollectorKey.create();
+public class FacetsCollectorFactory
+		implements CollectorFactory<FacetsCollector, FacetsCollector, FacetsCollectorManager> {
+	public static final CollectorKey<FacetsCollector, FacetsCollector> KEY = CollectorKey.create();
 
-	public static final CollectorFactory<FacetsCollector> INSTANCE = new FacetsCollectorFactory();
+	public static final CollectorFactory<FacetsCollector, FacetsCollector, FacetsCollectorManager> INSTANCE =
+			new FacetsCollectorFactory();
+
+	/**
+	 * @param collected A facets collector that already collected matching documents.
+	 * @param indexReader An index reader with the same leaves as the reader the documents were collected from,
+	 * but possibly a different top-level reader.
+	 * @return A facets collector exposing the same matching documents,
+	 * but attached to the leaves of the given reader, so that facets can be counted on that reader.
+	 */
+	public static FacetsCollector rebase(FacetsCollector collected, IndexReader indexReader) {
+		List<LeafReaderContext> leaves = indexReader.leaves();
+		List<FacetsCollector.MatchingDocs> rebasedMatchingDocs = new ArrayList<>();
+		for ( FacetsCollector.MatchingDocs matchingDocs : collected.getMatchingDocs() ) {
+			LeafReaderContext leaf = leaves.get( matchingDocs.context.ord );
+			if ( leaf.reader() != matchingDocs.context.reader() ) {
+				throw new AssertionFailure( "Cannot rebase matching docs on a reader with different leaves" );
+			}
+			rebasedMatchingDocs.add( new FacetsCollector.MatchingDocs( leaf, matchingDocs.bits,
+					matchingDocs.totalHits, matchingDocs.scores ) );
+		}
+		return new FacetsCollector( collected.getKeepScores() ) {
+			@Override
+			public List<MatchingDocs> getMatchingDocs() {
+				return rebasedMatchingDocs;
+			}
+		};
+	}
 
 	@Override
-	public FacetsCollector createCollector(CollectorExecutionContext context) {
-		return new FacetsCollector();
+	public FacetsCollectorManager createCollectorManager(CollectorExecutionContext context) {
+		return new FacetsCollectorManager();
 	}
 
 	@Override
-	public CollectorKey<FacetsCollector> getCollectorKey() {
+	public CollectorKey<FacetsCollector, FacetsCollector> getCollectorKey() {
 		return KEY;
 	}
 }
@@ -7,10 +7,12 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Collection;
 
 import com.carrotsearch.hppc.IntObjectHashMap;
 import com.carrotsearch.hppc.IntObjectMap;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
 
@@ -21,10 +23,42 @@
  */
 public class TopDocsDataCollector<T> extends SimpleCollector {
 
-	public interface Factory<T> extends CollectorKey<TopDocsDataCollector<T>> {
+	public interface Factory<T> extends CollectorKey<TopDocsDataCollector<T>, IntObjectMap<T>> {
 
 		TopDocsDataCollector<T> create(TopDocsDataCollectorExecutionContext context) throws IOException;
 
+		default Manager<T> createCollectorManager(TopDocsDataCollectorExecutionContext context) {
+			return new Manager<>( this, context );
+		}
+
+	}
+
+	public static class Manager<T> implements CollectorManager<TopDocsDataCollector<T>, IntObjectMap<T>> {
+
+		private final Factory<T> factory;
+		private final TopDocsDataCollectorExecutionContext context;
+
+		private Manager(Factory<T> factory, TopDocsDataCollectorExecutionContext context) {
+			this.factory = factory;
+			this.context = context;
+		}
+
+		@Override
+		public TopDocsDataCollector<T> newCollector() throws IOException {
+			return factory.create( context );
+		}
+
+		@Override
+		public IntObjectMap<T> reduce(Collection<TopDocsDataCollector<T>> collectors) {
+			if ( collectors.size() == 1 ) {
+				return collectors.iterator().next().collected;
+			}
+			IntObjectMap<T> result = new IntObjectHashMap<>();
+			for ( TopDocsDataCollector<T> collector : collectors ) {
+				result.putAll( collector.collected );
+			}
+			return result;
+		}
 	}
 
 	private final Values<? extends T> values;
@@ -60,8 +94,4 @@ public void collect(int doc) throws IOException {
 	public ScoreMode scoreMode() {
 		return ScoreMode.COMPLETE_NO_SCORES;
 	}
-
-	public T get(int doc) {
-		return collected.get( doc );
-	}
 }
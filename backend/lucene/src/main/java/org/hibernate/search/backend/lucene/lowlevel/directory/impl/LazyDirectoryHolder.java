@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+
+import org.apache.lucene.store.Directory;
+
+/**
+ * A directory holder that only creates the underlying directory holder when started.
+ * <p>
+ * Useful for directories that are rarely needed, such as the directory used to rebuild an index:
+ * this way, the {@link org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider}
+ * is not asked to create such a directory unless it's actually used.
+ */
+public final class LazyDirectoryHolder implements DirectoryHolder {
+
+	private final Supplier<DirectoryHolder> delegateFactory;
+
+	private DirectoryHolder delegate;
+
+	public LazyDirectoryHolder(Supplier<DirectoryHolder> delegateFactory) {
+		this.delegateFactory = delegateFactory;
+	}
+
+	@Override
+	public void start() throws IOException {
+		if ( delegate == null ) {
+			delegate = delegateFactory.get();
+		}
+		delegate.start();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if ( delegate != null ) {
+			delegate.close();
+		}
+		delegate = null;
+	}
+
+	@Override
+	public Directory get() {
+		return delegate == null ? null : delegate.get();
+	}
+}
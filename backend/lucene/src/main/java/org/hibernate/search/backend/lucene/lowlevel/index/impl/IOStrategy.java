@@ -26,22 +26,29 @@ protected IOStrategy(BackendThreads threads, FailureHandler failureHandler) {
 	}
 
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource,
+			DirectoryHolder rebuildDirectoryHolder, IndexWriterConfigSource rebuildWriterConfigSource) {
 		IndexWriterProvider indexWriterProvider = null;
 		IndexReaderProvider indexReaderProvider = null;
+		IndexWriterProvider rebuildIndexWriterProvider = null;
 		try {
 			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			indexReaderProvider = createIndexReaderProvider( eventContext, directoryHolder, indexWriterProvider );
+			rebuildIndexWriterProvider = createIndexWriterProvider( indexName, eventContext,
+					rebuildDirectoryHolder, rebuildWriterConfigSource );
 			return new IndexAccessorImpl(
 					eventContext,
-					directoryHolder, indexWriterProvider, indexReaderProvider
+					directoryHolder, indexWriterProvider, indexReaderProvider,
+					rebuildDirectoryHolder, rebuildIndexWriterProvider, rebuildWriterConfigSource
 			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
 					.push( IndexWriterProvider::clear, indexWriterProvider )
 					.push( IndexReaderProvider::clear, indexReaderProvider )
-					.push( directoryHolder );
+					.push( IndexWriterProvider::clear, rebuildIndexWriterProvider )
+					.push( directoryHolder )
+					.push( rebuildDirectoryHolder );
 			throw e;
 		}
 	}
@@ -49,7 +56,7 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource);
 
-	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	abstract IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider);
 
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 
@@ -36,9 +37,21 @@ public interface IndexAccessor {
 
 	/**
 	 * Commits the underlying index writer, if any.
+	 * <p>
+	 * While a rebuild is in progress, this commits the live index, not the index being rebuilt.
 	 */
 	void commit();
 
+	/**
+	 * Commits the underlying index writer, if any, in the background.
+	 * <p>
+	 * Writes can still be applied while the commit is in progress.
+	 *
+	 * @return A future that completes when all writes applied before this method was called
+	 * have been committed.
+	 */
+	CompletableFuture<?> commitAsync();
+
 	/**
 	 * Commits the underlying index writer, if any,
 	 * or delay the commit if a commit happened recently
@@ -56,6 +69,45 @@ public interface IndexAccessor {
 	 */
 	void mergeSegments();
 
+	/**
+	 * Starts rebuilding the index from scratch, aside from the live index.
+	 * <p>
+	 * Until {@link #finishRebuild()} or {@link #abortRebuild()} is called,
+	 * writes (including merges) are applied to the index being rebuilt and are never committed,
+	 * while reads and commits keep targeting the live index.
+	 * <p>
+	 * Starting, finishing or aborting a rebuild waits for writes in progress to end
+	 * (see {@link #beginWrites()}) and delays subsequent writes until it's done.
+	 */
+	void startRebuild();
+
+	/**
+	 * Replaces the content of the live index with the content of the index being rebuilt,
+	 * in a single commit, then discards the rebuilt index.
+	 */
+	void finishRebuild();
+
+	/**
+	 * Discards the index being rebuilt, leaving the live index untouched.
+	 */
+	void abortRebuild();
+
+	/**
+	 * Signals that the current thread is about to apply writes through {@link #getIndexWriterDelegator()},
+	 * so that the index writer is not replaced until {@link #endWrites()} is called,
+	 * e.g. by finishing a rebuild.
+	 * <p>
+	 * Must be followed by a call to {@link #endWrites()} from the same thread.
+	 */
+	void beginWrites();
+
+	/**
+	 * Signals that the current thread is done applying writes.
+	 *
+	 * @see #beginWrites()
+	 */
+	void endWrites();
+
 	/**
 	 * @return The index writer delegator.
 	 */
@@ -10,15 +10,21 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.file.NoSuchFileException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -40,13 +46,28 @@ public class IndexAccessorImpl implements AutoCloseable, IndexAccessor {
 	private final IndexWriterProvider indexWriterProvider;
 	private final IndexReaderProvider indexReaderProvider;
 
+	private final DirectoryHolder rebuildDirectoryHolder;
+	private final IndexWriterProvider rebuildIndexWriterProvider;
+	private final IndexWriterConfigSource rebuildWriterConfigSource;
+
+	// Shared by writes, exclusive when switching the writer that writes are applied to.
+	private final ReadWriteLock writerSwitchLock = new ReentrantReadWriteLock();
+
+	private boolean rebuildDirectoryStarted;
+	private volatile boolean rebuilding;
+
 	public IndexAccessorImpl(EventContext eventContext,
 			DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider) {
+			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider,
+			DirectoryHolder rebuildDirectoryHolder,
+			IndexWriterProvider rebuildIndexWriterProvider, IndexWriterConfigSource rebuildWriterConfigSource) {
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
 		this.indexWriterProvider = indexWriterProvider;
 		this.indexReaderProvider = indexReaderProvider;
+		this.rebuildDirectoryHolder = rebuildDirectoryHolder;
+		this.rebuildIndexWriterProvider = rebuildIndexWriterProvider;
+		this.rebuildWriterConfigSource = rebuildWriterConfigSource;
 	}
 
 	public void start() throws IOException {
@@ -59,6 +80,9 @@ public void close() {
 			closer.push( IndexWriterProvider::clear, indexWriterProvider );
 			closer.push( IndexReaderProvider::clear, indexReaderProvider );
 			closer.push( DirectoryHolder::close, directoryHolder );
+			// Files of an unfinished rebuild are left as is: they will be discarded by the next rebuild.
+			closer.push( IndexWriterProvider::clear, rebuildIndexWriterProvider );
+			closer.push( DirectoryHolder::close, rebuildDirectoryHolder );
 		}
 		catch (RuntimeException | IOException e) {
 			throw log.unableToShutdownIndexAccessor( e.getMessage(), e );
@@ -130,12 +154,22 @@ private synchronized void clear() throws IOException {
 
 	@Override
 	public void commit() {
+		// The rebuilt index, if any, is only committed once, when it replaces the live index.
 		IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrNull();
 		if ( delegator != null ) {
 			delegator.commit();
 		}
 	}
 
+	@Override
+	public CompletableFuture<?> commitAsync() {
+		IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrNull();
+		if ( delegator == null ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return delegator.commitAsync();
+	}
+
 	@Override
 	public void commitOrDelay() {
 		IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrNull();
@@ -151,17 +185,123 @@ public void refresh() {
 
 	@Override
 	public void mergeSegments() {
+		beginWrites();
 		try {
-			indexWriterProvider.getOrCreate().mergeSegments();
+			if ( rebuilding ) {
+				IndexWriterDelegatorImpl rebuildDelegator = rebuildIndexWriterProvider.getOrCreate();
+				// Merges are disabled while rebuilding, which would make the forced merge a no-op.
+				rebuildDelegator.startDeferredMerges( rebuildWriterConfigSource.createMergePolicy() );
+				rebuildDelegator.mergeSegments();
+			}
+			else {
+				indexWriterProvider.getOrCreate().mergeSegments();
+			}
 		}
 		catch (IOException e) {
 			throw log.unableToMergeSegments( e.getMessage(), eventContext, e );
 		}
+		finally {
+			endWrites();
+		}
+	}
+
+	@Override
+	public synchronized void startRebuild() {
+		if ( rebuilding ) {
+			throw log.indexRebuildAlreadyInProgress( eventContext );
+		}
+		writerSwitchLock.writeLock().lock();
+		try {
+			if ( !rebuildDirectoryStarted ) {
+				rebuildDirectoryHolder.start();
+				rebuildDirectoryStarted = true;
+			}
+			// Discard leftovers from a previous, unfinished rebuild, if any.
+			deleteAllFiles( rebuildDirectoryHolder.get() );
+			rebuilding = true;
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToStartIndexRebuild( e.getMessage(), eventContext, e );
+		}
+		finally {
+			writerSwitchLock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public synchronized void finishRebuild() {
+		if ( !rebuilding ) {
+			throw log.noIndexRebuildInProgress( eventContext );
+		}
+		// Wait for writes in progress to end and delay subsequent writes until the swap is done,
+		// so that no write is applied to the rebuilt index after it was copied.
+		writerSwitchLock.writeLock().lock();
+		try {
+			doFinishRebuild();
+		}
+		finally {
+			writerSwitchLock.writeLock().unlock();
+		}
+		indexReaderProvider.refresh();
+	}
+
+	private void doFinishRebuild() {
+		try {
+			IndexWriterDelegatorImpl rebuildDelegator = rebuildIndexWriterProvider.getOrCreate();
+			// Perform the merges that were deferred until now.
+			rebuildDelegator.startDeferredMerges( rebuildWriterConfigSource.createMergePolicy() );
+			// This waits for merges to complete and commits the rebuilt index.
+			rebuildIndexWriterProvider.clear();
+			indexWriterProvider.getOrCreate().replaceContentAndCommit( rebuildDirectoryHolder.get() );
+		}
+		catch (IOException | RuntimeException e) {
+			SearchException exception = log.unableToFinishIndexRebuild( e.getMessage(), eventContext, e );
+			new SuppressingCloser( exception )
+					// The live index writer may have been rolled back: make sure we'll use a new one.
+					.push( IndexWriterProvider::clear, indexWriterProvider )
+					.push( IndexAccessorImpl::discardRebuild, this );
+			throw exception;
+		}
+		try {
+			discardRebuild();
+		}
+		catch (IOException | RuntimeException e) {
+			// The live index was successfully updated; just warn about the leftover files,
+			// which will be discarded by the next rebuild anyway.
+			log.unableToDiscardRebuiltIndex( e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public synchronized void abortRebuild() {
+		if ( !rebuilding ) {
+			return;
+		}
+		writerSwitchLock.writeLock().lock();
+		try {
+			discardRebuild();
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToAbortIndexRebuild( e.getMessage(), eventContext, e );
+		}
+		finally {
+			writerSwitchLock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void beginWrites() {
+		writerSwitchLock.readLock().lock();
+	}
+
+	@Override
+	public void endWrites() {
+		writerSwitchLock.readLock().unlock();
 	}
 
 	@Override
 	public IndexWriterDelegator getIndexWriterDelegator() throws IOException {
-		return indexWriterProvider.getOrCreate();
+		return currentIndexWriterProvider().getOrCreate();
 	}
 
 	@Override
@@ -171,17 +311,21 @@ public DirectoryReader getIndexReader() throws IOException {
 
 	@Override
 	public void cleanUpAfterFailure(Throwable throwable, Object failingOperation) {
+		beginWrites();
 		try {
 			/*
 			 * Note this will close the index writer,
 			 * which with the default settings will trigger a commit.
 			 */
-			indexWriterProvider.clearAfterFailure( throwable, failingOperation );
+			currentIndexWriterProvider().clearAfterFailure( throwable, failingOperation );
 			indexReaderProvider.clear();
 		}
 		catch (RuntimeException | IOException e) {
 			throwable.addSuppressed( e );
 		}
+		finally {
+			endWrites();
+		}
 	}
 
 	@Override
@@ -214,6 +358,24 @@ public IndexWriter getWriterForTests() throws IOException {
 		return indexWriterProvider.getOrCreate().getDelegateForTests();
 	}
 
+	private IndexWriterProvider currentIndexWriterProvider() {
+		return rebuilding ? rebuildIndexWriterProvider : indexWriterProvider;
+	}
+
+	private void discardRebuild() throws IOException {
+		rebuilding = false;
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( IndexWriterProvider::clear, rebuildIndexWriterProvider );
+			closer.push( IndexAccessorImpl::deleteAllFiles, rebuildDirectoryHolder.get() );
+		}
+	}
+
+	private static void deleteAllFiles(Directory directory) throws IOException {
+		for ( String file : directory.listAll() ) {
+			directory.deleteFile( file );
+		}
+	}
+
 	private void initializeDirectory(Directory directory) throws IOException {
 		try {
 			IndexWriterConfig iwriterConfig = new IndexWriterConfig( AnalyzerConstants.KEYWORD_ANALYZER )
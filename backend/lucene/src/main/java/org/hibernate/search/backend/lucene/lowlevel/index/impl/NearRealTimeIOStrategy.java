@@ -6,8 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.lang.invoke.MethodHandles;
+
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.BackgroundRefreshIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
@@ -17,10 +21,13 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 public class NearRealTimeIOStrategy extends IOStrategy {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final ConfigurationProperty<Integer> COMMIT_INTERVAL =
 			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_INTERVAL )
 					.asIntegerPositiveOrZero()
@@ -33,12 +40,24 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> BACKGROUND_REFRESH =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_BACKGROUND_REFRESH )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_BACKGROUND_REFRESH )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		boolean backgroundRefresh = BACKGROUND_REFRESH.get( propertySource );
+		if ( backgroundRefresh && refreshInterval == 0 ) {
+			log.ignoringBackgroundRefreshWithZeroRefreshInterval( BACKGROUND_REFRESH.resolveOrRaw( propertySource ),
+					REFRESH_INTERVAL.resolveOrRaw( propertySource ) );
+			backgroundRefresh = false;
+		}
 		return new NearRealTimeIOStrategy(
-				timingSource, commitInterval, refreshInterval,
+				timingSource, commitInterval, refreshInterval, backgroundRefresh,
 				threads, failureHandler
 		);
 	}
@@ -46,14 +65,17 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final boolean backgroundRefresh;
 
 	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int refreshInterval,
+			boolean backgroundRefresh,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( threads, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefresh = backgroundRefresh;
 	}
 
 	@Override
@@ -71,8 +93,12 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider) {
+		if ( backgroundRefresh ) {
+			return new BackgroundRefreshIndexReaderProvider( eventContext, indexWriterProvider,
+					threads.getWriteExecutor(), refreshInterval, failureHandler );
+		}
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
@@ -0,0 +1,178 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.AlreadyClosedException;
+
+/**
+ * A index reader holder that opens an index reader from the index writer,
+ * thereby providing a near-real-time view on the index,
+ * and refreshes that index reader periodically in a background task.
+ * <p>
+ * Contrary to {@link NearRealTimeIndexReaderProvider},
+ * threads requesting an index reader never (re-)open an index reader, except for the very first one:
+ * they simply get the latest index reader opened by the background task, without any locking.
+ * <p>
+ * Forced refreshes (see {@link #refresh()}) re-open the index reader immediately, in the calling thread,
+ * so that changes applied before the refresh are visible to any index reader retrieved afterwards.
+ */
+public class BackgroundRefreshIndexReaderProvider implements IndexReaderProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final IndexWriterProvider indexWriterProvider;
+	private final ScheduledExecutorService refreshExecutor;
+	private final int refreshInterval;
+	private final FailureHandler failureHandler;
+
+	/**
+	 * Current open IndexReader, or null when closed.
+	 */
+	private volatile DirectoryReader currentReader = null;
+
+	/**
+	 * The periodic refresh task, or null when no index reader was opened yet.
+	 * Guarded by {@code this}.
+	 */
+	private ScheduledFuture<?> refreshTask = null;
+
+	public BackgroundRefreshIndexReaderProvider(EventContext eventContext,
+			IndexWriterProvider indexWriterProvider,
+			ScheduledExecutorService refreshExecutor, int refreshInterval,
+			FailureHandler failureHandler) {
+		this.eventContext = eventContext;
+		this.indexWriterProvider = indexWriterProvider;
+		this.refreshExecutor = refreshExecutor;
+		this.refreshInterval = refreshInterval;
+		this.failureHandler = failureHandler;
+	}
+
+	@Override
+	public synchronized void clear() throws IOException {
+		if ( refreshTask != null ) {
+			refreshTask.cancel( false );
+			refreshTask = null;
+		}
+		setCurrentReader( null );
+	}
+
+	@Override
+	public void refresh() {
+		if ( currentReader == null ) {
+			// No reader yet: the next call to getOrCreate() will open an up-to-date reader.
+			return;
+		}
+		try {
+			// Forced refreshes happen right after changes were applied: the index writer is most likely open already.
+			refreshIfChanged( indexWriterProvider.getOrCreate() );
+		}
+		catch (IOException | RuntimeException e) {
+			// Drop the current reader: the next call to getOrCreate() will try to open a fresh one,
+			// and will report any failure to the caller.
+			try {
+				setCurrentReader( null );
+			}
+			catch (IOException | RuntimeException e2) {
+				e.addSuppressed( e2 );
+			}
+			log.unableToRefreshIndexReader( e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public DirectoryReader getOrCreate() throws IOException {
+		DirectoryReader reader = currentReader;
+		// Optimistic locking to avoid synchronization.
+		// tryIncRef fails if the reader was closed concurrently after being replaced:
+		// just try again with the new reader.
+		while ( reader != null ) {
+			if ( reader.tryIncRef() ) {
+				return reader;
+			}
+			reader = currentReader;
+		}
+		return getOrCreateInitialReader();
+	}
+
+	private synchronized DirectoryReader getOrCreateInitialReader() throws IOException {
+		DirectoryReader reader = currentReader;
+		if ( reader == null ) {
+			reader = indexWriterProvider.getOrCreate().openReader();
+			setCurrentReader( reader );
+			if ( refreshTask == null ) {
+				refreshTask = refreshExecutor.scheduleWithFixedDelay( this::backgroundRefresh,
+						refreshInterval, refreshInterval, TimeUnit.MILLISECONDS );
+			}
+		}
+		// At this point the reference count is at least one, for the holder.
+		// Let's also increment the reference for the caller.
+		reader.incRef();
+		return reader;
+	}
+
+	private void backgroundRefresh() {
+		try {
+			IndexWriterDelegatorImpl indexWriter = indexWriterProvider.getOrNull();
+			if ( indexWriter == null ) {
+				// No index writer means no change since the last refresh,
+				// or the index writer was closed after a failure and it's not our job to re-open it.
+				return;
+			}
+			refreshIfChanged( indexWriter );
+		}
+		catch (AlreadyClosedException e) {
+			// The index writer was closed concurrently, because the index is being stopped or after a failure.
+			// Either way, the failure (if any) is reported elsewhere.
+			log.tracef( e, "Skipping background refresh of the index reader for %s: index writer closed",
+					eventContext.render() );
+		}
+		// Catch everything: an exception would cancel all future executions of this task.
+		catch (Throwable e) {
+			FailureContext.Builder failureContextBuilder = FailureContext.builder();
+			failureContextBuilder.throwable( e );
+			failureContextBuilder.failingOperation( log.indexReaderBackgroundRefreshOperation( eventContext.render() ) );
+			failureHandler.handle( failureContextBuilder.build() );
+		}
+	}
+
+	private synchronized void refreshIfChanged(IndexWriterDelegatorImpl indexWriter) throws IOException {
+		DirectoryReader oldReader = currentReader;
+		if ( oldReader == null ) {
+			// Closed or not opened yet: nothing to refresh.
+			return;
+		}
+		DirectoryReader newReaderOrNull = indexWriter.openReaderIfChanged( oldReader );
+		if ( newReaderOrNull != null ) {
+			setCurrentReader( newReaderOrNull );
+		}
+	}
+
+	private synchronized void setCurrentReader(DirectoryReader newReader) throws IOException {
+		DirectoryReader oldReader = currentReader;
+		currentReader = newReader;
+		if ( oldReader != null ) {
+			// Make sure to close the old reader as soon as no user thread is using it.
+			oldReader.decRef();
+		}
+	}
+}
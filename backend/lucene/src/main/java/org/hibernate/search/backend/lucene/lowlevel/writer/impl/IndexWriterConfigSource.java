@@ -8,12 +8,15 @@
 
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.search.similarities.Similarity;
 
 /**
@@ -29,25 +32,47 @@
  */
 public class IndexWriterConfigSource {
 
+	private static final ConfigurationProperty<Integer> REBUILD_RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_REBUILD_RAM_BUFFER_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITER_REBUILD_RAM_BUFFER_SIZE )
+					.build();
+
 	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer,
 			ConfigurationPropertySource propertySource, EventContext eventContext) {
 		List<IndexWriterSettingValue<?>> values = IndexWriterSettings.extractAll( propertySource, eventContext );
-		return new IndexWriterConfigSource( similarity, analyzer, values );
+		return new IndexWriterConfigSource( similarity, analyzer, values, null );
+	}
+
+	/**
+	 * @return A source of configuration for index writers building an index from scratch,
+	 * to be swapped in place of the live index once complete:
+	 * such writers use a large RAM buffer and don't merge segments until the end of the rebuild.
+	 */
+	public static IndexWriterConfigSource createForRebuild(Similarity similarity, Analyzer analyzer,
+			ConfigurationPropertySource propertySource, EventContext eventContext) {
+		List<IndexWriterSettingValue<?>> values = IndexWriterSettings.extractAll( propertySource, eventContext );
+		return new IndexWriterConfigSource( similarity, analyzer, values,
+				REBUILD_RAM_BUFFER_SIZE.get( propertySource ) );
 	}
 
 	private final Similarity similarity;
 	private final Analyzer analyzer;
 	private final List<IndexWriterSettingValue<?>> values;
+	private final Integer rebuildRamBufferSize;
 
-	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, List<IndexWriterSettingValue<?>> values) {
+	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, List<IndexWriterSettingValue<?>> values,
+			Integer rebuildRamBufferSize) {
 		this.similarity = similarity;
 		this.analyzer = analyzer;
 		this.values = values;
+		this.rebuildRamBufferSize = rebuildRamBufferSize;
 	}
 
 	@Override
 	public String toString() {
-		return "IndexWriterConfigSource{" + analyzer + "," + values + '}';
+		return "IndexWriterConfigSource{" + analyzer + "," + values
+				+ ( rebuildRamBufferSize == null ? "" : ",rebuildRamBufferSize=" + rebuildRamBufferSize ) + '}';
 	}
 
 	/**
@@ -60,11 +85,22 @@ public IndexWriterConfig createIndexWriterConfig() {
 		for ( IndexWriterSettingValue<?> value : values ) {
 			value.applySetting( writerConfig );
 		}
-		writerConfig.setMergePolicy( createMergePolicy() );
+		if ( rebuildRamBufferSize == null ) {
+			writerConfig.setMergePolicy( createMergePolicy() );
+		}
+		else {
+			// Flush segments based on RAM usage only, and defer merges to the end of the rebuild.
+			writerConfig.setMaxBufferedDocs( IndexWriterConfig.DISABLE_AUTO_FLUSH );
+			writerConfig.setRAMBufferSizeMB( rebuildRamBufferSize );
+			writerConfig.setMergePolicy( NoMergePolicy.INSTANCE );
+		}
 		return writerConfig;
 	}
 
-	private LogByteSizeMergePolicy createMergePolicy() {
+	/**
+	 * @return A new merge policy, configured according to user settings.
+	 */
+	public LogByteSizeMergePolicy createMergePolicy() {
 		LogByteSizeMergePolicy logByteSizeMergePolicy = new LogByteSizeMergePolicy();
 		for ( IndexWriterSettingValue<?> value : values ) {
 			value.applySetting( logByteSizeMergePolicy );
@@ -24,8 +24,19 @@ public interface IndexWriterDelegator {
 
 	long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException;
 
-	long deleteDocuments(Term term) throws IOException;
-
-	long deleteDocuments(Query query) throws IOException;
+	/**
+	 * Deletes all documents matching any of the given terms, then adds the given documents,
+	 * such that readers and commits never see the deletion without the addition.
+	 *
+	 * @param terms The terms identifying the documents to delete.
+	 * @param docs The documents to add.
+	 * @return The sequence number of the last operation.
+	 * @throws IOException If the index cannot be updated.
+	 */
+	long updateDocuments(Term[] terms, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException;
+
+	long deleteDocuments(Term... terms) throws IOException;
+
+	long deleteDocuments(Query... queries) throws IOException;
 
 }
@@ -8,10 +8,15 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
@@ -25,8 +30,10 @@
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -42,15 +49,22 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final FailureHandler failureHandler;
 
 	private final SingletonTask delayedCommitTask;
+	private final SingletonTask commitTask;
 	private final Object commitLock = new Object();
+	// Shared by multi-document updates, exclusive for anything that captures the state of the index:
+	// opening readers, committing.
+	private final ReadWriteLock updateLock = new ReentrantReadWriteLock();
+
+	// Guarded by itself
+	private final List<CompletableFuture<Void>> pendingCommitRequests = new ArrayList<>();
 
 	private long commitExpiration;
 
 	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
-			ScheduledExecutorService delayedCommitExecutor,
+			ScheduledExecutorService commitExecutor,
 			TimingSource timingSource, int commitInterval,
 			FailureHandler failureHandler,
-			DelayedCommitFailureHandler delayedCommitFailureHandler) {
+			CommitFailureHandler commitFailureHandler) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
@@ -63,11 +77,17 @@ public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 		else {
 			delayedCommitTask = new SingletonTask(
 					"Delayed commit for " + eventContext.render(),
-					new LuceneDelayedCommitWorker( delayedCommitFailureHandler ),
-					new LuceneDelayedCommitScheduler( delayedCommitExecutor ),
+					new LuceneDelayedCommitWorker( commitFailureHandler ),
+					new LuceneDelayedCommitScheduler( commitExecutor ),
 					failureHandler
 			);
 		}
+		commitTask = new SingletonTask(
+				"Commit for " + eventContext.render(),
+				new LuceneCommitWorker( commitFailureHandler ),
+				commitExecutor::submit,
+				failureHandler
+		);
 
 		updateCommitExpiration();
 	}
@@ -83,23 +103,110 @@ public long updateDocuments(Term term, Iterable<? extends Iterable<? extends Ind
 	}
 
 	@Override
-	public long deleteDocuments(Term term) throws IOException {
-		return delegate.deleteDocuments( term );
+	public long updateDocuments(Term[] terms, Iterable<? extends Iterable<? extends IndexableField>> docs)
+			throws IOException {
+		// IndexWriter.updateDocuments only accepts a single term,
+		// so we delete then add, and rely on the lock for atomicity.
+		updateLock.readLock().lock();
+		try {
+			delegate.deleteDocuments( terms );
+			return delegate.addDocuments( docs );
+		}
+		finally {
+			updateLock.readLock().unlock();
+		}
 	}
 
 	@Override
-	public long deleteDocuments(Query query) throws IOException {
-		return delegate.deleteDocuments( query );
+	public long deleteDocuments(Term... terms) throws IOException {
+		return delegate.deleteDocuments( terms );
+	}
+
+	@Override
+	public long deleteDocuments(Query... queries) throws IOException {
+		return delegate.deleteDocuments( queries );
 	}
 
 	public void mergeSegments() throws IOException {
 		delegate.forceMerge( 1 );
 	}
 
+	/**
+	 * Switches to the given merge policy and triggers the merges it requires, if any,
+	 * in the background.
+	 * <p>
+	 * Useful when merges were deferred until the end of a rebuild.
+	 *
+	 * @param mergePolicy The new merge policy.
+	 * @throws IOException If merges cannot be triggered.
+	 */
+	public void startDeferredMerges(MergePolicy mergePolicy) throws IOException {
+		delegate.getConfig().setMergePolicy( mergePolicy );
+		delegate.maybeMerge();
+	}
+
+	/**
+	 * Replaces the whole content of the index with the content of another index, and commits.
+	 * <p>
+	 * Readers opened before the commit keep seeing the previous content.
+	 * <p>
+	 * On failure, the writer is rolled back, leaving the previous content intact.
+	 *
+	 * @param newContent A directory containing the new content. Must not be locked by a writer.
+	 */
+	public void replaceContentAndCommit(Directory newContent) {
+		synchronized (commitLock) {
+			updateLock.writeLock().lock();
+			try {
+				delegate.deleteAll();
+				delegate.addIndexes( newContent );
+				delegate.commit();
+				updateCommitExpiration();
+			}
+			catch (RuntimeException | IOException e) {
+				// Do not let the index writer commit the deletion of all documents on close.
+				try {
+					delegate.rollback();
+				}
+				catch (RuntimeException | IOException e2) {
+					e.addSuppressed( e2 );
+				}
+				throw log.unableToCommitIndex( e.getMessage(), eventContext, e );
+			}
+			finally {
+				updateLock.writeLock().unlock();
+			}
+		}
+	}
+
 	public void commit() {
 		doCommit();
 	}
 
+	/**
+	 * Requests a commit, to be executed in the background.
+	 * <p>
+	 * The writer remains available for other operations while the commit is in progress;
+	 * in particular, fsyncing segment files does not block the thread calling this method.
+	 *
+	 * @return A future that will be completed when a commit including
+	 * all changes applied before this method was called has been executed.
+	 */
+	public CompletableFuture<?> commitAsync() {
+		CompletableFuture<Void> request = new CompletableFuture<>();
+		synchronized (pendingCommitRequests) {
+			pendingCommitRequests.add( request );
+		}
+		commitTask.ensureScheduled();
+		return request;
+	}
+
+	/**
+	 * Commits in the background, or delay the commit if a commit happened recently
+	 * and configuration requires to wait longer between two commits.
+	 * <p>
+	 * Never blocks: the commit itself is executed by a separate task.
+	 */
 	public void commitOrDelay() {
 		if ( !delegate.hasUncommittedChanges() ) {
 			// No need to either commit or plan a delayed commit: there's nothing to commit.
@@ -111,26 +218,30 @@ public void commitOrDelay() {
 			return;
 		}
 
-		// Synchronize in order to prevent a scenario where two threads call commitOrDelay() concurrently,
-		// both notice the previous commit has expired, and both trigger a commit,
-		// resulting in two commits where one would have been enough.
-		synchronized (commitLock) {
-			if ( delayCommit() ) {
-				// The commit was delayed
-				return;
-			}
-
-			// The previous commit has expired
-			doCommit();
-		}
+		// The previous commit has expired.
+		// Concurrent calls will trigger a single execution of the commit task,
+		// which checks again whether the commit is still necessary.
+		commitTask.ensureScheduled();
 	}
 
 	public DirectoryReader openReader() throws IOException {
-		return DirectoryReader.open( delegate );
+		updateLock.writeLock().lock();
+		try {
+			return DirectoryReader.open( delegate );
+		}
+		finally {
+			updateLock.writeLock().unlock();
+		}
 	}
 
 	public DirectoryReader openReaderIfChanged(DirectoryReader oldReader) throws IOException {
-		return DirectoryReader.openIfChanged( oldReader, delegate );
+		updateLock.writeLock().lock();
+		try {
+			return DirectoryReader.openIfChanged( oldReader, delegate );
+		}
+		finally {
+			updateLock.writeLock().unlock();
+		}
 	}
 
 	public IndexWriter getDelegateForTests() {
@@ -140,13 +251,27 @@ public IndexWriter getDelegateForTests() {
 	void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			closer.push( SingletonTask::stop, delayedCommitTask );
+			closer.push( SingletonTask::stop, commitTask );
 			// Avoid problems with closing while a (delayed) commit is in progress:
 			// Lucene throws an exception in that case.
 			synchronized (commitLock) {
-				closer.push( IndexWriter::close, delegate );
+				updateLock.writeLock().lock();
+				try {
+					closer.push( IndexWriter::close, delegate );
+				}
+				finally {
+					updateLock.writeLock().unlock();
+				}
 			}
 			log.trace( "IndexWriter closed" );
 		}
+		catch (IOException | RuntimeException e) {
+			completeCommitRequests( takePendingCommitRequests(), e );
+			throw e;
+		}
+		// Closing the writer committed any change,
+		// so commit requests that the (now stopped) commit task didn't handle are fulfilled.
+		completeCommitRequests( takePendingCommitRequests(), null );
 	}
 
 	void closeAfterFailure(Throwable throwable, Object failingOperation) {
@@ -175,8 +300,14 @@ void closeAfterFailure(Throwable throwable, Object failingOperation) {
 	private void doCommit() {
 		try {
 			synchronized (commitLock) {
-				delegate.commit();
-				updateCommitExpiration();
+				updateLock.writeLock().lock();
+				try {
+					delegate.commit();
+					updateCommitExpiration();
+				}
+				finally {
+					updateLock.writeLock().unlock();
+				}
 			}
 		}
 		catch (RuntimeException | IOException e) {
@@ -184,6 +315,28 @@ private void doCommit() {
 		}
 	}
 
+	private List<CompletableFuture<Void>> takePendingCommitRequests() {
+		synchronized (pendingCommitRequests) {
+			if ( pendingCommitRequests.isEmpty() ) {
+				return Collections.emptyList();
+			}
+			List<CompletableFuture<Void>> result = new ArrayList<>( pendingCommitRequests );
+			pendingCommitRequests.clear();
+			return result;
+		}
+	}
+
+	private static void completeCommitRequests(List<CompletableFuture<Void>> requests, Throwable throwable) {
+		for ( CompletableFuture<Void> request : requests ) {
+			if ( throwable == null ) {
+				request.complete( null );
+			}
+			else {
+				request.completeExceptionally( throwable );
+			}
+		}
+	}
+
 	/**
 	 * @return {@code true} if the commit was delayed, {@code false} if it wasn't and must happen now.
 	 */
@@ -214,12 +367,48 @@ private void updateCommitExpiration() {
 		commitExpiration = commitInterval == 0 ? 0L : timingSource.monotonicTimeEstimate() + commitInterval;
 	}
 
+	private class LuceneCommitWorker implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+		private final CommitFailureHandler commitFailureHandler;
+
+		public LuceneCommitWorker(CommitFailureHandler commitFailureHandler) {
+			this.commitFailureHandler = commitFailureHandler;
+		}
+
+		@Override
+		public CompletableFuture<?> work() {
+			// Any change applied before a request was submitted is also applied before the commit below,
+			// so that commit fulfills all the requests we take here.
+			// Requests submitted while committing will trigger another run of this task.
+			List<CompletableFuture<Void>> requests = takePendingCommitRequests();
+			try {
+				if ( requests.isEmpty() && ( !delegate.hasUncommittedChanges() || delayCommit() ) ) {
+					// Triggered by commitOrDelay(), but another commit happened in the meantime.
+					return completedFuture;
+				}
+				doCommit();
+			}
+			catch (Throwable t) {
+				completeCommitRequests( requests, t );
+				commitFailureHandler.handle( t, "Commit" );
+				return completedFuture;
+			}
+			completeCommitRequests( requests, null );
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do: every run handles all pending requests.
+		}
+	}
+
 	private class LuceneDelayedCommitWorker implements SingletonTask.Worker {
 		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
-		private final DelayedCommitFailureHandler delayedCommitFailureHandler;
+		private final CommitFailureHandler commitFailureHandler;
 
-		public LuceneDelayedCommitWorker(DelayedCommitFailureHandler delayedCommitFailureHandler) {
-			this.delayedCommitFailureHandler = delayedCommitFailureHandler;
+		public LuceneDelayedCommitWorker(CommitFailureHandler commitFailureHandler) {
+			this.commitFailureHandler = commitFailureHandler;
 		}
 
 		@Override
@@ -229,7 +418,7 @@ public CompletableFuture<?> work() {
 				commitOrDelay();
 			}
 			catch (Throwable t) {
-				delayedCommitFailureHandler.handle( t, "Delayed commit" );
+				commitFailureHandler.handle( t, "Delayed commit" );
 			}
 			return completedFuture;
 		}
@@ -254,7 +443,7 @@ public Future<?> schedule(Runnable runnable) {
 		}
 	}
 
-	interface DelayedCommitFailureHandler {
+	interface CommitFailureHandler {
 
 		void handle(Throwable throwable, Object failingOperation);
 
@@ -22,13 +22,7 @@
 
 	@Override
 	public void submitTo(LuceneBatchedWorkProcessor processor) {
-		try {
-			T result = processor.submit( work );
-			future.complete( result );
-		}
-		catch (RuntimeException e) {
-			markAsFailed( e );
-		}
+		processor.submit( this );
 	}
 
 	@Override
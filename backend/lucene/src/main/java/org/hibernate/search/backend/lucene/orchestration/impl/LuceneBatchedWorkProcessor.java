@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
+import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
+import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWorkBulk;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -17,25 +21,55 @@
  * A thread-safe component responsible for applying write works to an index writer.
  * <p>
  * Ported from Search 5's LuceneBackendQueueTask, in particular.
+ * <p>
+ * Within a batch, execution of single-document works is delayed until another kind of work is submitted
+ * or the batch ends, so that consecutive single-document works can be grouped into bulk calls to the index writer:
+ * see {@link SingleDocumentIndexingWorkBulk}.
+ * Because of that state, batches must not be executed concurrently on the same instance:
+ * use {@link #forQueue()} to get one instance per queue.
  */
 public class LuceneBatchedWorkProcessor implements BatchedWorkProcessor {
 
 	private final IndexAccessor indexAccessor;
 	private final IndexAccessorWorkExecutionContext context;
 
+	// Only accessed from within a batch; batches of a given processor are never executed concurrently,
+	// but batches of different queues are: see forQueue().
+	private final List<LuceneBatchedWork<Long>> pendingDocumentWorks = new ArrayList<>();
+
 	public LuceneBatchedWorkProcessor(EventContext eventContext,
 			IndexAccessor indexAccessor) {
+		this( indexAccessor, new IndexAccessorWorkExecutionContext( eventContext, indexAccessor ) );
+	}
+
+	private LuceneBatchedWorkProcessor(IndexAccessor indexAccessor, IndexAccessorWorkExecutionContext context) {
 		this.indexAccessor = indexAccessor;
-		this.context = new IndexAccessorWorkExecutionContext( eventContext, indexAccessor );
+		this.context = context;
+	}
+
+	/**
+	 * @return A processor applying works to the same index as this processor,
+	 * but with its own state for works delayed within a batch,
+	 * so that it can execute batches concurrently with this processor and other processors returned by this method.
+	 */
+	public LuceneBatchedWorkProcessor forQueue() {
+		return new LuceneBatchedWorkProcessor( indexAccessor, context );
 	}
 
 	@Override
 	public void beginBatch() {
-		// Nothing to do
+		// Make sure the index writer doesn't change in the middle of a batch, e.g. when a rebuild finishes.
+		indexAccessor.beginWrites();
 	}
 
 	@Override
 	public CompletableFuture<?> endBatch() {
+		try {
+			executePendingDocumentWorks();
+		}
+		finally {
+			indexAccessor.endWrites();
+		}
 		try {
 			indexAccessor.commitOrDelay();
 		}
@@ -58,7 +92,26 @@ public void complete() {
 		}
 	}
 
+	@SuppressWarnings("unchecked") // Single-document works always return a Long
+	<T> void submit(LuceneBatchedWork<T> batchedWork) {
+		if ( batchedWork.work instanceof SingleDocumentIndexingWork ) {
+			pendingDocumentWorks.add( (LuceneBatchedWork<Long>) batchedWork );
+			return;
+		}
+		T result;
+		try {
+			result = submit( batchedWork.work );
+		}
+		catch (RuntimeException e) {
+			batchedWork.markAsFailed( e );
+			return;
+		}
+		batchedWork.future.complete( result );
+	}
+
 	public <T> T submit(IndexingWork<T> work) {
+		// Other works must be executed after the single-document works submitted before them.
+		executePendingDocumentWorks();
 		try {
 			return work.execute( context );
 		}
@@ -68,15 +121,66 @@ public <T> T submit(IndexingWork<T> work) {
 		}
 	}
 
-	// Note this may be called outside of a batch
-	public void forceCommit() {
-		try {
-			indexAccessor.commit();
+	private void executePendingDocumentWorks() {
+		if ( pendingDocumentWorks.isEmpty() ) {
+			return;
 		}
-		catch (RuntimeException e) {
-			indexAccessor.cleanUpAfterFailure( e, "Commit after a set of index works" );
-			throw e;
+		List<LuceneBatchedWork<Long>> batchedWorks = new ArrayList<>( pendingDocumentWorks );
+		pendingDocumentWorks.clear();
+
+		List<SingleDocumentIndexingWork> works = new ArrayList<>( batchedWorks.size() );
+		for ( LuceneBatchedWork<Long> batchedWork : batchedWorks ) {
+			works.add( (SingleDocumentIndexingWork) batchedWork.work );
 		}
+		for ( SingleDocumentIndexingWorkBulk bulk : SingleDocumentIndexingWorkBulk.group( works ) ) {
+			Long result;
+			try {
+				result = bulk.execute( context );
+			}
+			catch (RuntimeException e) {
+				indexAccessor.cleanUpAfterFailure( e, bulk.getInfo() );
+				if ( bulk.size() == 1 ) {
+					for ( int workIndex : bulk.workIndexes() ) {
+						batchedWorks.get( workIndex ).markAsFailed( e );
+					}
+				}
+				else {
+					// Only fail the works that actually fail: execute them one by one.
+					executeOneByOne( batchedWorks, bulk );
+				}
+				// Subsequent works must be executed regardless of previous failures in the same batch.
+				continue;
+			}
+			for ( int workIndex : bulk.workIndexes() ) {
+				batchedWorks.get( workIndex ).future.complete( result );
+			}
+		}
+	}
+
+	private void executeOneByOne(List<LuceneBatchedWork<Long>> batchedWorks, SingleDocumentIndexingWorkBulk bulk) {
+		for ( int i = 0; i < bulk.size(); i++ ) {
+			Long result;
+			try {
+				result = bulk.execute( context, i );
+			}
+			catch (RuntimeException e) {
+				indexAccessor.cleanUpAfterFailure( e, bulk.getInfo( i ) );
+				for ( int workIndex : bulk.workIndexes( i ) ) {
+					batchedWorks.get( workIndex ).markAsFailed( e );
+				}
+				continue;
+			}
+			for ( int workIndex : bulk.workIndexes( i ) ) {
+				batchedWorks.get( workIndex ).future.complete( result );
+			}
+		}
+	}
+
+	// Note this may be called outside of a batch
+	public CompletableFuture<?> forceCommit() {
+		// The commit is executed in the background, so that this processor can keep applying works.
+		// Commit failures are handled by the index writer, which resets itself.
+		return indexAccessor.commitAsync();
 	}
 
 	// Note this may be called outside of a batch
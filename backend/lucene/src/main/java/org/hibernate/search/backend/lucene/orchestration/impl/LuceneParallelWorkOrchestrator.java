@@ -35,10 +35,13 @@ default <T> CompletableFuture<T> submit(IndexManagementWork<T> work) {
 	<T> void submit(CompletableFuture<T> future, IndexManagementWork<T> work);
 
 	/**
-	 * Force a commit immediately.
+	 * Force a commit as soon as possible.
 	 * <p>
-	 * The commit will be executed <strong>in the current thread</strong>.
+	 * The commit will be executed <strong>in the background</strong>,
+	 * and works submitted in the meantime will keep being applied while it's in progress.
+	 *
+	 * @return A future that completes when all works executed so far have been committed.
 	 */
-	void forceCommitInCurrentThread();
+	CompletableFuture<?> forceCommit();
 
 }
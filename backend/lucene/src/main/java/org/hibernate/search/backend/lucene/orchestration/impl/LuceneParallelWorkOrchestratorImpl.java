@@ -42,14 +42,9 @@ public <T> void submit(CompletableFuture<T> future, IndexManagementWork<T> work)
 	}
 
 	@Override
-	public void forceCommitInCurrentThread() {
-		try {
-			indexAccessor.commit();
-		}
-		catch (Throwable e) {
-			context.getIndexAccessor().cleanUpAfterFailure( e, "Commit after an index management operation" );
-			throw e;
-		}
+	public CompletableFuture<?> forceCommit() {
+		// Commit failures are handled by the index writer, which resets itself.
+		return indexAccessor.commitAsync();
 	}
 
 	@Override
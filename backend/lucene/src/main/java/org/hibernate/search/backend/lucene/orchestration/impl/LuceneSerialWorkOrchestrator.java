@@ -27,11 +27,14 @@ default <T> void submit(CompletableFuture<T> future, IndexingWork<T> work) {
 	void submit(LuceneBatchedWork<?> work);
 
 	/**
-	 * Force a commit immediately.
+	 * Force a commit as soon as possible.
 	 * <p>
-	 * The commit will be executed <strong>in the current thread</strong>.
+	 * The commit will be executed <strong>in the background</strong>,
+	 * and works submitted in the meantime will keep being applied while it's in progress.
+	 *
+	 * @return A future that completes when all works executed so far have been committed.
 	 */
-	void forceCommitInCurrentThread();
+	CompletableFuture<?> forceCommit();
 
 	/**
 	 * Force a refresh immediately.
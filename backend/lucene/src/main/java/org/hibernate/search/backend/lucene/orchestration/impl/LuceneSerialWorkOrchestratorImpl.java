@@ -13,6 +13,7 @@
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.HashTable;
@@ -36,6 +37,17 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Integer> LINGER_TIME =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_LINGER_TIME )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_LINGER_TIME )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> LINGER_BATCH_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_LINGER_BATCH_SIZE )
+					.asIntegerStrictlyPositive()
+					.build();
+
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
@@ -59,8 +71,8 @@ public LuceneSerialWorkOrchestratorImpl(
 	}
 
 	@Override
-	public void forceCommitInCurrentThread() {
-		processor.forceCommit();
+	public CompletableFuture<?> forceCommit() {
+		return processor.forceCommit();
 	}
 
 	@Override
@@ -72,14 +84,18 @@ public void forceRefreshInCurrentThread() {
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		int lingerTime = LINGER_TIME.get( propertySource );
+		int lingerBatchSize = LINGER_BATCH_SIZE.get( propertySource ).orElse( queueSize );
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
-					processor,
+					processor.forQueue(),
 					queueSize,
 					true,
+					lingerTime,
+					lingerBatchSize,
 					failureHandler
 			) );
 		}
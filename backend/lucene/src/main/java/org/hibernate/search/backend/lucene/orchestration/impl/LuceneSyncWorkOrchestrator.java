@@ -8,6 +8,8 @@
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
@@ -17,9 +19,8 @@
 /**
  * An orchestrator that executes works synchronously in the current thread.
  * <p>
- * For now this implementation is very simple,
- * but we might one day need to execute queries asynchronously,
- * in which case thing will get slightly more complex.
+ * Asynchronous execution is achieved by running the synchronous execution
+ * in a thread dedicated to asynchronous searches: see {@link #executeAsync(Supplier)}.
  */
 public interface LuceneSyncWorkOrchestrator {
 
@@ -31,4 +32,13 @@ default <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManag
 	<T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, ReadWork<T> work, HibernateSearchMultiReader indexReader);
 
+	/**
+	 * @param task A task that will typically call {@link #submit(Set, Collection, Set, ReadWork)},
+	 * then process the result of the work.
+	 * @param <T> The type of the task's result.
+	 * @return A future that will be completed with the result of the task,
+	 * once it has been executed in a thread dedicated to asynchronous searches.
+	 */
+	<T> CompletableFuture<T> executeAsync(Supplier<T> task);
+
 }
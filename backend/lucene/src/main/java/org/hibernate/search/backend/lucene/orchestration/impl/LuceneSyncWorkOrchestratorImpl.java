@@ -11,16 +11,20 @@
 import java.util.Collection;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -37,13 +41,15 @@
 
 	private final Similarity similarity;
 	private final LuceneQueryCachingContext cachingContext;
+	private final BackendThreads threads;
 
 	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity,
-			LuceneQueryCachingContext cachingContext) {
+			LuceneQueryCachingContext cachingContext, BackendThreads threads) {
 		super( name );
 		this.similarity = similarity;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 		this.cachingContext = cachingContext;
+		this.threads = threads;
 	}
 
 	@Override
@@ -51,7 +57,8 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 			Set<String> routingKeys, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext
+				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext,
+				threads.getSearchExecutor().orElse( null )
 		);
 		Throwable throwable = null;
 		try {
@@ -76,6 +83,11 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 		}
 	}
 
+	@Override
+	public <T> CompletableFuture<T> executeAsync(Supplier<T> task) {
+		return Futures.create( () -> CompletableFuture.supplyAsync( task, threads.getSearchAsyncExecutor() ) );
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		// Nothing to do
@@ -104,6 +116,7 @@ protected void doStop() {
 		private final ReadWork<T> work;
 		private final boolean closeIndexReader;
 		private final LuceneQueryCachingContext cachingContext;
+		private final Executor searchExecutor;
 
 		private T result;
 
@@ -111,7 +124,8 @@ protected void doStop() {
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
 				Set<String> routingKeys, ReadWork<T> work,
 				HibernateSearchMultiReader indexReader,
-				LuceneQueryCachingContext cachingContext) {
+				LuceneQueryCachingContext cachingContext,
+				Executor searchExecutor) {
 			this.similarity = similarity;
 			this.indexNames = indexNames;
 			this.work = work;
@@ -125,11 +139,14 @@ protected void doStop() {
 				this.closeIndexReader = false;
 			}
 			this.cachingContext = cachingContext;
+			this.searchExecutor = searchExecutor;
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
+			// If there is a search executor, Lucene will use it to search index slices concurrently
+			// when we pass a CollectorManager to the searcher.
+			IndexSearcher searcher = new IndexSearcher( indexReader, searchExecutor );
 			searcher.setSimilarity( similarity );
 
 			cachingContext.queryCache().ifPresent( searcher::setQueryCache );
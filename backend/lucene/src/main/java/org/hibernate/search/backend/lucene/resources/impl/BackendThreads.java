@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -25,10 +26,22 @@ public class BackendThreads {
 					.asIntegerStrictlyPositive()
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> SEARCH_ASYNC_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_ASYNC_THREAD_POOL_SIZE )
+					.asIntegerStrictlyPositive()
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService writeExecutor;
+	private ExecutorService searchExecutor;
+	private ExecutorService searchAsyncExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -48,11 +61,27 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.writeExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+		// Searches are only executed concurrently if explicitly requested,
+		// since it only makes sense when there are spare cores to handle the extra threads.
+		this.searchExecutor = SEARCH_THREAD_POOL_SIZE.get( propertySource )
+				.map( size -> threadPoolProvider.newFixedThreadPool( size, prefix + " - Search thread" ) )
+				.orElse( null );
+		// Asynchronous searches must not use the search executor:
+		// they would wait for slice searches queued in the same pool, which could deadlock.
+		// Threads are only created on demand, so applications that never execute queries asynchronously
+		// will not pay for this pool.
+		int searchAsyncThreadPoolSize = SEARCH_ASYNC_THREAD_POOL_SIZE.get( propertySource )
+				.orElse( Runtime.getRuntime().availableProcessors() );
+		this.searchAsyncExecutor = threadPoolProvider.newFixedThreadPool(
+				searchAsyncThreadPoolSize, prefix + " - Async search thread"
+		);
 	}
 
 	public void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( ExecutorService::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
+			closer.push( ExecutorService::shutdownNow, searchAsyncExecutor );
 		}
 	}
 
@@ -66,6 +95,16 @@ public ScheduledExecutorService getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	public Optional<ExecutorService> getSearchExecutor() {
+		checkStarted();
+		return Optional.ofNullable( searchExecutor );
+	}
+
+	public ExecutorService getSearchAsyncExecutor() {
+		checkStarted();
+		return searchAsyncExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
@@ -61,6 +61,18 @@ public CompletableFuture<?> validate(ContextualFailureCollector failureCollector
 		return doSubmit( luceneWorkFactory.validateIndexExists() );
 	}
 
+	@Override
+	public CompletableFuture<?> prepareForBulkIndexing() {
+		// There is no index-level setting that would speed up bulk indexing.
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> restoreAfterBulkIndexing() {
+		// Nothing was changed in prepareForBulkIndexing().
+		return CompletableFuture.completedFuture( null );
+	}
+
 	public CompletableFuture<Long> computeSizeInBytes() {
 		IndexManagementWork<Long> computeSizeWork = luceneWorkFactory.computeSizeInBytes();
 		BinaryOperator<Long> add = Math::addExact;
@@ -37,7 +37,7 @@ public FromDocumentValueConvertContext fromDocumentValueConvertContext() {
 		return fromDocumentValueConvertContext;
 	}
 
-	public <C extends Collector> C getCollector(CollectorKey<C> key) {
+	public <C extends Collector, T> T getCollectorResult(CollectorKey<C, T> key) {
 		return collectors.get( key );
 	}
 
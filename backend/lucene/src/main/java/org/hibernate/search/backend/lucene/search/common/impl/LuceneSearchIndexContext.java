@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.common.impl;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.engine.search.common.spi.SearchIndexIdentifierContext;
 
@@ -13,4 +14,10 @@ public interface LuceneSearchIndexContext extends ReadIndexManagerContext {
 
 	SearchIndexIdentifierContext identifier();
 
+	/**
+	 * @return The cache for results of queries targeting this index only,
+	 * or {@code null} if query result caching is disabled for this index.
+	 */
+	LuceneQueryResultCache queryResultCacheOrNull();
+
 }
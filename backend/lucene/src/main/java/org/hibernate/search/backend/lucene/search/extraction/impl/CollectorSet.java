@@ -7,7 +7,11 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -18,27 +22,49 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.engine.common.timing.Deadline;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TimeLimitingCollector;
 
+/**
+ * The data collected by a set of collectors during a search,
+ * once the collectors of every index slice searched concurrently have been reduced.
+ */
 public class CollectorSet {
 
-	private final Collector composed;
-	private final Map<CollectorKey<?>, Collector> components;
+	public static final CollectorSet EMPTY = new CollectorSet( Collections.emptyMap(), null );
+
+	private final Map<CollectorKey<?, ?>, Object> results;
+	private final TimeLimitingCollector.TimeExceededException timeoutExceptionOrNull;
 
-	private CollectorSet(Collector composed, Map<CollectorKey<?>, Collector> components) {
-		this.composed = composed;
-		this.components = components;
+	private CollectorSet(Map<CollectorKey<?, ?>, Object> results,
+			TimeLimitingCollector.TimeExceededException timeoutExceptionOrNull) {
+		this.results = results;
+		this.timeoutExceptionOrNull = timeoutExceptionOrNull;
 	}
 
-	public Collector getComposed() {
-		return composed;
+	public static <C extends Collector, T> CollectorSet of(CollectorKey<C, T> key, T result) {
+		return new CollectorSet( Collections.singletonMap( key, result ), null );
 	}
 
 	@SuppressWarnings("unchecked")
-	public <C extends Collector> C get(CollectorKey<C> key) {
-		return (C) components.get( key );
+	public <C extends Collector, T> T get(CollectorKey<C, T> key) {
+		return (T) results.get( key );
+	}
+
+	/**
+	 * @return The exception that interrupted collection in one of the index slices,
+	 * or {@code null} if collection was not interrupted by a timeout.
+	 */
+	public TimeLimitingCollector.TimeExceededException getTimeoutExceptionOrNull() {
+		return timeoutExceptionOrNull;
 	}
 
 	public static class Builder {
@@ -46,52 +72,168 @@ public static class Builder {
 		private final CollectorExecutionContext executionContext;
 		private final TimeoutManager timeoutManager;
 
-		private final Map<CollectorKey<?>, Collector> components = new LinkedHashMap<>();
+		private final Map<CollectorKey<?, ?>, CollectorManager<?, ?>> components = new LinkedHashMap<>();
 
 		public Builder(CollectorExecutionContext executionContext, TimeoutManager timeoutManager) {
 			this.executionContext = executionContext;
 			this.timeoutManager = timeoutManager;
 		}
 
-		public <C extends Collector> void add(CollectorKey<C> key, C collector) {
-			components.put( key, collector );
+		public <C extends Collector, T> void add(CollectorKey<? super C, T> key, CollectorManager<C, ? extends T> manager) {
+			components.put( key, manager );
 		}
 
-		public void addAll(Set<CollectorFactory<?>> collectorFactories) throws IOException {
-			for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
-				Collector collector = collectorFactory.createCollector( executionContext );
-				components.put( collectorFactory.getCollectorKey(), collector );
+		public void addAll(Set<CollectorFactory<?, ?, ?>> collectorFactories) throws IOException {
+			for ( CollectorFactory<?, ?, ?> collectorFactory : collectorFactories ) {
+				CollectorManager<?, ?> manager = collectorFactory.createCollectorManager( executionContext );
+				components.put( collectorFactory.getCollectorKey(), manager );
 			}
 		}
 
-		public CollectorSet build() {
-			if ( components.isEmpty() ) {
-				return new CollectorSet( null, components );
-			}
+		public Manager build() {
+			return new Manager( new ArrayList<>( components.keySet() ), new ArrayList<>( components.values() ),
+					timeoutManager );
+		}
+	}
+
+	/**
+	 * A collector manager creating one set of collectors per index slice,
+	 * so that slices can be searched concurrently by {@link org.apache.lucene.search.IndexSearcher},
+	 * and reducing the collectors of each key once all slices have been searched.
+	 */
+	public static final class Manager implements CollectorManager<SliceCollector, CollectorSet> {
 
-			Collector composed = wrapTimeLimitingCollectorIfNecessary(
-					// avoid to use a multi collector if we have just one collector,
-					// as MultiCollector explicitly ignores the total hit count optimization
-					( components.size() == 1 ) ? components.values().iterator().next() :
-							MultiCollector.wrap( components.values() ),
-					timeoutManager
-			);
+		private final List<CollectorKey<?, ?>> keys;
+		private final List<CollectorManager<?, ?>> managers;
+		private final TimeoutManager timeoutManager;
 
-			return new CollectorSet( composed, components );
+		private Manager(List<CollectorKey<?, ?>> keys, List<CollectorManager<?, ?>> managers,
+				TimeoutManager timeoutManager) {
+			this.keys = keys;
+			this.managers = managers;
+			this.timeoutManager = timeoutManager;
 		}
 
-		private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector, TimeoutManager timeoutManager) {
+		public boolean isEmpty() {
+			return managers.isEmpty();
+		}
+
+		@Override
+		public SliceCollector newCollector() throws IOException {
+			List<Collector> components = new ArrayList<>( managers.size() );
+			for ( CollectorManager<?, ?> manager : managers ) {
+				components.add( manager.newCollector() );
+			}
+
+			// avoid to use a multi collector if we have just one collector,
+			// as MultiCollector explicitly ignores the total hit count optimization
+			Collector composed = ( components.size() == 1 ) ? components.get( 0 ) : MultiCollector.wrap( components );
+
 			final Deadline deadline = timeoutManager.deadlineOrNull();
 			if ( deadline != null ) {
-				TimeLimitingCollector wrapped = new TimeLimitingCollector( collector,
+				TimeLimitingCollector wrapped = new TimeLimitingCollector( composed,
 						new LuceneCounterAdapter( timeoutManager.timingSource() ),
 						deadline.checkRemainingTimeMillis() );
 				// The timeout starts from the given baseline, not from when the collector is first used.
 				// This is important because some collectors are applied during a second search.
 				wrapped.setBaseline( timeoutManager.timeoutBaseline() );
-				return wrapped;
+				return new SliceCollector( wrapped, components, true );
+			}
+			return new SliceCollector( composed, components, false );
+		}
+
+		@Override
+		public CollectorSet reduce(Collection<SliceCollector> sliceCollectors) throws IOException {
+			Map<CollectorKey<?, ?>, Object> results = new LinkedHashMap<>();
+			for ( int i = 0; i < keys.size(); i++ ) {
+				results.put( keys.get( i ), reduce( managers.get( i ), i, sliceCollectors ) );
+			}
+
+			TimeLimitingCollector.TimeExceededException timeoutException = null;
+			for ( SliceCollector sliceCollector : sliceCollectors ) {
+				if ( sliceCollector.timeoutException != null ) {
+					timeoutException = sliceCollector.timeoutException;
+					break;
+				}
+			}
+
+			return new CollectorSet( results, timeoutException );
+		}
+
+		@SuppressWarnings("unchecked") // Components at a given index were all created by the manager at the same index
+		private static <C extends Collector, T> T reduce(CollectorManager<C, T> manager, int index,
+				Collection<SliceCollector> sliceCollectors) throws IOException {
+			List<C> collectors = new ArrayList<>( sliceCollectors.size() );
+			for ( SliceCollector sliceCollector : sliceCollectors ) {
+				collectors.add( (C) sliceCollector.components.get( index ) );
+			}
+			return manager.reduce( collectors );
+		}
+	}
+
+	/**
+	 * The collectors for a single index slice.
+	 * <p>
+	 * When a timeout is reached, collection in this slice stops,
+	 * but the exception is only remembered instead of being propagated,
+	 * so that other slices can stop gracefully as well and partial results can still be reduced.
+	 */
+	public static final class SliceCollector implements Collector {
+
+		private final Collector composed;
+		private final List<Collector> components;
+		private final boolean timeLimited;
+
+		private TimeLimitingCollector.TimeExceededException timeoutException;
+
+		private SliceCollector(Collector composed, List<Collector> components, boolean timeLimited) {
+			this.composed = composed;
+			this.components = components;
+			this.timeLimited = timeLimited;
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			if ( !timeLimited ) {
+				return composed.getLeafCollector( context );
+			}
+			if ( timeoutException != null ) {
+				throw new CollectionTerminatedException();
+			}
+			try {
+				return new TimeLimitedLeafCollector( composed.getLeafCollector( context ) );
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				timeoutException = e;
+				throw new CollectionTerminatedException();
+			}
+		}
+
+		@Override
+		public ScoreMode scoreMode() {
+			return composed.scoreMode();
+		}
+
+		private class TimeLimitedLeafCollector extends FilterLeafCollector {
+			private TimeLimitedLeafCollector(LeafCollector in) {
+				super( in );
+			}
+
+			@Override
+			public void collect(int doc) throws IOException {
+				try {
+					super.collect( doc );
+				}
+				catch (TimeLimitingCollector.TimeExceededException e) {
+					timeoutException = e;
+					throw new CollectionTerminatedException();
+				}
+			}
+
+			@Override
+			public DocIdSetIterator competitiveIterator() throws IOException {
+				return in.competitiveIterator();
 			}
-			return collector;
 		}
 	}
 
@@ -7,26 +7,35 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TotalHitCountCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
 
 /**
  * Regroups information about the data used as input of extraction (projections or aggregations):
@@ -35,17 +44,27 @@
 public final class ExtractionRequirements {
 
 	private final boolean requireScore;
-	private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories;
+	private final boolean requireEntityLoading;
+	private final Set<CollectorFactory<?, ?, ?>> requiredCollectorForAllMatchingDocsFactories;
 	private final StoredFieldsValuesDelegate.Factory storedFieldsSourceFactoryOrNull;
 
 	private ExtractionRequirements(Builder builder) {
 		requireScore = builder.requireScore;
+		requireEntityLoading = builder.requireEntityLoading;
 		requiredCollectorForAllMatchingDocsFactories = builder.requiredCollectorForAllMatchingDocsFactories;
 		storedFieldsSourceFactoryOrNull = builder.createStoredFieldsSourceFactoryOrNull();
 	}
 
+	public boolean requireScore() {
+		return requireScore;
+	}
+
+	public boolean requireEntityLoading() {
+		return requireEntityLoading;
+	}
+
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query originalLuceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager,
+			ScoreDoc afterOrNull, IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager,
 			int requestedTotalHitCountThreshold)
 			throws IOException {
 		// Necessary to unwrap boolean queries with a single clause, in particular:
@@ -63,7 +82,7 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 			totalHitCountThreshold = requestedTotalHitCountThreshold;
 		}
 
-		TopDocsCollector<?> topDocsCollector = null;
+		boolean hasTopDocs = false;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
 
@@ -73,9 +92,21 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 		CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
 				new CollectorSet.Builder( executionContext, timeoutManager );
 
+		// When the searcher has an executor, index slices will be searched concurrently,
+		// so top docs collectors must share their hit count in order to skip non-competitive hits.
+		// Sharing has a cost though, so we only do it when necessary.
+		boolean concurrent = indexSearcher.getExecutor() != null;
+
 		if ( maxDocs > 0 ) {
+			hasTopDocs = true;
 			if ( sort == null || isDescendingScoreSort( sort ) ) {
-				topDocsCollector = TopScoreDocCollector.create( maxDocs, totalHitCountThreshold );
+				collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, concurrent
+						? TopScoreDocCollector.createSharedManager( maxDocs, toFieldDocOrNull( afterOrNull ),
+								totalHitCountThreshold )
+						: new SequentialTopDocsCollectorManager<TopScoreDocCollector, TopDocs>(
+								() -> TopScoreDocCollector.create( maxDocs, afterOrNull, totalHitCountThreshold ),
+								TopScoreDocCollector::topDocs
+						) );
 			}
 			else {
 				if ( requireScore ) {
@@ -86,33 +117,47 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
 					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 				}
-				topDocsCollector = TopFieldCollector.create( sort, maxDocs, totalHitCountThreshold );
+				collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, concurrent
+						? TopFieldCollector.createSharedManager( sort, maxDocs, (FieldDoc) afterOrNull,
+								totalHitCountThreshold )
+						: new SequentialTopDocsCollectorManager<TopFieldCollector, TopFieldDocs>(
+								() -> TopFieldCollector.create( sort, maxDocs, (FieldDoc) afterOrNull,
+										totalHitCountThreshold ),
+								TopFieldCollector::topDocs
+						) );
 			}
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
 		}
 
-		if ( topDocsCollector == null && totalHitCountThreshold > 0 ) {
+		if ( !hasTopDocs && totalHitCountThreshold > 0 ) {
 			// Normally the topDocsCollector collects the total hit count,
 			// but if it's not there and not all docs are matched, we need a separate collector.
 			// Note that adding this collector can have a significant cost in some situations
 			// (e.g. for queries matching many hits), so we only add it if it's really necessary.
-			TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY,
+					TotalHitCountCollectorManager.INSTANCE );
 		}
 		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
-		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
+		CollectorSet.Manager collectorManagerForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
 
 		return new LuceneCollectors(
 				metadataResolver,
 				indexSearcher,
 				rewrittenLuceneQuery,
 				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
-				collectorsForAllMatchingDocs,
+				collectorManagerForAllMatchingDocs,
 				storedFieldsSourceFactoryOrNull,
 				timeoutManager
 		);
 	}
 
+	private static FieldDoc toFieldDocOrNull(ScoreDoc scoreDoc) {
+		if ( scoreDoc == null || scoreDoc instanceof FieldDoc ) {
+			return (FieldDoc) scoreDoc;
+		}
+		// The shared manager of TopScoreDocCollector expects a FieldDoc, but only uses its doc ID and score.
+		return new FieldDoc( scoreDoc.doc, scoreDoc.score );
+	}
+
 	private boolean isDescendingScoreSort(Sort sort) {
 		SortField[] fields = sort.getSort();
 		return fields.length == 1 && isDescendingScoreSort( fields[0] );
@@ -133,10 +178,39 @@ private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 		return null;
 	}
 
+	/**
+	 * A collector manager for top docs that does not bother with sharing state between collectors,
+	 * because it is only used when the searcher has no executor, i.e. when it will create a single collector.
+	 */
+	private static final class SequentialTopDocsCollectorManager<C extends TopDocsCollector<?>, T extends TopDocs>
+			implements CollectorManager<C, T> {
+		private final Supplier<C> collectorSupplier;
+		private final Function<C, T> topDocsExtractor;
+
+		private SequentialTopDocsCollectorManager(Supplier<C> collectorSupplier, Function<C, T> topDocsExtractor) {
+			this.collectorSupplier = collectorSupplier;
+			this.topDocsExtractor = topDocsExtractor;
+		}
+
+		@Override
+		public C newCollector() {
+			return collectorSupplier.get();
+		}
+
+		@Override
+		public T reduce(Collection<C> collectors) {
+			if ( collectors.size() != 1 ) {
+				throw new AssertionFailure( "Expected exactly one top docs collector, got " + collectors.size() );
+			}
+			return topDocsExtractor.apply( collectors.iterator().next() );
+		}
+	}
+
 	public static class Builder {
 
 		private boolean requireScore;
-		private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
+		private boolean requireEntityLoading;
+		private final Set<CollectorFactory<?, ?, ?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
 
 		private boolean requireAllStoredFields = false;
 		private final Set<String> requiredStoredFields = new HashSet<>();
@@ -146,7 +220,12 @@ public void requireScore() {
 			this.requireScore = true;
 		}
 
-		public <C extends Collector> void requireCollectorForAllMatchingDocs(CollectorFactory<C> collectorFactory) {
+		public void requireEntityLoading() {
+			this.requireEntityLoading = true;
+		}
+
+		public <C extends Collector, T, CM extends CollectorManager<C, T>> void requireCollectorForAllMatchingDocs(
+				CollectorFactory<C, T, CM> collectorFactory) {
 			requiredCollectorForAllMatchingDocsFactories.add( collectorFactory );
 		}
 
@@ -8,9 +8,12 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.ConcurrentSearchHelper;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollector;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollectorExecutionContext;
@@ -22,7 +25,7 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.AssertionFailure;
 
-import org.apache.lucene.search.Collector;
+import com.carrotsearch.hppc.IntObjectMap;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -38,8 +41,8 @@
 
 public class LuceneCollectors {
 
-	static final CollectorKey<TotalHitCountCollector> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
-	static final CollectorKey<TopDocsCollector<?>> TOP_DOCS_KEY = CollectorKey.create();
+	static final CollectorKey<TotalHitCountCollector, Integer> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
+	static final CollectorKey<TopDocsCollector<?>, TopDocs> TOP_DOCS_KEY = CollectorKey.create();
 
 	private final IndexReaderMetadataResolver metadataResolver;
 
@@ -49,18 +52,19 @@ public class LuceneCollectors {
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
-	private final CollectorSet collectorsForAllMatchingDocs;
+	private final CollectorSet.Manager collectorManagerForAllMatchingDocs;
 	private final StoredFieldsValuesDelegate.Factory storedFieldsValuesDelegateOrNull;
 
 	private final TimeoutManager timeoutManager;
 
+	private CollectorSet collectorsForAllMatchingDocs = CollectorSet.EMPTY;
 	private SearchResultTotal resultTotal;
 	private TopDocs topDocs = null;
 
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher,
 			Query rewrittenLuceneQuery,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
-			CollectorSet collectorsForAllMatchingDocs,
+			CollectorSet.Manager collectorManagerForAllMatchingDocs,
 			StoredFieldsValuesDelegate.Factory storedFieldsValuesDelegateOrNull,
 			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
@@ -68,7 +72,7 @@ public class LuceneCollectors {
 		this.rewrittenLuceneQuery = rewrittenLuceneQuery;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
-		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.collectorManagerForAllMatchingDocs = collectorManagerForAllMatchingDocs;
 		this.storedFieldsValuesDelegateOrNull = storedFieldsValuesDelegateOrNull;
 		this.timeoutManager = timeoutManager;
 	}
@@ -88,18 +92,11 @@ public void collectMatchingDocs(int offset, Integer limit) throws IOException {
 			return;
 		}
 
-		try {
-			Collector composed = collectorsForAllMatchingDocs.getComposed();
-			if ( composed != null ) {
-				indexSearcher.search( rewrittenLuceneQuery, composed );
-			}
-		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
-			Deadline deadline = timeoutManager.deadlineOrNull();
-			if ( deadline == null ) {
-				throw new AssertionFailure( "Timeout reached, but no timeout was defined", e );
-			}
-			deadline.forceTimeout( e );
+		if ( !collectorManagerForAllMatchingDocs.isEmpty() ) {
+			// Index slices will be searched concurrently if the searcher has an executor.
+			collectorsForAllMatchingDocs = ConcurrentSearchHelper.search( indexSearcher, rewrittenLuceneQuery,
+					collectorManagerForAllMatchingDocs );
+			handleTimeout( collectorsForAllMatchingDocs.getTimeoutExceptionOrNull() );
 		}
 
 		processCollectedMatchingDocs( offset, limit );
@@ -111,22 +108,22 @@ private void processCollectedMatchingDocs(int offset, Integer limit) throws IOEx
 			resultTotal = SimpleSearchResultTotal.exact( indexSearcher.getIndexReader().numDocs() );
 		}
 		else {
-			TotalHitCountCollector totalHitCountCollector = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
-			if ( totalHitCountCollector != null ) {
+			Integer totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
+			if ( totalHitCount != null ) {
 				boolean exact = !timeoutManager.isTimedOut();
-				resultTotal = SimpleSearchResultTotal.of( totalHitCountCollector.getTotalHits(), exact );
+				resultTotal = SimpleSearchResultTotal.of( totalHitCount, exact );
 			}
 		}
 
-		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
-		if ( topDocsCollector == null ) {
+		TopDocs allTopDocs = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
+		if ( allTopDocs == null ) {
 			if ( resultTotal == null ) {
 				resultTotal = SimpleSearchResultTotal.lowerBound( 0 );
 			}
 			return;
 		}
 
-		extractTopDocs( topDocsCollector, offset, limit );
+		extractTopDocs( allTopDocs, offset, limit );
 		if ( resultTotal == null ) {
 			boolean exact = TotalHits.Relation.EQUAL_TO.equals( topDocs.totalHits.relation )
 					&& !timeoutManager.isTimedOut();
@@ -144,6 +141,22 @@ else if ( resultTotal.isHitCountExact() ) {
 		}
 	}
 
+	/**
+	 * Phase 1 (alternative): restore the outcome of a previous collection of matching docs,
+	 * which must have been performed on the same index reader.
+	 *
+	 * @param resultTotal The total hit count collected previously.
+	 * @param topDocs The top docs collected previously.
+	 * @param collectorsForAllMatchingDocs The data collected previously for all matching docs,
+	 * from which aggregations can be extracted.
+	 */
+	public void restoreMatchingDocs(SearchResultTotal resultTotal, TopDocs topDocs,
+			CollectorSet collectorsForAllMatchingDocs) {
+		this.resultTotal = resultTotal;
+		this.topDocs = topDocs;
+		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+	}
+
 	public CollectorSet getCollectorsForAllMatchingDocs() {
 		return collectorsForAllMatchingDocs;
 	}
@@ -161,22 +174,24 @@ public CollectorSet getCollectorsForAllMatchingDocs() {
 	public <T> List<T> collectTopDocsData(TopDocsDataCollector.Factory<T> collectorFactory,
 			int startInclusive, int endExclusive) throws IOException {
 		List<T> extractedData = new ArrayList<>( endExclusive - startInclusive );
-		try {
-			ScoreDoc[] scoreDocs = topDocs.scoreDocs;
-			ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( scoreDocs, startInclusive, endExclusive );
-			CollectorSet collectorsForTopDocs = buildTopDocsDataCollectors( collectorFactory );
-			indexSearcher.search( topDocsQuery, collectorsForTopDocs.getComposed() );
-			TopDocsDataCollector<T> topDocsDataCollector = collectorsForTopDocs.get( collectorFactory );
-			for ( int i = startInclusive; i < endExclusive; i++ ) {
-				extractedData.add( topDocsDataCollector.get( scoreDocs[i].doc ) );
-			}
+		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+		ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( scoreDocs, startInclusive, endExclusive );
+		CollectorSet.Manager collectorManagerForTopDocs = buildTopDocsDataCollectors( collectorFactory );
+		// Projections rely on state that is not thread-safe (loading, stored fields, ...),
+		// and only a few documents are involved anyway: always collect top docs data in the current thread.
+		CollectorSet.SliceCollector collectorForTopDocs = collectorManagerForTopDocs.newCollector();
+		indexSearcher.search( topDocsQuery, collectorForTopDocs );
+		CollectorSet collectorsForTopDocs =
+				collectorManagerForTopDocs.reduce( Collections.singletonList( collectorForTopDocs ) );
+		TimeLimitingCollector.TimeExceededException timeoutException = collectorsForTopDocs.getTimeoutExceptionOrNull();
+		if ( timeoutException != null ) {
+			// Data was not collected for all top docs: just return an empty list.
+			handleTimeout( timeoutException );
+			return extractedData;
 		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
-			Deadline deadline = timeoutManager.deadlineOrNull();
-			if ( deadline == null ) {
-				throw new AssertionFailure( "Timeout reached, but no timeout was defined", e );
-			}
-			deadline.forceTimeout( e );
+		IntObjectMap<T> topDocsData = collectorsForTopDocs.get( collectorFactory );
+		for ( int i = startInclusive; i < endExclusive; i++ ) {
+			extractedData.add( topDocsData.get( scoreDocs[i].doc ) );
 		}
 		return extractedData;
 	}
@@ -189,28 +204,37 @@ public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
-	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
-		if ( offset >= topDocsCollector.getTotalHits() ) {
-			// Hack.
-			// In this case, we cannot execute the code below as Lucene considers we passed incorrect arguments
-			// and returns a TopDocs instance with no ScoreDocs (correct)
-			// and a total hit count set to 0 (not always correct).
-			// Also, we cannot reconstruct the total hit count from just the collector
-			// since we don't have access to the relation (EQUAL/GT_OR_EQUAL).
-			// So we get just one topDoc, and infer everything from there.
-			TopDocs firstTopDoc = topDocsCollector.topDocs( 0, 1 );
-			topDocs = firstTopDoc instanceof TopFieldDocs
-					? new TopFieldDocs( firstTopDoc.totalHits, new FieldDoc[0], ( (TopFieldDocs) firstTopDoc ).fields )
-					: new TopDocs( firstTopDoc.totalHits, new ScoreDoc[0] );
+	private void extractTopDocs(TopDocs allTopDocs, int offset, Integer limit) {
+		// Collectors give us all top docs up to offset + limit: we need to skip those before the offset.
+		ScoreDoc[] allScoreDocs = allTopDocs.scoreDocs;
+		int startInclusive = Math.min( offset, allScoreDocs.length );
+		int endExclusive = limit == null ? allScoreDocs.length
+				: (int) Math.min( (long) offset + limit, allScoreDocs.length );
+		if ( startInclusive == 0 && endExclusive == allScoreDocs.length ) {
+			topDocs = allTopDocs;
 			return;
 		}
 
-		if ( limit == null ) {
-			topDocs = topDocsCollector.topDocs( offset );
+		if ( allTopDocs instanceof TopFieldDocs ) {
+			FieldDoc[] fieldDocs = Arrays.copyOfRange( allScoreDocs, startInclusive, endExclusive,
+					FieldDoc[].class );
+			topDocs = new TopFieldDocs( allTopDocs.totalHits, fieldDocs, ( (TopFieldDocs) allTopDocs ).fields );
 		}
 		else {
-			topDocs = topDocsCollector.topDocs( offset, limit );
+			topDocs = new TopDocs( allTopDocs.totalHits,
+					Arrays.copyOfRange( allScoreDocs, startInclusive, endExclusive ) );
+		}
+	}
+
+	private void handleTimeout(TimeLimitingCollector.TimeExceededException timeoutExceptionOrNull) {
+		if ( timeoutExceptionOrNull == null ) {
+			return;
+		}
+		Deadline deadline = timeoutManager.deadlineOrNull();
+		if ( deadline == null ) {
+			throw new AssertionFailure( "Timeout reached, but no timeout was defined", timeoutExceptionOrNull );
 		}
+		deadline.forceTimeout( timeoutExceptionOrNull );
 	}
 
 	private void handleRescoring() throws IOException {
@@ -228,7 +252,8 @@ private void handleRescoring() throws IOException {
 		}
 	}
 
-	private <T> CollectorSet buildTopDocsDataCollectors(TopDocsDataCollector.Factory<T> collectorFactory) throws IOException {
+	private <T> CollectorSet.Manager buildTopDocsDataCollectors(TopDocsDataCollector.Factory<T> collectorFactory)
+			throws IOException {
 		TopDocsDataCollectorExecutionContext executionContext = new TopDocsDataCollectorExecutionContext(
 				metadataResolver, indexSearcher,
 				rewrittenLuceneQuery,
@@ -238,7 +263,7 @@ private <T> CollectorSet buildTopDocsDataCollectors(TopDocsDataCollector.Factory
 
 		CollectorSet.Builder collectorForTopDocsBuilder =
 				new CollectorSet.Builder( executionContext, timeoutManager );
-		collectorForTopDocsBuilder.add( collectorFactory, collectorFactory.create( executionContext ) );
+		collectorForTopDocsBuilder.add( collectorFactory, collectorFactory.createCollectorManager( executionContext ) );
 		return collectorForTopDocsBuilder.build();
 	}
 }
@@ -29,6 +29,7 @@ public String toString() {
 
 	@Override
 	public Extractor<?, E> request(ProjectionRequestContext context) {
+		context.requireEntityLoading();
 		return this;
 	}
 
@@ -6,8 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
@@ -16,7 +18,9 @@
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStringFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
 import org.hibernate.search.engine.search.common.ValueConvert;
@@ -27,9 +31,13 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
 
 /**
  * A projection on the values of an index field.
@@ -45,23 +53,43 @@
 	private final String requiredContextAbsoluteFieldPath;
 
 	private final Function<IndexableField, F> decodeFunction;
+	// At most one of the two functions below is non-null;
+	// if one is, values are read from doc values instead of stored fields.
+	private final LongFunction<F> numericDocValueDecodeFunctionOrNull;
+	private final Function<BytesRef, F> sortedSetDocValueDecodeFunctionOrNull;
 	private final ProjectionConverter<F, ? extends V> converter;
 	private final ProjectionAccumulator.Provider<V, P> accumulatorProvider;
 
-	private LuceneFieldProjection(Builder<F, V> builder, ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
-		this( builder.scope, builder.field, builder.codec::decode, builder.converter, accumulatorProvider );
+	private LuceneFieldProjection(Builder<F, V> builder, ProjectionAccumulator.Provider<V, P> accumulatorProvider,
+			LongFunction<F> numericDocValueDecodeFunctionOrNull,
+			Function<BytesRef, F> sortedSetDocValueDecodeFunctionOrNull) {
+		this( builder.scope, builder.field, builder.codec::decode,
+				numericDocValueDecodeFunctionOrNull, sortedSetDocValueDecodeFunctionOrNull,
+				builder.converter, accumulatorProvider );
 	}
 
 	LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
 			LuceneSearchIndexValueFieldContext<?> field,
 			Function<IndexableField, F> decodeFunction, ProjectionConverter<F, ? extends V> converter,
 			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
+		this( scope, field, decodeFunction, null, null, converter, accumulatorProvider );
+	}
+
+	private LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
+			LuceneSearchIndexValueFieldContext<?> field,
+			Function<IndexableField, F> decodeFunction,
+			LongFunction<F> numericDocValueDecodeFunctionOrNull,
+			Function<BytesRef, F> sortedSetDocValueDecodeFunctionOrNull,
+			ProjectionConverter<F, ? extends V> converter,
+			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
 		super( scope );
 		this.absoluteFieldPath = field.absolutePath();
 		this.nestedDocumentPath = field.nestedDocumentPath();
 		this.requiredContextAbsoluteFieldPath = accumulatorProvider.isSingleValued()
 				? field.closestMultiValuedParentAbsolutePath() : null;
 		this.decodeFunction = decodeFunction;
+		this.numericDocValueDecodeFunctionOrNull = numericDocValueDecodeFunctionOrNull;
+		this.sortedSetDocValueDecodeFunctionOrNull = sortedSetDocValueDecodeFunctionOrNull;
 		this.converter = converter;
 		this.accumulatorProvider = accumulatorProvider;
 	}
@@ -82,7 +110,9 @@ public ValueFieldExtractor<?> request(ProjectionRequestContext context) {
 			throw log.invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(
 					absoluteFieldPath, requiredContextAbsoluteFieldPath );
 		}
-		context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		if ( numericDocValueDecodeFunctionOrNull == null && sortedSetDocValueDecodeFunctionOrNull == null ) {
+			context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		}
 		return new ValueFieldExtractor<>( context.absoluteCurrentFieldPath(), accumulatorProvider.get() );
 	}
 
@@ -109,7 +139,15 @@ public String toString() {
 
 		@Override
 		public Values<A> values(ProjectionExtractContext context) {
-			return new StoredFieldValues( accumulator, context.collectorExecutionContext() );
+			if ( numericDocValueDecodeFunctionOrNull != null ) {
+				return new NumericDocValuesValues( accumulator, context.collectorExecutionContext() );
+			}
+			else if ( sortedSetDocValueDecodeFunctionOrNull != null ) {
+				return new SortedSetDocValuesValues( accumulator, context.collectorExecutionContext() );
+			}
+			else {
+				return new StoredFieldValues( accumulator, context.collectorExecutionContext() );
+			}
 		}
 
 		private class StoredFieldValues extends AbstractNestingAwareAccumulatingValues<F, A> {
@@ -140,6 +178,59 @@ protected A accumulate(A accumulated, int docId) {
 			}
 		}
 
+		private class NumericDocValuesValues extends AbstractNestingAwareAccumulatingValues<F, A> {
+			private SortedNumericDocValues currentLeafValues;
+
+			public NumericDocValuesValues(ProjectionAccumulator<F, V, A, P> accumulator,
+					TopDocsDataCollectorExecutionContext context) {
+				super( contextAbsoluteFieldPath, nestedDocumentPath, accumulator, context );
+			}
+
+			@Override
+			protected DocIdSetIterator doContext(LeafReaderContext context) throws IOException {
+				currentLeafValues = DocValues.getSortedNumeric( context.reader(), absoluteFieldPath );
+				return currentLeafValues;
+			}
+
+			@Override
+			protected A accumulate(A accumulated, int docId) throws IOException {
+				if ( currentLeafValues.advanceExact( docId ) ) {
+					for ( int i = 0; i < currentLeafValues.docValueCount(); i++ ) {
+						F decoded = numericDocValueDecodeFunctionOrNull.apply( currentLeafValues.nextValue() );
+						accumulated = accumulator.accumulate( accumulated, decoded );
+					}
+				}
+				return accumulated;
+			}
+		}
+
+		private class SortedSetDocValuesValues extends AbstractNestingAwareAccumulatingValues<F, A> {
+			private SortedSetDocValues currentLeafValues;
+
+			public SortedSetDocValuesValues(ProjectionAccumulator<F, V, A, P> accumulator,
+					TopDocsDataCollectorExecutionContext context) {
+				super( contextAbsoluteFieldPath, nestedDocumentPath, accumulator, context );
+			}
+
+			@Override
+			protected DocIdSetIterator doContext(LeafReaderContext context) throws IOException {
+				currentLeafValues = DocValues.getSortedSet( context.reader(), absoluteFieldPath );
+				return currentLeafValues;
+			}
+
+			@Override
+			protected A accumulate(A accumulated, int docId) throws IOException {
+				if ( currentLeafValues.advanceExact( docId ) ) {
+					for ( long ord = currentLeafValues.nextOrd(); ord != SortedSetDocValues.NO_MORE_ORDS;
+							ord = currentLeafValues.nextOrd() ) {
+						F decoded = sortedSetDocValueDecodeFunctionOrNull.apply( currentLeafValues.lookupOrd( ord ) );
+						accumulated = accumulator.accumulate( accumulated, decoded );
+					}
+				}
+				return accumulated;
+			}
+		}
+
 		@Override
 		public P transform(LoadingResult<?, ?> loadingResult, A extractedData,
 				ProjectionTransformContext context) {
@@ -207,7 +298,47 @@ public <P> SearchProjection<P> build(ProjectionAccumulator.Provider<V, P> accumu
 			if ( accumulatorProvider.isSingleValued() && field.multiValued() ) {
 				throw log.invalidSingleValuedProjectionOnMultiValuedField( field.absolutePath(), field.eventContext() );
 			}
-			return new LuceneFieldProjection<>( this, accumulatorProvider );
+			if ( canUseDocValues() ) {
+				if ( codec instanceof AbstractLuceneNumericFieldCodec ) {
+					AbstractLuceneNumericFieldCodec<F, ?> numericCodec = (AbstractLuceneNumericFieldCodec<F, ?>) codec;
+					if ( numericCodec.hasLosslessDocValues() ) {
+						return new LuceneFieldProjection<>( this, accumulatorProvider,
+								numericCodec::decodeSortedDocValue, null );
+					}
+				}
+				else if ( codec instanceof LuceneStringFieldCodec
+						&& ( (LuceneStringFieldCodec) codec ).hasLosslessDocValues() ) {
+					@SuppressWarnings("unchecked") // F is String for string fields
+					Function<BytesRef, F> decodeFunction = bytesRef -> (F) bytesRef.utf8ToString();
+					return new LuceneFieldProjection<>( this, accumulatorProvider, null, decodeFunction );
+				}
+			}
+			return new LuceneFieldProjection<>( this, accumulatorProvider, null, null );
+		}
+
+		/**
+		 * Doc values are cheaper to read than stored fields, since they don't require loading the whole document,
+		 * but they are sorted, so we can only use them if there is at most one value per (nested) document.
+		 * <p>
+		 * Codec compatibility across indexes doesn't take doc values into account,
+		 * so we also restrict this to single-index scopes.
+		 *
+		 * @return {@code true} if it's possible to use doc values for this projection, provided the codec allows it.
+		 */
+		private boolean canUseDocValues() {
+			if ( field.multiValued() || scope.hibernateSearchIndexNames().size() != 1 ) {
+				return false;
+			}
+			String closestMultiValuedParentAbsolutePath = field.closestMultiValuedParentAbsolutePath();
+			if ( closestMultiValuedParentAbsolutePath == null ) {
+				return true;
+			}
+			// Values from multiple (flattened) objects end up in the same document,
+			// unless the multi-valued object is the nested document or one of its parents.
+			String nestedDocumentPath = field.nestedDocumentPath();
+			return nestedDocumentPath != null
+					&& ( nestedDocumentPath.equals( closestMultiValuedParentAbsolutePath )
+							|| nestedDocumentPath.startsWith( closestMultiValuedParentAbsolutePath + "." ) );
 		}
 	}
 }
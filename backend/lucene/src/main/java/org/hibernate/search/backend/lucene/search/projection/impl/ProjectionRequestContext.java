@@ -42,6 +42,10 @@ public void requireScore() {
 		extractionRequirementsBuilder.requireScore();
 	}
 
+	public void requireEntityLoading() {
+		extractionRequirementsBuilder.requireEntityLoading();
+	}
+
 	public void checkValidField(String absoluteFieldPath) {
 		if ( !FieldPaths.isStrictPrefix( absoluteCurrentFieldPath, absoluteFieldPath ) ) {
 			throw log.invalidContextForProjectionOnField( absoluteFieldPath, absoluteCurrentFieldPath );
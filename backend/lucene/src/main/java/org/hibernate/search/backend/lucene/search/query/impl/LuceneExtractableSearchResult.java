@@ -16,6 +16,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollectorExecutionContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.extraction.impl.CollectorSet;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.ProjectionExtractContext;
@@ -26,8 +27,10 @@
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocs;
 
 public class LuceneExtractableSearchResult<H> {
@@ -39,12 +42,14 @@
 	private final LuceneSearchProjection.Extractor<?, H> rootExtractor;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final TimeoutManager timeoutManager;
+	private final Sort keysetSortOrNull;
 
 	public LuceneExtractableSearchResult(LuceneSearchQueryRequestContext requestContext,
 			IndexSearcher indexSearcher,
 			LuceneCollectors luceneCollectors,
 			LuceneSearchProjection.Extractor<?, H> rootExtractor,
-			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations, TimeoutManager timeoutManager) {
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations, TimeoutManager timeoutManager,
+			Sort keysetSortOrNull) {
 		this.requestContext = requestContext;
 		this.fromDocumentValueConvertContext = new FromDocumentValueConvertContextImpl( requestContext.getSessionContext() );
 		this.indexSearcher = indexSearcher;
@@ -52,6 +57,7 @@ public LuceneExtractableSearchResult(LuceneSearchQueryRequestContext requestCont
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
 		this.timeoutManager = timeoutManager;
+		this.keysetSortOrNull = keysetSortOrNull;
 	}
 
 	public LuceneLoadableSearchResult<H> extract() throws IOException {
@@ -60,6 +66,7 @@ public LuceneLoadableSearchResult<H> extract() throws IOException {
 
 	public LuceneLoadableSearchResult<H> extract(int startInclusive, int endExclusive) throws IOException {
 		TopDocs topDocs = luceneCollectors.getTopDocs();
+		LuceneSearchCursor cursorOrNull = null;
 		if ( topDocs == null ) {
 			startInclusive = 0;
 			endExclusive = 0;
@@ -68,17 +75,21 @@ public LuceneLoadableSearchResult<H> extract(int startInclusive, int endExclusiv
 			ScoreDoc[] scoreDocs = topDocs.scoreDocs;
 			startInclusive = Math.min( startInclusive, scoreDocs.length );
 			endExclusive = Math.min( endExclusive, scoreDocs.length );
+			if ( keysetSortOrNull != null && startInclusive < endExclusive ) {
+				// Hits were collected with the keyset sort, so they are all field docs.
+				cursorOrNull = LuceneSearchCursor.of( keysetSortOrNull, (FieldDoc) scoreDocs[endExclusive - 1] );
+			}
 		}
 
 		ProjectionHitMapper<?, ?> projectionHitMapper = requestContext.getLoadingContext().createProjectionHitMapper();
 		List<Object> extractedData = extractHits( projectionHitMapper, startInclusive, endExclusive );
 
-		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
-				Collections.emptyMap() : extractAggregations();
+		Map<AggregationKey<?>, ?> extractedAggregations =
+				aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations();
 
 		return new LuceneLoadableSearchResult<>(
 				fromDocumentValueConvertContext, rootExtractor,
-				luceneCollectors.getResultTotal(), luceneCollectors.getTopDocs(),
+				luceneCollectors.getResultTotal(), luceneCollectors.getTopDocs(), cursorOrNull,
 				extractedData, extractedAggregations, projectionHitMapper,
 				timeoutManager.tookTime(),
 				timeoutManager.isTimedOut(),
@@ -91,10 +102,18 @@ public int hitSize() {
 		return ( topDocs == null ) ? 0 : topDocs.scoreDocs.length;
 	}
 
+	ScoreDoc scoreDoc(int index) {
+		return luceneCollectors.getTopDocs().scoreDocs[index];
+	}
+
 	SearchResultTotal total() {
 		return luceneCollectors.getResultTotal();
 	}
 
+	CollectorSet collectorsForAllMatchingDocs() {
+		return luceneCollectors.getCollectorsForAllMatchingDocs();
+	}
+
 	private List<Object> extractHits(ProjectionHitMapper<?, ?> projectionHitMapper, int startInclusive,
 			int endExclusive) throws IOException {
 		TopDocs topDocs = luceneCollectors.getTopDocs();
@@ -42,6 +42,7 @@
 
 	private final SearchResultTotal resultTotal;
 	private final TopDocs topDocs;
+	private final LuceneSearchCursor cursorOrNull;
 
 	private List<Object> extractedData;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
@@ -52,7 +53,8 @@
 
 	LuceneLoadableSearchResult(FromDocumentValueConvertContext fromDocumentValueConvertContext,
 			LuceneSearchProjection.Extractor<?, H> rootExtractor,
-			SearchResultTotal resultTotal, TopDocs topDocs, List<Object> extractedData,
+			SearchResultTotal resultTotal, TopDocs topDocs, LuceneSearchCursor cursorOrNull,
+			List<Object> extractedData,
 			Map<AggregationKey<?>, ?> extractedAggregations,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			Duration took, boolean timedOut, TimeoutManager timeoutManager) {
@@ -60,6 +62,7 @@
 		this.rootExtractor = rootExtractor;
 		this.resultTotal = resultTotal;
 		this.topDocs = topDocs;
+		this.cursorOrNull = cursorOrNull;
 		this.extractedData = extractedData;
 		this.extractedAggregations = extractedAggregations;
 		this.projectionHitMapper = projectionHitMapper;
@@ -68,6 +71,22 @@
 		this.timeoutManager = timeoutManager;
 	}
 
+	SearchResultTotal total() {
+		return resultTotal;
+	}
+
+	TopDocs topDocs() {
+		return topDocs;
+	}
+
+	Map<AggregationKey<?>, ?> aggregations() {
+		return extractedAggregations;
+	}
+
+	TimeoutManager timeoutManager() {
+		return timeoutManager;
+	}
+
 	LuceneSearchResult<H> loadBlocking() {
 		ProjectionTransformContext transformContext = new ProjectionTransformContext(
 				fromDocumentValueConvertContext );
@@ -102,6 +121,7 @@ LuceneSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new LuceneSearchResultImpl<>( resultTotal, loadedHits, extractedAggregations, took, timedOut, topDocs );
+		return new LuceneSearchResultImpl<>( resultTotal, loadedHits, extractedAggregations, took, timedOut, topDocs,
+				cursorOrNull );
 	}
 }
@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.engine.search.query.SearchCursor;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A cursor pointing to a Lucene hit, i.e. its sort values for the "keyset" sort of a query.
+ * <p>
+ * The keyset sort is the sort of the query, followed by the mapped type name and the document identifier.
+ * A document identifier is only unique within an index, but each index has its own mapped type,
+ * so the sort values of a hit identify that hit regardless of the index reader,
+ * even when the query targets multiple indexes,
+ * and hits with identical sort values are always returned in the same order.
+ */
+final class LuceneSearchCursor implements SearchCursor {
+
+	private static final SortField MAPPED_TYPE_NAME_SORT_FIELD =
+			new SortField( MetadataFields.internalFieldName( "mapped_type_name" ),
+					MappedTypeNameComparatorSource.INSTANCE );
+
+	private static final SortField ID_SORT_FIELD =
+			new SortField( MetadataFields.idFieldName(), SortField.Type.STRING_VAL );
+
+	/**
+	 * @param luceneSortOrNull The sort of a query, or {@code null} for queries sorted by score.
+	 * @return The sort to use when fetching hits of that query after a cursor.
+	 */
+	static Sort keysetSort(Sort luceneSortOrNull) {
+		SortField[] sortFields = luceneSortOrNull == null
+				? new SortField[] { SortField.FIELD_SCORE }
+				: luceneSortOrNull.getSort();
+		SortField[] keysetSortFields = Arrays.copyOf( sortFields, sortFields.length + 2 );
+		keysetSortFields[sortFields.length] = MAPPED_TYPE_NAME_SORT_FIELD;
+		keysetSortFields[sortFields.length + 1] = ID_SORT_FIELD;
+		return new Sort( keysetSortFields );
+	}
+
+	static LuceneSearchCursor of(Sort keysetSort, FieldDoc fieldDoc) {
+		Object[] values = new Object[fieldDoc.fields.length];
+		for ( int i = 0; i < values.length; i++ ) {
+			Object value = fieldDoc.fields[i];
+			// Sort values may point to buffers reused by the index reader.
+			values[i] = value instanceof BytesRef ? BytesRef.deepCopyOf( (BytesRef) value ) : value;
+		}
+		return new LuceneSearchCursor( keysetSort.getSort(), values );
+	}
+
+	private final SortField[] sortFields;
+	private final Object[] values;
+
+	private LuceneSearchCursor(SortField[] sortFields, Object[] values) {
+		this.sortFields = sortFields;
+		this.values = values;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "sort=" + Arrays.toString( sortFields )
+				+ ", values=" + Arrays.toString( values )
+				+ "]";
+	}
+
+	FieldDoc after() {
+		// The mapped type name and document identifier are the last sort values,
+		// and together they are unique among all targeted indexes,
+		// so Lucene will never need to break ties using the doc ID:
+		// pass the highest possible doc ID to make sure the hit itself is excluded.
+		return new FieldDoc( Integer.MAX_VALUE, Float.NaN, values.clone() );
+	}
+
+	/**
+	 * @param keysetSort The keyset sort of a query, see {@link #keysetSort(Sort)}.
+	 * @return {@code true} if this cursor was retrieved from a query with the same keyset sort,
+	 * i.e. if its sort values can be used to locate hits of the given query.
+	 */
+	boolean isCompatibleWith(Sort keysetSort) {
+		SortField[] otherSortFields = keysetSort.getSort();
+		if ( otherSortFields.length != sortFields.length ) {
+			return false;
+		}
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			SortField sortField = sortFields[i];
+			SortField otherSortField = otherSortFields[i];
+			if ( !Objects.equals( sortField.getField(), otherSortField.getField() )
+					|| sortField.getType() != otherSortField.getType()
+					|| sortField.getReverse() != otherSortField.getReverse() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
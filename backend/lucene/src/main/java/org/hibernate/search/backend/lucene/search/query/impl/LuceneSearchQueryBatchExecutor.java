@@ -0,0 +1,166 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchItem;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Executes batches of Lucene search queries.
+ * <p>
+ * Queries targeting the same indexes (with the same routing keys) are executed on a single index reader,
+ * so that they all see the same snapshot of the indexes and the reader is only opened once.
+ * When there are multiple queries, searches are executed in parallel in the async search threads,
+ * while entity loading happens in the calling thread.
+ */
+final class LuceneSearchQueryBatchExecutor implements SearchQueryBatchExecutor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+
+	LuceneSearchQueryBatchExecutor(LuceneSyncWorkOrchestrator queryOrchestrator) {
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		LuceneSearchQueryBatchExecutor other = (LuceneSearchQueryBatchExecutor) obj;
+		return queryOrchestrator == other.queryOrchestrator;
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode( queryOrchestrator );
+	}
+
+	@Override
+	public void execute(List<? extends SearchQueryBatchItem<?>> items) {
+		Map<Object, IndexReaderHolder> indexReaders = new LinkedHashMap<>();
+		List<Execution<?>> executions = new ArrayList<>( items.size() );
+		try {
+			for ( SearchQueryBatchItem<?> item : items ) {
+				executions.add( createExecution( item, indexReaders ) );
+			}
+
+			boolean parallel = executions.size() > 1;
+			for ( Execution<?> execution : executions ) {
+				execution.startSearch( parallel );
+			}
+			// Loading must happen in the calling thread, so we do it sequentially.
+			for ( Execution<?> execution : executions ) {
+				execution.load();
+			}
+		}
+		finally {
+			// Make sure no search is still using the readers before closing them.
+			for ( Execution<?> execution : executions ) {
+				execution.awaitSearch();
+			}
+			for ( IndexReaderHolder holder : indexReaders.values() ) {
+				holder.close();
+			}
+		}
+	}
+
+	private <H> Execution<H> createExecution(SearchQueryBatchItem<H> item,
+			Map<Object, IndexReaderHolder> indexReaders) {
+		LuceneSearchQueryImpl<H> query = (LuceneSearchQueryImpl<H>) item.query();
+		IndexReaderHolder holder = indexReaders.computeIfAbsent( query.indexReaderKey(),
+				ignored -> new IndexReaderHolder( query.indexNames(), query.openIndexReader() ) );
+		return new Execution<>( item, query, holder.indexReader );
+	}
+
+	private static final class IndexReaderHolder {
+		private final Set<String> indexNames;
+		private final HibernateSearchMultiReader indexReader;
+
+		private IndexReaderHolder(Set<String> indexNames, HibernateSearchMultiReader indexReader) {
+			this.indexNames = indexNames;
+			this.indexReader = indexReader;
+		}
+
+		void close() {
+			try {
+				indexReader.close();
+			}
+			catch (IOException | RuntimeException e) {
+				log.unableToCloseIndexReader( EventContexts.fromIndexNames( indexNames ), e );
+			}
+		}
+	}
+
+	private final class Execution<H> {
+		private final SearchQueryBatchItem<H> item;
+		private final LuceneSearchQueryImpl<H> query;
+		private final HibernateSearchMultiReader indexReader;
+
+		private CompletableFuture<LuceneLoadableSearchResult<H>> searchFuture;
+
+		private Execution(SearchQueryBatchItem<H> item, LuceneSearchQueryImpl<H> query,
+				HibernateSearchMultiReader indexReader) {
+			this.item = item;
+			this.query = query;
+			this.indexReader = indexReader;
+		}
+
+		void startSearch(boolean parallel) {
+			if ( parallel ) {
+				searchFuture = queryOrchestrator.executeAsync( this::search );
+			}
+			else {
+				searchFuture = Futures.create( () -> CompletableFuture.completedFuture( search() ) );
+			}
+		}
+
+		void load() {
+			LuceneLoadableSearchResult<H> loadableResult;
+			try {
+				loadableResult = Futures.unwrappedExceptionJoin( searchFuture );
+			}
+			catch (RuntimeException e) {
+				item.completeExceptionally( e );
+				return;
+			}
+			// Loading failures are not specific to this query: let them propagate,
+			// the batch will report them for this query and all remaining ones.
+			item.complete( query.loadForBatch( loadableResult ) );
+		}
+
+		void awaitSearch() {
+			if ( searchFuture != null ) {
+				// Ignore the outcome: failures are reported through the item.
+				Futures.unwrappedExceptionJoin( searchFuture.handle( ( result, throwable ) -> null ) );
+			}
+		}
+
+		private LuceneLoadableSearchResult<H> search() {
+			return query.searchForBatch( indexReader, item.offset(), item.limit() );
+		}
+	}
+}
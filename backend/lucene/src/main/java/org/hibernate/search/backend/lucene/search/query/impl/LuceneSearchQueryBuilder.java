@@ -16,6 +16,7 @@
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
@@ -40,7 +41,6 @@
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.sort.SearchSort;
-import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.BooleanClause;
@@ -220,14 +220,17 @@ public LuceneSearchQuery<H> build() {
 		}
 		ExtractionRequirements extractionRequirements = extractionRequirementsBuilder.build();
 
-		TimeoutManager timeoutManager = scope.createTimeoutManager( timeout, timeUnit, exceptionOnTimeout );
+		// Query results are cached per index: only queries targeting a single index can be cached.
+		LuceneQueryResultCache queryResultCache = scope.indexes().size() == 1
+				? scope.indexes().iterator().next().queryResultCacheOrNull()
+				: null;
 
 		LuceneSearcherImpl<H> searcher = new LuceneSearcherImpl<>(
 				requestContext,
 				rootExtractor,
 				aggregations == null ? Collections.emptyMap() : aggregations,
 				extractionRequirements,
-				timeoutManager
+				queryResultCache
 		);
 
 		return new LuceneSearchQueryImpl<>(
@@ -236,10 +239,11 @@ public LuceneSearchQuery<H> build() {
 				sessionContext,
 				loadingContext,
 				routingKeys,
-				timeoutManager,
+				timeout, timeUnit, exceptionOnTimeout,
 				definitiveLuceneQuery,
 				luceneSort,
-				searcher, totalHitCountThreshold
+				searcher, totalHitCountThreshold,
+				extractionRequirements.requireEntityLoading()
 		);
 	}
 }
@@ -7,9 +7,12 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -27,13 +30,16 @@
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 
@@ -53,29 +59,35 @@
 	private final Sort luceneSort;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher;
 	private final Long totalHitCountThreshold;
+	private final boolean loadsEntities;
 
-	private TimeoutManager timeoutManager;
+	private Long timeoutValue;
+	private TimeUnit timeoutUnit;
+	private boolean exceptionOnTimeout;
 
 	LuceneSearchQueryImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchQueryIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContext<?, ?> loadingContext,
 			Set<String> routingKeys,
-			TimeoutManager timeoutManager,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
 			Query luceneQuery, Sort luceneSort,
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
-			Long totalHitCountThreshold) {
+			Long totalHitCountThreshold, boolean loadsEntities) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.scope = scope;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
 		this.routingKeys = routingKeys;
-		this.timeoutManager = timeoutManager;
+		this.timeoutValue = timeoutValue;
+		this.timeoutUnit = timeoutUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.loadsEntities = loadsEntities;
 	}
 
 	@Override
@@ -97,30 +109,68 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
-		return doFetch( offset, limit, true );
+		TimeoutManager timeoutManager = createTimeoutManager();
+		return doFetch( timeoutManager, workFactory.search( searcher, timeoutManager, offset, limit,
+				totalHitCountThreshold( true ) ) );
+	}
+
+	@Override
+	public LuceneSearchResult<H> fetchAfter(SearchCursor cursor, Integer limit) {
+		Sort keysetSort = LuceneSearchCursor.keysetSort( luceneSort );
+		FieldDoc afterOrNull = null;
+		if ( cursor != null ) {
+			if ( !( cursor instanceof LuceneSearchCursor )
+					|| !( (LuceneSearchCursor) cursor ).isCompatibleWith( keysetSort ) ) {
+				throw log.invalidSearchCursor( cursor );
+			}
+			afterOrNull = ( (LuceneSearchCursor) cursor ).after();
+		}
+		TimeoutManager timeoutManager = createTimeoutManager();
+		return doFetch( timeoutManager, workFactory.searchAfter( searcher, timeoutManager, keysetSort, afterOrNull,
+				limit, totalHitCountThreshold( true ) ) );
+	}
+
+	@Override
+	public CompletionStage<LuceneSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		// Entities are loaded through the session, which must not be used from another thread.
+		if ( loadsEntities ) {
+			throw log.cannotFetchAsyncWithEntityLoading();
+		}
+		// Searching the index and extracting hits happen in the async search thread,
+		// so that the calling thread is never blocked.
+		// Each execution gets its own timeout manager, since several may run concurrently.
+		return queryOrchestrator.executeAsync( () -> fetch( offset, limit ) );
 	}
 
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
-		return doFetch( offset, limit, false ).hits();
+		TimeoutManager timeoutManager = createTimeoutManager();
+		return doFetch( timeoutManager, workFactory.search( searcher, timeoutManager, offset, limit,
+				totalHitCountThreshold( false ) ) ).hits();
 	}
 
 	@Override
 	public long fetchTotalHitCount() {
+		TimeoutManager timeoutManager = createTimeoutManager();
 		timeoutManager.start();
-		ReadWork<Integer> work = workFactory.count( searcher );
+		ReadWork<Integer> work = workFactory.count( searcher, timeoutManager );
 		Integer result = doSubmit( work );
 		timeoutManager.stop();
 		return result;
 	}
 
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return queryOrchestrator.executeAsync( this::fetchTotalHitCount );
+	}
+
 	@Override
 	public LuceneSearchScroll<H> scroll(int chunkSize) {
 		Set<String> indexNames = scope.hibernateSearchIndexNames();
 		HibernateSearchMultiReader indexReader = HibernateSearchMultiReader.open(
 				indexNames, scope.indexes(), routingKeys );
-		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, scope, routingKeys, timeoutManager,
-				searcher, totalHitCountThreshold( true ), indexReader, chunkSize );
+		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, scope, routingKeys,
+				createTimeoutManager(), searcher, totalHitCountThreshold( true ), indexReader, chunkSize );
 	}
 
 	@Override
@@ -159,6 +209,11 @@ public Explanation explain(String typeName, Object id) {
 		return doExplain( typeName, documentId );
 	}
 
+	@Override
+	public Optional<SearchQueryBatchExecutor> batchExecutor() {
+		return Optional.of( new LuceneSearchQueryBatchExecutor( queryOrchestrator ) );
+	}
+
 	@Override
 	public Sort luceneSort() {
 		return luceneSort;
@@ -166,15 +221,19 @@ public Sort luceneSort() {
 
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
-		// replace the timeout manager on already created query instance
-		timeoutManager = scope.createTimeoutManager( timeout, timeUnit, true );
-		searcher.setTimeoutManager( timeoutManager );
+		// applies to executions started after this call
+		this.timeoutValue = timeout;
+		this.timeoutUnit = timeUnit;
+		this.exceptionOnTimeout = true;
+	}
+
+	private TimeoutManager createTimeoutManager() {
+		return scope.createTimeoutManager( timeoutValue, timeoutUnit, exceptionOnTimeout );
 	}
 
-	private LuceneSearchResult<H> doFetch(Integer offset, Integer limit, boolean trackTotalHitCount) {
+	private LuceneSearchResult<H> doFetch(TimeoutManager timeoutManager,
+			ReadWork<LuceneLoadableSearchResult<H>> work) {
 		timeoutManager.start();
-		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit,
-				totalHitCountThreshold( trackTotalHitCount ) );
 		LuceneSearchResult<H> result = doSubmit( work )
 				/*
 				 * WARNING: the following call must run in the user thread.
@@ -188,7 +247,53 @@ private LuceneSearchResult<H> doFetch(Integer offset, Integer limit, boolean tra
 		return result;
 	}
 
+	/**
+	 * @return A key identifying the index readers this query targets:
+	 * queries with equal keys can be executed on the same index reader.
+	 */
+	Object indexReaderKey() {
+		return Arrays.asList( scope.hibernateSearchIndexNames(), routingKeys );
+	}
+
+	Set<String> indexNames() {
+		return scope.hibernateSearchIndexNames();
+	}
+
+	HibernateSearchMultiReader openIndexReader() {
+		return HibernateSearchMultiReader.open( scope.hibernateSearchIndexNames(), scope.indexes(), routingKeys );
+	}
+
+	/**
+	 * Executes the search part of {@link #fetch(Integer, Integer)} on the given index reader,
+	 * to be followed by a call to {@link #loadForBatch(LuceneLoadableSearchResult)}.
+	 * <p>
+	 * Each call uses its own timeout manager, carried by the returned result,
+	 * since the same query may be executed multiple times concurrently in a batch.
+	 */
+	LuceneLoadableSearchResult<H> searchForBatch(HibernateSearchMultiReader indexReader,
+			Integer offset, Integer limit) {
+		TimeoutManager timeoutManager = createTimeoutManager();
+		timeoutManager.start();
+		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, timeoutManager, offset, limit,
+				totalHitCountThreshold( true ) );
+		return queryOrchestrator.submit(
+				scope.hibernateSearchIndexNames(),
+				scope.indexes(),
+				routingKeys,
+				work,
+				indexReader
+		);
+	}
+
+	LuceneSearchResult<H> loadForBatch(LuceneLoadableSearchResult<H> loadableResult) {
+		// WARNING: this must run in the user thread, see doFetch.
+		LuceneSearchResult<H> result = loadableResult.loadBlocking();
+		loadableResult.timeoutManager().stop();
+		return result;
+	}
+
 	private Explanation doExplain(String typeName, String id) {
+		TimeoutManager timeoutManager = createTimeoutManager();
 		timeoutManager.start();
 		Query filter = scope.filterOrNull( sessionContext.tenantIdentifier() );
 		ReadWork<Explanation> work = workFactory.explain(
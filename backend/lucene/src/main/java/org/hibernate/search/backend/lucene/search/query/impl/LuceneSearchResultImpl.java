@@ -23,8 +23,8 @@
 	private final TopDocs topDocs;
 
 	LuceneSearchResultImpl(SearchResultTotal resultTotal, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
-			Duration took, Boolean timedOut, TopDocs topDocs) {
-		super( resultTotal, hits, aggregationResults, took, timedOut );
+			Duration took, Boolean timedOut, TopDocs topDocs, LuceneSearchCursor cursorOrNull) {
+		super( resultTotal, hits, aggregationResults, took, timedOut, cursorOrNull );
 		this.topDocs = topDocs;
 	}
 
@@ -24,27 +24,40 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.ScoreDoc;
+
 public class LuceneSearchScrollImpl<H> implements LuceneSearchScroll<H> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * The maximum number of top docs to fetch in a single page,
+	 * unless the chunk size requires more.
+	 * Each page is collected with "search after" semantics,
+	 * so larger pages only help by reducing the number of executed queries,
+	 * at the cost of memory.
+	 */
+	private static final int MAX_PAGE_LIMIT = 10_000;
+
 	// shared with its query instance:
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSearchQueryIndexScope<?> scope;
 	private final Set<String> routingKeys;
-	private final TimeoutManager timeoutManager;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher;
 	private final int totalHitCountThreshold;
 
 	// specific to this scroll instance:
+	private final TimeoutManager timeoutManager;
 	private final HibernateSearchMultiReader indexReader;
 	private final int chunkSize;
+	private final int maxPageLimit;
 
 	private int nextChunkOffset = 0;
 	private int currentPageLimit;
 	private LuceneExtractableSearchResult<H> currentPage;
 	private int currentPageOffset = 0;
+	private ScoreDoc lastReturnedScoreDoc;
 
 	public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchQueryIndexScope<?> scope,
@@ -63,6 +76,7 @@ public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 		this.indexReader = indexReader;
 		this.chunkSize = chunkSize;
 		this.currentPageLimit = chunkSize * 4; // Will fetch the topdocs for the first 4 pages initially
+		this.maxPageLimit = Math.max( currentPageLimit, MAX_PAGE_LIMIT );
 	}
 
 	@Override
@@ -89,11 +103,16 @@ public LuceneSearchScrollResult<H> next() {
 	private LuceneSearchScrollResult<H> doNext() {
 		if ( currentPage == null || nextChunkOffset + chunkSize > currentPageLimit + currentPageOffset ) {
 			if ( currentPage != null ) {
-				currentPageLimit *= 2;
+				currentPageLimit = (int) Math.min( currentPageLimit * 2L, maxPageLimit );
 			}
 			currentPageOffset = nextChunkOffset;
+			// The index reader is the same for the whole scroll, so Lucene doc IDs are stable:
+			// we can simply collect the top docs after the last returned hit,
+			// instead of collecting all top docs up to the new offset and skipping most of them.
+			// Hits with the same sort values are ordered by doc ID, so there is no risk of skipping or repeating hits.
 			currentPage = doSubmitWithIndexReader(
-					workFactory.scroll( searcher, currentPageOffset, currentPageLimit, totalHitCountThreshold ),
+					workFactory.scroll( searcher, timeoutManager, lastReturnedScoreDoc, currentPageLimit,
+							totalHitCountThreshold ),
 					indexReader );
 		}
 
@@ -105,7 +124,7 @@ private LuceneSearchScrollResult<H> doNext() {
 					timeoutManager.tookTime(), timeoutManager.isTimedOut() );
 		}
 
-		int nextChunkEndIndexInPage = nextChunkStartIndexInPage + chunkSize;
+		int nextChunkEndIndexInPage = Math.min( nextChunkStartIndexInPage + chunkSize, currentPage.hitSize() );
 
 		LuceneLoadableSearchResult<H> loadableSearchResult;
 		try {
@@ -127,6 +146,7 @@ private LuceneSearchScrollResult<H> doNext() {
 
 		// increasing the index for further next(s)
 		nextChunkOffset += chunkSize;
+		lastReturnedScoreDoc = currentPage.scoreDoc( nextChunkEndIndexInPage - 1 );
 		return new LuceneSearchScrollResultImpl<>( currentPage.total(), true, result.hits(),
 				result.took(), result.timedOut() );
 	}
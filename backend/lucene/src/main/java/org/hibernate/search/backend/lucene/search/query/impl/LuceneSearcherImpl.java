@@ -9,11 +9,16 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.Objects;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.ConcurrentSearchHelper;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.FacetsCollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TimeoutCountCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.extraction.impl.CollectorSet;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
@@ -24,10 +29,15 @@
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
 
 class LuceneSearcherImpl<H> implements LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> {
 
@@ -42,19 +52,18 @@
 	private final LuceneSearchProjection.Extractor<?, H> rootExtractor;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
-
-	private TimeoutManager timeoutManager;
+	private final LuceneQueryResultCache queryResultCacheOrNull;
 
 	LuceneSearcherImpl(LuceneSearchQueryRequestContext requestContext,
 			LuceneSearchProjection.Extractor<?, H> rootExtractor,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
-			TimeoutManager timeoutManager) {
+			LuceneQueryResultCache queryResultCacheOrNull) {
 		this.requestContext = requestContext;
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
-		this.timeoutManager = timeoutManager;
+		this.queryResultCacheOrNull = queryResultCacheOrNull;
 	}
 
 	@Override
@@ -69,20 +78,65 @@ public String toString() {
 
 	@Override
 	public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold) throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold ).extract();
+			IndexReaderMetadataResolver metadataResolver, TimeoutManager timeoutManager,
+			Sort keysetSortOrNull, FieldDoc afterOrNull, int offset, Integer limit, int totalHitCountThreshold)
+			throws IOException {
+		// Searches after a cursor are generally not repeated: don't bother caching them.
+		Object cacheGeneration = keysetSortOrNull == null ? cacheGenerationOrNull( indexSearcher ) : null;
+		if ( cacheGeneration == null ) {
+			return doSearch( indexSearcher, metadataResolver, timeoutManager, keysetSortOrNull, afterOrNull,
+					offset, limit, totalHitCountThreshold )
+					.extract();
+		}
+
+		SearchCacheKey cacheKey = new SearchCacheKey( requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
+				aggregations, extractionRequirements.requireScore(), offset, limit, totalHitCountThreshold );
+		CachedSearchResult cachedResult = queryResultCacheOrNull.get( cacheKey, cacheGeneration );
+		if ( cachedResult != null ) {
+			// Same query, same index reader: we only need to extract hits and aggregations.
+			// Aggregations are extracted again from the collected data,
+			// so that their keys are converted in the context of the current session
+			// and each caller gets its own instances.
+			LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, timeoutManager,
+					null, null, 0, 0 );
+			CollectorSet collectorsForAllMatchingDocs = cachedResult.facetsCollectorOrNull == null
+					? CollectorSet.EMPTY
+					// The top-level reader is a new instance, even though the leaves are the same.
+					: CollectorSet.of( FacetsCollectorFactory.KEY,
+							FacetsCollectorFactory.rebase( cachedResult.facetsCollectorOrNull,
+									indexSearcher.getIndexReader() ) );
+			luceneCollectors.restoreMatchingDocs( cachedResult.resultTotal, cachedResult.topDocs,
+					collectorsForAllMatchingDocs );
+			return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
+					rootExtractor, aggregations, timeoutManager, null )
+					.extract();
+		}
+
+		LuceneExtractableSearchResult<H> extractableResult = doSearch( indexSearcher, metadataResolver,
+				timeoutManager, null, null, offset, limit, totalHitCountThreshold );
+		LuceneLoadableSearchResult<H> result = extractableResult.extract();
+		// Partial results must not be reused.
+		if ( !timeoutManager.isTimedOut() ) {
+			queryResultCacheOrNull.put( cacheKey, cacheGeneration,
+					new CachedSearchResult( result.total(), result.topDocs(),
+							// Aggregations are extracted from the documents collected by this collector.
+							extractableResult.collectorsForAllMatchingDocs().get( FacetsCollectorFactory.KEY ) ) );
+		}
+		return result;
 	}
 
 	@Override
 	public LuceneExtractableSearchResult<H> scroll(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold) throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold );
+			IndexReaderMetadataResolver metadataResolver, TimeoutManager timeoutManager,
+			ScoreDoc afterOrNull, int limit, int totalHitCountThreshold) throws IOException {
+		// Only collect hits after the last hit of the previous chunk, see LuceneSearchScrollImpl.
+		return doSearch( indexSearcher, metadataResolver, timeoutManager, null, afterOrNull, 0, limit,
+				totalHitCountThreshold );
 	}
 
 	private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver,
+			IndexReaderMetadataResolver metadataResolver, TimeoutManager timeoutManager,
+			Sort keysetSortOrNull, ScoreDoc afterOrNull,
 			int offset, Integer limit, int totalHitCountThreshold) throws IOException {
 		if ( limit != null && (long) offset + limit > Integer.MAX_VALUE ) {
 			throw log.offsetLimitExceedsMaxValue( offset, limit );
@@ -92,22 +146,41 @@ private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 
 		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
 		LuceneCollectors luceneCollectors = ( limit != null || maxDocs <= PREFETCH_HITS_SIZE ) ?
-				collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, maxDocs, totalHitCountThreshold ) :
-				collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, limit, maxDocs, totalHitCountThreshold );
+				collectMatchingDocs( indexSearcher, metadataResolver, timeoutManager, keysetSortOrNull, afterOrNull,
+						offset, limit, maxDocs, totalHitCountThreshold ) :
+				collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, timeoutManager, keysetSortOrNull,
+						afterOrNull, offset, limit, maxDocs, totalHitCountThreshold );
 
 		return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
-				rootExtractor, aggregations, timeoutManager );
+				rootExtractor, aggregations, timeoutManager, keysetSortOrNull );
 	}
 
 	@Override
-	public int count(IndexSearcher indexSearcher) throws IOException {
+	public int count(IndexSearcher indexSearcher, TimeoutManager timeoutManager) throws IOException {
+		Object cacheGeneration = cacheGenerationOrNull( indexSearcher );
+		if ( cacheGeneration == null ) {
+			return doCount( indexSearcher, timeoutManager );
+		}
+
+		CountCacheKey cacheKey = new CountCacheKey( requestContext.getLuceneQuery() );
+		Integer cachedCount = queryResultCacheOrNull.get( cacheKey, cacheGeneration );
+		if ( cachedCount != null ) {
+			return cachedCount;
+		}
+
+		int count = doCount( indexSearcher, timeoutManager );
+		queryResultCacheOrNull.put( cacheKey, cacheGeneration, count );
+		return count;
+	}
+
+	private int doCount(IndexSearcher indexSearcher, TimeoutManager timeoutManager) throws IOException {
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
 
 		// Handling the hard timeout.
 		// Soft timeout has no sense in case of count,
 		// since there is no possible to have partial result.
 		if ( timeoutManager.hasHardTimeout() ) {
-			return indexSearcher.search(
+			return ConcurrentSearchHelper.search( indexSearcher,
 					requestContext.getLuceneQuery(), new TimeoutCountCollectorManager( timeoutManager.deadlineOrNull() ) );
 		}
 
@@ -124,32 +197,35 @@ public Query getLuceneQueryForExceptions() {
 		return requestContext.getLuceneQuery();
 	}
 
-	@Override
-	public void setTimeoutManager(TimeoutManager timeoutManager) {
-		this.timeoutManager = timeoutManager;
+	private Object cacheGenerationOrNull(IndexSearcher indexSearcher) {
+		return queryResultCacheOrNull == null ? null
+				: LuceneQueryResultCache.generation( indexSearcher.getIndexReader() );
 	}
 
 	private LuceneCollectors collectMatchingDocs(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit,
-			int maxDocs, int totalHitCountThreshold) throws IOException {
-		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver,
-				maxDocs, totalHitCountThreshold );
+			IndexReaderMetadataResolver metadataResolver, TimeoutManager timeoutManager,
+			Sort keysetSortOrNull, ScoreDoc afterOrNull,
+			int offset, Integer limit, int maxDocs, int totalHitCountThreshold) throws IOException {
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, timeoutManager,
+				keysetSortOrNull, afterOrNull, maxDocs, totalHitCountThreshold );
 		luceneCollectors.collectMatchingDocs( offset, limit );
 		return luceneCollectors;
 	}
 
 	private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit,
-			int maxDocs, int totalHitCountThreshold) throws IOException {
+			IndexReaderMetadataResolver metadataResolver, TimeoutManager timeoutManager,
+			Sort keysetSortOrNull, ScoreDoc afterOrNull,
+			int offset, Integer limit, int maxDocs, int totalHitCountThreshold) throws IOException {
 
 		// prefetch:
-		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, offset, limit,
-				PREFETCH_HITS_SIZE, Math.max( totalHitCountThreshold, PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) );
+		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, timeoutManager,
+				keysetSortOrNull, afterOrNull, offset, limit, PREFETCH_HITS_SIZE, Math.max( totalHitCountThreshold, PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) );
 
 		SearchResultTotal resultTotal = luceneCollectors.getResultTotal();
 		if ( resultTotal.isHitCountLowerBound() || resultTotal.hitCount() > PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) {
 			// if the total hit count is unbounded, we need to execute the unbounded query
-			return collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, maxDocs, maxDocs );
+			return collectMatchingDocs( indexSearcher, metadataResolver, timeoutManager, keysetSortOrNull,
+					afterOrNull, offset, limit, maxDocs, maxDocs );
 		}
 
 		if ( resultTotal.hitCount() < PREFETCH_HITS_SIZE ) {
@@ -159,13 +235,15 @@ private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSear
 
 		// if the total hit count is in the middle between the two cases above, we can execute a bounded query
 		int exactHitCount = Math.toIntExact( resultTotal.hitCount() );
-		return collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, exactHitCount, exactHitCount );
+		return collectMatchingDocs( indexSearcher, metadataResolver, timeoutManager, keysetSortOrNull,
+				afterOrNull, offset, limit, exactHitCount, exactHitCount );
 	}
 
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int maxDocs, int totalHitCountThreshold) throws IOException {
+			TimeoutManager timeoutManager, Sort keysetSortOrNull, ScoreDoc afterOrNull, int maxDocs, int totalHitCountThreshold) throws IOException {
+		Sort sort = keysetSortOrNull != null ? keysetSortOrNull : requestContext.getLuceneSort();
 		return extractionRequirements.createCollectors(
-				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
+				indexSearcher, requestContext.getLuceneQuery(), sort, afterOrNull,
 				metadataResolver, maxDocs, timeoutManager, totalHitCountThreshold
 		);
 	}
@@ -181,4 +259,88 @@ else if ( limit.equals( 0 ) ) {
 			return Math.min( offset + limit, reader.maxDoc() );
 		}
 	}
+
+	private static final class SearchCacheKey {
+		private final Query luceneQuery;
+		private final Sort luceneSort;
+		private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
+		private final boolean requireScore;
+		private final int offset;
+		private final Integer limit;
+		private final int totalHitCountThreshold;
+
+		private SearchCacheKey(Query luceneQuery, Sort luceneSort,
+				Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
+				boolean requireScore, int offset, Integer limit, int totalHitCountThreshold) {
+			this.luceneQuery = luceneQuery;
+			this.luceneSort = luceneSort;
+			this.aggregations = aggregations;
+			this.requireScore = requireScore;
+			this.offset = offset;
+			this.limit = limit;
+			this.totalHitCountThreshold = totalHitCountThreshold;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			SearchCacheKey other = (SearchCacheKey) obj;
+			return luceneQuery.equals( other.luceneQuery )
+					&& Objects.equals( luceneSort, other.luceneSort )
+					&& aggregations.equals( other.aggregations )
+					&& requireScore == other.requireScore
+					&& offset == other.offset
+					&& Objects.equals( limit, other.limit )
+					&& totalHitCountThreshold == other.totalHitCountThreshold;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( luceneQuery, luceneSort, aggregations, requireScore, offset, limit,
+					totalHitCountThreshold );
+		}
+	}
+
+	private static final class CountCacheKey {
+		private final Query luceneQuery;
+
+		private CountCacheKey(Query luceneQuery) {
+			this.luceneQuery = luceneQuery;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			CountCacheKey other = (CountCacheKey) obj;
+			return luceneQuery.equals( other.luceneQuery );
+		}
+
+		@Override
+		public int hashCode() {
+			return luceneQuery.hashCode();
+		}
+	}
+
+	private static final class CachedSearchResult {
+		private final SearchResultTotal resultTotal;
+		private final TopDocs topDocs;
+		private final FacetsCollector facetsCollectorOrNull;
+
+		private CachedSearchResult(SearchResultTotal resultTotal, TopDocs topDocs,
+				FacetsCollector facetsCollectorOrNull) {
+			this.resultTotal = resultTotal;
+			this.topDocs = topDocs;
+			this.facetsCollectorOrNull = facetsCollectorOrNull;
+		}
+	}
 }
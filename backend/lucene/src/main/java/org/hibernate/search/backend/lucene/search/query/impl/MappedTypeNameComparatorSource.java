@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.FieldComparator;
+import org.apache.lucene.search.FieldComparatorSource;
+import org.apache.lucene.search.SimpleFieldComparator;
+
+/**
+ * Sorts documents by the name of the mapped type of their index.
+ * <p>
+ * The mapped type name is not stored in documents:
+ * it is resolved for each leaf reader, from the {@link HibernateSearchMultiReader} the leaf belongs to.
+ */
+final class MappedTypeNameComparatorSource extends FieldComparatorSource {
+
+	static final MappedTypeNameComparatorSource INSTANCE = new MappedTypeNameComparatorSource();
+
+	private MappedTypeNameComparatorSource() {
+	}
+
+	@Override
+	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
+		return new MappedTypeNameComparator( numHits );
+	}
+
+	private static final class MappedTypeNameComparator extends SimpleFieldComparator<String> {
+
+		private final String[] values;
+		private String bottom;
+		private String top;
+		private String currentLeafValue;
+
+		MappedTypeNameComparator(int numHits) {
+			this.values = new String[numHits];
+		}
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) {
+			HibernateSearchMultiReader topLevelReader =
+					(HibernateSearchMultiReader) ReaderUtil.getTopLevelContext( context ).reader();
+			currentLeafValue = topLevelReader.getMetadataResolver().resolveMappedTypeName( context );
+		}
+
+		@Override
+		public int compare(int slot1, int slot2) {
+			return values[slot1].compareTo( values[slot2] );
+		}
+
+		@Override
+		public void setBottom(int slot) {
+			bottom = values[slot];
+		}
+
+		@Override
+		public void setTopValue(String value) {
+			top = value;
+		}
+
+		@Override
+		public int compareBottom(int doc) {
+			return bottom.compareTo( currentLeafValue );
+		}
+
+		@Override
+		public int compareTop(int doc) {
+			return top.compareTo( currentLeafValue );
+		}
+
+		@Override
+		public void copy(int slot, int doc) {
+			values[slot] = currentLeafValue;
+		}
+
+		@Override
+		public String value(int slot) {
+			return values[slot];
+		}
+	}
+}
@@ -12,6 +12,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.FacetsCollectorFactory;
@@ -53,6 +54,24 @@
 		this.minDocCount = builder.minDocCount;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		AbstractLuceneFacetsBasedTermsAggregation<?, ?, ?> other = (AbstractLuceneFacetsBasedTermsAggregation<?, ?, ?>) obj;
+		// Converters are shared by all aggregations on the same field: identity is enough.
+		return fromFieldValueConverter == other.fromFieldValueConverter
+				&& order == other.order
+				&& maxTermCount == other.maxTermCount
+				&& minDocCount == other.minDocCount;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), order, maxTermCount, minDocCount );
+	}
+
 	@Override
 	public void request(AggregationRequestContext context) {
 		context.requireCollector( FacetsCollectorFactory.INSTANCE );
@@ -106,7 +125,7 @@ abstract Set<T> collectFirstTerms(IndexReader reader, boolean descending, int li
 	abstract F termToFieldValue(T key);
 
 	private List<Bucket<T>> getTopBuckets(AggregationExtractContext context) throws IOException {
-		FacetsCollector facetsCollector = context.getCollector( FacetsCollectorFactory.KEY );
+		FacetsCollector facetsCollector = context.getCollectorResult( FacetsCollectorFactory.KEY );
 
 		NestedDocsProvider nestedDocsProvider = createNestedDocsProvider( context );
 
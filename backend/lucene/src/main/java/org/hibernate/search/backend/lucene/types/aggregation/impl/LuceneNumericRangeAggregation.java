@@ -57,6 +57,23 @@ private LuceneNumericRangeAggregation(Builder<F, E, K> builder) {
 		this.encodedRangesInOrder = builder.encodedRangesInOrder;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericRangeAggregation<?, ?, ?> other = (LuceneNumericRangeAggregation<?, ?, ?>) obj;
+		// Codecs are shared by all aggregations on the same field: identity is enough.
+		return codec == other.codec
+				&& rangesInOrder.equals( other.rangesInOrder )
+				&& encodedRangesInOrder.equals( other.encodedRangesInOrder );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + rangesInOrder.hashCode();
+	}
+
 	@Override
 	public void request(AggregationRequestContext context) {
 		context.requireCollector( FacetsCollectorFactory.INSTANCE );
@@ -66,7 +83,7 @@ public void request(AggregationRequestContext context) {
 	public Map<Range<K>, Long> extract(AggregationExtractContext context) throws IOException {
 		LuceneNumericDomain<E> numericDomain = codec.getDomain();
 
-		FacetsCollector facetsCollector = context.getCollector( FacetsCollectorFactory.KEY );
+		FacetsCollector facetsCollector = context.getCollectorResult( FacetsCollectorFactory.KEY );
 
 		NestedDocsProvider nestedDocsProvider = createNestedDocsProvider( context );
 
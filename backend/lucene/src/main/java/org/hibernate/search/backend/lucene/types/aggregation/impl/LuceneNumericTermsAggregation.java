@@ -50,6 +50,21 @@ private LuceneNumericTermsAggregation(Builder<F, E, K> builder) {
 		this.termComparator = numericDomain.createComparator();
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericTermsAggregation<?, ?, ?> other = (LuceneNumericTermsAggregation<?, ?, ?>) obj;
+		// Codecs are shared by all aggregations on the same field: identity is enough.
+		return codec == other.codec;
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode();
+	}
+
 	@Override
 	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider, int limit) throws IOException {
@@ -65,6 +65,26 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 
 	public abstract F decode(E encoded);
 
+	/**
+	 * @return {@code true} if doc values are enabled for this field
+	 * and {@link #decodeSortedDocValue(long) decoding} them returns exactly the value that was indexed,
+	 * in which case projections can rely on doc values instead of stored fields.
+	 */
+	public final boolean hasLosslessDocValues() {
+		return DocValues.ENABLED == docValues && isEncodingLossless();
+	}
+
+	public final F decodeSortedDocValue(long docValue) {
+		return decode( getDomain().sortedDocValueToTerm( docValue ) );
+	}
+
+	/**
+	 * @return {@code true} if {@code decode( encode( value ) )} always returns a value equal to {@code value}.
+	 */
+	boolean isEncodingLossless() {
+		return false;
+	}
+
 	public abstract LuceneNumericDomain<E> getDomain();
 
 	abstract void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath,
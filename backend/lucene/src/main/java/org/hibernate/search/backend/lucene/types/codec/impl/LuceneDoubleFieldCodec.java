@@ -40,6 +40,11 @@ public Double decode(Double encoded) {
 		return encoded;
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Double> getDomain() {
 		return LuceneDoubleDomain.get();
@@ -40,6 +40,11 @@ public Float decode(Float encoded) {
 		return encoded;
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Float> getDomain() {
 		return LuceneFloatDomain.get();
@@ -40,6 +40,11 @@ public Integer decode(Integer encoded) {
 		return encoded;
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
@@ -69,6 +69,11 @@ public LocalTime decode(Long encoded) {
 		return LocalTime.ofNanoOfDay( encoded );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
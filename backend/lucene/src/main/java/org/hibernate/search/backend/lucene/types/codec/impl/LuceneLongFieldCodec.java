@@ -40,6 +40,11 @@ public Long decode(Long encoded) {
 		return encoded;
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
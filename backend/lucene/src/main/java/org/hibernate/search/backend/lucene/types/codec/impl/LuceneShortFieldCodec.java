@@ -41,6 +41,11 @@ public Short decode(Integer encoded) {
 		return encoded.shortValue();
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
@@ -73,6 +73,15 @@ public String encode(String value) {
 		return value;
 	}
 
+	/**
+	 * @return {@code true} if doc values are enabled for this field
+	 * and contain exactly the value that was indexed (no normalization),
+	 * in which case projections can rely on doc values instead of stored fields.
+	 */
+	public boolean hasLosslessDocValues() {
+		return DocValues.ENABLED.equals( docValues ) && analyzerOrNormalizer == AnalyzerConstants.KEYWORD_ANALYZER;
+	}
+
 	private BytesRef normalize(String absoluteFieldPath, String value) {
 		if ( value == null ) {
 			return null;
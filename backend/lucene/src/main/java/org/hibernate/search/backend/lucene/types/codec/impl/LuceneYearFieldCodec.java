@@ -43,6 +43,11 @@ public Year decode(Integer encoded) {
 		return Year.of( encoded );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
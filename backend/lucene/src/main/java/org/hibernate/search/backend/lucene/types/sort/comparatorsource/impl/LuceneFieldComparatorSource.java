@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 
 import org.apache.lucene.search.FieldComparatorSource;
@@ -13,11 +15,37 @@
 
 public abstract class LuceneFieldComparatorSource extends FieldComparatorSource {
 
+	private final String nestedDocumentPath;
+	private final Query filter;
 	protected NestedDocsProvider nestedDocsProvider;
 
 	public LuceneFieldComparatorSource(String nestedDocumentPath, Query filter) {
+		this.nestedDocumentPath = nestedDocumentPath;
+		this.filter = filter;
 		this.nestedDocsProvider = nestedDocumentPath == null ? null
 				: new NestedDocsProvider( nestedDocumentPath, filter );
 	}
 
+	/*
+	 * Equality is necessary for SortField equality, which the query result cache relies on.
+	 */
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		LuceneFieldComparatorSource other = (LuceneFieldComparatorSource) obj;
+		return Objects.equals( nestedDocumentPath, other.nestedDocumentPath )
+				&& Objects.equals( filter, other.filter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( getClass(), nestedDocumentPath, filter );
+	}
+
 }
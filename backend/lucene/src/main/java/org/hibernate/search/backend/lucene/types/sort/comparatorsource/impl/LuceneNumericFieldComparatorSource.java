@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
 import org.apache.lucene.search.FieldComparator;
@@ -25,6 +27,22 @@ public LuceneNumericFieldComparatorSource(String nestedDocumentPath, LuceneNumer
 		this.sortMode = sortMode;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericFieldComparatorSource<?> other = (LuceneNumericFieldComparatorSource<?>) obj;
+		return numericDomain == other.numericDomain
+				&& Objects.equals( missingValue, other.missingValue )
+				&& sortMode == other.sortMode;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hashCode( missingValue );
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
 		return numericDomain.createFieldComparator( fieldname, numHits, missingValue, reversed, sortPos,
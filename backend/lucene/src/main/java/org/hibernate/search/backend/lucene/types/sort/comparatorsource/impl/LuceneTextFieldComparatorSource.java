@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
 import java.io.IOException;
+import java.util.Objects;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ReplaceMissingSortedDocValues;
@@ -30,6 +31,21 @@ public LuceneTextFieldComparatorSource(String nestedDocumentPath, Object missing
 		this.multiValueMode = multiValueMode;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneTextFieldComparatorSource other = (LuceneTextFieldComparatorSource) obj;
+		return Objects.equals( missingValue, other.missingValue )
+				&& multiValueMode == other.multiValueMode;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hashCode( missingValue );
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
 		final boolean sortMissingLast = missingLast() ^ reversed;
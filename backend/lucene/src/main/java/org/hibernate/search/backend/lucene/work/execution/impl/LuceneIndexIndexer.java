@@ -108,14 +108,18 @@ private <T> CompletableFuture<T> submit(String documentId, String routingKey, In
 			// so as to be sure that the commit/refresh is executed in the background,
 			// not in the current thread.
 			// It's important because we don't want to block the current thread.
-			futureForCaller = futureForOrchestrator.thenApply( result -> {
-				if ( needsCommit ) {
-					orchestrator.forceCommitInCurrentThread();
-				}
-				if ( needsRefresh ) {
-					orchestrator.forceRefreshInCurrentThread();
-				}
-				return result;
+			// The commit itself is executed by a separate task,
+			// so that the orchestrator can keep applying works while it's in progress.
+			futureForCaller = futureForOrchestrator.thenCompose( result -> {
+				CompletableFuture<?> commitFuture = needsCommit
+						? orchestrator.forceCommit()
+						: CompletableFuture.completedFuture( null );
+				return commitFuture.thenApply( ignored -> {
+					if ( needsRefresh ) {
+						orchestrator.forceRefreshInCurrentThread();
+					}
+					return result;
+				} );
 			} );
 		}
 		else {
@@ -66,7 +66,12 @@ CompletableFuture<MultiEntityOperationExecutionReport<R>> execute() {
 		CompletableFuture<MultiEntityOperationExecutionReport<R>> reportFuture = CompletableFuture.allOf( futures )
 				// We don't care about the throwable, as it comes from a work and
 				// work failures are handled in onAllWorksFinished
-				.handle( (result, throwable) -> onAllWorksFinished() );
+				.handle( (result, throwable) -> (Void) null )
+				// The commit is executed by a separate task,
+				// so that the orchestrator can keep applying works while it's in progress.
+				.thenCompose( ignored -> commitAsNecessary() )
+				.handle( Futures.<Object, MultiEntityOperationExecutionReport<R>>handler(
+						(result, throwable) -> onAllWorksFinished( throwable ) ) );
 
 		for ( int i = 0; i < works.size(); i++ ) {
 			CompletableFuture<Long> future = futures[i];
@@ -77,25 +82,31 @@ CompletableFuture<MultiEntityOperationExecutionReport<R>> execute() {
 		return reportFuture;
 	}
 
-	private MultiEntityOperationExecutionReport<R> onAllWorksFinished() {
-		Throwable commitOrRefreshThrowable = null;
-		try {
-			commitOrRefreshAsNecessary();
-		}
-		catch (RuntimeException e) {
-			commitOrRefreshThrowable = e;
+	private MultiEntityOperationExecutionReport<R> onAllWorksFinished(Throwable commitThrowable) {
+		Throwable commitOrRefreshThrowable = commitThrowable;
+		if ( commitOrRefreshThrowable == null ) {
+			try {
+				refreshAsNecessary();
+			}
+			catch (RuntimeException e) {
+				commitOrRefreshThrowable = e;
+			}
 		}
+		// Else, we'll skip the refresh, but that's okay: the underlying writers/readers are reset anyway.
 
 		return buildReport( commitOrRefreshThrowable );
 	}
 
-	private void commitOrRefreshAsNecessary() {
+	private CompletableFuture<?> commitAsNecessary() {
 		if ( DocumentCommitStrategy.FORCE == commitStrategy ) {
-			// In case of failure, just propagate the exception.
-			// We'll skip the refresh, but that's okay: the underlying writers/readers are reset anyway.
-			orchestrator.forceCommitInCurrentThread();
+			return orchestrator.forceCommit();
 		}
+		else {
+			return CompletableFuture.completedFuture( null );
+		}
+	}
 
+	private void refreshAsNecessary() {
 		if ( DocumentRefreshStrategy.FORCE == refreshStrategy ) {
 			orchestrator.forceRefreshInCurrentThread();
 		}
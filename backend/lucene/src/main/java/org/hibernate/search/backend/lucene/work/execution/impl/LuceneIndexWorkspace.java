@@ -6,18 +6,23 @@
  */
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.IndexManagementWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class LuceneIndexWorkspace implements IndexWorkspace {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final LuceneWorkFactory factory;
 	private final WorkExecutionIndexManagerContext indexManagerContext;
 	private final DetachedBackendSessionContext sessionContext;
@@ -54,6 +59,25 @@ public CompletableFuture<?> refresh() {
 		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.refresh(), false );
 	}
 
+	@Override
+	public CompletableFuture<?> startRebuild() {
+		String tenantId = sessionContext.tenantIdentifier();
+		if ( tenantId != null ) {
+			throw log.unableToRebuildIndexForSingleTenant( tenantId );
+		}
+		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.startRebuild(), false );
+	}
+
+	@Override
+	public CompletableFuture<?> finishRebuild() {
+		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.finishRebuild(), false );
+	}
+
+	@Override
+	public CompletableFuture<?> abortRebuild() {
+		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.abortRebuild(), false );
+	}
+
 	private <T> CompletableFuture<?> doSubmit(List<LuceneParallelWorkOrchestrator> orchestrators,
 			IndexManagementWork<T> work, boolean commit) {
 		CompletableFuture<?>[] writeFutures = new CompletableFuture[orchestrators.size()];
@@ -65,10 +89,10 @@ private <T> CompletableFuture<?> doSubmit(List<LuceneParallelWorkOrchestrator> o
 			writeFutures[i] = writeFuture;
 			if ( commit ) {
 				// Add the post-execution action to the future *before* submitting the work,
-				// so as to be sure that the commit is executed in the background,
+				// so as to be sure that the commit is triggered in the background,
 				// not in the current thread.
 				// It's important because we don't want to block the current thread.
-				writeAndCommitFutures[i] = writeFutures[i].thenRun( orchestrator::forceCommitInCurrentThread );
+				writeAndCommitFutures[i] = writeFutures[i].thenCompose( ignored -> orchestrator.forceCommit() );
 			}
 			else {
 				writeAndCommitFutures[i] = writeFuture;
@@ -6,6 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+
+import org.apache.lucene.index.Term;
+
 public abstract class AbstractSingleDocumentIndexingWork extends AbstractIndexingWork<Long>
 		implements SingleDocumentIndexingWork {
 
@@ -49,4 +53,8 @@ public Object getEntityIdentifier() {
 	public String getQueuingKey() {
 		return documentIdentifier;
 	}
+
+	Term idTerm() {
+		return new Term( MetadataFields.idFieldName(), documentIdentifier );
+	}
 }
@@ -40,4 +40,8 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	LuceneIndexEntry indexEntry() {
+		return indexEntry;
+	}
+
 }
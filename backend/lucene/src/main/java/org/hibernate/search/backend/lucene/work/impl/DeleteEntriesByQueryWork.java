@@ -10,6 +10,7 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -36,13 +37,18 @@ public String toString() {
 
 	@Override
 	public Long execute(IndexManagementWorkExecutionContext context) {
+		IndexAccessor indexAccessor = context.getIndexAccessor();
+		indexAccessor.beginWrites();
 		try {
-			IndexWriterDelegator indexWriterDelegator = context.getIndexAccessor().getIndexWriterDelegator();
+			IndexWriterDelegator indexWriterDelegator = indexAccessor.getIndexWriterDelegator();
 			return indexWriterDelegator.deleteDocuments( query );
 		}
 		catch (IOException e) {
 			throw log.unableToDeleteAllEntriesFromIndex( query, e.getMessage(), context.getEventContext(), e );
 		}
+		finally {
+			indexAccessor.endWrites();
+		}
 	}
 
 	@Override
@@ -10,7 +10,6 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -36,7 +35,7 @@ public class DeleteEntryWork extends AbstractSingleDocumentIndexingWork {
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
 			IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
-			Term idTerm = new Term( MetadataFields.idFieldName(), documentIdentifier );
+			Term idTerm = idTerm();
 			if ( filter == null ) {
 				// Pass the term directly instead of a query: presumably more efficient.
 				return indexWriterDelegator.deleteDocuments( idTerm );
@@ -52,4 +51,8 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	Query filterOrNull() {
+		return filter;
+	}
+
 }
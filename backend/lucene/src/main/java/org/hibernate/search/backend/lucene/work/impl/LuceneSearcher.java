@@ -12,22 +12,30 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 
 public interface LuceneSearcher<R, ER> {
 
+	/**
+	 * @param keysetSortOrNull The sort to use instead of the query sort when fetching hits after a cursor,
+	 * or {@code null} to use the query sort.
+	 * If non-null, the result will expose a cursor pointing to its last hit.
+	 * @param afterOrNull The sort values of the hit after which hits should be collected, or {@code null}.
+	 * Only used if {@code keysetSortOrNull} is non-null.
+	 */
 	R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold) throws IOException;
+			TimeoutManager timeoutManager, Sort keysetSortOrNull, FieldDoc afterOrNull, int offset, Integer limit, int totalHitCountThreshold) throws IOException;
 
 	ER scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold) throws IOException;
+			TimeoutManager timeoutManager, ScoreDoc afterOrNull, int limit, int totalHitCountThreshold) throws IOException;
 
-	int count(IndexSearcher indexSearcher) throws IOException;
+	int count(IndexSearcher indexSearcher, TimeoutManager timeoutManager) throws IOException;
 
 	Explanation explain(IndexSearcher indexSearcher, int luceneDocId) throws IOException;
 
 	Query getLuceneQueryForExceptions();
-
-	void setTimeoutManager(TimeoutManager timeoutManager);
 }
@@ -14,10 +14,14 @@
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 
 public final class LuceneWorkFactory {
 
@@ -51,6 +55,18 @@ public IndexManagementWork<?> mergeSegments() {
 		return new MergeSegmentsWork();
 	}
 
+	public IndexManagementWork<?> startRebuild() {
+		return new StartRebuildWork();
+	}
+
+	public IndexManagementWork<?> finishRebuild() {
+		return new FinishRebuildWork();
+	}
+
+	public IndexManagementWork<?> abortRebuild() {
+		return new AbortRebuildWork();
+	}
+
 	public IndexManagementWork<Long> computeSizeInBytes() {
 		return new ComputeSizeInBytesWork();
 	}
@@ -87,16 +103,24 @@ public IndexManagementWork<?> deleteAll(String tenantId, Set<String> routingKeys
 		return new DeleteEntriesByQueryWork( Queries.boolFilter( new MatchAllDocsQuery(), filters ) );
 	}
 
-	public <R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, Integer limit, int totalHitCountThreshold) {
-		return new SearchWork<>( searcher, offset, limit, totalHitCountThreshold );
+	public <R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, TimeoutManager timeoutManager,
+			Integer offset, Integer limit, int totalHitCountThreshold) {
+		return new SearchWork<>( searcher, timeoutManager, null, null, offset, limit, totalHitCountThreshold );
+	}
+
+	public <R> ReadWork<R> searchAfter(LuceneSearcher<R, ?> searcher, TimeoutManager timeoutManager,
+			Sort keysetSort, FieldDoc afterOrNull, Integer limit, int totalHitCountThreshold) {
+		return new SearchWork<>( searcher, timeoutManager, keysetSort, afterOrNull, null, limit,
+				totalHitCountThreshold );
 	}
 
-	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold) {
-		return new ScrollWork<>( searcher, offset, limit, totalHitCountThreshold );
+	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, TimeoutManager timeoutManager,
+			ScoreDoc afterOrNull, int limit, int totalHitCountThreshold) {
+		return new ScrollWork<>( searcher, timeoutManager, afterOrNull, limit, totalHitCountThreshold );
 	}
 
-	public ReadWork<Integer> count(LuceneSearcher<?, ?> searcher) {
-		return new CountWork( searcher );
+	public ReadWork<Integer> count(LuceneSearcher<?, ?> searcher, TimeoutManager timeoutManager) {
+		return new CountWork( searcher, timeoutManager );
 	}
 
 	public ReadWork<Explanation> explain(LuceneSearcher<?, ?> searcher,
@@ -10,9 +10,11 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
 
 
 public class ScrollWork<ER> implements ReadWork<ER> {
@@ -20,15 +22,18 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final LuceneSearcher<?, ER> searcher;
+	private final TimeoutManager timeoutManager;
 
-	private final int offset;
+	private final ScoreDoc afterOrNull;
 	private final int limit;
 	private final int totalHitCountThreshold;
 
-	ScrollWork(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold) {
-		this.offset = offset;
+	ScrollWork(LuceneSearcher<?, ER> searcher, TimeoutManager timeoutManager, ScoreDoc afterOrNull, int limit,
+			int totalHitCountThreshold) {
+		this.afterOrNull = afterOrNull;
 		this.limit = limit;
 		this.searcher = searcher;
+		this.timeoutManager = timeoutManager;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
 
@@ -37,8 +42,8 @@ public ER execute(ReadWorkExecutionContext context) {
 		try {
 			IndexSearcher indexSearcher = context.createSearcher();
 
-			return searcher.scroll( indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit,
-					totalHitCountThreshold );
+			return searcher.scroll( indexSearcher, context.getIndexReaderMetadataResolver(), timeoutManager,
+					afterOrNull, limit, totalHitCountThreshold );
 		}
 		catch (IOException e) {
 			throw log.ioExceptionOnQueryExecution( searcher.getLuceneQueryForExceptions(), e.getMessage(),
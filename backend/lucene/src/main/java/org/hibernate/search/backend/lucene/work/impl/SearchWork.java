@@ -10,9 +10,12 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Sort;
 
 
 public class SearchWork<R> implements ReadWork<R> {
@@ -20,17 +23,23 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final LuceneSearcher<R, ?> searcher;
+	private final TimeoutManager timeoutManager;
 
+	private final Sort keysetSortOrNull;
+	private final FieldDoc afterOrNull;
 	private final int offset;
 	private final Integer limit;
 	private final int totalHitCountThreshold;
 
-	SearchWork(LuceneSearcher<R, ?> searcher,
+	SearchWork(LuceneSearcher<R, ?> searcher, TimeoutManager timeoutManager, Sort keysetSortOrNull, FieldDoc afterOrNull,
 			Integer offset, Integer limit,
 			int totalHitCountThreshold) {
+		this.keysetSortOrNull = keysetSortOrNull;
+		this.afterOrNull = afterOrNull;
 		this.offset = offset == null ? 0 : offset;
 		this.limit = limit;
 		this.searcher = searcher;
+		this.timeoutManager = timeoutManager;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
 
@@ -40,7 +49,9 @@ public R execute(ReadWorkExecutionContext context) {
 			IndexSearcher indexSearcher = context.createSearcher();
 
 			return searcher.search(
-					indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit, totalHitCountThreshold
+					indexSearcher, context.getIndexReaderMetadataResolver(), timeoutManager,
+					keysetSortOrNull, afterOrNull,
+					offset, limit, totalHitCountThreshold
 			);
 		}
 		catch (IOException e) {
@@ -54,6 +65,8 @@ public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
 				.append( "[" )
 				.append( "searcher=" ).append( searcher )
+				.append( ", keysetSort=" ).append( keysetSortOrNull )
+				.append( ", after=" ).append( afterOrNull )
 				.append( ", offset=" ).append( offset )
 				.append( ", limit=" ).append( limit )
 				.append( ", totalHitCountThreshold=" ).append( totalHitCountThreshold )
@@ -0,0 +1,276 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+
+/**
+ * A group of single-document indexing works applied to the index writer in as few calls as possible.
+ * <p>
+ * See {@link #group(List)}.
+ */
+public final class SingleDocumentIndexingWorkBulk {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * Splits a sequence of single-document indexing works into bulks.
+	 * <p>
+	 * Consecutive works of the same kind are grouped into the same bulk.
+	 * Adds and updates followed by an update of the same document in the same sequence are skipped:
+	 * they are attached to the last update, but not executed.
+	 * Bulks must be executed in the returned order.
+	 *
+	 * @param works The works to group, in the order they were submitted.
+	 * @return The bulks.
+	 */
+	public static List<SingleDocumentIndexingWorkBulk> group(List<? extends SingleDocumentIndexingWork> works) {
+		int workCount = works.size();
+
+		int[] supersedingWorkIndex = new int[workCount];
+		Map<List<String>, Integer> lastUpdateIndexByDocument = new HashMap<>();
+		for ( int i = workCount - 1; i >= 0; i-- ) {
+			supersedingWorkIndex[i] = -1;
+			AbstractSingleDocumentIndexingWork work = (AbstractSingleDocumentIndexingWork) works.get( i );
+			List<String> documentKey = Arrays.asList( work.tenantId, work.documentIdentifier );
+			Integer lastUpdateIndex;
+			if ( work instanceof UpdateEntryWork ) {
+				lastUpdateIndex = lastUpdateIndexByDocument.putIfAbsent( documentKey, i );
+			}
+			else if ( work instanceof AddEntryWork ) {
+				// The later update deletes the added document anyway, if it exists.
+				lastUpdateIndex = lastUpdateIndexByDocument.get( documentKey );
+			}
+			else {
+				lastUpdateIndex = null;
+			}
+			if ( lastUpdateIndex != null ) {
+				supersedingWorkIndex[i] = lastUpdateIndex;
+			}
+		}
+
+		List<SingleDocumentIndexingWorkBulk> bulks = new ArrayList<>();
+		List<List<Integer>> workIndexesByWorkIndex = new ArrayList<>( Collections.nCopies( workCount, null ) );
+		SingleDocumentIndexingWorkBulk currentBulk = null;
+		for ( int i = 0; i < workCount; i++ ) {
+			if ( supersedingWorkIndex[i] >= 0 ) {
+				continue;
+			}
+			AbstractSingleDocumentIndexingWork work = (AbstractSingleDocumentIndexingWork) works.get( i );
+			Kind kind = Kind.of( work );
+			if ( currentBulk == null || currentBulk.kind != kind ) {
+				currentBulk = new SingleDocumentIndexingWorkBulk( kind );
+				bulks.add( currentBulk );
+			}
+			List<Integer> workIndexes = new ArrayList<>();
+			workIndexes.add( i );
+			currentBulk.executedWorks.add( work );
+			currentBulk.workIndexes.add( workIndexes );
+			workIndexesByWorkIndex.set( i, workIndexes );
+		}
+		for ( int i = 0; i < workCount; i++ ) {
+			int supersedingIndex = supersedingWorkIndex[i];
+			if ( supersedingIndex >= 0 ) {
+				workIndexesByWorkIndex.get( supersedingIndex ).add( i );
+			}
+		}
+		return bulks;
+	}
+
+	private final Kind kind;
+	private final List<AbstractSingleDocumentIndexingWork> executedWorks = new ArrayList<>();
+	// For each executed work, the index of that work followed by the indexes of the works it supersedes.
+	private final List<List<Integer>> workIndexes = new ArrayList<>();
+
+	private SingleDocumentIndexingWorkBulk(Kind kind) {
+		this.kind = kind;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "kind=" + kind
+				+ ", works=" + executedWorks
+				+ "]";
+	}
+
+	public Object getInfo() {
+		return this;
+	}
+
+	/**
+	 * @return The number of works this bulk executes, excluding works that were skipped.
+	 */
+	public int size() {
+		return executedWorks.size();
+	}
+
+	/**
+	 * @return The indexes of the works this bulk applies to, in the list passed to {@link #group(List)}.
+	 * Includes works that were skipped because they were superseded by a work in this bulk.
+	 */
+	public List<Integer> workIndexes() {
+		List<Integer> result = new ArrayList<>();
+		for ( List<Integer> indexes : workIndexes ) {
+			result.addAll( indexes );
+		}
+		return result;
+	}
+
+	/**
+	 * @param executedWorkIndex The index of a work executed by this bulk, between 0 and {@link #size()}.
+	 * @return The indexes of the works that the given work applies to, in the list passed to {@link #group(List)}.
+	 * Includes works that were skipped because they were superseded by the given work.
+	 */
+	public List<Integer> workIndexes(int executedWorkIndex) {
+		return workIndexes.get( executedWorkIndex );
+	}
+
+	/**
+	 * @param executedWorkIndex The index of a work executed by this bulk, between 0 and {@link #size()}.
+	 * @return The information about the given work, for failure reports.
+	 */
+	public Object getInfo(int executedWorkIndex) {
+		return executedWorks.get( executedWorkIndex ).getInfo();
+	}
+
+	public Long execute(IndexingWorkExecutionContext context) {
+		if ( executedWorks.size() == 1 ) {
+			// Execute single works directly, so as to get the usual failure messages.
+			return execute( context, 0 );
+		}
+		try {
+			return kind.execute( context.getIndexWriterDelegator(), executedWorks );
+		}
+		catch (IOException e) {
+			throw log.unableToApplyIndexingWorkBulk( executedWorks.size(), e.getMessage(),
+					context.getEventContext(), e );
+		}
+	}
+
+	/**
+	 * Executes a single work of this bulk,
+	 * so that a failure of the whole bulk can be narrowed down to the works that actually fail.
+	 *
+	 * @param context The execution context.
+	 * @param executedWorkIndex The index of a work executed by this bulk, between 0 and {@link #size()}.
+	 * @return The result of the work.
+	 */
+	public Long execute(IndexingWorkExecutionContext context, int executedWorkIndex) {
+		return executedWorks.get( executedWorkIndex ).execute( context );
+	}
+
+	private enum Kind {
+		ADD {
+			@Override
+			long execute(IndexWriterDelegator indexWriterDelegator, List<AbstractSingleDocumentIndexingWork> works)
+					throws IOException {
+				return indexWriterDelegator.addDocuments( documents( works ) );
+			}
+		},
+		DELETE_BY_TERM {
+			@Override
+			long execute(IndexWriterDelegator indexWriterDelegator, List<AbstractSingleDocumentIndexingWork> works)
+					throws IOException {
+				return indexWriterDelegator.deleteDocuments( idTerms( works ) );
+			}
+		},
+		DELETE_BY_QUERY {
+			@Override
+			long execute(IndexWriterDelegator indexWriterDelegator, List<AbstractSingleDocumentIndexingWork> works)
+					throws IOException {
+				return indexWriterDelegator.deleteDocuments( deleteQueries( works ) );
+			}
+		},
+		// Updates without a filter must be atomic: readers must not see the deletion without the addition.
+		// Works in a bulk target distinct documents, since superseded updates are skipped.
+		UPDATE_BY_TERM {
+			@Override
+			long execute(IndexWriterDelegator indexWriterDelegator, List<AbstractSingleDocumentIndexingWork> works)
+					throws IOException {
+				return indexWriterDelegator.updateDocuments( idTerms( works ), documents( works ) );
+			}
+		},
+		// Updates with a filter are not atomic anyway: delete all documents, then add all documents.
+		UPDATE_BY_QUERY {
+			@Override
+			long execute(IndexWriterDelegator indexWriterDelegator, List<AbstractSingleDocumentIndexingWork> works)
+					throws IOException {
+				indexWriterDelegator.deleteDocuments( deleteQueries( works ) );
+				return indexWriterDelegator.addDocuments( documents( works ) );
+			}
+		};
+
+		abstract long execute(IndexWriterDelegator indexWriterDelegator,
+				List<AbstractSingleDocumentIndexingWork> works)
+				throws IOException;
+
+		static Kind of(AbstractSingleDocumentIndexingWork work) {
+			if ( work instanceof AddEntryWork ) {
+				return ADD;
+			}
+			else if ( work instanceof UpdateEntryWork ) {
+				return ( (UpdateEntryWork) work ).filterOrNull() == null ? UPDATE_BY_TERM : UPDATE_BY_QUERY;
+			}
+			else {
+				return ( (DeleteEntryWork) work ).filterOrNull() == null ? DELETE_BY_TERM : DELETE_BY_QUERY;
+			}
+		}
+
+		private static Term[] idTerms(List<AbstractSingleDocumentIndexingWork> works) {
+			Term[] terms = new Term[works.size()];
+			for ( int i = 0; i < terms.length; i++ ) {
+				terms[i] = works.get( i ).idTerm();
+			}
+			return terms;
+		}
+
+		private static List<Document> documents(List<AbstractSingleDocumentIndexingWork> works) {
+			// Each entry is a block of nested documents followed by their root document;
+			// concatenating blocks preserves that structure.
+			List<Document> documents = new ArrayList<>();
+			for ( AbstractSingleDocumentIndexingWork work : works ) {
+				Iterable<Document> entry = work instanceof AddEntryWork
+						? ( (AddEntryWork) work ).indexEntry()
+						: ( (UpdateEntryWork) work ).indexEntry();
+				for ( Document document : entry ) {
+					documents.add( document );
+				}
+			}
+			return documents;
+		}
+
+		private static Query[] deleteQueries(List<AbstractSingleDocumentIndexingWork> works) {
+			Query[] queries = new Query[works.size()];
+			for ( int i = 0; i < queries.length; i++ ) {
+				AbstractSingleDocumentIndexingWork work = works.get( i );
+				Query filter = work instanceof UpdateEntryWork
+						? ( (UpdateEntryWork) work ).filterOrNull()
+						: ( (DeleteEntryWork) work ).filterOrNull();
+				queries[i] = Queries.boolFilter( new TermQuery( work.idTerm() ), filter );
+			}
+			return queries;
+		}
+	}
+}
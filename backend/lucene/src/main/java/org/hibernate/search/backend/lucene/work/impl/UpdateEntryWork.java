@@ -11,7 +11,6 @@
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -40,7 +39,7 @@ public class UpdateEntryWork extends AbstractSingleDocumentIndexingWork {
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
 			IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
-			Term idTerm = new Term( MetadataFields.idFieldName(), documentIdentifier );
+			Term idTerm = idTerm();
 			if ( filter == null ) {
 				// Atomic update: presumably more efficient.
 				return indexWriterDelegator.updateDocuments( idTerm, indexEntry );
@@ -55,4 +54,12 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	Query filterOrNull() {
+		return filter;
+	}
+
+	LuceneIndexEntry indexEntry() {
+		return indexEntry;
+	}
+
 }
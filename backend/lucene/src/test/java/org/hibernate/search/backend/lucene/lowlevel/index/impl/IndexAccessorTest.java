@@ -8,7 +8,12 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -16,12 +21,16 @@
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.NoSuchFileException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.junit.After;
@@ -30,7 +39,9 @@
 import org.junit.Test;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
 import org.apache.lucene.store.Directory;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -57,13 +68,26 @@ public class IndexAccessorTest {
 	private IndexWriterDelegatorImpl indexWriterDelegatorMock;
 	@Mock
 	private DirectoryReader indexReaderMock;
+	@Mock
+	private DirectoryHolder rebuildDirectoryHolderMock;
+	@Mock
+	private Directory rebuildDirectoryMock;
+	@Mock
+	private IndexWriterProvider rebuildIndexWriterProviderMock;
+	@Mock
+	private IndexWriterDelegatorImpl rebuildIndexWriterDelegatorMock;
+	@Mock
+	private IndexWriterConfigSource rebuildWriterConfigSourceMock;
+	@Mock
+	private LogByteSizeMergePolicy mergePolicyMock;
 
 	private IndexAccessorImpl accessor;
 
 	@Before
 	public void start() throws IOException {
 		accessor = new IndexAccessorImpl( indexEventContext, directoryHolderMock,
-				indexWriterProviderMock, indexReaderProviderMock );
+				indexWriterProviderMock, indexReaderProviderMock,
+				rebuildDirectoryHolderMock, rebuildIndexWriterProviderMock, rebuildWriterConfigSourceMock );
 		accessor.start();
 		verify( directoryHolderMock ).start();
 	}
@@ -105,6 +129,27 @@ public void commit_runtimeException() {
 		verifyNoOtherIndexInteractions();
 	}
 
+	@Test
+	public void commitAsync() {
+		CompletableFuture<Object> commitFuture = new CompletableFuture<>();
+		when( indexWriterProviderMock.getOrNull() ).thenReturn( indexWriterDelegatorMock );
+		doReturn( commitFuture ).when( indexWriterDelegatorMock ).commitAsync();
+
+		assertThat( accessor.commitAsync() ).isSameAs( commitFuture );
+
+		verifyNoOtherIndexInteractions();
+	}
+
+	@Test
+	public void commitAsync_noWriter() {
+		when( indexWriterProviderMock.getOrNull() ).thenReturn( null );
+
+		assertThat( accessor.commitAsync() ).isCompleted();
+
+		// No writer => nothing to commit
+		verifyNoOtherIndexInteractions();
+	}
+
 	@Test
 	public void commitOrDelay() {
 		when( indexWriterProviderMock.getOrNull() ).thenReturn( indexWriterDelegatorMock );
@@ -242,10 +287,196 @@ public void computeSizeInBytes_concurrentDeletion() throws IOException {
 		verifyNoOtherIndexInteractions();
 	}
 
+	@Test
+	public void rebuild() throws IOException {
+		when( rebuildDirectoryHolderMock.get() ).thenReturn( rebuildDirectoryMock );
+		when( rebuildDirectoryMock.listAll() ).thenReturn( new String[] { "leftover" } );
+
+		accessor.startRebuild();
+
+		verify( rebuildDirectoryHolderMock ).start();
+		verify( rebuildDirectoryMock ).deleteFile( "leftover" );
+		verifyNoOtherIndexInteractions();
+
+		// Writes go to the index being rebuilt
+		when( rebuildIndexWriterProviderMock.getOrCreate() ).thenReturn( rebuildIndexWriterDelegatorMock );
+		assertThat( accessor.getIndexWriterDelegator() ).isSameAs( rebuildIndexWriterDelegatorMock );
+		verifyNoOtherIndexInteractions();
+
+		// ... and are not committed: commits still target the live index
+		when( indexWriterProviderMock.getOrNull() ).thenReturn( indexWriterDelegatorMock );
+		CompletableFuture<Object> commitFuture = new CompletableFuture<>();
+		doReturn( commitFuture ).when( indexWriterDelegatorMock ).commitAsync();
+		accessor.commit();
+		accessor.commitOrDelay();
+		assertThat( accessor.commitAsync() ).isSameAs( commitFuture );
+		verify( indexWriterDelegatorMock ).commit();
+		verify( indexWriterDelegatorMock ).commitOrDelay();
+		verify( indexWriterDelegatorMock ).commitAsync();
+		verifyNoOtherIndexInteractions();
+
+		// Reads still target the live index
+		when( indexReaderProviderMock.getOrCreate() ).thenReturn( indexReaderMock );
+		assertThat( accessor.getIndexReader() ).isSameAs( indexReaderMock );
+		verifyNoOtherIndexInteractions();
+
+		when( rebuildWriterConfigSourceMock.createMergePolicy() ).thenReturn( mergePolicyMock );
+		when( indexWriterProviderMock.getOrCreate() ).thenReturn( indexWriterDelegatorMock );
+		when( rebuildDirectoryMock.listAll() ).thenReturn( new String[] { "segments_1", "_0.cfs" } );
+
+		accessor.finishRebuild();
+
+		verify( rebuildIndexWriterDelegatorMock ).startDeferredMerges( mergePolicyMock );
+		verify( rebuildIndexWriterProviderMock, times( 2 ) ).clear();
+		verify( indexWriterDelegatorMock ).replaceContentAndCommit( rebuildDirectoryMock );
+		verify( rebuildDirectoryMock ).deleteFile( "segments_1" );
+		verify( rebuildDirectoryMock ).deleteFile( "_0.cfs" );
+		verify( indexReaderProviderMock ).refresh();
+		verifyNoOtherIndexInteractions();
+
+		// Writes go to the live index again
+		assertThat( accessor.getIndexWriterDelegator() ).isSameAs( indexWriterDelegatorMock );
+		verifyNoOtherIndexInteractions();
+	}
+
+	@Test
+	public void rebuild_mergeSegments() throws IOException {
+		when( rebuildDirectoryHolderMock.get() ).thenReturn( rebuildDirectoryMock );
+		when( rebuildDirectoryMock.listAll() ).thenReturn( new String[0] );
+
+		accessor.startRebuild();
+
+		verify( rebuildDirectoryHolderMock ).start();
+		verifyNoOtherIndexInteractions();
+
+		// Merges are disabled while rebuilding: they must be enabled before forcing a merge.
+		when( rebuildIndexWriterProviderMock.getOrCreate() ).thenReturn( rebuildIndexWriterDelegatorMock );
+		when( rebuildWriterConfigSourceMock.createMergePolicy() ).thenReturn( mergePolicyMock );
+		accessor.mergeSegments();
+
+		InOrder inOrder = inOrder( rebuildIndexWriterDelegatorMock );
+		inOrder.verify( rebuildIndexWriterDelegatorMock ).startDeferredMerges( mergePolicyMock );
+		inOrder.verify( rebuildIndexWriterDelegatorMock ).mergeSegments();
+		verifyNoOtherIndexInteractions();
+	}
+
+	@Test
+	public void rebuild_finishWaitsForWrites() throws Exception {
+		when( rebuildDirectoryHolderMock.get() ).thenReturn( rebuildDirectoryMock );
+		when( rebuildDirectoryMock.listAll() ).thenReturn( new String[0] );
+
+		accessor.startRebuild();
+
+		when( rebuildIndexWriterProviderMock.getOrCreate() ).thenReturn( rebuildIndexWriterDelegatorMock );
+		when( rebuildWriterConfigSourceMock.createMergePolicy() ).thenReturn( mergePolicyMock );
+		when( indexWriterProviderMock.getOrCreate() ).thenReturn( indexWriterDelegatorMock );
+
+		// Simulate a batch of writes in progress
+		accessor.beginWrites();
+		CompletableFuture<?> finishFuture;
+		try {
+			finishFuture = CompletableFuture.runAsync( accessor::finishRebuild );
+			// The writes in progress must still target the index being rebuilt.
+			assertThat( accessor.getIndexWriterDelegator() ).isSameAs( rebuildIndexWriterDelegatorMock );
+			assertThat( finishFuture ).isNotDone();
+			verify( indexWriterDelegatorMock, never() ).replaceContentAndCommit( any() );
+		}
+		finally {
+			accessor.endWrites();
+		}
+
+		finishFuture.get( 10, TimeUnit.SECONDS );
+		verify( indexWriterDelegatorMock ).replaceContentAndCommit( rebuildDirectoryMock );
+		assertThat( accessor.getIndexWriterDelegator() ).isSameAs( indexWriterDelegatorMock );
+	}
+
+	@Test
+	public void rebuild_abort() throws IOException {
+		when( rebuildDirectoryHolderMock.get() ).thenReturn( rebuildDirectoryMock );
+		when( rebuildDirectoryMock.listAll() ).thenReturn( new String[0] );
+
+		accessor.startRebuild();
+
+		verify( rebuildDirectoryHolderMock ).start();
+		verifyNoOtherIndexInteractions();
+
+		when( rebuildDirectoryMock.listAll() ).thenReturn( new String[] { "_0.cfs" } );
+
+		accessor.abortRebuild();
+
+		verify( rebuildIndexWriterProviderMock ).clear();
+		verify( rebuildDirectoryMock ).deleteFile( "_0.cfs" );
+		verifyNoOtherIndexInteractions();
+
+		// The live index was left untouched, and writes go to the live index again
+		when( indexWriterProviderMock.getOrCreate() ).thenReturn( indexWriterDelegatorMock );
+		assertThat( accessor.getIndexWriterDelegator() ).isSameAs( indexWriterDelegatorMock );
+		verifyNoOtherIndexInteractions();
+	}
+
+	@Test
+	public void rebuild_finishFailure() throws IOException {
+		when( rebuildDirectoryHolderMock.get() ).thenReturn( rebuildDirectoryMock );
+		when( rebuildDirectoryMock.listAll() ).thenReturn( new String[0] );
+
+		accessor.startRebuild();
+
+		verify( rebuildDirectoryHolderMock ).start();
+		verifyNoOtherIndexInteractions();
+
+		RuntimeException exception = new RuntimeException( "Some message" );
+		when( rebuildIndexWriterProviderMock.getOrCreate() ).thenReturn( rebuildIndexWriterDelegatorMock );
+		when( rebuildWriterConfigSourceMock.createMergePolicy() ).thenReturn( mergePolicyMock );
+		when( indexWriterProviderMock.getOrCreate() ).thenReturn( indexWriterDelegatorMock );
+		doThrow( exception ).when( indexWriterDelegatorMock ).replaceContentAndCommit( rebuildDirectoryMock );
+
+		assertThatThrownBy( () -> accessor.finishRebuild() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to swap the rebuilt index in place of the live index",
+						"Some message", INDEX_NAME )
+				.hasCause( exception );
+
+		verify( rebuildIndexWriterDelegatorMock ).startDeferredMerges( mergePolicyMock );
+		verify( rebuildIndexWriterProviderMock, times( 2 ) ).clear();
+		// The live writer may have been rolled back: it must be discarded
+		verify( indexWriterProviderMock ).clear();
+		verifyNoOtherIndexInteractions();
+
+		// The rebuild was aborted
+		assertThat( accessor.getIndexWriterDelegator() ).isSameAs( indexWriterDelegatorMock );
+		verifyNoOtherIndexInteractions();
+	}
+
+	@Test
+	public void rebuild_alreadyInProgress() throws IOException {
+		when( rebuildDirectoryHolderMock.get() ).thenReturn( rebuildDirectoryMock );
+		when( rebuildDirectoryMock.listAll() ).thenReturn( new String[0] );
+
+		accessor.startRebuild();
+
+		verify( rebuildDirectoryHolderMock ).start();
+		verifyNoOtherIndexInteractions();
+
+		assertThatThrownBy( () -> accessor.startRebuild() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "A rebuild of this index is already in progress", INDEX_NAME );
+		verifyNoOtherIndexInteractions();
+	}
+
+	@Test
+	public void finishRebuild_notInProgress() {
+		assertThatThrownBy( () -> accessor.finishRebuild() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "No rebuild of this index is in progress", INDEX_NAME );
+		verifyNoOtherIndexInteractions();
+	}
+
 	private void verifyNoOtherIndexInteractions() {
 		verifyNoMoreInteractions( directoryHolderMock, directoryMock,
 				indexWriterProviderMock, indexWriterDelegatorMock,
-				indexReaderProviderMock, indexReaderMock );
+				indexReaderProviderMock, indexReaderMock,
+				rebuildDirectoryHolderMock, rebuildDirectoryMock,
+				rebuildIndexWriterProviderMock, rebuildIndexWriterDelegatorMock );
 	}
 
 }
\ No newline at end of file
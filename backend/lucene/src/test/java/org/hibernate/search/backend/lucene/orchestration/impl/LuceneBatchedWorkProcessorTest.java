@@ -11,20 +11,26 @@
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
+import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWorkExecutionContext;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.mockito.ArgumentCaptor;
@@ -37,6 +43,8 @@
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.apache.lucene.index.Term;
+
 public class LuceneBatchedWorkProcessorTest {
 
 	private static final String INDEX_NAME = "SomeIndexName";
@@ -63,6 +71,7 @@ public void setup() {
 	@Test
 	public void batch() throws IOException {
 		processor.beginBatch();
+		verify( indexAccessorMock ).beginWrites();
 		verifyNoOtherIndexInteractionsAndClear();
 
 		testSuccessfulWriteWorks( 200 );
@@ -70,11 +79,13 @@ public void batch() throws IOException {
 
 		verify( indexAccessorMock, never() ).commitOrDelay();
 		processor.endBatch();
+		verify( indexAccessorMock ).endWrites();
 		// Give a chance to the I/O strategy to schedule a delayed commit.
 		verify( indexAccessorMock ).commitOrDelay();
 		verifyNoOtherIndexInteractionsAndClear();
 
 		processor.beginBatch();
+		verify( indexAccessorMock ).beginWrites();
 		verifyNoOtherIndexInteractionsAndClear();
 
 		testSuccessfulWriteWorks( 100 );
@@ -82,6 +93,7 @@ public void batch() throws IOException {
 
 		verify( indexAccessorMock, never() ).commitOrDelay();
 		processor.endBatch();
+		verify( indexAccessorMock ).endWrites();
 		// Give a chance to the I/O strategy to schedule a delayed commit.
 		verify( indexAccessorMock ).commitOrDelay();
 		verifyNoOtherIndexInteractionsAndClear();
@@ -92,6 +104,7 @@ public void batch() throws IOException {
 	@Test
 	public void error_workExecute() throws IOException {
 		processor.beginBatch();
+		verify( indexAccessorMock ).beginWrites();
 		verifyNoOtherIndexInteractionsAndClear();
 
 		// Execute a few successful works
@@ -112,6 +125,7 @@ public void error_workExecute() throws IOException {
 		verifyNoOtherIndexInteractionsAndClear();
 
 		processor.endBatch();
+		verify( indexAccessorMock ).endWrites();
 		verify( indexAccessorMock ).commitOrDelay();
 		verifyNoOtherIndexInteractionsAndClear();
 
@@ -119,23 +133,124 @@ public void error_workExecute() throws IOException {
 	}
 
 	@Test
-	public void forceCommit() {
-		processor.forceCommit();
+	public void singleDocumentWorks_grouped() throws IOException {
+		LuceneWorkFactory workFactory = new LuceneWorkFactory( new NoMultiTenancyStrategy() );
+
+		processor.beginBatch();
+		verify( indexAccessorMock ).beginWrites();
+		verifyNoOtherIndexInteractionsAndClear();
 
-		verify( indexAccessorMock ).commit();
+		CompletableFuture<Long> delete1Future = new CompletableFuture<>();
+		CompletableFuture<Long> delete2Future = new CompletableFuture<>();
+		new LuceneBatchedWork<>( workFactory.delete( null, "SomeType", 1, "1" ), delete1Future )
+				.submitTo( processor );
+		new LuceneBatchedWork<>( workFactory.delete( null, "SomeType", 2, "2" ), delete2Future )
+				.submitTo( processor );
+		// Execution of single-document works is delayed...
+		assertThat( delete1Future ).isNotDone();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		// ... until another kind of work is submitted, or the batch ends.
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.deleteDocuments( any( Term.class ), any( Term.class ) ) ).thenReturn( 42L );
+		processor.endBatch();
+		verify( indexAccessorMock ).endWrites();
+		verify( indexAccessorMock ).getIndexWriterDelegator();
+		verify( indexWriterDelegatorMock ).deleteDocuments( new Term( MetadataFields.idFieldName(), "1" ),
+				new Term( MetadataFields.idFieldName(), "2" ) );
+		verify( indexAccessorMock ).commitOrDelay();
 		verifyNoOtherIndexInteractionsAndClear();
+		assertThat( delete1Future ).isCompletedWithValue( 42L );
+		assertThat( delete2Future ).isCompletedWithValue( 42L );
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	public void singleDocumentWorks_bulkFailure() throws IOException {
+		LuceneWorkFactory workFactory = new LuceneWorkFactory( new NoMultiTenancyStrategy() );
+
+		processor.beginBatch();
+		verify( indexAccessorMock ).beginWrites();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		CompletableFuture<Long> delete1Future = new CompletableFuture<>();
+		CompletableFuture<Long> delete2Future = new CompletableFuture<>();
+		CompletableFuture<Long> delete3Future = new CompletableFuture<>();
+		new LuceneBatchedWork<>( workFactory.delete( null, "SomeType", 1, "1" ), delete1Future )
+				.submitTo( processor );
+		new LuceneBatchedWork<>( workFactory.delete( null, "SomeType", 2, "2" ), delete2Future )
+				.submitTo( processor );
+		new LuceneBatchedWork<>( workFactory.delete( null, "SomeType", 3, "3" ), delete3Future )
+				.submitTo( processor );
+		verifyNoOtherIndexInteractionsAndClear();
+
+		// The bulk fails because of a single work: the other works must still succeed.
+		Term term1 = new Term( MetadataFields.idFieldName(), "1" );
+		Term term2 = new Term( MetadataFields.idFieldName(), "2" );
+		Term term3 = new Term( MetadataFields.idFieldName(), "3" );
+		IOException bulkException = new IOException( "Some message" );
+		IOException workException = new IOException( "Some other message" );
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.deleteDocuments( term1, term2, term3 ) ).thenThrow( bulkException );
+		when( indexWriterDelegatorMock.deleteDocuments( term1 ) ).thenReturn( 1L );
+		when( indexWriterDelegatorMock.deleteDocuments( term2 ) ).thenThrow( workException );
+		when( indexWriterDelegatorMock.deleteDocuments( term3 ) ).thenReturn( 3L );
+		processor.endBatch();
+		verify( indexAccessorMock ).endWrites();
+		verify( indexAccessorMock, times( 4 ) ).getIndexWriterDelegator();
+		verify( indexWriterDelegatorMock ).deleteDocuments( term1, term2, term3 );
+		verify( indexWriterDelegatorMock ).deleteDocuments( term1 );
+		verify( indexWriterDelegatorMock ).deleteDocuments( term2 );
+		verify( indexWriterDelegatorMock ).deleteDocuments( term3 );
+		ArgumentCaptor<Throwable> failureCaptor = ArgumentCaptor.forClass( Throwable.class );
+		verify( indexAccessorMock, times( 2 ) ).cleanUpAfterFailure( failureCaptor.capture(), any() );
+		assertThat( failureCaptor.getAllValues() )
+				.satisfiesExactly(
+						failure -> assertThat( failure ).hasCause( bulkException ),
+						failure -> assertThat( failure ).hasCause( workException )
+				);
+		verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+		assertThat( delete1Future ).isCompletedWithValue( 1L );
+		assertThat( delete2Future ).isCompletedExceptionally();
+		assertThatThrownBy( delete2Future::join ).hasRootCause( workException );
+		assertThat( delete3Future ).isCompletedWithValue( 3L );
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	public void forceCommit() {
+		CompletableFuture<Object> commitFuture = new CompletableFuture<>();
+		doReturn( commitFuture ).when( indexAccessorMock ).commitAsync();
+		CompletableFuture<?> future = processor.forceCommit();
+		verify( indexAccessorMock ).commitAsync();
+		verifyNoOtherIndexInteractionsAndClear();
+		// The commit is executed in the background
+		assertThat( future ).isNotDone();
+
+		commitFuture.complete( null );
+		assertThat( future ).isCompleted();
 	}
 
 	@Test
 	public void error_forceCommit() {
 		RuntimeException commitException = new RuntimeException( "Some message" );
-		doThrow( commitException ).when( indexAccessorMock ).commit();
-		assertThatThrownBy( () -> processor.forceCommit() )
-				.isSameAs( commitException );
-		verify( indexAccessorMock ).cleanUpAfterFailure( commitException, "Commit after a set of index works" );
+		CompletableFuture<Object> commitFuture = new CompletableFuture<>();
+		doReturn( commitFuture ).when( indexAccessorMock ).commitAsync();
+		CompletableFuture<?> future = processor.forceCommit();
+		verify( indexAccessorMock ).commitAsync();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		// Cleanup after a commit failure is the responsibility of the index writer
+		commitFuture.completeExceptionally( commitException );
+		assertThatThrownBy( future::join )
+				.hasCause( commitException );
 		verifyNoOtherIndexInteractionsAndClear();
 
 		processor.endBatch();
+		verify( indexAccessorMock ).endWrites();
 		verify( indexAccessorMock ).commitOrDelay();
 		verifyNoOtherIndexInteractionsAndClear();
 
@@ -163,6 +278,7 @@ public void error_batchCommit() throws IOException {
 		RuntimeException commitException = new RuntimeException( "Some message" );
 
 		processor.beginBatch();
+		verify( indexAccessorMock ).beginWrites();
 		verifyNoOtherIndexInteractionsAndClear();
 
 		// Execute a few successful works
@@ -172,6 +288,7 @@ public void error_batchCommit() throws IOException {
 		// Fail upon batch commit
 		doThrow( commitException ).when( indexAccessorMock ).commitOrDelay();
 		processor.endBatch();
+		verify( indexAccessorMock ).endWrites();
 		verify( indexAccessorMock )
 				.cleanUpAfterFailure( commitException, "Commit after a batch of index works" );
 		verifyNoOtherIndexInteractionsAndClear();
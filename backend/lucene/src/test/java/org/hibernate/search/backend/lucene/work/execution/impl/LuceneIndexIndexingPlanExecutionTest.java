@@ -11,6 +11,7 @@
 import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -125,9 +126,17 @@ public void success() {
 		verifyNoOtherOrchestratorInteractionsAndReset();
 		assertThatFuture( planExecutionFuture ).isPending();
 
+		CompletableFuture<Object> commitFuture = new CompletableFuture<>();
+		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
+			doReturn( commitFuture ).when( orchestratorMock ).forceCommit();
+		}
 		work3FutureCaptor.getValue().complete( work3Result );
 		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
-			verify( orchestratorMock ).forceCommitInCurrentThread();
+			verify( orchestratorMock ).forceCommit();
+			verifyNoOtherOrchestratorInteractionsAndReset();
+			// The commit is executed in the background: the plan execution must wait for it
+			assertThatFuture( planExecutionFuture ).isPending();
+			commitFuture.complete( null );
 		}
 		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
 			verify( orchestratorMock ).forceRefreshInCurrentThread();
@@ -180,9 +189,17 @@ public void failure_work() {
 		verifyNoOtherOrchestratorInteractionsAndReset();
 		assertThatFuture( planExecutionFuture ).isPending();
 
+		CompletableFuture<Object> commitFuture = new CompletableFuture<>();
+		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
+			doReturn( commitFuture ).when( orchestratorMock ).forceCommit();
+		}
 		work3FutureCaptor.getValue().complete( work3Result );
 		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
-			verify( orchestratorMock ).forceCommitInCurrentThread();
+			verify( orchestratorMock ).forceCommit();
+			verifyNoOtherOrchestratorInteractionsAndReset();
+			// The commit is executed in the background: the plan execution must wait for it
+			assertThatFuture( planExecutionFuture ).isPending();
+			commitFuture.complete( null );
 		}
 		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
 			verify( orchestratorMock ).forceRefreshInCurrentThread();
@@ -243,9 +260,12 @@ public void failure_multipleWorks() {
 		verifyNoOtherOrchestratorInteractionsAndReset();
 		assertThatFuture( planExecutionFuture ).isPending();
 
+		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
+			doReturn( CompletableFuture.completedFuture( null ) ).when( orchestratorMock ).forceCommit();
+		}
 		work4FutureCaptor.getValue().complete( work4Result );
 		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
-			verify( orchestratorMock ).forceCommitInCurrentThread();
+			verify( orchestratorMock ).forceCommit();
 		}
 		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
 			verify( orchestratorMock ).forceRefreshInCurrentThread();
@@ -311,9 +331,12 @@ public void failure_multipleWorksAndCreateEntityReference() {
 		RuntimeException entityReferenceFactoryException = new RuntimeException( "EntityReferenceFactory message" );
 		when( entityReferenceFactoryMock.createEntityReference( TYPE_NAME, 0 ) )
 				.thenThrow( entityReferenceFactoryException );
+		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
+			doReturn( CompletableFuture.completedFuture( null ) ).when( orchestratorMock ).forceCommit();
+		}
 		work4FutureCaptor.getValue().complete( work4Result );
 		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
-			verify( orchestratorMock ).forceCommitInCurrentThread();
+			verify( orchestratorMock ).forceCommit();
 		}
 		if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
 			verify( orchestratorMock ).forceRefreshInCurrentThread();
@@ -375,7 +398,7 @@ public void failure_commit() {
 
 		// Fail upon commit
 		RuntimeException commitException = new RuntimeException( "Some message" );
-		doThrow( commitException ).when( orchestratorMock ).forceCommitInCurrentThread();
+		doReturn( CompletableFuture.failedFuture( commitException ) ).when( orchestratorMock ).forceCommit();
 		work3FutureCaptor.getValue().complete( work3Result );
 		// ... no refresh expected, since the commit failed ...
 		verifyNoOtherOrchestratorInteractionsAndReset();
@@ -434,9 +457,12 @@ public void failure_refresh() {
 		// Fail upon refresh
 		RuntimeException refreshException = new RuntimeException( "Some message" );
 		doThrow( refreshException ).when( orchestratorMock ).forceRefreshInCurrentThread();
+		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
+			doReturn( CompletableFuture.completedFuture( null ) ).when( orchestratorMock ).forceCommit();
+		}
 		work3FutureCaptor.getValue().complete( work3Result );
 		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
-			verify( orchestratorMock ).forceCommitInCurrentThread();
+			verify( orchestratorMock ).forceCommit();
 		}
 		verifyNoOtherOrchestratorInteractionsAndReset();
 
@@ -493,7 +519,7 @@ public void failure_workAndCommit() {
 
 		// Fail upon commit
 		RuntimeException commitException = new RuntimeException( "Some message" );
-		doThrow( commitException ).when( orchestratorMock ).forceCommitInCurrentThread();
+		doReturn( CompletableFuture.failedFuture( commitException ) ).when( orchestratorMock ).forceCommit();
 		work3FutureCaptor.getValue().complete( work3Result );
 		// ... no refresh expected, since the commit failed ...
 		verifyNoOtherOrchestratorInteractionsAndReset();
@@ -553,9 +579,12 @@ public void failure_workAndRefresh() {
 		// Fail upon refresh
 		RuntimeException refreshException = new RuntimeException( "Some message" );
 		doThrow( refreshException ).when( orchestratorMock ).forceRefreshInCurrentThread();
+		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
+			doReturn( CompletableFuture.completedFuture( null ) ).when( orchestratorMock ).forceCommit();
+		}
 		work3FutureCaptor.getValue().complete( work3Result );
 		if ( DocumentCommitStrategy.FORCE.equals( commitStrategy ) ) {
-			verify( orchestratorMock ).forceCommitInCurrentThread();
+			verify( orchestratorMock ).forceCommit();
 		}
 		verifyNoOtherOrchestratorInteractionsAndReset();
 
@@ -0,0 +1,247 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+public class SingleDocumentIndexingWorkBulkTest {
+
+	private static final String TYPE_NAME = "SomeTypeName";
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
+
+	@Mock(lenient = true)
+	private IndexingWorkExecutionContext contextMock;
+	@Mock
+	private IndexWriterDelegator indexWriterDelegatorMock;
+
+	@Before
+	public void setup() throws IOException {
+		when( contextMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+	}
+
+	@Test
+	public void consecutiveAdds() throws IOException {
+		Document doc1 = new Document();
+		Document nestedDoc2 = new Document();
+		Document doc2 = new Document();
+		List<SingleDocumentIndexingWork> works = Arrays.asList(
+				add( "1", doc1 ),
+				add( "2", nestedDoc2, doc2 )
+		);
+
+		List<SingleDocumentIndexingWorkBulk> bulks = SingleDocumentIndexingWorkBulk.group( works );
+		assertThat( bulks ).hasSize( 1 );
+		assertThat( bulks.get( 0 ).workIndexes() ).containsExactly( 0, 1 );
+
+		when( indexWriterDelegatorMock.addDocuments( any() ) ).thenReturn( 42L );
+		assertThat( bulks.get( 0 ).execute( contextMock ) ).isEqualTo( 42L );
+		verify( indexWriterDelegatorMock ).addDocuments( Arrays.asList( doc1, nestedDoc2, doc2 ) );
+		verifyNoMoreInteractions( indexWriterDelegatorMock );
+	}
+
+	@Test
+	public void consecutiveDeletes() throws IOException {
+		List<SingleDocumentIndexingWork> works = Arrays.asList(
+				delete( "1" ),
+				delete( "2" ),
+				delete( "3" )
+		);
+
+		List<SingleDocumentIndexingWorkBulk> bulks = SingleDocumentIndexingWorkBulk.group( works );
+		assertThat( bulks ).hasSize( 1 );
+
+		bulks.get( 0 ).execute( contextMock );
+		verify( indexWriterDelegatorMock ).deleteDocuments( idTerm( "1" ), idTerm( "2" ), idTerm( "3" ) );
+		verifyNoMoreInteractions( indexWriterDelegatorMock );
+	}
+
+	@Test
+	public void mixed_preservesOrder() {
+		Document doc1 = new Document();
+		Document doc2 = new Document();
+		Document doc4 = new Document();
+		List<SingleDocumentIndexingWork> works = Arrays.asList(
+				add( "1", doc1 ),
+				add( "2", doc2 ),
+				delete( "3" ),
+				delete( "1" ),
+				add( "4", doc4 )
+		);
+
+		List<SingleDocumentIndexingWorkBulk> bulks = SingleDocumentIndexingWorkBulk.group( works );
+		assertThat( bulks ).hasSize( 3 );
+		assertThat( bulks.get( 0 ).workIndexes() ).containsExactly( 0, 1 );
+		assertThat( bulks.get( 1 ).workIndexes() ).containsExactly( 2, 3 );
+		assertThat( bulks.get( 2 ).workIndexes() ).containsExactly( 4 );
+	}
+
+	@Test
+	public void consecutiveUpdates() throws IOException {
+		Document doc1 = new Document();
+		Document doc2 = new Document();
+		List<SingleDocumentIndexingWork> works = Arrays.asList(
+				update( "1", entry( doc1 ) ),
+				update( "2", entry( doc2 ) )
+		);
+
+		List<SingleDocumentIndexingWorkBulk> bulks = SingleDocumentIndexingWorkBulk.group( works );
+		assertThat( bulks ).hasSize( 1 );
+		assertThat( bulks.get( 0 ).workIndexes() ).containsExactly( 0, 1 );
+
+		when( indexWriterDelegatorMock.updateDocuments( any( Term[].class ), any() ) ).thenReturn( 42L );
+		assertThat( bulks.get( 0 ).execute( contextMock ) ).isEqualTo( 42L );
+		verify( indexWriterDelegatorMock ).updateDocuments( new Term[] { idTerm( "1" ), idTerm( "2" ) },
+				Arrays.asList( doc1, doc2 ) );
+		verifyNoMoreInteractions( indexWriterDelegatorMock );
+	}
+
+	@Test
+	public void updates_collapsed() throws IOException {
+		Document doc1v1 = new Document();
+		Document doc2 = new Document();
+		Document doc1v2 = new Document();
+		List<SingleDocumentIndexingWork> works = Arrays.asList(
+				update( "1", entry( doc1v1 ) ),
+				update( "2", entry( doc2 ) ),
+				update( "1", entry( doc1v2 ) )
+		);
+
+		List<SingleDocumentIndexingWorkBulk> bulks = SingleDocumentIndexingWorkBulk.group( works );
+		// The first update of document 1 is skipped.
+		assertThat( bulks ).hasSize( 1 );
+		assertThat( bulks.get( 0 ).size() ).isEqualTo( 2 );
+		assertThat( bulks.get( 0 ).workIndexes( 0 ) ).containsExactly( 1 );
+		assertThat( bulks.get( 0 ).workIndexes( 1 ) ).containsExactly( 2, 0 );
+
+		bulks.get( 0 ).execute( contextMock );
+		verify( indexWriterDelegatorMock ).updateDocuments( new Term[] { idTerm( "2" ), idTerm( "1" ) },
+				Arrays.asList( doc2, doc1v2 ) );
+		verifyNoMoreInteractions( indexWriterDelegatorMock );
+	}
+
+	@Test
+	public void addThenUpdate_collapsed() throws IOException {
+		LuceneIndexEntry entry2 = entry( new Document() );
+		LuceneIndexEntry entry1v2 = entry( new Document() );
+		List<SingleDocumentIndexingWork> works = Arrays.asList(
+				add( "1", new Document() ),
+				new AddEntryWork( null, TYPE_NAME, "2", "2", entry2 ),
+				update( "1", entry1v2 )
+		);
+
+		List<SingleDocumentIndexingWorkBulk> bulks = SingleDocumentIndexingWorkBulk.group( works );
+		// The add of document 1 is skipped.
+		assertThat( bulks ).hasSize( 2 );
+		assertThat( bulks.get( 0 ).workIndexes() ).containsExactly( 1 );
+		assertThat( bulks.get( 1 ).workIndexes() ).containsExactly( 2, 0 );
+
+		for ( SingleDocumentIndexingWorkBulk bulk : bulks ) {
+			bulk.execute( contextMock );
+		}
+		verify( indexWriterDelegatorMock ).addDocuments( entry2 );
+		verify( indexWriterDelegatorMock ).updateDocuments( idTerm( "1" ), entry1v2 );
+		verifyNoMoreInteractions( indexWriterDelegatorMock );
+	}
+
+	@Test
+	public void updateThenAdd_notCollapsed() {
+		List<SingleDocumentIndexingWork> works = Arrays.asList(
+				update( "1", entry( new Document() ) ),
+				add( "1", new Document() )
+		);
+
+		List<SingleDocumentIndexingWorkBulk> bulks = SingleDocumentIndexingWorkBulk.group( works );
+		assertThat( bulks ).hasSize( 2 );
+		assertThat( bulks.get( 0 ).workIndexes() ).containsExactly( 0 );
+		assertThat( bulks.get( 1 ).workIndexes() ).containsExactly( 1 );
+	}
+
+	@Test
+	public void executeOneByOne() throws IOException {
+		List<SingleDocumentIndexingWork> works = Arrays.asList(
+				delete( "1" ),
+				delete( "2" )
+		);
+
+		List<SingleDocumentIndexingWorkBulk> bulks = SingleDocumentIndexingWorkBulk.group( works );
+		assertThat( bulks ).hasSize( 1 );
+
+		when( indexWriterDelegatorMock.deleteDocuments( idTerm( "2" ) ) ).thenReturn( 42L );
+		assertThat( bulks.get( 0 ).execute( contextMock, 1 ) ).isEqualTo( 42L );
+		verify( indexWriterDelegatorMock ).deleteDocuments( idTerm( "2" ) );
+		verifyNoMoreInteractions( indexWriterDelegatorMock );
+	}
+
+	@Test
+	public void failure() throws IOException {
+		List<SingleDocumentIndexingWork> works = Arrays.asList(
+				delete( "1" ),
+				delete( "2" )
+		);
+		IOException exception = new IOException( "Some message" );
+		when( indexWriterDelegatorMock.deleteDocuments( idTerm( "1" ), idTerm( "2" ) ) ).thenThrow( exception );
+		when( contextMock.getEventContext() ).thenReturn( EventContexts.fromIndexName( "SomeIndex" ) );
+
+		List<SingleDocumentIndexingWorkBulk> bulks = SingleDocumentIndexingWorkBulk.group( works );
+		assertThatThrownBy( () -> bulks.get( 0 ).execute( contextMock ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to index or delete a bulk of 2 entities", "Some message" )
+				.hasCause( exception );
+	}
+
+	private AddEntryWork add(String id, Document... documents) {
+		return new AddEntryWork( null, TYPE_NAME, id, id, entry( documents ) );
+	}
+
+	private UpdateEntryWork update(String id, LuceneIndexEntry entry) {
+		return new UpdateEntryWork( null, TYPE_NAME, id, id, null, entry );
+	}
+
+	private DeleteEntryWork delete(String id) {
+		return new DeleteEntryWork( null, TYPE_NAME, id, id, null );
+	}
+
+	private static Term idTerm(String id) {
+		return new Term( MetadataFields.idFieldName(), id );
+	}
+
+	private static LuceneIndexEntry entry(Document... documents) {
+		LuceneIndexEntry entry = mock( LuceneIndexEntry.class, withSettings().lenient() );
+		when( entry.iterator() ).thenAnswer( ignored -> Arrays.asList( documents ).iterator() );
+		return entry;
+	}
+}
@@ -72,6 +72,28 @@ public void explain() {
 		} );
 	}
 
+	@Test
+	public void requestCacheAndPreference() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			String sessionId = "some-session-id";
+			// tag::elasticsearch-requestCache-preference[]
+			ElasticsearchSearchResult<Book> result = searchSession.search( Book.class )
+					.extension( ElasticsearchExtension.get() ) // <1>
+					.where( f -> f.match()
+							.field( "title" )
+							.matching( "robot" ) )
+					.requestCache( true ) // <2>
+					.preference( sessionId ) // <3>
+					.fetch( 0 ); // <4>
+
+			long totalHitCount = result.total().hitCount(); // <5>
+			// end::elasticsearch-requestCache-preference[]
+
+			assertThat( totalHitCount ).isEqualTo( 2L );
+		} );
+	}
+
 	@Test
 	public void json() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
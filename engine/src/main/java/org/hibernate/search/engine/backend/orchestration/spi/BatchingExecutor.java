@@ -14,6 +14,9 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -26,6 +29,13 @@
  * <p>
  * Useful when works can be merged together for optimization purposes (bulking in Elasticsearch),
  * or when they should never be executed in parallel (writes to a Lucene index).
+ * <p>
+ * Optionally, the executor can "linger" before processing a batch:
+ * if fewer works than a target batch size are in the queue,
+ * it will wait for more works to be submitted, for at most a given time,
+ * so as to process fewer, bigger batches.
+ * The target batch size adapts to the rate at which works are submitted,
+ * so that lingering is skipped altogether when that rate is too low for batches to grow significantly.
  */
 public final class BatchingExecutor<P extends BatchedWorkProcessor> {
 
@@ -34,6 +44,7 @@
 	private final String name;
 
 	private final FailureHandler failureHandler;
+	private final int lingerTimeMs;
 
 	private final BlockingQueue<BatchedWork<? super P>> workQueue;
 	private final BatchWorker<P> worker;
@@ -53,10 +64,36 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler) {
+		this( name, processor, maxTasksPerBatch, fair, 0, maxTasksPerBatch, failureHandler );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param lingerTimeMs The maximum time to wait for more tasks before processing a batch, in milliseconds,
+	 * or {@code 0} to never wait.
+	 * When strictly positive, {@link #start(ExecutorService)} expects a {@link ScheduledExecutorService}.
+	 * @param lingerBatchSize The maximum target size of batches when lingering:
+	 * the executor will stop waiting as soon as that many tasks are in the queue.
+	 * The actual target decreases when tasks are submitted at a lower rate.
+	 * Capped to {@code maxTasksPerBatch}.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair,
+			int lingerTimeMs, int lingerBatchSize,
+			FailureHandler failureHandler) {
 		this.name = name;
 		this.failureHandler = failureHandler;
+		this.lingerTimeMs = lingerTimeMs;
 		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch,
+				TimeUnit.MILLISECONDS.toNanos( lingerTimeMs ), Math.min( lingerBatchSize, maxTasksPerBatch ) );
 	}
 
 	@Override
@@ -76,11 +113,18 @@ public String toString() {
 	 */
 	public synchronized void start(ExecutorService executorService) {
 		log.startingExecutor( name );
+		if ( lingerTimeMs > 0 && !( executorService instanceof ScheduledExecutorService ) ) {
+			throw new AssertionFailure( "Executor '" + name + "' lingers before processing batches,"
+					+ " but was started with an executor service that does not support scheduling: " + executorService );
+		}
 		processingTask = new SingletonTask(
 				name, worker,
 				new BatchScheduler( executorService ),
 				failureHandler
 		);
+		if ( lingerTimeMs > 0 ) {
+			worker.startLingering( processingTask, (ScheduledExecutorService) executorService );
+		}
 	}
 
 	/**
@@ -94,6 +138,8 @@ public synchronized void stop() {
 
 		workQueue.clear();
 
+		worker.stopLingering();
+
 		// It's possible that processing was successfully scheduled in the executor service but had no chance to run,
 		// so we need to release waiting threads:
 		processingTask.stop();
@@ -115,6 +161,7 @@ public void submit(BatchedWork<? super P> work) throws InterruptedException {
 		}
 		workQueue.put( work );
 		processingTask.ensureScheduled();
+		worker.onWorkSubmitted();
 	}
 
 	/**
@@ -141,17 +188,55 @@ public CompletableFuture<?> completion() {
 		private final int maxTasksPerBatch;
 		private final List<BatchedWork<? super P>> workBuffer;
 
+		private final long lingerTimeNanos;
+		private final int maxTargetBatchSize;
+		private final AtomicReference<CompletableFuture<?>> lingerFuture = new AtomicReference<>();
+		private SingletonTask task;
+		private ScheduledExecutorService timer;
+		private volatile Future<?> lingerTimeout;
+		private volatile boolean lingerEnded;
+		private volatile int targetBatchSize;
+		private long lastBatchStartNanos;
+
 		private BatchWorker(String name, P processor, BlockingQueue<BatchedWork<? super P>> workQueue,
-				int maxTasksPerBatch) {
+				int maxTasksPerBatch, long lingerTimeNanos, int maxTargetBatchSize) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
 			this.maxTasksPerBatch = maxTasksPerBatch;
 			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
+			this.lingerTimeNanos = lingerTimeNanos;
+			this.maxTargetBatchSize = maxTargetBatchSize;
+			this.targetBatchSize = maxTargetBatchSize;
+		}
+
+		void startLingering(SingletonTask task, ScheduledExecutorService timer) {
+			this.task = task;
+			this.timer = timer;
+		}
+
+		void stopLingering() {
+			Future<?> timeout = lingerTimeout;
+			if ( timeout != null ) {
+				timeout.cancel( false );
+			}
+			// Leave the linger future pending: the task is being stopped and must not run again.
+			lingerFuture.set( null );
+		}
+
+		void onWorkSubmitted() {
+			if ( lingerFuture.get() != null && workQueue.size() >= targetBatchSize ) {
+				endLinger();
+			}
 		}
 
 		@Override
 		public CompletableFuture<?> work() {
+			if ( timer != null && !lingerEnded && !workQueue.isEmpty() && workQueue.size() < targetBatchSize ) {
+				return linger();
+			}
+			lingerEnded = false;
+
 			workBuffer.clear();
 			workQueue.drainTo( workBuffer, maxTasksPerBatch );
 
@@ -161,6 +246,9 @@ public CompletableFuture<?> work() {
 			}
 
 			int workCount = workBuffer.size();
+			if ( timer != null ) {
+				adaptTargetBatchSize( workCount );
+			}
 			boolean traceEnabled = log.isTraceEnabled();
 			if ( traceEnabled ) {
 				log.tracef( "Processing %d works in executor '%s'", workCount, name );
@@ -192,6 +280,52 @@ public CompletableFuture<?> work() {
 		public void complete() {
 			processor.complete();
 		}
+
+		private CompletableFuture<?> linger() {
+			if ( log.isTraceEnabled() ) {
+				log.tracef( "Lingering in executor '%s': %d works in queue, target batch size is %d",
+						name, workQueue.size(), targetBatchSize );
+			}
+			CompletableFuture<?> future = new CompletableFuture<>();
+			lingerFuture.set( future );
+			lingerTimeout = timer.schedule( this::endLinger, lingerTimeNanos, TimeUnit.NANOSECONDS );
+			// Works may have been submitted before lingerFuture was set,
+			// in which case onWorkSubmitted() did not end the linger.
+			onWorkSubmitted();
+			return future;
+		}
+
+		private void endLinger() {
+			CompletableFuture<?> future = lingerFuture.getAndSet( null );
+			if ( future == null ) {
+				// Already ended
+				return;
+			}
+			Future<?> timeout = lingerTimeout;
+			if ( timeout != null ) {
+				timeout.cancel( false );
+			}
+			lingerEnded = true;
+			// Make sure the task runs again once the future completes, even if no work was submitted.
+			task.ensureScheduled();
+			future.complete( null );
+		}
+
+		/*
+		 * Sets the target batch size to a moving average of the amount of works
+		 * we can expect to be submitted during the linger time,
+		 * based on the amount of works submitted since the previous batch.
+		 */
+		private void adaptTargetBatchSize(int workCount) {
+			long now = System.nanoTime();
+			if ( lastBatchStartNanos != 0L ) {
+				long elapsedNanos = Math.max( 1L, now - lastBatchStartNanos );
+				double expectedBatchSize = (double) workCount * lingerTimeNanos / elapsedNanos;
+				long newTarget = Math.round( ( targetBatchSize + expectedBatchSize ) / 2 );
+				targetBatchSize = (int) Math.max( 1L, Math.min( newTarget, maxTargetBatchSize ) );
+			}
+			lastBatchStartNanos = now;
+		}
 	}
 
 	private static final class BatchScheduler implements SingletonTask.Scheduler {
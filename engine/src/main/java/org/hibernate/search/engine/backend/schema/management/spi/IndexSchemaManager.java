@@ -86,4 +86,28 @@ public interface IndexSchemaManager {
 	 */
 	CompletableFuture<?> validate(ContextualFailureCollector failureCollector);
 
+	/**
+	 * Applies index settings that speed up indexing a large number of documents,
+	 * such as disabling periodic refreshes or replication,
+	 * remembering the original settings so that they can be restored
+	 * with {@link #restoreAfterBulkIndexing()}.
+	 * <p>
+	 * Does not change anything if the backend does not have such settings.
+	 * Does not change anything if bulk indexing settings have already been applied and not restored yet.
+	 *
+	 * @return A future.
+	 */
+	CompletableFuture<?> prepareForBulkIndexing();
+
+	/**
+	 * Restores the index settings that were in place
+	 * before the last call to {@link #prepareForBulkIndexing()}.
+	 * <p>
+	 * Does not change anything if {@link #prepareForBulkIndexing()} was not called,
+	 * or if the settings have already been restored.
+	 *
+	 * @return A future.
+	 */
+	CompletableFuture<?> restoreAfterBulkIndexing();
+
 }
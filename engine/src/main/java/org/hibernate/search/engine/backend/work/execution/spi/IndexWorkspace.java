@@ -22,4 +22,30 @@ public interface IndexWorkspace {
 
 	CompletableFuture<?> refresh();
 
+	/**
+	 * Starts rebuilding the index from scratch, aside from the live index.
+	 * <p>
+	 * Until {@link #finishRebuild()} or {@link #abortRebuild()} is called,
+	 * documents indexed in this index will be written to the index being rebuilt,
+	 * while search queries keep targeting the live index, which is left untouched.
+	 *
+	 * @return A future that will complete when the rebuild has started.
+	 */
+	CompletableFuture<?> startRebuild();
+
+	/**
+	 * Replaces the live index with the index being rebuilt.
+	 *
+	 * @return A future that will complete when the rebuilt index has replaced the live index
+	 * and is visible to search queries.
+	 */
+	CompletableFuture<?> finishRebuild();
+
+	/**
+	 * Discards the index being rebuilt, if any, leaving the live index untouched.
+	 *
+	 * @return A future that will complete when the index being rebuilt has been discarded.
+	 */
+	CompletableFuture<?> abortRebuild();
+
 }
@@ -492,4 +492,9 @@ SearchException targetFieldsSpanningMultipleNestedPaths(String fieldPath1,
 			@FormatWith(EventContextNoPrefixFormatter.class) EventContext nestedPath1,
 			String fieldPath2, @FormatWith(EventContextNoPrefixFormatter.class) EventContext nestedPath2);
 
+	@Message(id = ID_OFFSET + 112,
+			value = "This batch of search queries has already been executed."
+					+ " Create a new batch to execute queries again.")
+	SearchException searchQueryBatchAlreadyExecuted();
+
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.query;
 
+import java.util.concurrent.CompletionStage;
+
 /**
  * A base interface for subtypes of {@link SearchFetchable} allowing to
  * easily override the result type for all relevant methods.
@@ -23,9 +25,21 @@
 	@Override
 	R fetch(Integer offset, Integer limit);
 
+	@Override
+	R fetchAfter(SearchCursor cursor, Integer limit);
+
 	@Override
 	R fetchAll();
 
+	@Override
+	CompletionStage<R> fetchAsync(Integer limit);
+
+	@Override
+	CompletionStage<R> fetchAsync(Integer offset, Integer limit);
+
+	@Override
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 	@Override
 	SC scroll(int chunkSize);
 
@@ -0,0 +1,24 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+/**
+ * An opaque position in the hits of a query, built from the sort values of a hit,
+ * used for keyset pagination (a.k.a. "search after").
+ * <p>
+ * Cursors are retrieved from a {@link SearchResult} through {@link SearchResult#cursor()},
+ * and passed to {@link SearchFetchable#fetchAfter(SearchCursor, Integer)} to fetch the hits following that position.
+ * Contrary to classic pagination with an offset, the cost of fetching a page after a cursor
+ * does not depend on how many hits precede that page.
+ * <p>
+ * A cursor should only be passed to the query it originates from,
+ * or to a query with the same predicate and sorts targeting the same indexes.
+ *
+ * @see SearchFetchable#fetchAfter(SearchCursor, Integer)
+ */
+public interface SearchCursor {
+}
@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
@@ -51,6 +52,38 @@
 	 */
 	SearchResult<H> fetch(Integer offset, Integer limit);
 
+	/**
+	 * Execute the query and return the {@link SearchResult},
+	 * including only hits that come after the hit pointed to by {@code cursor} in the sort order,
+	 * and limiting to {@code limit} hits.
+	 * <p>
+	 * This is an alternative to {@link #fetch(Integer, Integer) pagination with an offset}
+	 * known as keyset pagination or "search after":
+	 * the cost of fetching a page does not depend on the number of hits preceding that page,
+	 * so it should be preferred when fetching deep pages.
+	 * The first page is fetched by passing a {@code null} cursor,
+	 * and the cursor pointing to the last hit of a page can be retrieved with {@link SearchResult#cursor()}.
+	 * <p>
+	 * Hits are located through their sort values,
+	 * with the document identifier as a tie-breaker for hits with identical sort values,
+	 * so hits are never skipped or repeated as long as the index does not change.
+	 * Changes to the index between two calls may lead to hits being skipped or appearing in two subsequent pages.
+	 *
+	 * @param cursor The cursor pointing to the last hit of the previous page,
+	 * as returned by {@link SearchResult#cursor()} for a previous execution of the same query.
+	 * {@code null} means no cursor, i.e. start from the first hit.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return The {@link SearchResult}.
+	 * @throws SearchException If something goes wrong while executing the query,
+	 * or if the cursor was not produced by a query compatible with this one.
+	 * @throws SearchTimeoutException If a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * and was reached while executing the query.
+	 * @throws RuntimeException If something goes wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	SearchResult<H> fetchAfter(SearchCursor cursor, Integer limit);
+
 	/**
 	 * Execute the query and return the hits as a {@link List},
 	 * limiting to {@code limit} hits.
@@ -107,6 +140,46 @@
 	 */
 	long fetchTotalHitCount();
 
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of its {@link SearchResult}.
+	 * <p>
+	 * Behaves like {@link #fetch(Integer)}, except the calling thread is not blocked while the query executes.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} completed with the {@link SearchResult},
+	 * or completed exceptionally with the same exceptions as {@link #fetch(Integer)}.
+	 * @throws SearchException If this query loads entities, e.g. with an entity projection.
+	 * @see #fetchAsync(Integer, Integer)
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of its {@link SearchResult}.
+	 * <p>
+	 * Behaves like {@link #fetch(Integer, Integer)}, except the calling thread is not blocked while the query executes.
+	 * <p>
+	 * Hits are converted in the thread completing the returned {@link CompletionStage}.
+	 * Entities can only be loaded in the thread that owns the session,
+	 * so this method cannot be used with queries that load entities.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} completed with the {@link SearchResult},
+	 * or completed exceptionally with the same exceptions as {@link #fetch(Integer, Integer)}.
+	 * @throws SearchException If this query loads entities, e.g. with an entity projection.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the total hit count.
+	 * <p>
+	 * Behaves like {@link #fetchTotalHitCount()}, except the calling thread is not blocked while the query executes.
+	 *
+	 * @return A {@link CompletionStage} completed with the total number of matching entities,
+	 * or completed exceptionally with the same exceptions as {@link #fetchTotalHitCount()}.
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 	/**
 	 * Execute the query and return the {@link SearchResult},
 	 * including <strong>all</strong> hits, without any sort of limit.
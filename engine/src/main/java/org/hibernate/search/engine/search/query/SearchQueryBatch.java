@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.util.common.SearchException;
+
+/**
+ * A batch of independent search queries, to be executed together.
+ * <p>
+ * Executing queries as a batch allows backends to reduce the cost of executing each query separately:
+ * for example the Elasticsearch backend will send all queries in a single request,
+ * and the Lucene backend will execute queries targeting the same indexes on the same index readers.
+ * <p>
+ * Queries are added to the batch with {@link #add(SearchQuery, Integer, Integer)},
+ * then executed with {@link #execute()}.
+ * The result of each query is available through the {@link CompletionStage} returned when it was added,
+ * which will only complete once {@link #execute()} has been called.
+ * <p>
+ * Batches are created from the search session of the mapper, e.g. {@code searchSession.batch()}.
+ */
+public interface SearchQueryBatch {
+
+	/**
+	 * Add a query to this batch, to fetch its {@link SearchResult} with the given limit.
+	 *
+	 * @param query The query to add.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param <H> The type of query hits.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult}
+	 * when {@link #execute()} is called.
+	 * @see SearchFetchable#fetch(Integer)
+	 */
+	default <H> CompletionStage<SearchResult<H>> add(SearchQuery<H> query, Integer limit) {
+		return add( query, null, limit );
+	}
+
+	/**
+	 * Add a query to this batch, to fetch its {@link SearchResult} with the given offset and limit.
+	 *
+	 * @param query The query to add.
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param <H> The type of query hits.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult}
+	 * when {@link #execute()} is called.
+	 * @see SearchFetchable#fetch(Integer, Integer)
+	 */
+	<H> CompletionStage<SearchResult<H>> add(SearchQuery<H> query, Integer offset, Integer limit);
+
+	/**
+	 * Execute all queries added to this batch, and block until all of them are complete.
+	 * <p>
+	 * When this method returns, all {@link CompletionStage}s returned by {@code add(...)}
+	 * are complete and their result can be retrieved without blocking.
+	 * <p>
+	 * Failures are only reported through the {@link CompletionStage}s:
+	 * if one of the queries fails, its {@link CompletionStage} is completed exceptionally
+	 * with the same exceptions as {@link SearchFetchable#fetch(Integer, Integer)},
+	 * the other {@link CompletionStage}s are completed normally, and this method returns normally.
+	 * <p>
+	 * A batch can only be executed once.
+	 *
+	 * @throws SearchException If this batch has already been executed.
+	 */
+	void execute();
+
+}
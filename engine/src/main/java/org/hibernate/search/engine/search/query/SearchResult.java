@@ -8,6 +8,7 @@
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
@@ -27,6 +28,14 @@
 	 */
 	List<H> hits();
 
+	/**
+	 * @return A cursor pointing to the last hit of this result,
+	 * to be passed to {@link SearchFetchable#fetchAfter(SearchCursor, Integer)} in order to fetch the next page of hits,
+	 * or an empty optional if there are no hits or this result was not returned by
+	 * {@link SearchFetchable#fetchAfter(SearchCursor, Integer)}.
+	 */
+	Optional<SearchCursor> cursor();
+
 	/**
 	 * @param key The key previously used to register the aggregation during query building.
 	 * @param <A> The type of result for this aggregation.
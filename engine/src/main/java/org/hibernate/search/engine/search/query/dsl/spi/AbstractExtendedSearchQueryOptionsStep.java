@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.engine.search.query.dsl.spi;
 
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.search.engine.search.aggregation.dsl.SearchAggregationFactory;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.query.ExtendedSearchQuery;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
@@ -54,6 +57,21 @@ public R fetch(Integer offset, Integer limit) {
 		return toQuery().fetch( offset, limit );
 	}
 
+	@Override
+	public R fetchAfter(SearchCursor cursor, Integer limit) {
+		return toQuery().fetchAfter( cursor, limit );
+	}
+
+	@Override
+	public CompletionStage<R> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<R> fetchAsync(Integer offset, Integer limit) {
+		return toQuery().fetchAsync( offset, limit );
+	}
+
 	@Override
 	public SCR scroll(int chunkSize) {
 		return toQuery().scroll( chunkSize );
@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -24,6 +25,7 @@
 import org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep;
 import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchScroll;
@@ -163,6 +165,11 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 		return toQuery().fetch( offset, limit );
 	}
 
+	@Override
+	public SearchResult<H> fetchAfter(SearchCursor cursor, Integer limit) {
+		return toQuery().fetchAfter( cursor, limit );
+	}
+
 	@Override
 	public List<H> fetchAllHits() {
 		return toQuery().fetchAllHits();
@@ -188,6 +195,21 @@ public long fetchTotalHitCount() {
 		return toQuery().fetchTotalHitCount();
 	}
 
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return toQuery().fetchAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return toQuery().fetchTotalHitCountAsync();
+	}
+
 	@Override
 	public SearchScroll<H> scroll(int chunkSize) {
 		return toQuery().scroll( chunkSize );
@@ -9,8 +9,10 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -43,6 +45,17 @@ public R fetch(Integer limit) {
 	@Override
 	public abstract R fetch(Integer offset, Integer limit);
 
+	@Override
+	public abstract R fetchAfter(SearchCursor cursor, Integer limit);
+
+	@Override
+	public CompletionStage<R> fetchAsync(Integer limit) {
+		return fetchAsync( null, limit );
+	}
+
+	@Override
+	public abstract CompletionStage<R> fetchAsync(Integer offset, Integer limit);
+
 	@Override
 	public List<H> fetchAllHits() {
 		return fetchHits( null, null );
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
+
+/**
+ * A component able to execute multiple search queries together,
+ * for example in a single round trip to a remote cluster.
+ * <p>
+ * Queries whose {@link SearchQueryImplementor#batchExecutor() batch executors} are {@link Object#equals(Object) equal}
+ * are passed together to a single call to {@link #execute(List)}.
+ *
+ * @see SearchQueryBatch
+ */
+public interface SearchQueryBatchExecutor {
+
+	/**
+	 * Execute the given items, blocking until all of them are complete.
+	 * <p>
+	 * Implementations must complete every single item, either normally or exceptionally,
+	 * before this method returns normally.
+	 * If this method throws an exception, items that are not complete yet
+	 * will be completed exceptionally with that exception.
+	 *
+	 * @param items The items to execute.
+	 * Their query is always a query whose {@link SearchQueryImplementor#batchExecutor() batch executor}
+	 * is equal to this executor.
+	 */
+	void execute(List<? extends SearchQueryBatchItem<?>> items);
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import org.hibernate.search.engine.search.query.SearchResult;
+
+/**
+ * A query to execute as part of a batch, along with its pagination settings.
+ *
+ * @param <H> The type of query hits.
+ * @see SearchQueryBatchExecutor
+ */
+public interface SearchQueryBatchItem<H> {
+
+	/**
+	 * @return The query to execute.
+	 */
+	SearchQueryImplementor<H> query();
+
+	/**
+	 * @return The number of hits to skip, or {@code null} for no offset.
+	 */
+	Integer offset();
+
+	/**
+	 * @return The maximum number of hits to return, or {@code null} for no limit.
+	 */
+	Integer limit();
+
+	/**
+	 * @param result The result of the query.
+	 */
+	void complete(SearchResult<H> result);
+
+	/**
+	 * @param throwable The failure that prevented the query from completing.
+	 */
+	void completeExceptionally(Throwable throwable);
+
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.search.query.SearchQuery;
@@ -21,4 +22,13 @@
 public interface SearchQueryImplementor<H> extends SearchQuery<H> {
 
 	void failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * @return An executor able to execute this query together with other queries,
+	 * or an empty optional if this query can only be executed on its own.
+	 * @see SearchQueryBatchExecutor
+	 */
+	default Optional<SearchQueryBatchExecutor> batchExecutor() {
+		return Optional.empty();
+	}
 }
@@ -0,0 +1,147 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A simple implementation of {@link SearchQueryBatch},
+ * delegating to the {@link SearchQueryImplementor#batchExecutor() batch executor} of each query.
+ * <p>
+ * Mappers are expected to create batches with this class.
+ */
+public final class SimpleSearchQueryBatch implements SearchQueryBatch {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final List<Item<?>> items = new ArrayList<>();
+	private boolean executed = false;
+
+	@Override
+	public <H> CompletionStage<SearchResult<H>> add(SearchQuery<H> query, Integer offset, Integer limit) {
+		Contracts.assertNotNull( query, "query" );
+		if ( executed ) {
+			throw log.searchQueryBatchAlreadyExecuted();
+		}
+		Item<H> item = new Item<>( query, offset, limit );
+		items.add( item );
+		return item.future;
+	}
+
+	@Override
+	public void execute() {
+		if ( executed ) {
+			throw log.searchQueryBatchAlreadyExecuted();
+		}
+		executed = true;
+
+		Map<SearchQueryBatchExecutor, List<Item<?>>> itemsByExecutor = new LinkedHashMap<>();
+		List<Item<?>> standaloneItems = new ArrayList<>();
+		for ( Item<?> item : items ) {
+			Optional<SearchQueryBatchExecutor> executor = item.batchExecutor();
+			if ( executor.isPresent() ) {
+				itemsByExecutor.computeIfAbsent( executor.get(), ignored -> new ArrayList<>() ).add( item );
+			}
+			else {
+				standaloneItems.add( item );
+			}
+		}
+
+		for ( Map.Entry<SearchQueryBatchExecutor, List<Item<?>>> entry : itemsByExecutor.entrySet() ) {
+			List<Item<?>> executorItems = entry.getValue();
+			try {
+				entry.getKey().execute( executorItems );
+			}
+			catch (RuntimeException e) {
+				for ( Item<?> item : executorItems ) {
+					// No-op for items that were already completed
+					item.completeExceptionally( e );
+				}
+			}
+		}
+		for ( Item<?> item : standaloneItems ) {
+			item.executeStandalone();
+		}
+
+		// Failures are only reported through the future of each query.
+		for ( Item<?> item : items ) {
+			if ( !item.future.isDone() ) {
+				item.completeExceptionally( new AssertionFailure(
+						"Query was not executed as part of a batch: " + item.query ) );
+			}
+		}
+	}
+
+	private static final class Item<H> implements SearchQueryBatchItem<H> {
+		private final SearchQuery<H> query;
+		private final Integer offset;
+		private final Integer limit;
+		private final CompletableFuture<SearchResult<H>> future = new CompletableFuture<>();
+
+		private Item(SearchQuery<H> query, Integer offset, Integer limit) {
+			this.query = query;
+			this.offset = offset;
+			this.limit = limit;
+		}
+
+		@Override
+		public SearchQueryImplementor<H> query() {
+			return (SearchQueryImplementor<H>) query;
+		}
+
+		@Override
+		public Integer offset() {
+			return offset;
+		}
+
+		@Override
+		public Integer limit() {
+			return limit;
+		}
+
+		@Override
+		public void complete(SearchResult<H> result) {
+			future.complete( result );
+		}
+
+		@Override
+		public void completeExceptionally(Throwable throwable) {
+			future.completeExceptionally( throwable );
+		}
+
+		Optional<SearchQueryBatchExecutor> batchExecutor() {
+			if ( query instanceof SearchQueryImplementor ) {
+				return ( (SearchQueryImplementor<H>) query ).batchExecutor();
+			}
+			return Optional.empty();
+		}
+
+		void executeStandalone() {
+			try {
+				complete( query.fetch( offset, limit ) );
+			}
+			catch (RuntimeException e) {
+				completeExceptionally( e );
+			}
+		}
+	}
+}
@@ -10,10 +10,12 @@
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.StringJoiner;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -27,14 +29,21 @@
 	private final Map<AggregationKey<?>, ?> aggregationResults;
 	private final Duration took;
 	private final boolean timedOut;
+	private final SearchCursor cursorOrNull;
 
 	public SimpleSearchResult(SearchResultTotal resultTotal, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
 			Duration took, Boolean timedOut) {
+		this( resultTotal, hits, aggregationResults, took, timedOut, null );
+	}
+
+	public SimpleSearchResult(SearchResultTotal resultTotal, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+			Duration took, Boolean timedOut, SearchCursor cursorOrNull) {
 		this.resultTotal = resultTotal;
 		this.hits = hits;
 		this.aggregationResults = aggregationResults;
 		this.took = took;
 		this.timedOut = ( timedOut != null ) && timedOut;
+		this.cursorOrNull = cursorOrNull;
 	}
 
 	@Override
@@ -47,6 +56,11 @@ public List<H> hits() {
 		return hits;
 	}
 
+	@Override
+	public Optional<SearchCursor> cursor() {
+		return Optional.ofNullable( cursorOrNull );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // The type of aggregation results must be consistent with the type of keys, by contract
 	public <T> T aggregation(AggregationKey<T> key) {
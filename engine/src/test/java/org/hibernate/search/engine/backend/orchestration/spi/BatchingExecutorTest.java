@@ -23,6 +23,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.hibernate.search.engine.environment.bean.BeanHolder;
@@ -315,6 +316,63 @@ public void endBatchFailure() throws InterruptedException {
 		checkPostExecution();
 	}
 
+	@Test
+	public void linger_batchSizeReached() throws InterruptedException {
+		// Linger for much longer than the test could ever last
+		createAndStartExecutor( 4, true, (int) TimeUnit.HOURS.toMillis( 1 ), 3 );
+
+		StubWork work1Mock = workMock( 1 );
+		StubWork work2Mock = workMock( 2 );
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			// No calls expected yet: the executor waits for more works
+		} );
+
+		StubCompletionListener completionListenerAfterSubmit = addPendingCompletionListener();
+
+		// Reaching the target batch size should end the wait immediately
+		StubWork work3Mock = workMock( 3 );
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		when( processorMock.endBatch() ).thenReturn( (CompletableFuture) batch1Future );
+		executor.submit( work3Mock );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work1Mock ).submitTo( processorMock );
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( work3Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			// Since the queue is empty, works should be considered complete.
+			inOrder.verify( processorMock ).complete();
+			inOrder.verify( completionListenerAfterSubmit ).onComplete();
+		} );
+	}
+
+	@Test
+	public void linger_timeout() throws InterruptedException {
+		int lingerTimeMs = 200;
+		createAndStartExecutor( 4, true, lingerTimeMs, 3 );
+
+		StubWork work1Mock = workMock( 1 );
+		StubWork work2Mock = workMock( 2 );
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		when( processorMock.endBatch() ).thenReturn( (CompletableFuture) batch1Future );
+		long start = System.nanoTime();
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		// The batch is processed once the linger time has elapsed, even though it is smaller than the target size.
+		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work1Mock ).submitTo( processorMock );
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			// Since the queue is empty, works should be considered complete.
+			inOrder.verify( processorMock ).complete();
+		} );
+		assertThat( System.nanoTime() - start )
+				.isGreaterThanOrEqualTo( TimeUnit.MILLISECONDS.toNanos( lingerTimeMs ) );
+	}
+
 	private void verifyAsynchronouslyAndReset(Consumer<InOrder> verify) {
 		await().untilAsserted( () -> {
 			InOrder inOrder = inOrder( mocks.toArray() );
@@ -345,8 +403,12 @@ private Runnable blockExecutor()
 	}
 
 	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair) {
+		createAndStartExecutor( maxTasksPerBatch, fair, 0, maxTasksPerBatch );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, int lingerTimeMs, int lingerBatchSize) {
 		this.executor = new BatchingExecutor<>(
-				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock
+				NAME, processorMock, maxTasksPerBatch, fair, lingerTimeMs, lingerBatchSize, failureHandlerMock
 		);
 
 		// Having multiple threads should not matter:
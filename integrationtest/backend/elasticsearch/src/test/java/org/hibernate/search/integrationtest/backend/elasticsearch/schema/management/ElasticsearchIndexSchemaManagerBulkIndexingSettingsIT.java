@@ -0,0 +1,113 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.schema.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.rule.TestElasticsearchClient;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests related to the index settings applied while bulk indexing, e.g. during mass indexing.
+ */
+public class ElasticsearchIndexSchemaManagerBulkIndexingSettingsIT {
+
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TestElasticsearchClient elasticsearchClient = new TestElasticsearchClient();
+
+	private final StubMappedIndex index = StubMappedIndex.withoutFields();
+
+	@Test
+	public void customSettings() {
+		elasticsearchClient.index( index.name() ).deleteAndCreate( "index",
+				" { " +
+				"   'refresh_interval': '5s', " +
+				"   'number_of_replicas': '2' " +
+				" } "
+		);
+
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY )
+				.withIndex( index )
+				.setup();
+
+		assertRefreshInterval( "\"5s\"" );
+		assertNumberOfReplicas( "\"2\"" );
+
+		bulkIndex();
+
+		// Original values are restored
+		assertRefreshInterval( "\"5s\"" );
+		assertNumberOfReplicas( "\"2\"" );
+	}
+
+	@Test
+	public void defaultSettings() {
+		setupHelper.start()
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP )
+				.withIndex( index )
+				.setup();
+
+		// Not set explicitly: Elasticsearch uses its default
+		assertRefreshInterval( "{}" );
+		String numberOfReplicasBefore = numberOfReplicas();
+
+		bulkIndex();
+
+		// The refresh interval is reset to its default, instead of being set explicitly to some value
+		assertRefreshInterval( "{}" );
+		assertNumberOfReplicas( numberOfReplicasBefore );
+	}
+
+	private void bulkIndex() {
+		Futures.unwrappedExceptionJoin( index.schemaManager().prepareForBulkIndexing() );
+
+		assertRefreshInterval( "\"-1\"" );
+		assertNumberOfReplicas( "\"0\"" );
+
+		index.bulkIndexer( false )
+				.add( DOCUMENT_COUNT, i -> documentProvider( "document_" + i, document -> { } ) )
+				.join();
+
+		// Settings are left untouched while indexing
+		assertRefreshInterval( "\"-1\"" );
+		assertNumberOfReplicas( "\"0\"" );
+
+		Futures.unwrappedExceptionJoin( index.schemaManager().restoreAfterBulkIndexing() );
+
+		index.createWorkspace().refresh().join();
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasTotalHitCount( DOCUMENT_COUNT );
+	}
+
+	private void assertRefreshInterval(String expected) {
+		assertThat( elasticsearchClient.index( index.name() ).settings( "index.refresh_interval" ).get() )
+				.isEqualTo( expected );
+	}
+
+	private void assertNumberOfReplicas(String expected) {
+		assertThat( numberOfReplicas() ).isEqualTo( expected );
+	}
+
+	private String numberOfReplicas() {
+		return elasticsearchClient.index( index.name() ).settings( "index.number_of_replicas" ).get();
+	}
+
+}
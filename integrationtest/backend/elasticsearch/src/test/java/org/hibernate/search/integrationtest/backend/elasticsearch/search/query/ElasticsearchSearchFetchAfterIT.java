@@ -0,0 +1,232 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchCursor;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Test keyset pagination with {@code search_after}, on an index with multiple shards
+ * so that hits with identical sort values are spread across shards.
+ * <p>
+ * Ties are broken using {@code _shard_doc} on a point in time or a field holding the document identifier,
+ * depending on the Elasticsearch version: tests only assume that ties are broken consistently.
+ */
+public class ElasticsearchSearchFetchAfterIT {
+
+	private static final int DOCUMENT_COUNT = 47;
+	private static final int PAGE_SIZE = 10;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start()
+				.withBackendProperty( ElasticsearchIndexSettings.SCHEMA_MANAGEMENT_SETTINGS_FILE,
+						"index-settings-for-tests/3-shards.json" )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	public void fieldSort() {
+		SearchQuery<Integer> query = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "group" ).desc().then().field( "id" ) )
+				.toQuery();
+
+		assertThat( fetchAllPages( query ) )
+				.containsExactlyElementsOf( query.fetchAllHits() )
+				.hasSize( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void fieldSort_ties() {
+		SearchQuery<Integer> query = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "group" ).desc() )
+				.toQuery();
+
+		List<Integer> hits = fetchAllPages( query );
+		// Each hit is returned exactly once, even though many hits share the same sort values.
+		assertThat( hits )
+				.doesNotHaveDuplicates()
+				.containsExactlyInAnyOrderElementsOf( allIds() );
+		assertThat( hits ).extracting( i -> i % 3 )
+				.isSortedAccordingTo( Comparator.reverseOrder() );
+	}
+
+	@Test
+	public void scoreSort() {
+		SearchQuery<Integer> query = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		// All hits have the same score: each hit is returned exactly once only if ties are broken consistently.
+		assertThat( fetchAllPages( query ) )
+				.doesNotHaveDuplicates()
+				.containsExactlyInAnyOrderElementsOf( allIds() );
+	}
+
+	@Test
+	public void totalHitCount() {
+		SearchQuery<Integer> query = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.toQuery();
+
+		SearchResult<Integer> firstPage = query.fetchAfter( null, PAGE_SIZE );
+		SearchResult<Integer> secondPage = query.fetchAfter( firstPage.cursor().get(), PAGE_SIZE );
+		assertThat( secondPage.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( secondPage.hits() ).containsExactly( 10, 11, 12, 13, 14, 15, 16, 17, 18, 19 );
+	}
+
+	@Test
+	public void noHits() {
+		SearchQuery<Integer> query = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.range().field( "id" ).greaterThan( DOCUMENT_COUNT ) )
+				.sort( f -> f.field( "id" ) )
+				.toQuery();
+
+		SearchResult<Integer> result = query.fetchAfter( null, PAGE_SIZE );
+		assertThat( result.hits() ).isEmpty();
+		assertThat( result.cursor() ).isEmpty();
+	}
+
+	@Test
+	public void fetchWithoutCursor() {
+		SearchResult<Integer> result = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetch( PAGE_SIZE );
+		assertThat( result.hits() ).hasSize( PAGE_SIZE );
+		assertThat( result.cursor() ).isEmpty();
+	}
+
+	@Test
+	public void incompatibleCursor() {
+		SearchCursor scoreCursor = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAfter( null, PAGE_SIZE )
+				.cursor().get();
+
+		assertThatThrownBy( () -> index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetchAfter( scoreCursor, PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor",
+						"A cursor can only be passed to the query it was retrieved from" );
+	}
+
+	@Test
+	public void incompatibleCursor_sameSortFieldCount() {
+		SearchCursor idCursor = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetchAfter( null, PAGE_SIZE )
+				.cursor().get();
+
+		assertThatThrownBy( () -> index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "group" ) )
+				.fetchAfter( idCursor, PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor",
+						"A cursor can only be passed to the query it was retrieved from" );
+
+		assertThatThrownBy( () -> index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ).desc() )
+				.fetchAfter( idCursor, PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor",
+						"A cursor can only be passed to the query it was retrieved from" );
+	}
+
+	private static List<Integer> allIds() {
+		return IntStream.range( 0, DOCUMENT_COUNT ).boxed().collect( Collectors.toList() );
+	}
+
+	private static List<Integer> fetchAllPages(SearchQuery<Integer> query) {
+		List<Integer> hits = new ArrayList<>();
+		SearchCursor cursor = null;
+		do {
+			SearchResult<Integer> page = query.fetchAfter( cursor, PAGE_SIZE );
+			hits.addAll( page.hits() );
+			Optional<SearchCursor> nextCursor = page.cursor();
+			cursor = nextCursor.orElse( null );
+		}
+		while ( cursor != null );
+		return hits;
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						String.valueOf( i ),
+						document -> {
+							document.addValue( index.binding().id, i );
+							// Many documents share the same group, to check that ties are handled correctly.
+							document.addValue( index.binding().group, i % 3 );
+						}
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> id;
+		final IndexFieldReference<Integer> group;
+
+		IndexBinding(IndexSchemaElement root) {
+			id = root.field( "id", c -> c.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			group = root.field( "group", c -> c.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
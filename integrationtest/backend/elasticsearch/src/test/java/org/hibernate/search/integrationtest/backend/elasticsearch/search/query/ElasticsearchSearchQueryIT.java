@@ -10,6 +10,7 @@
 import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.encodeName;
 import static org.junit.Assume.assumeTrue;
 
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
 import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
@@ -165,6 +166,64 @@ public void routing() {
 		query.fetchAll();
 	}
 
+	@Test
+	public void requestCache() {
+		StubMappingScope scope = index.createScope();
+
+		SearchQuery<?> query = scope.query().extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.requestCache( true )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( readName )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "request_cache", true )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetch( 0 );
+	}
+
+	@Test
+	public void preference() {
+		StubMappingScope scope = index.createScope();
+
+		String preference = "someSessionId";
+
+		SearchQuery<?> query = scope.query().extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.preference( preference )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( readName )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "preference", preference )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetchAll();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.get()
+						.pathComponent( readName )
+						.pathComponent( Paths._COUNT )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "preference", preference )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetchTotalHitCount();
+	}
+
 	@Test
 	public void trackTotalHits_fetch() {
 		assumeTrue(
@@ -11,6 +11,7 @@
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -76,6 +77,11 @@ public void setup() {
 				.withBackendProperty(
 						ElasticsearchBackendSettings.LAYOUT_STRATEGY, layoutStrategy
 				)
+				// Do not check for rebuilds started by other application nodes:
+				// we only expect indexing requests.
+				.withBackendProperty(
+						ElasticsearchIndexSettings.SCHEMA_MANAGEMENT_REBUILD_DETECTION_INTERVAL, 0
+				)
 				.withIndex( index )
 				.setup();
 	}
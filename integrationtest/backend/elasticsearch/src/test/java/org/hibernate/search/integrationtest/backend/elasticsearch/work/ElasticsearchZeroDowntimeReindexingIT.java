@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.integrationtest.backend.elasticsearch.work;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultPrimaryName;
 import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
 import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultWriteAlias;
 import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.encodeName;
@@ -14,6 +17,8 @@
 import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
 
+import java.util.Collections;
+
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -21,9 +26,12 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.rule.TestElasticsearchClient;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
@@ -121,6 +129,182 @@ public void test() {
 		assertThatQuery( text2Query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void rebuild() {
+		IndexWorkspace workspace = index.createWorkspace();
+		IndexIndexer indexer = index.createIndexer();
+
+		indexer.add(
+				referenceProvider( "1" ),
+				document -> document.addValue( index.binding().text, "text1" ),
+				DocumentCommitStrategy.NONE,
+				DocumentRefreshStrategy.NONE
+		).join();
+		workspace.refresh().join();
+
+		SearchQuery<DocumentReference> text1Query = index
+				.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+		SearchQuery<DocumentReference> text2Query = index
+				.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text2" ) )
+				.toQuery();
+		SearchQuery<DocumentReference> text3Query = index
+				.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text3" ) )
+				.toQuery();
+
+		// Initial state: text == "text1"
+		assertThatQuery( text1Query ).hasTotalHitCount( 1 );
+		assertThatQuery( text2Query ).hasNoHits();
+
+		// Start the rebuild: this creates a new index generation with a rebuild alias,
+		// while the read and write aliases keep targeting the live index generation
+		workspace.startRebuild().join();
+		URLEncodedString newIndexPrimaryName = encodeName( index.name() + "-000002" );
+		assertThat( elasticsearchClient.index( newIndexPrimaryName, null, null ).exists() ).isTrue();
+		assertThat( elasticsearchClient.index( newIndexPrimaryName, null, null ).aliases().get() )
+				.contains( rebuildAlias() )
+				.doesNotContain( defaultWriteAlias( index.name() ).original )
+				.doesNotContain( defaultReadAlias( index.name() ).original );
+
+		// Reindex the document into the new index generation: text == "text2"
+		indexer.add(
+				referenceProvider( "1" ),
+				document -> document.addValue( index.binding().text, "text2" ),
+				DocumentCommitStrategy.NONE,
+				DocumentRefreshStrategy.NONE
+		).join();
+		workspace.refresh().join();
+
+		// Search queries are unaffected: text == "text1"
+		assertThatQuery( text1Query ).hasTotalHitCount( 1 );
+		assertThatQuery( text2Query ).hasNoHits();
+
+		// Live updates during the rebuild reach both index generations,
+		// so they are visible immediately
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().text, "text3" ) );
+		plan.execute().join();
+		assertThatQuery( text3Query ).hasTotalHitCount( 1 );
+
+		// Finish the rebuild: aliases are switched to the new index generation
+		workspace.finishRebuild().join();
+		workspace.refresh().join();
+		assertThat( elasticsearchClient.index( newIndexPrimaryName, null, null ).aliases().get() )
+				.contains( defaultWriteAlias( index.name() ).original )
+				.contains( defaultReadAlias( index.name() ).original )
+				.doesNotContain( rebuildAlias() );
+
+		// Search queries immediately show the new content: text == "text2"
+		assertThatQuery( text1Query ).hasNoHits();
+		assertThatQuery( text2Query ).hasTotalHitCount( 1 );
+		// ... and the live update was not lost
+		assertThatQuery( text3Query ).hasTotalHitCount( 1 );
+
+		// The old index generation was removed
+		assertThat( elasticsearchClient.index( defaultPrimaryName( index.name() ), null, null ).exists() ).isFalse();
+	}
+
+	@Test
+	public void rebuild_abort() {
+		IndexWorkspace workspace = index.createWorkspace();
+		IndexIndexer indexer = index.createIndexer();
+
+		indexer.add(
+				referenceProvider( "1" ),
+				document -> document.addValue( index.binding().text, "text1" ),
+				DocumentCommitStrategy.NONE,
+				DocumentRefreshStrategy.NONE
+		).join();
+		workspace.refresh().join();
+
+		SearchQuery<DocumentReference> text1Query = index
+				.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		SearchQuery<DocumentReference> text3Query = index
+				.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text3" ) )
+				.toQuery();
+
+		workspace.startRebuild().join();
+		workspace.purge( Collections.emptySet() ).join();
+		workspace.refresh().join();
+
+		// Search queries are unaffected by the purge of the new index generation
+		assertThatQuery( text1Query ).hasTotalHitCount( 1 );
+
+		// Live updates during the rebuild also reach the live index generation
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().text, "text3" ) );
+		plan.execute().join();
+
+		workspace.abortRebuild().join();
+
+		// The new index generation was dropped, the old one is still in use
+		assertThat( elasticsearchClient.index( encodeName( index.name() + "-000002" ), null, null ).exists() ).isFalse();
+		assertThat( elasticsearchClient.index( index.name() ).aliases().get() )
+				.contains( defaultWriteAlias( index.name() ).original )
+				.contains( defaultReadAlias( index.name() ).original );
+		assertThatQuery( text1Query ).hasTotalHitCount( 1 );
+		// ... and the live update was not lost
+		assertThatQuery( text3Query ).hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void rebuild_otherNode() {
+		SearchQuery<DocumentReference> text1Query = index
+				.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		// Simulate a rebuild started by another application node:
+		// a new index generation carrying the rebuild alias
+		URLEncodedString newIndexPrimaryName = encodeName( index.name() + "-000002" );
+		elasticsearchClient.index( newIndexPrimaryName, null, null ).deleteAndCreate()
+				.aliases().put( rebuildAlias() );
+
+		// This node detects the rebuild when writing, and writes changes to both index generations
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "text1" ) );
+		plan.execute().join();
+		assertThatQuery( text1Query ).hasTotalHitCount( 1 );
+
+		// Switch the read alias to the new index generation, as the other node would when finishing the rebuild
+		elasticsearchClient.index( index.name() ).aliases()
+				.move( defaultReadAlias( index.name() ).original, newIndexPrimaryName.original, readAliasDefinition() );
+
+		// The change was not lost
+		assertThatQuery( text1Query ).hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void rebuild_leftover() {
+		// Simulate a rebuild that did not complete, for example because the application node crashed
+		URLEncodedString leftoverIndexPrimaryName = encodeName( index.name() + "-000002" );
+		elasticsearchClient.index( leftoverIndexPrimaryName, null, null ).deleteAndCreate()
+				.aliases().put( rebuildAlias() );
+
+		IndexWorkspace workspace = index.createWorkspace();
+		assertThatThrownBy( () -> Futures.unwrappedExceptionJoin( workspace.startRebuild() ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to rebuild index '" + index.name() + "'",
+						"the rebuild alias '" + rebuildAlias() + "' already targets index(es)",
+						leftoverIndexPrimaryName.original );
+
+		// Nothing was dropped: the live index generation is still in use
+		assertThat( elasticsearchClient.index( index.name() ).aliases().get() )
+				.contains( defaultWriteAlias( index.name() ).original )
+				.contains( defaultReadAlias( index.name() ).original );
+	}
+
+	private String rebuildAlias() {
+		return encodeName( index.name() + "-rebuild" ).original;
+	}
+
 	private static class IndexBinding {
 		final IndexFieldReference<String> text;
 
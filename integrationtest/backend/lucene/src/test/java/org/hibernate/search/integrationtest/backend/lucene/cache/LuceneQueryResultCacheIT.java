@@ -0,0 +1,206 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cache.QueryResultCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneQueryResultCacheIT {
+
+	private static final int DOCUMENT_COUNT = 20;
+	private static final AggregationKey<Map<String, Long>> AGGREGATION_KEY = AggregationKey.of( "terms" );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void disabledByDefault() {
+		setupHelper.start().withIndex( index ).setup();
+		initData();
+
+		assertThat( indexManager().queryResultCacheStatistics() ).isEmpty();
+
+		assertThatResult( query().fetch( 0, 2 ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+	}
+
+	@Test
+	public void hit() {
+		setup( 10 );
+		initData();
+		QueryResultCacheStatistics statistics = indexManager().queryResultCacheStatistics().get();
+
+		SearchResult<DocumentReference> result = query().fetch( 0, 2 );
+		assertThatResult( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+		assertThat( result.aggregation( AGGREGATION_KEY ) ).hasSize( 2 );
+		assertThat( statistics.missCount() ).isEqualTo( 1 );
+		assertThat( statistics.hitCount() ).isZero();
+		assertThat( statistics.size() ).isEqualTo( 1 );
+
+		// Same query, built independently
+		SearchResult<DocumentReference> cachedResult = query().fetch( 0, 2 );
+		assertThatResult( cachedResult )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+		assertThat( cachedResult.aggregation( AGGREGATION_KEY ) )
+				.isEqualTo( result.aggregation( AGGREGATION_KEY ) );
+		assertThat( statistics.missCount() ).isEqualTo( 1 );
+		assertThat( statistics.hitCount() ).isEqualTo( 1 );
+
+		// Different page: different entry
+		assertThatResult( query().fetch( 2, 2 ) )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 2 ), docId( 3 ) );
+		assertThat( statistics.missCount() ).isEqualTo( 2 );
+		assertThat( statistics.size() ).isEqualTo( 2 );
+
+		// Counts are cached separately
+		assertThat( query().fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( query().fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( statistics.missCount() ).isEqualTo( 3 );
+		assertThat( statistics.hitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void hit_aggregationsNotShared() {
+		setup( 10 );
+		initData();
+		QueryResultCacheStatistics statistics = indexManager().queryResultCacheStatistics().get();
+
+		SearchResult<DocumentReference> result = query().fetch( 0, 2 );
+		Map<String, Long> aggregation = result.aggregation( AGGREGATION_KEY );
+		assertThat( aggregation ).containsExactly( entry( "even", 10L ), entry( "odd", 10L ) );
+
+		// Altering the result of one execution must not affect other executions
+		aggregation.clear();
+
+		SearchResult<DocumentReference> cachedResult = query().fetch( 0, 2 );
+		assertThat( statistics.hitCount() ).isEqualTo( 1 );
+		Map<String, Long> cachedAggregation = cachedResult.aggregation( AGGREGATION_KEY );
+		assertThat( cachedAggregation ).isNotSameAs( aggregation )
+				.containsExactly( entry( "even", 10L ), entry( "odd", 10L ) );
+
+		cachedAggregation.clear();
+
+		assertThat( query().fetch( 0, 2 ).aggregation( AGGREGATION_KEY ) )
+				.containsExactly( entry( "even", 10L ), entry( "odd", 10L ) );
+		assertThat( statistics.hitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void invalidatedOnIndexChange() {
+		setup( 10 );
+		initData();
+		QueryResultCacheStatistics statistics = indexManager().queryResultCacheStatistics().get();
+
+		assertThatResult( query().fetch( 0, 2 ) )
+				.hasTotalHitCount( DOCUMENT_COUNT );
+		assertThat( statistics.missCount() ).isEqualTo( 1 );
+
+		index.index( "extra", document -> {
+			document.addValue( index.binding().integer, -1 );
+			document.addValue( index.binding().string, "even" );
+		} );
+
+		assertThatResult( query().fetch( 0, 2 ) )
+				.hasTotalHitCount( DOCUMENT_COUNT + 1 )
+				.hasDocRefHitsExactOrder( index.typeName(), "extra", docId( 0 ) );
+		assertThat( statistics.missCount() ).isEqualTo( 2 );
+		assertThat( statistics.hitCount() ).isZero();
+	}
+
+	@Test
+	public void eviction() {
+		setup( 2 );
+		initData();
+		QueryResultCacheStatistics statistics = indexManager().queryResultCacheStatistics().get();
+
+		query().fetch( 0, 1 );
+		query().fetch( 1, 1 );
+		query().fetch( 2, 1 );
+		assertThat( statistics.size() ).isEqualTo( 2 );
+		assertThat( statistics.evictionCount() ).isEqualTo( 1 );
+
+		// The least recently used entry was evicted
+		query().fetch( 0, 1 );
+		assertThat( statistics.hitCount() ).isZero();
+		assertThat( statistics.missCount() ).isEqualTo( 4 );
+	}
+
+	private void setup(int cacheSize) {
+		setupHelper.start()
+				.withIndexProperty( index.name(), LuceneIndexSettings.QUERY_RESULT_CACHE_SIZE, cacheSize )
+				.withIndex( index )
+				.setup();
+	}
+
+	private LuceneIndexManager indexManager() {
+		return index.toApi().unwrap( LuceneIndexManager.class );
+	}
+
+	private SearchQuery<DocumentReference> query() {
+		return index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "string", String.class ) )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> {
+							document.addValue( index.binding().integer, i );
+							document.addValue( index.binding().string, i % 2 == 0 ? "even" : "odd" );
+						}
+				) )
+				.join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			string = root.field( "string", f -> f.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -20,12 +20,14 @@
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.test.rule.ExpectedLog4jLog;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import org.apache.logging.log4j.Level;
 import org.awaitility.Awaitility;
 
 @RunWith(Parameterized.class)
@@ -39,6 +41,17 @@ public class LuceneIndexReaderRefreshBaseIT {
 	 */
 	private static final int NON_ZERO_DELAY = 2000;
 
+	/*
+	 * A delay so large that the background refresh will never execute during a test,
+	 * so that tests can reliably check that changes are not visible before a refresh.
+	 */
+	private static final int NEVER_ELAPSING_DELAY = 3_600_000;
+
+	/*
+	 * A delay short enough that the background refresh will execute many times during a test.
+	 */
+	private static final int SHORT_DELAY = 50;
+
 	/**
 	 * These parameters should not have any effect on the test.
 	 * They are here to check that we get the same behavior independently from these parameters.
@@ -58,6 +71,9 @@ public static Object[][] strategies() {
 	@Rule
 	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
 
+	@Rule
+	public final ExpectedLog4jLog logged = ExpectedLog4jLog.create();
+
 	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
 
 	private final DocumentCommitStrategy commitStrategy;
@@ -112,6 +128,31 @@ public void ioStrategyDefault_refreshIntervalZero() {
 		assertThatQuery( query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void ioStrategyDefault_refreshIntervalZero_backgroundRefresh() {
+		logged.expectEvent( Level.WARN, "Ignoring configuration property", LuceneIndexSettings.IO_BACKGROUND_REFRESH,
+				"requires a positive refresh interval", LuceneIndexSettings.IO_REFRESH_INTERVAL + "' is set to 0" );
+
+		setup( null, 0, true );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // The refresh should be executed regardless of this parameter
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Background refresh is ignored: readers should be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+	}
+
 	@Test
 	public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyNone() {
 		setup( null, NON_ZERO_DELAY );
@@ -159,6 +200,75 @@ public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce() {
 		assertThatQuery( query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void ioStrategyDefault_backgroundRefresh_refreshStrategyNone_beforeRefresh() {
+		// The background refresh will not execute during this test
+		setup( null, NEVER_ELAPSING_DELAY, true );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until the background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should *not* be up-to-date after indexing finishes, and queries should not trigger a refresh
+		assertThatQuery( query ).hasNoHits();
+		assertThatQuery( query ).hasNoHits();
+	}
+
+	@Test
+	public void ioStrategyDefault_backgroundRefresh_refreshStrategyNone_afterRefresh() {
+		setup( null, SHORT_DELAY, true );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until the background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should be up-to-date after the background refresh, even without any query triggering it
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 1 ) );
+	}
+
+	@Test
+	public void ioStrategyDefault_backgroundRefresh_refreshStrategyForce() {
+		// The background refresh will not execute during this test: only the forced refresh can make changes visible
+		setup( null, NEVER_ELAPSING_DELAY, true );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.FORCE // This will force a refresh before the next background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+	}
+
 	@Test
 	public void ioStrategyDebug() {
 		setup( "debug", null );
@@ -182,11 +292,16 @@ public void ioStrategyDebug() {
 	}
 
 	private void setup(String ioStrategyName, Integer refreshIntervalMs) {
+		setup( ioStrategyName, refreshIntervalMs, null );
+	}
+
+	private void setup(String ioStrategyName, Integer refreshIntervalMs, Boolean backgroundRefresh) {
 		setupHelper.start()
 				.withIndex( index )
 				.withBackendProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
 				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, refreshIntervalMs )
 				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
+				.withBackendProperty( LuceneIndexSettings.IO_BACKGROUND_REFRESH, backgroundRefresh )
 				.setup();
 	}
 
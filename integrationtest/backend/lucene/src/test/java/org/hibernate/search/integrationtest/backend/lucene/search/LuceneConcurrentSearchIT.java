@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Checks that results are correctly merged when index slices are searched concurrently
+ * using the search thread pool.
+ */
+public class LuceneConcurrentSearchIT {
+
+	private static final int SHARD_COUNT = 12;
+	private static final int INDEX_SIZE = 1_200;
+	private static final int CATEGORY_COUNT = 5;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, 4 )
+				// Many shards => many segments => several index slices searched concurrently.
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	public void sortAndPagination() {
+		SearchQuery<Integer> query = index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ) )
+				.toQuery();
+
+		SearchResult<Integer> result = query.fetch( 500, 20 );
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = 500; i < 520; i++ ) {
+			expected.add( i );
+		}
+		assertThat( result.hits() ).containsExactlyElementsOf( expected );
+		assertThat( result.total().hitCount() ).isEqualTo( INDEX_SIZE );
+	}
+
+	@Test
+	public void totalHitCount() {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.range().field( "number" ).between( 100, 899 ) )
+				.toQuery();
+
+		assertThat( query.fetch( 10 ).total().hitCount() ).isEqualTo( 800L );
+		assertThat( query.fetchTotalHitCount() ).isEqualTo( 800L );
+	}
+
+	@Test
+	public void aggregation() {
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( "categories" );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.terms().field( "category", String.class ) )
+				.toQuery();
+
+		assertThatQuery( query )
+				.aggregation( aggregationKey )
+				.satisfies( map -> {
+					assertThat( map ).hasSize( CATEGORY_COUNT );
+					assertThat( map.values() ).containsOnly( (long) ( INDEX_SIZE / CATEGORY_COUNT ) );
+				} );
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( INDEX_SIZE, i -> documentProvider(
+						String.valueOf( i ),
+						document -> {
+							document.addValue( index.binding().number, i );
+							document.addValue( index.binding().category, "category" + ( i % CATEGORY_COUNT ) );
+						}
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", c -> c.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			category = root.field( "category", c -> c.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
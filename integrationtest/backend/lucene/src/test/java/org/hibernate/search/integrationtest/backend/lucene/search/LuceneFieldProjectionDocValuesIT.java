@@ -0,0 +1,207 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Checks that field projections return the indexed values as-is
+ * when they are served from doc values instead of stored fields,
+ * and that doc values are not used when they could alter the result (normalization, order of multiple values, ...).
+ */
+public class LuceneFieldProjectionDocValuesIT {
+
+	private static final int DOCUMENT_COUNT = 10;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+	private static final SimpleMappedIndex<OtherIndexBinding> otherIndex =
+			SimpleMappedIndex.of( OtherIndexBinding::new ).name( "other" );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndexes( index, otherIndex ).setup();
+		initData();
+	}
+
+	@Test
+	public void singleValued() {
+		assertThat( index.createScope().query()
+				.select( f -> f.composite(
+						f.field( "integer", Integer.class ),
+						f.field( "double", Double.class ),
+						f.field( "localDate", LocalDate.class ),
+						f.field( "keyword", String.class )
+				) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.fetchAllHits() )
+				.hasSize( DOCUMENT_COUNT )
+				.allSatisfy( hit -> {
+					int i = (Integer) hit.get( 0 );
+					assertThat( hit ).isEqualTo( Arrays.asList( i, i + 0.25, LocalDate.of( 2000, 1, 1 ).plusDays( i ),
+							"Keyword" + i ) );
+				} );
+	}
+
+	@Test
+	public void normalizedKeyword() {
+		assertThat( index.createScope().query()
+				.select( f -> f.field( "normalizedKeyword", String.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.fetchAllHits() )
+				.containsExactlyElementsOf( expected( i -> "NormalizedKeyword" + i ) );
+	}
+
+	@Test
+	public void nested() {
+		assertThat( index.createScope().query()
+				.select( f -> f.field( "nested.integer", Integer.class ).multi() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.fetchAllHits() )
+				.containsExactlyElementsOf( expected( i -> Arrays.asList( i + 100, i ) ) );
+	}
+
+	@Test
+	public void flattened_orderPreserved() {
+		assertThat( index.createScope().query()
+				.select( f -> f.field( "flattened.integer", Integer.class ).multi() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.fetchAllHits() )
+				.containsExactlyElementsOf( expected( i -> Arrays.asList( i + 100, i ) ) );
+	}
+
+	@Test
+	public void multiIndex_docValuesInOneIndexOnly() {
+		assertThat( index.createScope( otherIndex ).query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits() )
+				.containsExactlyInAnyOrderElementsOf( expected( i -> i, i -> i + 1000 ) );
+	}
+
+	@SafeVarargs
+	private static <T> List<T> expected(IntFunction<T>... functions) {
+		List<T> result = new ArrayList<>();
+		for ( IntFunction<T> function : functions ) {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				result.add( function.apply( i ) );
+			}
+		}
+		return result;
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						String.valueOf( i ),
+						document -> {
+							IndexBinding binding = index.binding();
+							document.addValue( binding.integer, i );
+							document.addValue( binding.doubleField, i + 0.25 );
+							document.addValue( binding.localDate, LocalDate.of( 2000, 1, 1 ).plusDays( i ) );
+							document.addValue( binding.keyword, "Keyword" + i );
+							document.addValue( binding.normalizedKeyword, "NormalizedKeyword" + i );
+							// Add values in reverse order, so that sorted doc values would return them in the wrong order.
+							for ( int value : new int[] { i + 100, i } ) {
+								DocumentElement nested = document.addObject( binding.nested.self );
+								nested.addValue( binding.nested.integer, value );
+								DocumentElement flattened = document.addObject( binding.flattened.self );
+								flattened.addValue( binding.flattened.integer, value );
+							}
+						}
+				) )
+				.join();
+		otherIndex.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						String.valueOf( i ),
+						document -> document.addValue( otherIndex.binding().integer, i + 1000 )
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Double> doubleField;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<String> keyword;
+		final IndexFieldReference<String> normalizedKeyword;
+		final ObjectBinding nested;
+		final ObjectBinding flattened;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", c -> c.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			doubleField = root.field( "double", c -> c.asDouble()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			localDate = root.field( "localDate", c -> c.asLocalDate()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			keyword = root.field( "keyword", c -> c.asString()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			normalizedKeyword = root.field( "normalizedKeyword", c -> c.asString()
+					.normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name )
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			nested = new ObjectBinding( root.objectField( "nested", ObjectStructure.NESTED ).multiValued() );
+			flattened = new ObjectBinding( root.objectField( "flattened", ObjectStructure.FLATTENED ).multiValued() );
+		}
+	}
+
+	private static class ObjectBinding {
+		final IndexObjectFieldReference self;
+		final IndexFieldReference<Integer> integer;
+
+		ObjectBinding(IndexSchemaObjectField objectField) {
+			integer = objectField.field( "integer", c -> c.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			self = objectField.toReference();
+		}
+	}
+
+	private static class OtherIndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		OtherIndexBinding(IndexSchemaElement root) {
+			// Same type, but no doc values
+			integer = root.field( "integer", c -> c.asInteger().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
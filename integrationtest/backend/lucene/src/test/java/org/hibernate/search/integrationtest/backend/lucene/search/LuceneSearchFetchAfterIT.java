@@ -0,0 +1,262 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchCursor;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public class LuceneSearchFetchAfterIT {
+
+	private static final int DOCUMENT_COUNT = 47;
+	private static final int PAGE_SIZE = 10;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new )
+			.name( "main" );
+	// Uses the same document identifiers as the main index.
+	private static final SimpleMappedIndex<IndexBinding> otherIndex = SimpleMappedIndex.of( IndexBinding::new )
+			.name( "other" );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndexes( index, otherIndex ).setup();
+		initData( index );
+		initData( otherIndex );
+	}
+
+	@Test
+	public void fieldSort() {
+		SearchQuery<Integer> query = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "group" ).desc().then().field( "id" ) )
+				.toQuery();
+
+		assertThat( fetchAllPages( query ) )
+				.containsExactlyElementsOf( query.fetchAllHits() )
+				.hasSize( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void scoreSort() {
+		SearchQuery<Integer> query = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		// All hits have the same score: ties are broken using the document identifier.
+		assertThat( fetchAllPages( query ) )
+				.containsExactlyElementsOf( idsInDocumentIdentifierOrder( i -> true ) )
+				.hasSize( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void fieldSort_ties() {
+		SearchQuery<Integer> query = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "group" ).desc() )
+				.toQuery();
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int group = 2; group >= 0; group-- ) {
+			int expectedGroup = group;
+			expected.addAll( idsInDocumentIdentifierOrder( i -> i % 3 == expectedGroup ) );
+		}
+		assertThat( fetchAllPages( query ) )
+				.containsExactlyElementsOf( expected )
+				.hasSize( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void multiIndex_sameIdentifiers() {
+		SearchQuery<String> query = index.createScope( otherIndex ).query()
+				.select( f -> f.composite().from( f.documentReference() )
+						.as( ref -> ref.typeName() + "/" + ref.id() ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "group" ).desc().then().field( "id" ) )
+				.toQuery();
+
+		// Hits from both indexes share the same sort values and document identifiers:
+		// ties are broken using the mapped type name.
+		// Use an odd page size so that some pages end between two such hits.
+		List<String> expected = new ArrayList<>();
+		for ( int group = 2; group >= 0; group-- ) {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				if ( i % 3 == group ) {
+					expected.add( index.typeName() + "/" + i );
+					expected.add( otherIndex.typeName() + "/" + i );
+				}
+			}
+		}
+		assertThat( fetchAllPages( query, 7 ) )
+				.containsExactlyElementsOf( expected )
+				.hasSize( 2 * DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void totalHitCount() {
+		SearchQuery<Integer> query = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.toQuery();
+
+		SearchResult<Integer> firstPage = query.fetchAfter( null, PAGE_SIZE );
+		SearchResult<Integer> secondPage = query.fetchAfter( firstPage.cursor().get(), PAGE_SIZE );
+		assertThat( secondPage.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( secondPage.hits() ).containsExactly( 10, 11, 12, 13, 14, 15, 16, 17, 18, 19 );
+	}
+
+	@Test
+	public void noHits() {
+		SearchQuery<Integer> query = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.range().field( "id" ).greaterThan( DOCUMENT_COUNT ) )
+				.sort( f -> f.field( "id" ) )
+				.toQuery();
+
+		SearchResult<Integer> result = query.fetchAfter( null, PAGE_SIZE );
+		assertThat( result.hits() ).isEmpty();
+		assertThat( result.cursor() ).isEmpty();
+	}
+
+	@Test
+	public void fetchWithoutCursor() {
+		SearchResult<Integer> result = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetch( PAGE_SIZE );
+		assertThat( result.hits() ).hasSize( PAGE_SIZE );
+		assertThat( result.cursor() ).isEmpty();
+	}
+
+	@Test
+	public void incompatibleCursor() {
+		SearchCursor scoreCursor = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAfter( null, PAGE_SIZE )
+				.cursor().get();
+
+		assertThatThrownBy( () -> index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetchAfter( scoreCursor, PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor",
+						"A cursor can only be passed to the query it was retrieved from" );
+	}
+
+	@Test
+	public void incompatibleCursor_sameSortFieldCount() {
+		SearchCursor idCursor = index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ) )
+				.fetchAfter( null, PAGE_SIZE )
+				.cursor().get();
+
+		assertThatThrownBy( () -> index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "group" ) )
+				.fetchAfter( idCursor, PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor",
+						"A cursor can only be passed to the query it was retrieved from" );
+
+		assertThatThrownBy( () -> index.createScope().query()
+				.select( f -> f.field( "id", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "id" ).desc() )
+				.fetchAfter( idCursor, PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor",
+						"A cursor can only be passed to the query it was retrieved from" );
+	}
+
+	private static List<Integer> idsInDocumentIdentifierOrder(IntPredicate filter) {
+		// Document identifiers are strings: "10" comes before "2".
+		return IntStream.range( 0, DOCUMENT_COUNT )
+				.filter( filter )
+				.mapToObj( String::valueOf )
+				.sorted()
+				.map( Integer::valueOf )
+				.collect( Collectors.toList() );
+	}
+
+	private static List<Integer> fetchAllPages(SearchQuery<Integer> query) {
+		return fetchAllPages( query, PAGE_SIZE );
+	}
+
+	private static <H> List<H> fetchAllPages(SearchQuery<H> query, int pageSize) {
+		List<H> hits = new ArrayList<>();
+		SearchCursor cursor = null;
+		do {
+			SearchResult<H> page = query.fetchAfter( cursor, pageSize );
+			hits.addAll( page.hits() );
+			Optional<SearchCursor> nextCursor = page.cursor();
+			cursor = nextCursor.orElse( null );
+		}
+		while ( cursor != null );
+		return hits;
+	}
+
+	private static void initData(SimpleMappedIndex<IndexBinding> targetIndex) {
+		targetIndex.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						String.valueOf( i ),
+						document -> {
+							document.addValue( targetIndex.binding().id, i );
+							// Many documents share the same group, to check that ties are handled correctly.
+							document.addValue( targetIndex.binding().group, i % 3 );
+						}
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> id;
+		final IndexFieldReference<Integer> group;
+
+		IndexBinding(IndexSchemaElement root) {
+			id = root.field( "id", c -> c.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			group = root.field( "group", c -> c.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Checks that scrolls, which collect each page of top docs after the last hit of the previous page,
+ * return every hit exactly once and in the same order as a non-scrolled query,
+ * even when many hits have the same sort values.
+ */
+public class LuceneSearchScrollIT {
+
+	private static final int SHARD_COUNT = 3;
+	private static final int INDEX_SIZE = 3_000;
+	private static final int GROUP_COUNT = 7;
+	private static final int CHUNK_SIZE = 30;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start()
+				// Several shards => several index readers => doc IDs must be handled globally
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	public void fieldSort_ties() {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "group" ) )
+				.toQuery();
+
+		checkScrollingMatchesFetching( query );
+	}
+
+	@Test
+	public void fieldSort_ties_desc() {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "group" ).desc() )
+				.toQuery();
+
+		checkScrollingMatchesFetching( query );
+	}
+
+	@Test
+	public void fieldSort_string_ties() {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "groupName" ) )
+				.toQuery();
+
+		checkScrollingMatchesFetching( query );
+	}
+
+	@Test
+	public void scoreSort_ties() {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		checkScrollingMatchesFetching( query );
+	}
+
+	private void checkScrollingMatchesFetching(SearchQuery<DocumentReference> query) {
+		List<DocumentReference> expected = query.fetchAllHits();
+		assertThat( expected ).hasSize( INDEX_SIZE );
+
+		List<DocumentReference> scrolled = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				assertThat( chunk.hits() ).hasSizeLessThanOrEqualTo( CHUNK_SIZE );
+				assertThat( chunk.total().hitCount() ).isEqualTo( INDEX_SIZE );
+				scrolled.addAll( chunk.hits() );
+			}
+		}
+
+		assertThat( scrolled ).containsExactlyElementsOf( expected );
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( INDEX_SIZE, i -> documentProvider(
+						String.valueOf( i ),
+						document -> {
+							document.addValue( index.binding().group, i % GROUP_COUNT );
+							document.addValue( index.binding().groupName, "group" + ( i % GROUP_COUNT ) );
+						}
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> group;
+		final IndexFieldReference<String> groupName;
+
+		IndexBinding(IndexSchemaElement root) {
+			group = root.field( "group", c -> c.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			groupName = root.field( "groupName", c -> c.asString().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Test rebuilding an index aside from the live index, then swapping the content.
+ */
+@RunWith(Parameterized.class)
+public class LuceneIndexRebuildIT {
+
+	@Parameterized.Parameters(name = "{0}")
+	public static List<String> params() {
+		return Arrays.asList( "local-heap", "local-filesystem" );
+	}
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final String directoryType;
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private IndexWorkspace workspace;
+	private IndexIndexer indexer;
+	private SearchQuery<DocumentReference> text1Query;
+	private SearchQuery<DocumentReference> text2Query;
+
+	public LuceneIndexRebuildIT(String directoryType) {
+		this.directoryType = directoryType;
+	}
+
+	@Before
+	public void setup() throws Exception {
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, directoryType )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT,
+						temporaryFolder.getRoot().getAbsolutePath() )
+				.withIndex( index )
+				.setup();
+
+		workspace = index.createWorkspace();
+		indexer = index.createIndexer();
+		text1Query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+		text2Query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text2" ) )
+				.toQuery();
+
+		add( "1", "text1" );
+		workspace.refresh().join();
+
+		// Initial state: text == "text1"
+		assertThatQuery( text1Query ).hasTotalHitCount( 1 );
+		assertThatQuery( text2Query ).hasNoHits();
+	}
+
+	@Test
+	public void finish() {
+		workspace.startRebuild().join();
+
+		// Reindex the document: text == "text2"
+		add( "1", "text2" );
+		workspace.flush().join();
+		workspace.refresh().join();
+
+		// Search queries are unaffected: text == "text1"
+		assertThatQuery( text1Query ).hasTotalHitCount( 1 );
+		assertThatQuery( text2Query ).hasNoHits();
+
+		workspace.finishRebuild().join();
+		workspace.refresh().join();
+
+		// Search queries show the new content: text == "text2"
+		assertThatQuery( text1Query ).hasNoHits();
+		assertThatQuery( text2Query ).hasTotalHitCount( 1 );
+
+		// The index can be rebuilt again
+		workspace.startRebuild().join();
+		add( "1", "text1" );
+		workspace.finishRebuild().join();
+		workspace.refresh().join();
+		assertThatQuery( text1Query ).hasTotalHitCount( 1 );
+		assertThatQuery( text2Query ).hasNoHits();
+	}
+
+	@Test
+	public void finish_concurrentWrites() {
+		workspace.startRebuild().join();
+
+		// Writes submitted while the rebuilt index is being swapped in must not be lost,
+		// whether they end up being applied before or after the swap.
+		int documentCount = 200;
+		CompletableFuture<?>[] futures = new CompletableFuture[documentCount + 1];
+		for ( int i = 0; i < documentCount; i++ ) {
+			futures[i] = addAsync( "concurrent" + i, "text2" );
+			if ( i == documentCount / 2 ) {
+				futures[documentCount] = workspace.finishRebuild();
+			}
+		}
+		CompletableFuture.allOf( futures ).join();
+		workspace.flush().join();
+		workspace.refresh().join();
+
+		assertThatQuery( text1Query ).hasNoHits();
+		assertThatQuery( text2Query ).hasTotalHitCount( documentCount );
+	}
+
+	@Test
+	public void abort() {
+		workspace.startRebuild().join();
+
+		add( "1", "text2" );
+		workspace.refresh().join();
+
+		workspace.abortRebuild().join();
+		workspace.refresh().join();
+
+		// The live index was left untouched: text == "text1"
+		assertThatQuery( text1Query ).hasTotalHitCount( 1 );
+		assertThatQuery( text2Query ).hasNoHits();
+
+		// Writes target the live index again
+		add( "2", "text2" );
+		workspace.refresh().join();
+		assertThatQuery( text2Query ).hasTotalHitCount( 1 );
+	}
+
+	private void add(String id, String text) {
+		addAsync( id, text ).join();
+	}
+
+	private CompletableFuture<?> addAsync(String id, String text) {
+		return indexer.add(
+				referenceProvider( id ),
+				document -> document.addValue( index.binding().text, text ),
+				DocumentCommitStrategy.NONE,
+				DocumentRefreshStrategy.NONE
+		);
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() )
+					.toReference();
+		}
+	}
+
+}
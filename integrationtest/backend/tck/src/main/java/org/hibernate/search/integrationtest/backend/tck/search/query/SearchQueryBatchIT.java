@@ -0,0 +1,200 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchQueryBatch;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SearchQueryBatchIT {
+
+	private static final int DOCUMENT_COUNT = 20;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> mainIndex = SimpleMappedIndex.of( IndexBinding::new )
+			.name( "main" );
+	private final SimpleMappedIndex<IndexBinding> otherIndex = SimpleMappedIndex.of( IndexBinding::new )
+			.name( "other" );
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndexes( mainIndex, otherIndex ).setup();
+
+		initData( mainIndex );
+		initData( otherIndex );
+	}
+
+	@Test
+	public void execute() {
+		SearchQueryBatch batch = new SimpleSearchQueryBatch();
+		CompletionStage<SearchResult<DocumentReference>> firstPage =
+				batch.add( matchAllQuerySortByField( mainIndex ), 0, 2 );
+		CompletionStage<SearchResult<DocumentReference>> secondPage =
+				batch.add( matchAllQuerySortByField( mainIndex ), 2, 2 );
+		CompletionStage<SearchResult<DocumentReference>> otherIndexResult =
+				batch.add( matchOneQuery( otherIndex, 5 ), null );
+
+		assertThat( firstPage.toCompletableFuture() ).isNotDone();
+
+		batch.execute();
+
+		assertThatResult( firstPage.toCompletableFuture().getNow( null ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( mainIndex.typeName(), docId( 0 ), docId( 1 ) );
+		assertThatResult( secondPage.toCompletableFuture().getNow( null ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( mainIndex.typeName(), docId( 2 ), docId( 3 ) );
+		assertThatResult( otherIndexResult.toCompletableFuture().getNow( null ) )
+				.hasTotalHitCount( 1 )
+				.hasDocRefHitsExactOrder( otherIndex.typeName(), docId( 5 ) );
+	}
+
+	@Test
+	public void execute_singleQuery() {
+		SearchQueryBatch batch = new SimpleSearchQueryBatch();
+		CompletionStage<SearchResult<DocumentReference>> result =
+				batch.add( matchAllQuerySortByField( mainIndex ), 1 );
+
+		batch.execute();
+
+		assertThatResult( result.toCompletableFuture().getNow( null ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( mainIndex.typeName(), docId( 0 ) );
+	}
+
+	@Test
+	public void execute_sameQueryMultipleTimes() {
+		// Each execution must track its own timeout, even though they share the same query.
+		SearchQuery<DocumentReference> query = mainIndex.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.failAfter( 1, TimeUnit.DAYS )
+				.toQuery();
+
+		SearchQueryBatch batch = new SimpleSearchQueryBatch();
+		CompletionStage<SearchResult<DocumentReference>> firstPage = batch.add( query, 0, 2 );
+		CompletionStage<SearchResult<DocumentReference>> secondPage = batch.add( query, 2, 2 );
+		CompletionStage<SearchResult<DocumentReference>> thirdPage = batch.add( query, 4, 2 );
+
+		batch.execute();
+
+		assertThatResult( firstPage.toCompletableFuture().getNow( null ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( mainIndex.typeName(), docId( 0 ), docId( 1 ) );
+		assertThatResult( secondPage.toCompletableFuture().getNow( null ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( mainIndex.typeName(), docId( 2 ), docId( 3 ) );
+		assertThatResult( thirdPage.toCompletableFuture().getNow( null ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( mainIndex.typeName(), docId( 4 ), docId( 5 ) );
+		assertThat( firstPage.toCompletableFuture().getNow( null ).timedOut() ).isFalse();
+		assertThat( secondPage.toCompletableFuture().getNow( null ).timedOut() ).isFalse();
+		assertThat( thirdPage.toCompletableFuture().getNow( null ).timedOut() ).isFalse();
+	}
+
+	@Test
+	public void execute_empty() {
+		SearchQueryBatch batch = new SimpleSearchQueryBatch();
+		batch.execute();
+	}
+
+	@Test
+	public void execute_failure() {
+		SearchQueryBatch batch = new SimpleSearchQueryBatch();
+		CompletionStage<SearchResult<DocumentReference>> success =
+				batch.add( matchAllQuerySortByField( mainIndex ), 1 );
+		CompletionStage<SearchResult<DocumentReference>> failure =
+				batch.add( matchAllQuerySortByField( mainIndex ), 1, Integer.MAX_VALUE );
+
+		// Failures are only reported through the futures.
+		batch.execute();
+
+		assertThatResult( success.toCompletableFuture().getNow( null ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( mainIndex.typeName(), docId( 0 ) );
+		assertThat( failure.toCompletableFuture() )
+				.failsWithin( Duration.ZERO )
+				.withThrowableOfType( ExecutionException.class )
+				.havingCause()
+				// error message will depend on the specific backend
+				.isInstanceOf( SearchException.class );
+	}
+
+	@Test
+	public void alreadyExecuted() {
+		SearchQueryBatch batch = new SimpleSearchQueryBatch();
+		batch.add( matchAllQuerySortByField( mainIndex ), 1 );
+		batch.execute();
+
+		assertThatThrownBy( batch::execute )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "This batch of search queries has already been executed" );
+		assertThatThrownBy( () -> batch.add( matchAllQuerySortByField( mainIndex ), 1 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "This batch of search queries has already been executed" );
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuerySortByField(SimpleMappedIndex<IndexBinding> index) {
+		return index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+	}
+
+	private SearchQuery<DocumentReference> matchOneQuery(SimpleMappedIndex<IndexBinding> index, int id) {
+		return index.query()
+				.where( f -> f.match().field( "integer" ).matching( id ) )
+				.toQuery();
+	}
+
+	private void initData(SimpleMappedIndex<IndexBinding> index) {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -14,8 +14,10 @@
 import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
 
+import java.time.Duration;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -23,6 +25,7 @@
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryWhereStep;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.common.SearchException;
@@ -165,6 +168,55 @@ public void fetch_offset_limit_defaultSort() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void fetchAsync_offset_limit() {
+		// Entity loading cannot happen asynchronously: use a projection that does not load entities.
+		assertThatResult( documentReferenceQuery()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.fetchAsync( 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+
+		assertThatResult( documentReferenceQuery()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.fetchAsync( 1, 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ), docId( 2 ) );
+
+		assertThatResult( documentReferenceQuery()
+				.where( f -> f.range().field( "integer" ).lessThan( DOCUMENT_COUNT / 2 ) )
+				.sort( f -> f.field( "integer" ).asc() )
+				.fetchAsync( null, null ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT / 2; i++ ) {
+						builder.doc( index.typeName(), docId( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void fetchAsync_failure() {
+		assertThat( documentReferenceQuery()
+				.where( f -> f.matchAll() )
+				.fetchAsync( 1, Integer.MAX_VALUE ).toCompletableFuture() )
+				.failsWithin( Duration.ofSeconds( 30 ) )
+				.withThrowableOfType( ExecutionException.class )
+				// error message will depend on the specific backend
+				.havingCause()
+				.isInstanceOf( SearchException.class );
+	}
+
+	@Test
+	public void fetchAsync_entityLoading() {
+		assertThatThrownBy( () -> matchAllQuerySortByField().fetchAsync( 2 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to fetch hits asynchronously",
+						"this query loads entities" );
+	}
+
 	@Test
 	public void fetchAllHits() {
 		assertThatHits( matchAllQuerySortByField().fetchAllHits() )
@@ -265,6 +317,15 @@ public void fetchTotalHitCount() {
 		assertThat( matchFirstHalfQuery().fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT / 2 );
 	}
 
+	@Test
+	public void fetchTotalHitCountAsync() {
+		assertThat( matchAllQuerySortByField().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT );
+
+		assertThat( matchFirstHalfQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
 	@Test
 	public void fetchSingleHit() {
 		Optional<DocumentReference> result = matchOneQuery( 4 ).fetchSingleHit();
@@ -325,6 +386,11 @@ public void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	private SearchQueryWhereStep<?, DocumentReference, ?, ?> documentReferenceQuery() {
+		StubMappingScope scope = index.createScope();
+		return scope.query().select( f -> f.documentReference() );
+	}
+
 	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchAllQuerySortByField() {
 		StubMappingScope scope = index.createScope();
 		return scope.query()
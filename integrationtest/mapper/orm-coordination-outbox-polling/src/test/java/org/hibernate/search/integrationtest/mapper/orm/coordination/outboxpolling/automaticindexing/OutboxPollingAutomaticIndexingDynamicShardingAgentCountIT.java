@@ -0,0 +1,157 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.automaticindexing.OutboxPollingTestUtils.awaitAllAgentsRunningInOneCluster;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.analysis.AnalyzerNames;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.Agent;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.test.rule.StaticCounters;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.data.Percentage;
+
+/**
+ * Tests dynamic sharding with multiple event processor agents per session factory,
+ * i.e. with {@code event_processor.agent_count} greater than 1:
+ * checks that each agent gets its own shard and that, together, the agents handle each event exactly once
+ * (if they did not, we would see missing or duplicate indexing work executions).
+ */
+public class OutboxPollingAutomaticIndexingDynamicShardingAgentCountIT {
+
+	private static final int ENTITY_COUNT = 1000;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock )
+			.coordinationStrategy( CoordinationStrategyExpectations.outboxPolling() );
+
+	@Rule
+	public StaticCounters counters = new StaticCounters();
+
+	private final PerSessionFactoryIndexingCountHelper indexingCountHelper =
+			new PerSessionFactoryIndexingCountHelper( counters );
+
+	@Test
+	public void singleSessionFactory() {
+		int agentCount = 3;
+		setup( "create-drop", agentCount );
+		backendMock.verifyExpectationsMet();
+
+		SessionFactory sessionFactory = indexingCountHelper.sessionFactory( 0 );
+		awaitAllAgentsRunningInOneCluster( with( sessionFactory ), agentCount );
+		withinTransaction( sessionFactory, session -> assertThat(
+				session.createQuery( "select a from Agent a", Agent.class ).list() )
+				.extracting( Agent::getName )
+				.doesNotHaveDuplicates() );
+
+		insertAndExpectIndexing( sessionFactory );
+
+		// All works must be executed exactly once
+		indexingCountHelper.indexingCounts().assertAcrossAllSessionFactories().isEqualTo( ENTITY_COUNT );
+	}
+
+	@Test
+	public void multipleSessionFactories() {
+		int sessionFactoryCount = 2;
+		int agentCountPerSessionFactory = 2;
+		for ( int i = 0; i < sessionFactoryCount; i++ ) {
+			// Avoid session factories stepping on each other's feet.
+			setup( i == 0 ? "create-drop" : "none", agentCountPerSessionFactory );
+		}
+		backendMock.verifyExpectationsMet();
+
+		SessionFactory sessionFactory = indexingCountHelper.sessionFactory( 0 );
+		// Agents from all session factories join the same cluster.
+		awaitAllAgentsRunningInOneCluster( with( sessionFactory ), sessionFactoryCount * agentCountPerSessionFactory );
+
+		insertAndExpectIndexing( sessionFactory );
+
+		// All works must be executed exactly once
+		indexingCountHelper.indexingCounts().assertAcrossAllSessionFactories().isEqualTo( ENTITY_COUNT );
+		// Each session factory handles the shards of its own agents (with some tolerance)
+		indexingCountHelper.indexingCounts().assertForEachSessionFactory()
+				.allSatisfy( count -> assertThat( count )
+						.isCloseTo( ENTITY_COUNT / sessionFactoryCount, Percentage.withPercentage( 25 ) ) );
+	}
+
+	private void setup(String hbm2ddlAction, int agentCount) {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b
+				.field( "text", String.class, f -> f.analyzerName( AnalyzerNames.DEFAULT ) )
+				.with( indexingCountHelper::expectSchema )
+		);
+
+		ormSetupHelper.start()
+				.withProperty( org.hibernate.cfg.Environment.HBM2DDL_AUTO, hbm2ddlAction )
+				.withProperty( "hibernate.search.coordination.event_processor.agent_count", agentCount )
+				.with( indexingCountHelper::bind )
+				.setup( IndexedEntity.class );
+	}
+
+	private void insertAndExpectIndexing(SessionFactory sessionFactory) {
+		// A single big insert transaction
+		withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				IndexedEntity entity = new IndexedEntity( i, "initial" );
+				session.persist( entity );
+
+				backendMock.expectWorks( IndexedEntity.NAME )
+						.add( String.valueOf( i ), b -> b.field( "text", "initial" ) );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed
+	public static class IndexedEntity {
+
+		static final String NAME = "IndexedEntity";
+
+		@Id
+		private Integer id;
+		@FullTextField
+		private String text;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+}
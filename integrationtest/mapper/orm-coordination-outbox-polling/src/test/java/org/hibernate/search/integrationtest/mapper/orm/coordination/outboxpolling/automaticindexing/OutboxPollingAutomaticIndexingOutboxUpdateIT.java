@@ -0,0 +1,197 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.FilteringOutboxEventFinder;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxEvent;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests the update of the outbox table after a batch of events was processed,
+ * with enough events that set-based statements need to be split into chunks.
+ */
+public class OutboxPollingAutomaticIndexingOutboxUpdateIT {
+
+	// Set-based statements target at most 1000 events at a time:
+	// use more than that for each kind of statement.
+	private static final int SUCCEEDING_COUNT = 1001;
+	private static final int RETRIED_COUNT = 1001;
+	private static final int ABORTED_COUNT = 1001;
+	private static final int TOTAL_COUNT = SUCCEEDING_COUNT + RETRIED_COUNT + ABORTED_COUNT;
+	private static final int FIRST_RETRIED_ID = SUCCEEDING_COUNT + 1;
+	private static final int FIRST_ABORTED_ID = SUCCEEDING_COUNT + RETRIED_COUNT + 1;
+	// Retried events must not be processed again during the test.
+	private static final int RETRY_DELAY = 3600;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock )
+			.coordinationStrategy( CoordinationStrategyExpectations.outboxPolling() );
+
+	private final FilteringOutboxEventFinder outboxEventFinder = new FilteringOutboxEventFinder();
+
+	private SessionFactory sessionFactory;
+	private TestFailureHandler failureHandler;
+
+	@Test
+	public void deleteRetryAndAbort_moreThanOneChunk() {
+		setup();
+
+		withinTransaction( sessionFactory, session -> {
+			for ( int i = 1; i <= TOTAL_COUNT; i++ ) {
+				session.persist( new IndexedEntity( i, "initialValue" ) );
+			}
+		} );
+
+		// Simulate previous failures for the events that will exhaust their retries.
+		withinTransaction( sessionFactory, session -> {
+			for ( OutboxEvent event : outboxEventFinder.findOutboxEventsNoFilter( session ) ) {
+				if ( Integer.parseInt( event.getEntityId() ) >= FIRST_ABORTED_ID ) {
+					event.setRetries( 2 );
+				}
+			}
+		} );
+
+		CompletableFuture<?> failingFuture = new CompletableFuture<>();
+		failingFuture.completeExceptionally( new SimulatedFailure( "Indexing work failed!" ) );
+		BackendMock.DocumentWorkCallListContext context = backendMock.expectWorks( IndexedEntity.NAME )
+				.createAndExecuteFollowingWorks();
+		for ( int i = 1; i < FIRST_RETRIED_ID; i++ ) {
+			context.add( String.valueOf( i ), b -> b.field( "indexedField", "initialValue" ) );
+		}
+		context = context.createAndExecuteFollowingWorks( failingFuture );
+		for ( int i = FIRST_RETRIED_ID; i <= TOTAL_COUNT; i++ ) {
+			context.add( String.valueOf( i ), b -> b.field( "indexedField", "initialValue" ) );
+		}
+
+		Instant beforeProcessing = Instant.now();
+		// Process all events in a single batch.
+		outboxEventFinder.showAllEventsUpToNow( sessionFactory );
+		backendMock.verifyExpectationsMet();
+
+		await().untilAsserted( () -> withinTransaction( sessionFactory, session -> {
+			List<OutboxEvent> events = outboxEventFinder.findOutboxEventsNoFilter( session );
+			// Events processed successfully were deleted.
+			assertThat( events ).hasSize( RETRIED_COUNT + ABORTED_COUNT );
+
+			List<OutboxEvent> retriedEvents = events.stream()
+					.filter( e -> Integer.parseInt( e.getEntityId() ) < FIRST_ABORTED_ID )
+					.collect( Collectors.toList() );
+			assertThat( retriedEvents )
+					.hasSize( RETRIED_COUNT )
+					.allSatisfy( e -> {
+						assertThat( e.getStatus() ).isEqualTo( OutboxEvent.Status.PENDING );
+						assertThat( e.getRetries() ).isEqualTo( 1 );
+						assertThat( e.getProcessAfter() )
+								.isAfter( beforeProcessing.plus( RETRY_DELAY - 60, ChronoUnit.SECONDS ) );
+					} );
+
+			List<OutboxEvent> abortedEvents = events.stream()
+					.filter( e -> Integer.parseInt( e.getEntityId() ) >= FIRST_ABORTED_ID )
+					.collect( Collectors.toList() );
+			assertThat( abortedEvents )
+					.hasSize( ABORTED_COUNT )
+					.allSatisfy( e -> {
+						assertThat( e.getStatus() ).isEqualTo( OutboxEvent.Status.ABORTED );
+						assertThat( e.getRetries() ).isEqualTo( 2 );
+					} );
+		} ) );
+
+		assertThat( failureHandler.genericFailures ).isEmpty();
+		for ( int i = FIRST_RETRIED_ID; i < FIRST_ABORTED_ID; i++ ) {
+			assertThat( failureHandler.entityFailures.get( i ) )
+					.hasSize( 1 )
+					.allSatisfy( f -> assertThat( f.throwable() ).isInstanceOf( SimulatedFailure.class ) );
+		}
+		for ( int i = FIRST_ABORTED_ID; i <= TOTAL_COUNT; i++ ) {
+			List<EntityIndexingFailureContext> entityFailures = failureHandler.entityFailures.get( i );
+			assertThat( entityFailures ).hasSize( 2 );
+			assertThat( entityFailures.get( 1 ).throwable() )
+					.hasMessageContaining( "Max '3' retries exhausted to process the event. Event will be aborted." );
+		}
+	}
+
+	private void setup() {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b.field( "indexedField", String.class ) );
+		failureHandler = new TestFailureHandler();
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( "hibernate.search.background_failure_handler", failureHandler )
+				.withProperty( "hibernate.search.coordination.outbox_event_finder.provider", outboxEventFinder.provider() )
+				.withProperty( "hibernate.search.coordination.event_processor.batch_size", TOTAL_COUNT )
+				.withProperty( "hibernate.search.coordination.event_processor.retry_delay", RETRY_DELAY )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed(index = IndexedEntity.NAME)
+	public static class IndexedEntity {
+		static final String NAME = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String indexedField) {
+			this.id = id;
+			this.indexedField = indexedField;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Environment;
+import org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.FilteringOutboxEventFinder;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.Agent;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests of outbox event processing with multiple batches in flight,
+ * i.e. with {@code event_processor.max_in_flight_batches} greater than 1.
+ * <p>
+ * Batches are kept in flight by returning an incomplete future from the backend mock.
+ */
+public class OutboxPollingAutomaticIndexingPipeliningIT {
+
+	// Process each event in its own batch, so that we can control each batch independently.
+	private static final int BATCH_SIZE = 1;
+	private static final int MAX_IN_FLIGHT_BATCHES = 2;
+	private static final int POLLING_INTERVAL = 10;
+	private static final int PULSE_INTERVAL = 100;
+	// Don't use a low expiration: the agent does not pulse while batches are in flight.
+	private static final int PULSE_EXPIRATION = 5000;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock )
+			.coordinationStrategy( CoordinationStrategyExpectations.outboxPolling() );
+
+	// Disable the filter: we want to check that events in flight are not returned by the next poll
+	// even though they are still in the outbox table.
+	private final FilteringOutboxEventFinder outboxEventFinder = new FilteringOutboxEventFinder()
+			.enableFilter( false );
+
+	private TestFailureHandler failureHandler;
+
+	@Test
+	public void inFlightEvents_excludedFromNextPoll() {
+		SessionFactory sessionFactory = setup( "create-drop" );
+
+		CompletableFuture<Object> entity1Indexing = new CompletableFuture<>();
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.createAndExecuteFollowingWorks( entity1Indexing )
+				.add( "1", b -> b.field( "indexedField", "initialValue" ) );
+		withinTransaction( sessionFactory, session -> session.persist( new IndexedEntity( 1, "initialValue" ) ) );
+		backendMock.verifyExpectationsMet();
+
+		// The event for entity 1 is still in the outbox table, but must not be processed again:
+		// only the event for entity 2 is expected.
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.createAndExecuteFollowingWorks()
+				.add( "2", b -> b.field( "indexedField", "initialValue" ) );
+		withinTransaction( sessionFactory, session -> session.persist( new IndexedEntity( 2, "initialValue" ) ) );
+		backendMock.verifyExpectationsMet();
+
+		entity1Indexing.complete( null );
+		outboxEventFinder.awaitUntilNoMoreVisibleEvents( sessionFactory );
+
+		// Entity 1 was never indexed twice.
+		backendMock.verifyExpectationsMet();
+		assertThat( failureHandler.genericFailures ).isEmpty();
+	}
+
+	@Test
+	public void inFlightBatches_drainedBeforePulse() throws InterruptedException {
+		SessionFactory sessionFactory = setup( "create-drop" );
+
+		CompletableFuture<Object> entity1Indexing = new CompletableFuture<>();
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.createAndExecuteFollowingWorks( entity1Indexing )
+				.add( "1", b -> b.field( "indexedField", "initialValue" ) );
+		withinTransaction( sessionFactory, session -> session.persist( new IndexedEntity( 1, "initialValue" ) ) );
+		backendMock.verifyExpectationsMet();
+
+		// Give the transaction that submitted the batch some time to commit,
+		// since it may have pulsed too.
+		Thread.sleep( PULSE_INTERVAL );
+		Instant expirationWhileInFlight = agentExpiration( sessionFactory );
+
+		// The instructions of the processor expired several times over,
+		// but the processor must not pulse while a batch is in flight.
+		Thread.sleep( PULSE_INTERVAL * 5 );
+		assertThat( agentExpiration( sessionFactory ) ).isEqualTo( expirationWhileInFlight );
+
+		// Once the batch completes, the processor pulses again.
+		entity1Indexing.complete( null );
+		await().untilAsserted( () -> assertThat( agentExpiration( sessionFactory ) )
+				.isAfter( expirationWhileInFlight ) );
+		outboxEventFinder.awaitUntilNoMoreVisibleEvents( sessionFactory );
+
+		backendMock.verifyExpectationsMet();
+		assertThat( failureHandler.genericFailures ).isEmpty();
+	}
+
+	@Test
+	public void preStop_waitsForInFlightBatches() throws Exception {
+		// Do not drop the schema on shutdown: we will check the content of the outbox table after shutdown.
+		SessionFactory sessionFactory = setup( "create" );
+
+		CompletableFuture<Object> entity1Indexing = new CompletableFuture<>();
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.createAndExecuteFollowingWorks( entity1Indexing )
+				.add( "1", b -> b.field( "indexedField", "initialValue" ) );
+		withinTransaction( sessionFactory, session -> session.persist( new IndexedEntity( 1, "initialValue" ) ) );
+		backendMock.verifyExpectationsMet();
+
+		CompletableFuture<?> closing = CompletableFuture.runAsync( sessionFactory::close );
+
+		// Shutdown must wait for the batch in flight.
+		Thread.sleep( 500 );
+		assertThat( closing ).isNotDone();
+
+		entity1Indexing.complete( null );
+		closing.get( 5, TimeUnit.SECONDS );
+		assertThat( failureHandler.genericFailures ).isEmpty();
+
+		// The event of the batch was removed from the outbox table before shutdown completed.
+		SessionFactory checkingSessionFactory = setup( "none" );
+		withinTransaction( checkingSessionFactory, session -> assertThat(
+				outboxEventFinder.findOutboxEventsNotForProcessing( session, 1, Optional.empty() ) )
+				.isEmpty() );
+	}
+
+	@Test
+	public void failureInOneBatch_doesNotAffectOtherBatches() {
+		SessionFactory sessionFactory = setup( "create-drop" );
+
+		CompletableFuture<Object> entity1Indexing = new CompletableFuture<>();
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.createAndExecuteFollowingWorks( entity1Indexing )
+				.add( "1", b -> b.field( "indexedField", "initialValue" ) );
+		withinTransaction( sessionFactory, session -> session.persist( new IndexedEntity( 1, "initialValue" ) ) );
+		backendMock.verifyExpectationsMet();
+
+		// Another batch is processed successfully while the first one is still in flight.
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.createAndExecuteFollowingWorks()
+				.add( "2", b -> b.field( "indexedField", "initialValue" ) );
+		withinTransaction( sessionFactory, session -> session.persist( new IndexedEntity( 2, "initialValue" ) ) );
+		backendMock.verifyExpectationsMet();
+
+		// The first batch fails: only its event is retried.
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.createAndExecuteFollowingWorks()
+				.addOrUpdate( "1", b -> b.field( "indexedField", "initialValue" ) );
+		entity1Indexing.completeExceptionally( new SimulatedFailure( "Indexing of entity #1 failed!" ) );
+		backendMock.verifyExpectationsMet();
+		outboxEventFinder.awaitUntilNoMoreVisibleEvents( sessionFactory );
+
+		assertThat( failureHandler.genericFailures ).isEmpty();
+		await().untilAsserted( () -> assertThat( failureHandler.entityFailures.get( 1 ) ).hasSize( 1 ) );
+		assertThat( failureHandler.entityFailures ).doesNotContainKey( 2 );
+	}
+
+	private SessionFactory setup(String hbm2ddlAction) {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b.field( "indexedField", String.class ) );
+		failureHandler = new TestFailureHandler();
+		SessionFactory sessionFactory = ormSetupHelper.start()
+				.withProperty( Environment.HBM2DDL_AUTO, hbm2ddlAction )
+				.withProperty( "hibernate.search.background_failure_handler", failureHandler )
+				.withProperty( "hibernate.search.coordination.outbox_event_finder.provider", outboxEventFinder.provider() )
+				.withProperty( "hibernate.search.coordination.event_processor.polling_interval", POLLING_INTERVAL )
+				.withProperty( "hibernate.search.coordination.event_processor.pulse_interval", PULSE_INTERVAL )
+				.withProperty( "hibernate.search.coordination.event_processor.pulse_expiration", PULSE_EXPIRATION )
+				.withProperty( "hibernate.search.coordination.event_processor.batch_size", BATCH_SIZE )
+				.withProperty( "hibernate.search.coordination.event_processor.max_in_flight_batches", MAX_IN_FLIGHT_BATCHES )
+				.withProperty( "hibernate.search.coordination.event_processor.retry_delay", 0 )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+		return sessionFactory;
+	}
+
+	private static Instant agentExpiration(SessionFactory sessionFactory) {
+		return with( sessionFactory ).applyInTransaction( session -> session
+				.createQuery( "select a from Agent a", Agent.class )
+				.getSingleResult()
+				.getExpiration() );
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed(index = IndexedEntity.NAME)
+	public static class IndexedEntity {
+		static final String NAME = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String indexedField) {
+			this.id = id;
+			this.indexedField = indexedField;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+
+}
@@ -120,6 +120,22 @@ public void assigned_greaterThanTotalCount() {
 						.build() );
 	}
 
+	@Test
+	public void agentCount() {
+		assertThatThrownBy( () -> setup( context -> context
+				.withProperty( "hibernate.search.coordination.event_processor.shards.total_count", "10" )
+				.withProperty( "hibernate.search.coordination.event_processor.shards.assigned", "0" )
+				.withProperty( "hibernate.search.coordination.event_processor.agent_count", "2" ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageMatching( FailureReportUtils.buildFailureReportPattern()
+						.failure( "Invalid value for configuration property 'hibernate.search.coordination.event_processor.agent_count'",
+								"'2'",
+								"This property cannot be set when using static sharding",
+								"assign more shards to it through configuration property"
+										+ " 'hibernate.search.coordination.event_processor.shards.assigned'" )
+						.build() );
+	}
+
 	private void setup(UnaryOperator<OrmSetupHelper.SetupContext> config) {
 		backendMock.expectSchema( IndexedEntity.NAME, b -> b
 				.field( "text", String.class, f -> f.analyzerName( AnalyzerNames.DEFAULT ) ) );
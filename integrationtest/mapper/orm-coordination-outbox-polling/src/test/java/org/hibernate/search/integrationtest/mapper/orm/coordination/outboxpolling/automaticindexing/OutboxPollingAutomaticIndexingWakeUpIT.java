@@ -0,0 +1,166 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.spi.HibernateOrmMapperOutboxPollingSpiSettings;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.Agent;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.AgentState;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventListener;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventNotifier;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests that event processors get woken up when outbox events are committed.
+ */
+public class OutboxPollingAutomaticIndexingWakeUpIT {
+
+	// Use a polling interval long enough that events processed promptly
+	// can only have been processed thanks to a notification.
+	private static final int LONG_POLLING_INTERVAL = 5000;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock )
+			.coordinationStrategy( CoordinationStrategyExpectations.outboxPolling() );
+
+	private SessionFactory sessionFactory;
+
+	@Test
+	public void eventsCommitted_processedBeforeNextPoll() {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b.field( "indexedField", String.class ) );
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( "hibernate.search.coordination.event_processor.polling_interval", LONG_POLLING_INTERVAL )
+				.withProperty( "hibernate.search.coordination.event_processor.pulse_interval", LONG_POLLING_INTERVAL )
+				.withProperty( "hibernate.search.coordination.event_processor.pulse_expiration", LONG_POLLING_INTERVAL * 3 )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		// Processors ignore notifications until they are allowed to process events.
+		await( "Waiting for the event processor to start processing events" )
+				.atMost( Duration.ofMillis( LONG_POLLING_INTERVAL * 4L ) )
+				.untilAsserted( () -> withinTransaction( sessionFactory, session -> assertThat(
+						session.createQuery( "select a from Agent a", Agent.class ).getSingleResult().getState() )
+						.isEqualTo( AgentState.RUNNING ) ) );
+
+		// Repeat, so that events getting processed promptly by chance, because a poll happened to be due,
+		// is unlikely to make this test pass.
+		for ( int i = 1; i <= 3; i++ ) {
+			int id = i;
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.add( String.valueOf( id ), b -> b.field( "indexedField", "initialValue" ) );
+			long start = System.nanoTime();
+			withinTransaction( sessionFactory, session -> session.persist( new IndexedEntity( id, "initialValue" ) ) );
+			backendMock.verifyExpectationsMet();
+			assertThat( Duration.ofNanos( System.nanoTime() - start ) )
+					.isLessThan( Duration.ofMillis( LONG_POLLING_INTERVAL / 5 ) );
+		}
+	}
+
+	@Test
+	public void notifierFailure_doesNotAffectTransaction() {
+		FailingOutboxEventNotifier notifier = new FailingOutboxEventNotifier();
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b.field( "indexedField", String.class ) );
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperOutboxPollingSpiSettings.OUTBOXEVENT_NOTIFIER, notifier )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		// The events still get processed through polling.
+		backendMock.expectWorks( IndexedEntity.NAME )
+				.add( "1", b -> b.field( "indexedField", "initialValue" ) );
+		withinTransaction( sessionFactory, session -> session.persist( new IndexedEntity( 1, "initialValue" ) ) );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( notifier.eventsCommittedCalls ).hasValue( 1 );
+		withinTransaction( sessionFactory, session -> assertThat( session.get( IndexedEntity.class, 1 ) )
+				.isNotNull() );
+	}
+
+	private static class FailingOutboxEventNotifier implements OutboxEventNotifier {
+		private final AtomicInteger eventsCommittedCalls = new AtomicInteger();
+
+		@Override
+		public void eventsCommitted(String tenantId, int[] entityIdHashes) {
+			eventsCommittedCalls.incrementAndGet();
+			throw new SimulatedFailure( "Notification failed!" );
+		}
+
+		@Override
+		public void addListener(OutboxEventListener listener) {
+			// No-op
+		}
+
+		@Override
+		public void removeListener(OutboxEventListener listener) {
+			// No-op
+		}
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed(index = IndexedEntity.NAME)
+	public static class IndexedEntity {
+		static final String NAME = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String indexedField) {
+			this.id = id;
+			this.indexedField = indexedField;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+
+}
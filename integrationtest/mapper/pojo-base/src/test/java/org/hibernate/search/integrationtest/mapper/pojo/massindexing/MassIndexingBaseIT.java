@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.integrationtest.mapper.pojo.massindexing;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Fail.fail;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -31,6 +34,8 @@
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.awaitility.Awaitility;
+
 /**
  * Very basic test to probe an use of {@link MassIndexer} api.
  */
@@ -212,6 +217,168 @@ public void mergeSegmentsOnFinish() {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void bulkIndexingSettings() {
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer()
+					// Simulate passing information to connect to a DB, ...
+					.context( StubLoadingContext.class, loadingContext )
+					.bulkIndexingSettings( true );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorks(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+					.field( "title", TITLE_1 )
+					.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+					.field( "title", TITLE_2 )
+					.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+					.field( "title", TITLE_3 )
+					.field( "author", AUTHOR_3 )
+					);
+
+			backendMock.expectSchemaManagementWorks( Book.INDEX )
+					.work( StubSchemaManagementWork.Type.PREPARE_FOR_BULK_INDEXING )
+					.work( StubSchemaManagementWork.Type.RESTORE_AFTER_BULK_INDEXING );
+
+			// purgeAtStart and mergeSegmentsAfterPurge are enabled by default,
+			// so we expect 1 purge, 1 optimize and 1 flush calls in this order:
+			backendMock.expectIndexScaleWorks( Book.INDEX, searchSession.tenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void bulkIndexingSettings_failure() {
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer()
+					// Simulate passing information to connect to a DB, ...
+					.context( StubLoadingContext.class, loadingContext )
+					.mergeSegmentsOnFinish( true )
+					.bulkIndexingSettings( true );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorks(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+					.field( "title", TITLE_1 )
+					.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+					.field( "title", TITLE_2 )
+					.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+					.field( "title", TITLE_3 )
+					.field( "author", AUTHOR_3 )
+					);
+
+			// Settings must be restored even though mass indexing fails
+			backendMock.expectSchemaManagementWorks( Book.INDEX )
+					.work( StubSchemaManagementWork.Type.PREPARE_FOR_BULK_INDEXING )
+					.work( StubSchemaManagementWork.Type.RESTORE_AFTER_BULK_INDEXING );
+
+			// The final merge fails, so we expect no flush or refresh
+			CompletableFuture<?> failingFuture = new CompletableFuture<>();
+			failingFuture.completeExceptionally( new RuntimeException( "Simulated merge failure" ) );
+			backendMock.expectIndexScaleWorks( Book.INDEX, searchSession.tenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.mergeSegments( failingFuture );
+
+			assertThatThrownBy( indexer::startAndWait )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( "1 failure(s) occurred during mass indexing",
+							"Simulated merge failure" );
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void bulkIndexingSettings_interrupted() throws InterruptedException {
+		MassIndexer indexer = mapping.scope( Object.class ).massIndexer()
+				// Simulate passing information to connect to a DB, ...
+				.context( StubLoadingContext.class, loadingContext )
+				.typesToIndexInParallel( 1 )
+				.threadsToLoadObjects( 1 )
+				.bulkIndexingSettings( true );
+
+		backendMock.expectSchemaManagementWorks( Book.INDEX )
+				.work( StubSchemaManagementWork.Type.PREPARE_FOR_BULK_INDEXING );
+
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.purge()
+				.mergeSegments();
+
+		backendMock.expectWorks(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				// Return a CompletableFuture that will never complete
+				.createAndExecuteFollowingWorks( new CompletableFuture<>() )
+				.add( "1", b -> b
+				.field( "title", TITLE_1 )
+				.field( "author", AUTHOR_1 )
+				)
+				.add( "2", b -> b
+				.field( "title", TITLE_2 )
+				.field( "author", AUTHOR_2 )
+				)
+				.add( "3", b -> b
+				.field( "title", TITLE_3 )
+				.field( "author", AUTHOR_3 )
+				);
+
+		AtomicReference<Throwable> thrown = new AtomicReference<>();
+		Thread massIndexingThread = new Thread( () -> {
+			try {
+				indexer.startAndWait();
+			}
+			catch (Throwable t) {
+				thrown.set( t );
+			}
+		} );
+		massIndexingThread.start();
+
+		// Wait until indexing works are submitted: settings were applied and indexing is stuck.
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+
+		// Settings must be restored even though mass indexing is interrupted,
+		// and the documents indexed so far must be committed
+		backendMock.expectSchemaManagementWorks( Book.INDEX )
+				.work( StubSchemaManagementWork.Type.RESTORE_AFTER_BULK_INDEXING );
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh();
+
+		massIndexingThread.interrupt();
+		massIndexingThread.join();
+
+		assertThat( thrown.get() ).isInstanceOf( InterruptedException.class );
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	public void fromMappingWithoutSession() {
 		MassIndexer indexer = mapping.scope( Object.class ).massIndexer()
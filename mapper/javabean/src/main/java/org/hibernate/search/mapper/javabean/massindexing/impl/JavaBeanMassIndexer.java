@@ -66,6 +66,18 @@ public MassIndexer purgeAllOnStart(boolean purgeAll) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer buildThenSwap(boolean enable) {
+		delegate.buildThenSwap( enable );
+		return this;
+	}
+
+	@Override
+	public MassIndexer bulkIndexingSettings(boolean enable) {
+		delegate.bulkIndexingSettings( enable );
+		return this;
+	}
+
 	@Override
 	public CompletionStage<?> start() {
 		return delegate.start();
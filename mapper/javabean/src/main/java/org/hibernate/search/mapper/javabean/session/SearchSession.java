@@ -10,6 +10,7 @@
 import java.util.Collection;
 import java.util.Collections;
 
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.javabean.common.EntityReference;
 import org.hibernate.search.mapper.javabean.scope.SearchScope;
@@ -102,6 +103,17 @@ default MassIndexer massIndexer(Class<?>... types) {
 	 */
 	<T> SearchQuerySelectStep<?, EntityReference, T, ?, ?, ?> search(SearchScope<T> scope);
 
+	/**
+	 * Create a {@link SearchQueryBatch}, to execute several independent search queries together.
+	 * <p>
+	 * Executing queries as a batch may be faster than executing each query separately,
+	 * e.g. by sending all queries in a single request to the backend.
+	 *
+	 * @return A new, empty {@link SearchQueryBatch}.
+	 * @see SearchQueryBatch
+	 */
+	SearchQueryBatch batch();
+
 	/**
 	 * Create a {@link SearchSchemaManager} for all indexes.
 	 *
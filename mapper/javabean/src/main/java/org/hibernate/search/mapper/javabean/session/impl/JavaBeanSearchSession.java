@@ -15,7 +15,9 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchQueryBatch;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
 import org.hibernate.search.mapper.javabean.common.EntityReference;
 import org.hibernate.search.mapper.javabean.loading.dsl.SelectionLoadingOptionsStep;
@@ -126,6 +128,12 @@ public PojoRuntimeIntrospector runtimeIntrospector() {
 		return search( (SearchScopeImpl<T>) scope );
 	}
 
+	@Override
+	public SearchQueryBatch batch() {
+		checkOpenAndThrow();
+		return new SimpleSearchQueryBatch();
+	}
+
 	@Override
 	public SearchSchemaManager schemaManager(Collection<? extends Class<?>> types) {
 		return scope( types ).schemaManager();
@@ -103,6 +103,27 @@ private HibernateOrmMapperOutboxPollingSettings() {
 	 */
 	public static final String COORDINATION_EVENT_PROCESSOR_SHARDS_ASSIGNED = PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_SHARDS_ASSIGNED;
 
+	/**
+	 * The number of event processor agents to run on this application node.
+	 * <p>
+	 * Only available when {@link HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * Each agent joins the cluster independently and, with dynamic sharding,
+	 * is assigned its own shard, i.e. its own share of outbox events.
+	 * Running multiple agents on a single application node allows that node to process events in parallel.
+	 * <p>
+	 * Cannot be set when using static sharding:
+	 * with static sharding, this application node runs one agent per
+	 * {@link #COORDINATION_EVENT_PROCESSOR_SHARDS_ASSIGNED assigned shard}.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_EVENT_PROCESSOR_AGENT_COUNT}.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_AGENT_COUNT = PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_AGENT_COUNT;
+
 	/**
 	 * In the event processor, how long to wait for another query to the outbox events table
 	 * after a query didn't return any event, in milliseconds.
@@ -126,6 +147,29 @@ private HibernateOrmMapperOutboxPollingSettings() {
 	public static final String COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL =
 			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL;
 
+	/**
+	 * In the event processor, the maximum interval, in milliseconds, between two queries to the outbox table
+	 * when queries keep returning no event.
+	 * <p>
+	 * Only available when {@link HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * When set to a value higher than the {@link #COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL polling interval},
+	 * the event processor doubles the interval between two queries every time a query returns no event,
+	 * up to this maximum,
+	 * and goes back to the polling interval as soon as a query returns events.
+	 * Pulses are not delayed by this setting.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 5000},
+	 * or a String that can be parsed into such Integer value.
+	 * The value must be greater than or equal to the polling interval.
+	 * <p>
+	 * Defaults to the {@link #COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL polling interval},
+	 * i.e. no back-off.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_MAX_POLLING_INTERVAL =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_MAX_POLLING_INTERVAL;
+
 	/**
 	 * How long, in milliseconds, the event processor can poll for events
 	 * before it must perform a "pulse".
@@ -220,6 +264,84 @@ private HibernateOrmMapperOutboxPollingSettings() {
 	public static final String COORDINATION_EVENT_PROCESSOR_BATCH_SIZE =
 			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_BATCH_SIZE;
 
+	/**
+	 * In the event processor, the minimum batch size when adapting the batch size to the observed processing time.
+	 * <p>
+	 * Only available when {@link HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * The {@link #COORDINATION_EVENT_PROCESSOR_BATCH_SIZE batch size} is used as the initial batch size;
+	 * when the minimum and maximum batch sizes differ, the event processor adjusts the batch size
+	 * within these bounds so that processing a batch takes about the
+	 * {@link #COORDINATION_EVENT_PROCESSOR_TARGET_BATCH_PROCESSING_TIME target batch processing time}.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * The value must be lower than or equal to the batch size.
+	 * <p>
+	 * Defaults to the {@link #COORDINATION_EVENT_PROCESSOR_BATCH_SIZE batch size}.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_MIN_BATCH_SIZE =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_MIN_BATCH_SIZE;
+
+	/**
+	 * In the event processor, the maximum batch size when adapting the batch size to the observed processing time.
+	 * <p>
+	 * Only available when {@link HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * See {@link #COORDINATION_EVENT_PROCESSOR_MIN_BATCH_SIZE}.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 500},
+	 * or a String that can be parsed into such Integer value.
+	 * The value must be greater than or equal to the batch size.
+	 * <p>
+	 * Defaults to the {@link #COORDINATION_EVENT_PROCESSOR_BATCH_SIZE batch size}.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_MAX_BATCH_SIZE =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_MAX_BATCH_SIZE;
+
+	/**
+	 * In the event processor, how long processing a batch of events should take, in milliseconds,
+	 * when adapting the batch size to the observed processing time.
+	 * <p>
+	 * Only available when {@link HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * Only effective when {@link #COORDINATION_EVENT_PROCESSOR_MIN_BATCH_SIZE} and
+	 * {@link #COORDINATION_EVENT_PROCESSOR_MAX_BATCH_SIZE} differ.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_EVENT_PROCESSOR_TARGET_BATCH_PROCESSING_TIME}.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_TARGET_BATCH_PROCESSING_TIME =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_TARGET_BATCH_PROCESSING_TIME;
+
+	/**
+	 * In the event processor, how many batches of outbox events, at most, can be processed concurrently.
+	 * <p>
+	 * Only available when {@link HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * When set to {@code 1}, batches are processed one after the other:
+	 * the event processor polls for events, waits for indexing to complete,
+	 * then removes the processed events from the outbox table before polling again.
+	 * <p>
+	 * When set to a higher value, processing is pipelined:
+	 * the event processor polls for the next batch of events while previous batches are still being indexed,
+	 * and processed events are removed from the outbox table asynchronously, as soon as their indexing completes.
+	 * This leads to higher throughput, at the cost of higher memory usage and more concurrent load on the backend.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES}.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES;
+
 	/**
 	 * In the event processor, the timeout for transactions processing outbox events.
 	 * <p>
@@ -361,10 +483,16 @@ private Radicals() {
 		public static final String COORDINATION_EVENT_PROCESSOR_ENABLED = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_ENABLED;
 		public static final String COORDINATION_EVENT_PROCESSOR_SHARDS_TOTAL_COUNT = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_SHARDS_TOTAL_COUNT;
 		public static final String COORDINATION_EVENT_PROCESSOR_SHARDS_ASSIGNED = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_SHARDS_ASSIGNED;
+		public static final String COORDINATION_EVENT_PROCESSOR_AGENT_COUNT = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_AGENT_COUNT;
 		public static final String COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_POLLING_INTERVAL;
+		public static final String COORDINATION_EVENT_PROCESSOR_MAX_POLLING_INTERVAL = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_MAX_POLLING_INTERVAL;
 		public static final String COORDINATION_EVENT_PROCESSOR_PULSE_INTERVAL = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_PULSE_INTERVAL;
 		public static final String COORDINATION_EVENT_PROCESSOR_PULSE_EXPIRATION = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_PULSE_EXPIRATION;
 		public static final String COORDINATION_EVENT_PROCESSOR_BATCH_SIZE = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_BATCH_SIZE;
+		public static final String COORDINATION_EVENT_PROCESSOR_MIN_BATCH_SIZE = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_MIN_BATCH_SIZE;
+		public static final String COORDINATION_EVENT_PROCESSOR_MAX_BATCH_SIZE = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_MAX_BATCH_SIZE;
+		public static final String COORDINATION_EVENT_PROCESSOR_TARGET_BATCH_PROCESSING_TIME = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_TARGET_BATCH_PROCESSING_TIME;
+		public static final String COORDINATION_EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES;
 		public static final String COORDINATION_EVENT_PROCESSOR_TRANSACTION_TIMEOUT = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_TRANSACTION_TIMEOUT;
 		public static final String COORDINATION_EVENT_PROCESSOR_RETRY_DELAY = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_RETRY_DELAY;
 		public static final String COORDINATION_MASS_INDEXER_POLLING_INTERVAL = COORDINATION_PREFIX + CoordinationRadicals.MASS_INDEXER_POLLING_INTERVAL;
@@ -385,10 +513,16 @@ private CoordinationRadicals() {
 		public static final String EVENT_PROCESSOR_ENABLED = EVENT_PROCESSOR_PREFIX + "enabled";
 		public static final String EVENT_PROCESSOR_SHARDS_TOTAL_COUNT = EVENT_PROCESSOR_PREFIX + "shards.total_count";
 		public static final String EVENT_PROCESSOR_SHARDS_ASSIGNED = EVENT_PROCESSOR_PREFIX + "shards.assigned";
+		public static final String EVENT_PROCESSOR_AGENT_COUNT = EVENT_PROCESSOR_PREFIX + "agent_count";
 		public static final String EVENT_PROCESSOR_POLLING_INTERVAL = EVENT_PROCESSOR_PREFIX + "polling_interval";
+		public static final String EVENT_PROCESSOR_MAX_POLLING_INTERVAL = EVENT_PROCESSOR_PREFIX + "max_polling_interval";
 		public static final String EVENT_PROCESSOR_PULSE_INTERVAL = EVENT_PROCESSOR_PREFIX + "pulse_interval";
 		public static final String EVENT_PROCESSOR_PULSE_EXPIRATION = EVENT_PROCESSOR_PREFIX + "pulse_expiration";
 		public static final String EVENT_PROCESSOR_BATCH_SIZE = EVENT_PROCESSOR_PREFIX + "batch_size";
+		public static final String EVENT_PROCESSOR_MIN_BATCH_SIZE = EVENT_PROCESSOR_PREFIX + "min_batch_size";
+		public static final String EVENT_PROCESSOR_MAX_BATCH_SIZE = EVENT_PROCESSOR_PREFIX + "max_batch_size";
+		public static final String EVENT_PROCESSOR_TARGET_BATCH_PROCESSING_TIME = EVENT_PROCESSOR_PREFIX + "target_batch_processing_time";
+		public static final String EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES = EVENT_PROCESSOR_PREFIX + "max_in_flight_batches";
 		public static final String EVENT_PROCESSOR_TRANSACTION_TIMEOUT = EVENT_PROCESSOR_PREFIX + "transaction_timeout";
 		public static final String EVENT_PROCESSOR_RETRY_DELAY = EVENT_PROCESSOR_PREFIX + "retry_delay";
 		public static final String MASS_INDEXER_PREFIX = "mass_indexer.";
@@ -406,10 +540,13 @@ private Defaults() {
 		}
 
 		public static final boolean COORDINATION_EVENT_PROCESSOR_ENABLED = true;
+		public static final int COORDINATION_EVENT_PROCESSOR_AGENT_COUNT = 1;
 		public static final int COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL = 100;
 		public static final int COORDINATION_EVENT_PROCESSOR_PULSE_INTERVAL = 2000;
 		public static final int COORDINATION_EVENT_PROCESSOR_PULSE_EXPIRATION = 30000;
 		public static final int COORDINATION_EVENT_PROCESSOR_BATCH_SIZE = 50;
+		public static final int COORDINATION_EVENT_PROCESSOR_TARGET_BATCH_PROCESSING_TIME = 1000;
+		public static final int COORDINATION_EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES = 1;
 		public static final int COORDINATION_EVENT_PROCESSOR_RETRY_DELAY = 30;
 		public static final int COORDINATION_MASS_INDEXER_POLLING_INTERVAL = 100;
 		public static final int COORDINATION_MASS_INDEXER_PULSE_INTERVAL = 2000;
@@ -12,6 +12,7 @@
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.OutboxPollingAgentAdditionalJaxbMappingProducer;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxEvent;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalJaxbMappingProducer;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventNotifier;
 import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
@@ -53,6 +54,18 @@ private HibernateOrmMapperOutboxPollingSpiSettings() {
 	 */
 	public static final String AGENT_ENTITY_MAPPING = PREFIX + Radicals.AGENT_ENTITY_MAPPING;
 
+	/**
+	 * The notifier used to wake up event processors as soon as outbox events are committed.
+	 * <p>
+	 * Only available when {@link HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value HibernateOrmMapperOutboxPollingSettings#COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * Expects a reference to a bean of type {@link OutboxEventNotifier}.
+	 * <p>
+	 * Defaults to a notifier that only wakes up event processors running in the same JVM.
+	 */
+	public static final String OUTBOXEVENT_NOTIFIER = PREFIX + Radicals.OUTBOXEVENT_NOTIFIER;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -64,6 +77,7 @@ private Radicals() {
 		public static final String COORDINATION_PREFIX = HibernateOrmMapperSettings.Radicals.COORDINATION_PREFIX;
 		public static final String OUTBOXEVENT_ENTITY_MAPPING = COORDINATION_PREFIX + CoordinationRadicals.OUTBOXEVENT_ENTITY_MAPPING;
 		public static final String AGENT_ENTITY_MAPPING = COORDINATION_PREFIX + CoordinationRadicals.AGENT_ENTITY_MAPPING;
+		public static final String OUTBOXEVENT_NOTIFIER = COORDINATION_PREFIX + CoordinationRadicals.OUTBOXEVENT_NOTIFIER;
 	}
 
 	public static final class CoordinationRadicals {
@@ -73,6 +87,7 @@ private CoordinationRadicals() {
 
 		public static final String OUTBOXEVENT_ENTITY_MAPPING = "outboxevent.entity.mapping";
 		public static final String AGENT_ENTITY_MAPPING = "agent.entity.mapping";
+		public static final String OUTBOXEVENT_NOTIFIER = "outboxevent.notifier";
 	}
 
 }
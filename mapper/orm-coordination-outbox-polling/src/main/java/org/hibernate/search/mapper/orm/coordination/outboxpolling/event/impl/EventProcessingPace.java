@@ -0,0 +1,86 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl;
+
+import java.time.Duration;
+
+/**
+ * Adapts the polling interval and batch size of an event processor to the observed load.
+ * <p>
+ * With equal minimum and maximum values, the polling interval and batch size are fixed.
+ */
+final class EventProcessingPace {
+
+	private final long minPollingInterval;
+	private final long maxPollingInterval;
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final long targetBatchProcessingTimeNanos;
+
+	private long pollingInterval;
+	private int batchSize;
+
+	EventProcessingPace(Duration minPollingInterval, Duration maxPollingInterval,
+			int initialBatchSize, int minBatchSize, int maxBatchSize, Duration targetBatchProcessingTime) {
+		this.minPollingInterval = minPollingInterval.toMillis();
+		this.maxPollingInterval = maxPollingInterval.toMillis();
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+		this.targetBatchProcessingTimeNanos = targetBatchProcessingTime.toNanos();
+		this.pollingInterval = this.minPollingInterval;
+		this.batchSize = initialBatchSize;
+	}
+
+	/**
+	 * @return How long to wait, in milliseconds, before polling again after a poll that didn't return any event.
+	 */
+	synchronized long pollingInterval() {
+		return pollingInterval;
+	}
+
+	/**
+	 * @return How many events, at most, to retrieve in the next poll.
+	 */
+	synchronized int batchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @param eventsFound Whether the last poll returned events.
+	 */
+	synchronized void polled(boolean eventsFound) {
+		if ( eventsFound ) {
+			// There is load: go back to polling as frequently as possible.
+			pollingInterval = minPollingInterval;
+		}
+		else {
+			// Exponential back-off
+			pollingInterval = Math.min( maxPollingInterval, pollingInterval * 2 );
+		}
+	}
+
+	/**
+	 * @param requestedBatchSize The batch size that was requested when polling for the events.
+	 * @param eventCount The number of events that were actually processed.
+	 * @param processingTimeNanos How long processing these events took, in nanoseconds.
+	 */
+	synchronized void batchProcessed(int requestedBatchSize, int eventCount, long processingTimeNanos) {
+		if ( minBatchSize == maxBatchSize || eventCount <= 0 ) {
+			return;
+		}
+		double nanosPerEvent = Math.max( 1L, processingTimeNanos ) / (double) eventCount;
+		long idealBatchSize = (long) ( targetBatchProcessingTimeNanos / nanosPerEvent );
+		if ( idealBatchSize > batchSize && eventCount < requestedBatchSize ) {
+			// The batch wasn't full: there is no point in growing the batch size.
+			return;
+		}
+		// Only move halfway to the ideal batch size, to smooth out variations in processing time.
+		long newBatchSize = ( batchSize + idealBatchSize ) / 2;
+		batchSize = (int) Math.max( minBatchSize, Math.min( maxBatchSize, newBatchSize ) );
+	}
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventListener;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventNotifier;
+
+/**
+ * A notifier that only notifies listeners within the same JVM.
+ */
+public final class LocalOutboxEventNotifier implements OutboxEventNotifier {
+
+	private final List<OutboxEventListener> listeners = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void eventsCommitted(String tenantId, int[] entityIdHashes) {
+		for ( OutboxEventListener listener : listeners ) {
+			listener.eventsCommitted( tenantId, entityIdHashes );
+		}
+	}
+
+	@Override
+	public void addListener(OutboxEventListener listener) {
+		listeners.add( listener );
+	}
+
+	@Override
+	public void removeListener(OutboxEventListener listener) {
+		listeners.remove( listener );
+	}
+}
@@ -26,6 +26,27 @@ static Duration checkPulseInterval(Duration pulseInterval, Duration pollingInter
 		return pulseInterval;
 	}
 
+	static Duration checkMaxPollingInterval(Duration maxPollingInterval, Duration pollingInterval) {
+		if ( maxPollingInterval.compareTo( pollingInterval ) < 0 ) {
+			throw log.invalidPollingIntervalAndMaxPollingInterval( pollingInterval.toMillis() );
+		}
+		return maxPollingInterval;
+	}
+
+	static int checkMinBatchSize(int minBatchSize, int batchSize) {
+		if ( minBatchSize > batchSize ) {
+			throw log.invalidBatchSizeAndMinBatchSize( batchSize );
+		}
+		return minBatchSize;
+	}
+
+	static int checkMaxBatchSize(int maxBatchSize, int batchSize) {
+		if ( maxBatchSize < batchSize ) {
+			throw log.invalidBatchSizeAndMaxBatchSize( batchSize );
+		}
+		return maxBatchSize;
+	}
+
 	static Duration checkPulseExpiration(Duration pulseExpiration, Duration pulseInterval) {
 		Duration pulseIntervalTimes3 = pulseInterval.multipliedBy( 3 );
 		if ( pulseExpiration.compareTo( pulseIntervalTimes3 ) < 0 ) {
@@ -62,6 +62,9 @@ private static List<OutboxEvent> tryLoadLocking(Session session, Set<Long> ids)
 		// so we can afford to just skip events that are already locked,
 		// and process them later when they are no longer locked.
 		query.setLockOptions( new LockOptions( LockMode.PESSIMISTIC_WRITE ).setTimeOut( LockOptions.SKIP_LOCKED ) );
+		// Events are updated/deleted using set-based statements,
+		// so there is no need to track changes to these entities.
+		query.setReadOnly( true );
 
 		return query.getResultList();
 	}
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.Session;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
@@ -53,6 +54,43 @@ void processEvents(List<OutboxEvent> events) {
 		}
 	}
 
+	/**
+	 * Processes the given events without waiting for indexing to complete.
+	 * <p>
+	 * Entities are loaded and documents are built before this method returns,
+	 * so the session can be closed as soon as this method returns.
+	 *
+	 * @param events The events to process.
+	 * @return A future that will complete once indexing is complete and failures have been reported.
+	 * The future never completes exceptionally.
+	 */
+	CompletableFuture<Void> processEventsAsync(List<OutboxEvent> events) {
+		this.events = events;
+		CompletableFuture<MultiEntityOperationExecutionReport<EntityReference>> future;
+		try {
+			addEventsToThePlan();
+			future = processingPlan.executeAndReport();
+		}
+		catch (Throwable throwable) {
+			reportMapperFailure( throwable );
+			return CompletableFuture.completedFuture( null );
+		}
+		return future.handle( Futures.<MultiEntityOperationExecutionReport<EntityReference>, Void>handler(
+				(report, throwable) -> {
+					if ( throwable != null ) {
+						reportMapperFailure( throwable );
+						return null;
+					}
+					try {
+						reportBackendResult( report );
+					}
+					catch (Throwable t) {
+						reportMapperFailure( t );
+					}
+					return null;
+				} ) );
+	}
+
 	List<OutboxEvent> getEvents() {
 		return events;
 	}
@@ -6,14 +6,18 @@
  */
 package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl;
 
+import static org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalJaxbMappingProducer.ENTITY_NAME;
+
 import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.Query;
 import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.logging.impl.Log;
@@ -24,6 +28,13 @@ public class OutboxEventUpdater {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private static final int MAX_RETRIES = 3;
+	// Some databases limit the number of elements in an IN predicate (e.g. 1000 in Oracle).
+	private static final int BULK_OPERATION_CHUNK_SIZE = 1000;
+
+	private static final String DELETE_EVENTS = "delete " + ENTITY_NAME + " e where e.id in (:ids)";
+	private static final String RETRY_EVENTS = "update " + ENTITY_NAME
+			+ " e set e.retries = e.retries + 1, e.processAfter = :processAfter where e.id in (:ids)";
+	private static final String ABORT_EVENTS = "update " + ENTITY_NAME + " e set e.status = :status where e.id in (:ids)";
 
 	private final FailureHandler failureHandler;
 	private final OutboxEventProcessingPlan processingPlan;
@@ -52,7 +63,10 @@ public boolean thereAreStillEventsToProcess() {
 
 	public void process() {
 		List<OutboxEvent> lockedEvents = OutboxEventLoader.loadLocking( session, eventsIds, processorName );
-		List<OutboxEvent> eventToDelete = new ArrayList<>( lockedEvents );
+		List<Long> eventIdsToDelete = new ArrayList<>();
+		List<Long> eventIdsToRetry = new ArrayList<>();
+		List<Long> eventIdsToAbort = new ArrayList<>();
+		Instant processAfter = ( retryAfter > 0 ) ? Instant.now().plusSeconds( retryAfter ) : Instant.now();
 
 		for ( OutboxEvent event : lockedEvents ) {
 			Long id = event.getId();
@@ -61,36 +75,42 @@ public void process() {
 
 			if ( !failedEventIds.contains( id ) ) {
 				// The event was processed successfully; we will simply delete it.
+				eventIdsToDelete.add( id );
 				continue;
 			}
 
-			// We won't delete this event.
-			eventToDelete.remove( event );
-
 			// Failed events have to be processed differently:
 			// we try to update their retry count instead of deleting them,
 			// so that the process will try to process them again.
 			int attempts = event.getRetries() + 1;
 			if ( attempts >= MAX_RETRIES ) {
 				notifyMaxRetriesReached( event );
-				event.setStatus( OutboxEvent.Status.ABORTED );
+				eventIdsToAbort.add( id );
 			}
 			else {
 				// We will simply increment the retry count of this event,
 				// and the event processor will process it once more in the next batch
-				event.setRetries( attempts );
-
-				Instant processAfter = ( retryAfter > 0 ) ? Instant.now().plusSeconds( retryAfter ) : Instant.now();
-				event.setProcessAfter( processAfter );
-
+				eventIdsToRetry.add( id );
 				log.automaticIndexingRetry(
 						event.getId(), event.getEntityName(), event.getEntityId(), attempts, processAfter
 				);
 			}
 		}
 
-		for ( OutboxEvent event : eventToDelete ) {
-			session.remove( event );
+		// All these events are locked by the current transaction,
+		// so we can safely use set-based statements instead of updating/removing entities one by one.
+		executeInChunks( DELETE_EVENTS, eventIdsToDelete, query -> { } );
+		executeInChunks( RETRY_EVENTS, eventIdsToRetry, query -> query.setParameter( "processAfter", processAfter ) );
+		executeInChunks( ABORT_EVENTS, eventIdsToAbort,
+				query -> query.setParameter( "status", OutboxEvent.Status.ABORTED ) );
+	}
+
+	private void executeInChunks(String queryString, List<Long> ids, Consumer<Query<?>> parameterSetter) {
+		for ( int i = 0; i < ids.size(); i += BULK_OPERATION_CHUNK_SIZE ) {
+			Query<?> query = session.createQuery( queryString );
+			query.setParameter( "ids", ids.subList( i, Math.min( i + BULK_OPERATION_CHUNK_SIZE, ids.size() ) ) );
+			parameterSetter.accept( query );
+			query.executeUpdate();
 		}
 	}
 
@@ -14,17 +14,24 @@ final class OutboxPollingEventProcessingInstructions {
 	private final Clock clock;
 	final Instant expiration;
 	final Optional<OutboxEventFinder> eventFinder;
+	private final Optional<ShardAssignment> shardAssignment;
 
-	public OutboxPollingEventProcessingInstructions(Clock clock, Instant expiration, Optional<OutboxEventFinder> eventFinder) {
+	public OutboxPollingEventProcessingInstructions(Clock clock, Instant expiration,
+			Optional<ShardAssignment> shardAssignment) {
 		this.clock = clock;
 		this.expiration = expiration;
-		this.eventFinder = eventFinder;
+		this.eventFinder = shardAssignment.map( assignment -> assignment.eventFinder );
+		this.shardAssignment = shardAssignment;
 	}
 
 	boolean isStillValid() {
 		return timeInMillisecondsToExpiration() > 0;
 	}
 
+	boolean isAssigned(int entityIdHash) {
+		return shardAssignment.isPresent() && shardAssignment.get().isAssigned( entityIdHash );
+	}
+
 	long timeInMillisecondsToExpiration() {
 		return Math.max( 0L, expiration.toEpochMilli() - clock.millis() );
 	}
@@ -9,12 +9,19 @@
 import java.lang.invoke.MethodHandles;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -24,6 +31,7 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingMappingContext;
 import org.hibernate.search.mapper.orm.common.spi.TransactionHelper;
@@ -31,8 +39,11 @@
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.AgentRepository;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.AgentRepositoryProvider;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.ShardAssignmentDescriptor;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventListener;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventNotifier;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.logging.impl.Log;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public final class OutboxPollingEventProcessor {
@@ -53,6 +64,11 @@ public static String namePrefix(String tenantId) {
 					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> MAX_POLLING_INTERVAL =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_MAX_POLLING_INTERVAL )
+					.asIntegerStrictlyPositive()
+					.build();
+
 	private static final ConfigurationProperty<Integer> PULSE_INTERVAL =
 			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_PULSE_INTERVAL )
 					.asIntegerStrictlyPositive()
@@ -71,6 +87,28 @@ public static String namePrefix(String tenantId) {
 					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_BATCH_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> MIN_BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_MIN_BATCH_SIZE )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MAX_BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_MAX_BATCH_SIZE )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final ConfigurationProperty<Integer> TARGET_BATCH_PROCESSING_TIME =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_TARGET_BATCH_PROCESSING_TIME )
+					.asIntegerStrictlyPositive()
+					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_TARGET_BATCH_PROCESSING_TIME )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_IN_FLIGHT_BATCHES =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES )
+					.asIntegerStrictlyPositive()
+					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES )
+					.build();
+
 	private static final OptionalConfigurationProperty<Integer> TRANSACTION_TIMEOUT =
 			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_TRANSACTION_TIMEOUT )
 					.asIntegerStrictlyPositive()
@@ -85,18 +123,31 @@ public static String namePrefix(String tenantId) {
 	public static Factory factory(AutomaticIndexingMappingContext mapping, Clock clock, String tenantId,
 			ConfigurationPropertySource configurationSource) {
 		Duration pollingInterval = POLLING_INTERVAL.getAndTransform( configurationSource, Duration::ofMillis );
+		Duration maxPollingInterval = MAX_POLLING_INTERVAL.getAndMap( configurationSource,
+				v -> OutboxConfigUtils.checkMaxPollingInterval( Duration.ofMillis( v ), pollingInterval ) )
+				.orElse( pollingInterval );
 		Duration pulseInterval = PULSE_INTERVAL.getAndTransform( configurationSource,
 				v -> OutboxConfigUtils.checkPulseInterval( Duration.ofMillis( v ), pollingInterval ) );
 		Duration pulseExpiration = PULSE_EXPIRATION.getAndTransform( configurationSource,
 				v -> OutboxConfigUtils.checkPulseExpiration( Duration.ofMillis( v ), pulseInterval ) );
 
 		int batchSize = BATCH_SIZE.get( configurationSource );
+		int minBatchSize = MIN_BATCH_SIZE.getAndMap( configurationSource,
+				v -> OutboxConfigUtils.checkMinBatchSize( v, batchSize ) )
+				.orElse( batchSize );
+		int maxBatchSize = MAX_BATCH_SIZE.getAndMap( configurationSource,
+				v -> OutboxConfigUtils.checkMaxBatchSize( v, batchSize ) )
+				.orElse( batchSize );
+		Duration targetBatchProcessingTime = TARGET_BATCH_PROCESSING_TIME.getAndTransform( configurationSource,
+				Duration::ofMillis );
+		int maxInFlightBatches = MAX_IN_FLIGHT_BATCHES.get( configurationSource );
 		int retryDelay = RETRY_DELAY.get( configurationSource );
 		Integer transactionTimeout = TRANSACTION_TIMEOUT.get( configurationSource )
 				.orElse( null );
 
-		return new Factory( mapping, clock, tenantId, pollingInterval, pulseInterval, pulseExpiration,
-				batchSize, retryDelay, transactionTimeout );
+		return new Factory( mapping, clock, tenantId, pollingInterval, maxPollingInterval, pulseInterval, pulseExpiration,
+				batchSize, minBatchSize, maxBatchSize, targetBatchProcessingTime,
+				maxInFlightBatches, retryDelay, transactionTimeout );
 	}
 
 	public static class Factory {
@@ -104,37 +155,54 @@ public static class Factory {
 		private final Clock clock;
 		private final String tenantId;
 		private final Duration pollingInterval;
+		private final Duration maxPollingInterval;
 		private final Duration pulseInterval;
 		private final Duration pulseExpiration;
 		private final int batchSize;
+		private final int minBatchSize;
+		private final int maxBatchSize;
+		private final Duration targetBatchProcessingTime;
+		private final int maxInFlightBatches;
 		private final int retryDelay;
 		private final Integer transactionTimeout;
 
 		private Factory(AutomaticIndexingMappingContext mapping, Clock clock, String tenantId,
-				Duration pollingInterval, Duration pulseInterval, Duration pulseExpiration,
-				int batchSize, int retryDelay, Integer transactionTimeout) {
+				Duration pollingInterval, Duration maxPollingInterval, Duration pulseInterval, Duration pulseExpiration,
+				int batchSize, int minBatchSize, int maxBatchSize, Duration targetBatchProcessingTime,
+				int maxInFlightBatches, int retryDelay, Integer transactionTimeout) {
 			this.mapping = mapping;
 			this.clock = clock;
 			this.tenantId = tenantId;
 			this.pollingInterval = pollingInterval;
+			this.maxPollingInterval = maxPollingInterval;
 			this.pulseInterval = pulseInterval;
 			this.pulseExpiration = pulseExpiration;
 			this.batchSize = batchSize;
+			this.minBatchSize = minBatchSize;
+			this.maxBatchSize = maxBatchSize;
+			this.targetBatchProcessingTime = targetBatchProcessingTime;
+			this.maxInFlightBatches = maxInFlightBatches;
 			this.retryDelay = retryDelay;
 			this.transactionTimeout = transactionTimeout;
 		}
 
 		public OutboxPollingEventProcessor create(ScheduledExecutorService scheduledExecutor,
 				OutboxEventFinderProvider finderProvider, AgentRepositoryProvider agentRepositoryProvider,
-				ShardAssignmentDescriptor shardAssignmentOrNull) {
-			String agentName = namePrefix( tenantId )
-					+ ( shardAssignmentOrNull == null ? "" : " - " + shardAssignmentOrNull.assignedShardIndex );
+				OutboxEventNotifier notifier, ShardAssignmentDescriptor shardAssignmentOrNull,
+				int localAgentIndex, int localAgentCount) {
+			String agentName = namePrefix( tenantId );
+			if ( shardAssignmentOrNull != null ) {
+				agentName += " - " + shardAssignmentOrNull.assignedShardIndex;
+			}
+			else if ( localAgentCount > 1 ) {
+				agentName += " - #" + localAgentIndex;
+			}
 			OutboxPollingEventProcessorClusterLink clusterLink = new OutboxPollingEventProcessorClusterLink(
 					agentName, mapping.failureHandler(), clock,
 					finderProvider, pollingInterval, pulseInterval, pulseExpiration, shardAssignmentOrNull );
 
 			return new OutboxPollingEventProcessor( agentName, this, scheduledExecutor,
-					agentRepositoryProvider, clusterLink );
+					agentRepositoryProvider, notifier, clusterLink );
 		}
 	}
 
@@ -147,39 +215,50 @@ private enum Status {
 	private final AutomaticIndexingMappingContext mapping;
 	private final String tenantId;
 	private final long pollingInterval;
-	private final int batchSize;
+	private final EventProcessingPace pace;
+	private final int maxInFlightBatches;
 	private final Integer transactionTimeout;
 	private final int retryDelay;
+	private final ScheduledExecutorService executor;
 
 	private final AtomicReference<Status> status = new AtomicReference<>( Status.STOPPED );
 	private final AgentRepositoryProvider agentRepositoryProvider;
+	private final OutboxEventNotifier notifier;
+	private final OutboxEventListener listener = this::onEventsCommitted;
 	private final OutboxPollingEventProcessorClusterLink clusterLink;
 	private final TransactionHelper transactionHelper;
 	private final FailureHandler failureHandler;
 	private final Worker worker;
+	private final Scheduler scheduler;
 	private final SingletonTask processingTask;
 
 	public OutboxPollingEventProcessor(String name, Factory factory,
 			ScheduledExecutorService executor,
 			AgentRepositoryProvider agentRepositoryProvider,
+			OutboxEventNotifier notifier,
 			OutboxPollingEventProcessorClusterLink clusterLink) {
 		this.name = name;
 		this.mapping = factory.mapping;
 		this.tenantId = factory.tenantId;
 		this.pollingInterval = factory.pollingInterval.toMillis();
-		this.batchSize = factory.batchSize;
+		this.pace = new EventProcessingPace( factory.pollingInterval, factory.maxPollingInterval,
+				factory.batchSize, factory.minBatchSize, factory.maxBatchSize, factory.targetBatchProcessingTime );
+		this.maxInFlightBatches = factory.maxInFlightBatches;
 		this.transactionTimeout = factory.transactionTimeout;
 		this.retryDelay = factory.retryDelay;
+		this.executor = executor;
 		this.agentRepositoryProvider = agentRepositoryProvider;
+		this.notifier = notifier;
 		this.clusterLink = clusterLink;
 
 		transactionHelper = new TransactionHelper( mapping.sessionFactory() );
 		failureHandler = mapping.failureHandler();
 		this.worker = new Worker();
+		this.scheduler = new Scheduler( executor );
 		processingTask = new SingletonTask(
 				name,
 				worker,
-				new Scheduler( executor ),
+				scheduler,
 				failureHandler
 		);
 	}
@@ -188,6 +267,7 @@ public void start() {
 		log.startingOutboxEventProcessor( name );
 		status.set( Status.STARTED );
 		processingTask.ensureScheduled();
+		notifier.addListener( listener );
 	}
 
 	public CompletableFuture<?> completion() {
@@ -196,17 +276,40 @@ public CompletableFuture<?> completion() {
 
 	public CompletableFuture<?> preStop() {
 		status.set( Status.STOPPED );
-		return processingTask.completion();
+		notifier.removeListener( listener );
+		// When pipelining, batches may still be in flight after the last execution of the worker:
+		// wait for them too, so that their events get updated in the outbox table before we stop.
+		return Futures.whenCompleteExecute( processingTask.completion(), worker::inFlightBatchesCompletion );
 	}
 
 	public void stop() {
 		log.stoppingOutboxEventProcessor( name );
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( n -> n.removeListener( listener ), notifier );
 			closer.push( SingletonTask::stop, processingTask );
 			closer.push( OutboxPollingEventProcessor::leaveCluster, this );
 		}
 	}
 
+	private void onEventsCommitted(String eventTenantId, int[] entityIdHashes) {
+		if ( !Objects.equals( tenantId, eventTenantId ) ) {
+			return;
+		}
+		OutboxPollingEventProcessingInstructions instructions = worker.instructions;
+		if ( instructions == null || !instructions.isStillValid() || !instructions.eventFinder.isPresent() ) {
+			// Processing is disabled for the time being, or we're about to pulse:
+			// don't mess with the schedule, we'll process events later.
+			return;
+		}
+		for ( int entityIdHash : entityIdHashes ) {
+			if ( instructions.isAssigned( entityIdHash ) ) {
+				log.tracef( "Waking up '%s' to process committed outbox events", name );
+				worker.wakeUp();
+				return;
+			}
+		}
+	}
+
 	private void leaveCluster() {
 		try ( SessionImplementor session = openSession() ) {
 			transactionHelper.begin( session, transactionTimeout );
@@ -230,6 +333,10 @@ private class Worker implements SingletonTask.Worker {
 		private volatile OutboxPollingEventProcessingInstructions instructions;
 		private volatile boolean lastExecutionProcessedEvents;
 
+		// Only used when pipelining, i.e. when maxInFlightBatches > 1
+		private final Set<Long> inFlightEventIds = ConcurrentHashMap.newKeySet();
+		private final Set<CompletableFuture<?>> inFlightBatches = ConcurrentHashMap.newKeySet();
+
 		@Override
 		public CompletableFuture<?> work() {
 			lastExecutionProcessedEvents = false;
@@ -242,6 +349,10 @@ public CompletableFuture<?> work() {
 				return CompletableFuture.completedFuture( null );
 			}
 
+			if ( maxInFlightBatches > 1 ) {
+				return pipelinedWork();
+			}
+
 			try ( SessionImplementor session = openSession() ) {
 				final OutboxEventProcessingPlan eventProcessing = new OutboxEventProcessingPlan( mapping, session );
 				transactionHelper.inTransaction( session, transactionTimeout, s -> {
@@ -256,7 +367,9 @@ public CompletableFuture<?> work() {
 						// (complete() will be called, re-scheduling the polling for later)
 						return;
 					}
+					int batchSize = pace.batchSize();
 					List<OutboxEvent> events = eventFinder.get().findOutboxEvents( session, batchSize );
+					pace.polled( !events.isEmpty() );
 					if ( events.isEmpty() ) {
 						// Nothing to do, try again later (complete() will be called, re-scheduling the polling for later)
 						return;
@@ -273,32 +386,154 @@ public CompletableFuture<?> work() {
 					log.tracef( "Processing %d outbox events for '%s': '%s'", events.size(), name, events );
 
 					// Process the events
+					long start = System.nanoTime();
 					eventProcessing.processEvents( events );
+					pace.batchProcessed( batchSize, events.size(), System.nanoTime() - start );
 				} );
 
-				// Updating events involves database locks on a table that
-				// can see heavily concurrent access (the outbox table),
-				// so we do that in a separate transaction, one that is as short as possible.
-				OutboxEventUpdater eventUpdater = new OutboxEventUpdater(
-						failureHandler, eventProcessing, session, name, retryDelay );
-				// We potentially perform this update in multiple transactions,
-				// each loading as many events as possible using SKIP_LOCKED,
-				// to only load events that are not already locked by another processor.
-				// This is to avoid problems related to lock escalation in MS SQL for example,
-				// where another processor could be locking on our own events because
-				// it locked a page instead of just a row.
-				// For more information, see
-				// org.hibernate.search.mapper.orm.coordination.outboxpolling.impl.OutboxEventLoader.tryLoadLocking
-				while ( eventUpdater.thereAreStillEventsToProcess() ) {
-					transactionHelper.inTransaction( session, transactionTimeout,
-							(Consumer<SharedSessionContractImplementor>) s -> eventUpdater.process()
-					);
-				}
+				// Entities loaded while processing events are no longer needed:
+				// don't let them be dirty-checked when flushing the updates below.
+				session.clear();
+				updateEvents( session, eventProcessing );
 
 				return CompletableFuture.completedFuture( null );
 			}
 		}
 
+		private CompletableFuture<?> pipelinedWork() {
+			if ( ( instructions == null || !instructions.isStillValid() ) && !inFlightBatches.isEmpty() ) {
+				// We are about to pulse, which may lead to this processor being suspended
+				// or assigned to another shard.
+				// Make sure we're done with the batches we've started before that.
+				// Since we set lastExecutionProcessedEvents to true,
+				// calling ensureScheduled() will lead to immediate re-execution right after we're done.
+				lastExecutionProcessedEvents = true;
+				ensureScheduled();
+				return inFlightBatchesCompletion();
+			}
+
+			try ( SessionImplementor session = openSession() ) {
+				final OutboxEventProcessingPlan eventProcessing = new OutboxEventProcessingPlan( mapping, session );
+				transactionHelper.inTransaction( session, transactionTimeout, s -> {
+					if ( instructions == null || !instructions.isStillValid() ) {
+						AgentRepository agentRepository = agentRepositoryProvider.create( session );
+						instructions = clusterLink.pulse( agentRepository );
+					}
+					Optional<OutboxEventFinder> eventFinder = instructions.eventFinder;
+					if ( !eventFinder.isPresent() ) {
+						// Processing is disabled for the time being.
+						// Don't do anything, we'll try again later
+						// (complete() will be called, re-scheduling the polling for later)
+						return;
+					}
+					// Events from in-flight batches are still in the outbox table,
+					// so we need to exclude them.
+					// We do that in memory, fetching enough events to fill a batch after exclusion.
+					int batchSize = pace.batchSize();
+					Set<Long> excludedIds = new HashSet<>( inFlightEventIds );
+					List<OutboxEvent> events = new ArrayList<>();
+					for ( OutboxEvent event : eventFinder.get()
+							.findOutboxEvents( session, batchSize + excludedIds.size() ) ) {
+						if ( events.size() >= batchSize ) {
+							break;
+						}
+						if ( !excludedIds.contains( event.getId() ) ) {
+							events.add( event );
+						}
+					}
+					pace.polled( !events.isEmpty() );
+					if ( events.isEmpty() ) {
+						// Nothing to do, try again later (complete() will be called, re-scheduling the polling for later)
+						return;
+					}
+
+					// There are events to process
+					lastExecutionProcessedEvents = true;
+					// Make sure we will process the next batch ASAP
+					// Since we set lastExecutionProcessedEvents to true,
+					// calling ensureScheduled() will lead to immediate re-execution right after we're done.
+					// See the Scheduler class below.
+					ensureScheduled();
+
+					log.tracef( "Processing %d outbox events for '%s': '%s'", events.size(), name, events );
+
+					// Entities are loaded and documents are built synchronously,
+					// so we can close the session as soon as this returns.
+					// Indexing itself and the update of events in the outbox table
+					// will happen in the background.
+					// Backends execute indexing works for a given document in the order they were submitted,
+					// so an older event for an entity will not overwrite the effects of a newer one.
+					long start = System.nanoTime();
+					CompletableFuture<Void> indexingFuture = eventProcessing.processEventsAsync( events )
+							.whenComplete( (result, throwable) -> pace.batchProcessed(
+									batchSize, events.size(), System.nanoTime() - start ) );
+					startBatch( events, indexingFuture, eventProcessing );
+				} );
+			}
+
+			CompletableFuture<?>[] inFlightBatchesSnapshot = inFlightBatches.toArray( new CompletableFuture<?>[0] );
+			if ( inFlightBatchesSnapshot.length < maxInFlightBatches ) {
+				return CompletableFuture.completedFuture( null );
+			}
+			else {
+				// Too many batches in flight: wait until one of them completes before polling again.
+				return CompletableFuture.anyOf( inFlightBatchesSnapshot );
+			}
+		}
+
+		private void startBatch(List<OutboxEvent> events, CompletableFuture<Void> indexingFuture,
+				OutboxEventProcessingPlan eventProcessing) {
+			List<Long> eventIds = new ArrayList<>( events.size() );
+			for ( OutboxEvent event : events ) {
+				eventIds.add( event.getId() );
+			}
+			inFlightEventIds.addAll( eventIds );
+			CompletableFuture<Void> batchCompletion = new CompletableFuture<>();
+			inFlightBatches.add( batchCompletion );
+			indexingFuture.thenRunAsync( () -> {
+				try ( SessionImplementor session = openSession() ) {
+					updateEvents( session, eventProcessing );
+				}
+			}, executor )
+					.whenComplete( Futures.handler( (result, throwable) -> {
+						if ( throwable != null ) {
+							// The events will be processed again once they are no longer considered in flight.
+							FailureContext.Builder contextBuilder = FailureContext.builder();
+							contextBuilder.throwable( throwable );
+							contextBuilder.failingOperation( log.outboxEventProcessorUpdate( name ) );
+							failureHandler.handle( contextBuilder.build() );
+						}
+						eventIds.forEach( inFlightEventIds::remove );
+						inFlightBatches.remove( batchCompletion );
+						batchCompletion.complete( null );
+					} ) );
+		}
+
+		private void updateEvents(SessionImplementor session, OutboxEventProcessingPlan eventProcessing) {
+			// Updating events involves database locks on a table that
+			// can see heavily concurrent access (the outbox table),
+			// so we do that in a separate transaction, one that is as short as possible.
+			OutboxEventUpdater eventUpdater = new OutboxEventUpdater(
+					failureHandler, eventProcessing, session, name, retryDelay );
+			// We potentially perform this update in multiple transactions,
+			// each loading as many events as possible using SKIP_LOCKED,
+			// to only load events that are not already locked by another processor.
+			// This is to avoid problems related to lock escalation in MS SQL for example,
+			// where another processor could be locking on our own events because
+			// it locked a page instead of just a row.
+			// For more information, see
+			// org.hibernate.search.mapper.orm.coordination.outboxpolling.impl.OutboxEventLoader.tryLoadLocking
+			while ( eventUpdater.thereAreStillEventsToProcess() ) {
+				transactionHelper.inTransaction( session, transactionTimeout,
+						(Consumer<SharedSessionContractImplementor>) s -> eventUpdater.process()
+				);
+			}
+		}
+
+		private CompletableFuture<?> inFlightBatchesCompletion() {
+			return CompletableFuture.allOf( inFlightBatches.toArray( new CompletableFuture<?>[0] ) );
+		}
+
 		@Override
 		public void complete() {
 			// Make sure we poll again in a few seconds.
@@ -307,6 +542,15 @@ public void complete() {
 			ensureScheduled();
 		}
 
+		void wakeUp() {
+			// Make sure the next execution will happen immediately, be it currently scheduled or not.
+			// If we're currently running, the next execution will happen right after,
+			// since ensureScheduled() will be called while running.
+			lastExecutionProcessedEvents = true;
+			ensureScheduled();
+			scheduler.executeDelayedPollNow();
+		}
+
 		private void ensureScheduled() {
 			// Only schedule the task while the Hibernate Search is started;
 			// as soon as Hibernate Search stops,
@@ -320,6 +564,7 @@ private void ensureScheduled() {
 
 	private class Scheduler implements SingletonTask.Scheduler {
 		private final ScheduledExecutorService delegate;
+		private volatile DelayedPoll delayedPoll;
 
 		private Scheduler(ScheduledExecutorService delegate) {
 			this.delegate = delegate;
@@ -344,8 +589,17 @@ else if ( instructions.eventFinder.isPresent() ) {
 				}
 				else {
 					// When running and there are no more events to process,
-					// re-execute the worker after the polling interval.
-					return delegate.schedule( runnable, pollingInterval, TimeUnit.MILLISECONDS );
+					// re-execute the worker after the polling interval,
+					// or earlier if we get notified that events were committed.
+					long delay = pace.pollingInterval();
+					if ( delay > pollingInterval ) {
+						// Backing off: make sure we don't delay the next pulse.
+						delay = Math.max( pollingInterval,
+								Math.min( delay, instructions.timeInMillisecondsToExpiration() ) );
+					}
+					DelayedPoll poll = new DelayedPoll( runnable );
+					delayedPoll = poll;
+					return delegate.schedule( poll, delay, TimeUnit.MILLISECONDS );
 				}
 			}
 			else {
@@ -358,5 +612,38 @@ else if ( instructions.eventFinder.isPresent() ) {
 				return delegate.schedule( runnable, instructions.timeInMillisecondsToExpiration(), TimeUnit.MILLISECONDS );
 			}
 		}
+
+		void executeDelayedPollNow() {
+			DelayedPoll poll = delayedPoll;
+			if ( poll == null || poll.started.get() || status.get() != Status.STARTED ) {
+				return;
+			}
+			try {
+				delegate.submit( poll );
+			}
+			catch (RejectedExecutionException e) {
+				// We're stopping: ignore.
+			}
+		}
+	}
+
+	/**
+	 * A poll that may get executed either after a delay or right away,
+	 * whichever comes first, but never twice.
+	 */
+	private static class DelayedPoll implements Runnable {
+		private final Runnable delegate;
+		private final AtomicBoolean started = new AtomicBoolean( false );
+
+		private DelayedPoll(Runnable delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void run() {
+			if ( started.compareAndSet( false, true ) ) {
+				delegate.run();
+			}
+		}
 	}
 }
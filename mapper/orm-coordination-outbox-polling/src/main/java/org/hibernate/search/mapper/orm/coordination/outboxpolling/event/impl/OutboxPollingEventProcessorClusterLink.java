@@ -237,7 +237,7 @@ private OutboxPollingEventProcessingInstructions instructProceedWithEventProcess
 		Instant expiration = now.plus( pulseInterval );
 		log.tracef( "Agent '%s': instructions are to process events and to retry a pulse in %s, around %s",
 				selfReference(), pulseInterval, expiration );
-		return new OutboxPollingEventProcessingInstructions( clock, expiration, Optional.of( lastShardAssignment.eventFinder ) );
+		return new OutboxPollingEventProcessingInstructions( clock, expiration, Optional.of( lastShardAssignment ) );
 	}
 
 }
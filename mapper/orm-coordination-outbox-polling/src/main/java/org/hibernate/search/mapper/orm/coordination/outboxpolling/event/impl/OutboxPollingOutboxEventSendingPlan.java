@@ -12,11 +12,14 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingQueueEventSendingPlan;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.avro.impl.EventPayloadSerializationUtils;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventNotifier;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
 import org.hibernate.search.util.common.data.impl.RangeCompatibleHashFunction;
@@ -31,10 +34,12 @@ public final class OutboxPollingOutboxEventSendingPlan implements AutomaticIndex
 	private static final RangeCompatibleHashFunction HASH_FUNCTION = ShardAssignment.HASH_FUNCTION;
 
 	private final Session session;
+	private final OutboxEventNotifier notifierOrNull;
 	private final List<OutboxEvent> events = new ArrayList<>();
 
-	public OutboxPollingOutboxEventSendingPlan(Session session) {
+	public OutboxPollingOutboxEventSendingPlan(Session session, OutboxEventNotifier notifierOrNull) {
 		this.session = session;
+		this.notifierOrNull = notifierOrNull;
 	}
 
 	@Override
@@ -56,8 +61,11 @@ public void discard() {
 	public <R> CompletableFuture<MultiEntityOperationExecutionReport<R>> sendAndReport(
 			EntityReferenceFactory<R> entityReferenceFactory) {
 		if ( session.isOpen() ) {
+			notifyOnCommit( session.unwrap( SessionImplementor.class ) );
 			return sendAndReportOnSession( session, entityReferenceFactory );
 		}
+		// The session is closed, so we cannot register anything to be executed on commit.
+		// We simply won't notify event processors; they will pick up the events on their next poll.
 
 		// See https://hibernate.atlassian.net/browse/HSEARCH-4198
 		// When JTA is enabled with Spring, the shouldReleaseBeforeCompletion strategy is used by default.
@@ -72,6 +80,29 @@ public <R> CompletableFuture<MultiEntityOperationExecutionReport<R>> sendAndRepo
 		}
 	}
 
+	private void notifyOnCommit(SessionImplementor sessionImplementor) {
+		if ( notifierOrNull == null || events.isEmpty() ) {
+			return;
+		}
+		int[] entityIdHashes = new int[events.size()];
+		for ( int i = 0; i < entityIdHashes.length; i++ ) {
+			entityIdHashes[i] = events.get( i ).getEntityIdHash();
+		}
+		String tenantId = sessionImplementor.getTenantIdentifier();
+		sessionImplementor.getActionQueue().registerProcess( (AfterTransactionCompletionProcess) (success, ignored) -> {
+			if ( !success ) {
+				return;
+			}
+			try {
+				notifierOrNull.eventsCommitted( tenantId, entityIdHashes );
+			}
+			catch (RuntimeException e) {
+				// Notifications are just an optimization: don't let a failure affect the application.
+				log.unableToNotifyCommittedOutboxEvents( e.getMessage(), e );
+			}
+		} );
+	}
+
 	private <R> CompletableFuture<MultiEntityOperationExecutionReport<R>> sendAndReportOnSession(
 			Session currentSession, EntityReferenceFactory<R> entityReferenceFactory) {
 		try {
@@ -35,11 +35,19 @@ public static ShardAssignment of(ShardAssignmentDescriptor descriptor,
 
 	final ShardAssignmentDescriptor descriptor;
 	final OutboxEventFinder eventFinder;
+	private final RangeHashTable<Void> hashTableOrNull;
 
 	// Exposed for testing purposes only
 	ShardAssignment(ShardAssignmentDescriptor descriptor, OutboxEventFinder eventFinder) {
 		this.descriptor = descriptor;
 		this.eventFinder = eventFinder;
+		this.hashTableOrNull = descriptor.totalShardCount == 1 ? null
+				: new RangeHashTable<>( HASH_FUNCTION, descriptor.totalShardCount );
+	}
+
+	boolean isAssigned(int entityIdHash) {
+		return hashTableOrNull == null
+				|| hashTableOrNull.computeIndexForHash( entityIdHash ) == descriptor.assignedShardIndex;
 	}
 
 	@Override
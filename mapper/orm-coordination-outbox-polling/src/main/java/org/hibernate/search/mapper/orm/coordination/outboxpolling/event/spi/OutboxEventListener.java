@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A listener to notify whenever outbox events are committed.
+ *
+ * @see OutboxEventNotifier
+ */
+@Incubating
+public interface OutboxEventListener {
+
+	/**
+	 * @param tenantId The tenant identifier of the session that persisted the events, or {@code null}.
+	 * @param entityIdHashes The hashes of the identifiers of the entities targeted by the committed events.
+	 */
+	void eventsCommitted(String tenantId, int[] entityIdHashes);
+
+}
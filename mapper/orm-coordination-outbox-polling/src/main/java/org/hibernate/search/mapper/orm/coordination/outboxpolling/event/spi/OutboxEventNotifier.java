@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A notifier relaying the commit of outbox events to event processors,
+ * so that they can process these events immediately instead of waiting for their next poll.
+ * <p>
+ * The default implementation only notifies event processors running in the same JVM.
+ * Custom implementations may also notify event processors running on other application nodes,
+ * for example through PostgreSQL's {@code LISTEN}/{@code NOTIFY}.
+ * <p>
+ * Notifications are only hints: event processors still poll the outbox table periodically,
+ * so a lost notification merely leads to higher latency.
+ */
+@Incubating
+public interface OutboxEventNotifier {
+
+	/**
+	 * Called after a transaction that persisted outbox events was successfully committed.
+	 * <p>
+	 * Implementations should return quickly, as this is executed in the thread that committed the transaction.
+	 *
+	 * @param tenantId The tenant identifier of the session that persisted the events, or {@code null}.
+	 * @param entityIdHashes The hashes of the identifiers of the entities targeted by the committed events.
+	 */
+	void eventsCommitted(String tenantId, int[] entityIdHashes);
+
+	/**
+	 * Registers a listener to notify whenever outbox events are committed.
+	 *
+	 * @param listener The listener to register.
+	 */
+	void addListener(OutboxEventListener listener);
+
+	/**
+	 * Unregisters a listener previously registered with {@link #addListener(OutboxEventListener)}.
+	 *
+	 * @param listener The listener to unregister.
+	 */
+	void removeListener(OutboxEventListener listener);
+
+}
@@ -29,16 +29,19 @@
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategyStartContext;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.impl.HibernateOrmMapperOutboxPollingImplSettings;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.spi.HibernateOrmMapperOutboxPollingSpiSettings;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.AgentRepositoryProvider;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.DefaultAgentRepository;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.OutboxPollingAgentAdditionalJaxbMappingProducer;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.ShardAssignmentDescriptor;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.DefaultOutboxEventFinder;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.LocalOutboxEventNotifier;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxEventFinderProvider;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxPollingEventProcessor;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxPollingMassIndexerAgent;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalJaxbMappingProducer;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxPollingOutboxEventSendingPlan;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventNotifier;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.logging.impl.Log;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.mapping.impl.OutboxPollingSearchMappingImpl;
 import org.hibernate.search.mapper.orm.tenancy.spi.TenancyConfiguration;
@@ -68,6 +71,11 @@ public class OutboxPollingCoordinationStrategy implements CoordinationStrategy {
 					.multivalued()
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> EVENT_PROCESSOR_AGENT_COUNT =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_AGENT_COUNT )
+					.asIntegerStrictlyPositive()
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends AgentRepositoryProvider>> AGENT_REPOSITORY_PROVIDER =
 			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingImplSettings.CoordinationRadicals.AGENT_REPOSITORY_PROVIDER )
 					.asBeanReference( AgentRepositoryProvider.class )
@@ -78,8 +86,15 @@ public class OutboxPollingCoordinationStrategy implements CoordinationStrategy {
 					.asBeanReference( OutboxEventFinderProvider.class )
 					.build();
 
+	private static final OptionalConfigurationProperty<BeanReference<? extends OutboxEventNotifier>> OUTBOX_EVENT_NOTIFIER =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSpiSettings.CoordinationRadicals.OUTBOXEVENT_NOTIFIER )
+					.asBeanReference( OutboxEventNotifier.class )
+					.build();
+
 	private BeanHolder<? extends OutboxEventFinderProvider> finderProviderHolder;
 	private BeanHolder<? extends AgentRepositoryProvider> agentRepositoryProviderHolder;
+	// Volatile because sending plans may get created from any thread
+	private volatile BeanHolder<? extends OutboxEventNotifier> notifierHolder;
 
 	private TenancyConfiguration tenancyConfiguration;
 	private final Map<String, TenantDelegate> tenantDelegates = new LinkedHashMap<>();
@@ -89,7 +104,7 @@ public class OutboxPollingCoordinationStrategy implements CoordinationStrategy {
 	public void configure(CoordinationConfigurationContext context) {
 		context.mappingProducer( new OutboxPollingOutboxEventAdditionalJaxbMappingProducer() );
 		context.mappingProducer( new OutboxPollingAgentAdditionalJaxbMappingProducer() );
-		context.sendIndexingEventsTo( ctx -> new OutboxPollingOutboxEventSendingPlan( ctx.session() ), true );
+		context.sendIndexingEventsTo( ctx -> new OutboxPollingOutboxEventSendingPlan( ctx.session(), notifier() ), true );
 	}
 
 	@Override
@@ -122,6 +137,20 @@ public CompletableFuture<?> start(CoordinationStrategyStartContext context) {
 			finderProviderHolder = BeanHolder.of( new DefaultOutboxEventFinder.Provider() );
 		}
 
+		Optional<BeanHolder<? extends OutboxEventNotifier>> notifierHolderOptional =
+				OUTBOX_EVENT_NOTIFIER.getAndMap(
+						context.configurationPropertySource(), context.beanResolver()::resolve );
+		if ( notifierHolderOptional.isPresent() ) {
+			notifierHolder = notifierHolderOptional.get();
+			log.debugf(
+					"Outbox processing will use custom outbox event notifier '%s'.",
+					notifierHolder.get()
+			);
+		}
+		else {
+			notifierHolder = BeanHolder.of( new LocalOutboxEventNotifier() );
+		}
+
 		tenancyConfiguration = context.tenancyConfiguration();
 		Set<String> tenantIds = tenancyConfiguration.tenantIdsOrFail();
 
@@ -154,6 +183,12 @@ public PojoMassIndexerAgent createMassIndexerAgent(PojoMassIndexerAgentCreateCon
 				.create( context, agentRepositoryProviderHolder.get() );
 	}
 
+	private OutboxEventNotifier notifier() {
+		BeanHolder<? extends OutboxEventNotifier> holder = notifierHolder;
+		// Before start, there is no one to notify anyway.
+		return holder == null ? null : holder.get();
+	}
+
 	private TenantDelegate tenantDelegate(String tenantId) {
 		TenantDelegate tenantDelegate = tenantDelegates.get( tenantId );
 		if ( tenantDelegate == null ) {
@@ -199,6 +234,7 @@ public void stop() {
 			}
 			closer.push( BeanHolder::close, finderProviderHolder );
 			closer.push( BeanHolder::close, agentRepositoryProviderHolder );
+			closer.push( BeanHolder::close, notifierHolder );
 		}
 	}
 
@@ -238,6 +274,10 @@ private void initializeEventProcessors(CoordinationStrategyStartContext context,
 					|| EVENT_PROCESSOR_SHARDS_ASSIGNED.get( configurationSource ).isPresent();
 			List<ShardAssignmentDescriptor> shardAssignmentOrNulls;
 			if ( shardsStatic ) {
+				EVENT_PROCESSOR_AGENT_COUNT.getAndMap( configurationSource, ignored -> {
+					throw log.agentCountWithStaticSharding(
+							EVENT_PROCESSOR_SHARDS_ASSIGNED.resolveOrRaw( configurationSource ) );
+				} );
 				int totalShardCount = EVENT_PROCESSOR_SHARDS_TOTAL_COUNT.getAndMapOrThrow(
 						configurationSource,
 						this::checkTotalShardCount,
@@ -252,16 +292,20 @@ private void initializeEventProcessors(CoordinationStrategyStartContext context,
 				);
 			}
 			else {
-				shardAssignmentOrNulls = Collections.singletonList( null );
+				// Dynamic sharding: each agent will be assigned its own shard when joining the cluster.
+				int agentCount = EVENT_PROCESSOR_AGENT_COUNT.get( configurationSource )
+						.orElse( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_AGENT_COUNT );
+				shardAssignmentOrNulls = Collections.nCopies( agentCount, null );
 			}
 
 			eventProcessorExecutor = context.threadPoolProvider()
 					.newScheduledExecutor( shardAssignmentOrNulls.size(),
 							OutboxPollingEventProcessor.namePrefix( tenantId ) );
 			eventProcessors = new ArrayList<>();
-			for ( ShardAssignmentDescriptor shardAssignmentOrNull : shardAssignmentOrNulls ) {
+			for ( int i = 0; i < shardAssignmentOrNulls.size(); i++ ) {
 				eventProcessors.add( factory.create( eventProcessorExecutor, finderProviderHolder.get(),
-						agentRepositoryProviderHolder.get(), shardAssignmentOrNull ) );
+						agentRepositoryProviderHolder.get(), notifierHolder.get(), shardAssignmentOrNulls.get( i ),
+						i, shardAssignmentOrNulls.size() ) );
 			}
 			for ( OutboxPollingEventProcessor eventProcessor : eventProcessors ) {
 				eventProcessor.start();
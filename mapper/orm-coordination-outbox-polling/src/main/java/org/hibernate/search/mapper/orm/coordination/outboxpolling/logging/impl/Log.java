@@ -101,6 +101,9 @@ public interface Log extends BasicLogger {
 	@Message(value = "Pulse operation for agent '%1$s'")
 	String outboxEventProcessorPulse(AgentReference agentReference);
 
+	@Message(value = "Updating outbox events after processing in '%1$s'")
+	String outboxEventProcessorUpdate(String name);
+
 	@Message(id = ID_OFFSET + 17, value = "Agent '%1$s': failed to infer a target cluster from the list of registered agents."
 			+ " The agent will try again in the next pulse."
 			+ " Cause: %2$s"
@@ -160,4 +163,26 @@ SearchException conflictingOutboxEventBackgroundProcessorAgentShardsForStaticSha
 			value = "Multi-tenancy is not enabled but a tenant id is specified. Trying to use the tenant id: '%1$s'.")
 	SearchException multiTenancyNotEnabled(String tenantId);
 
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 26, value = "Unable to notify event processors of committed outbox events: %1$s."
+			+ " Event processors will only process these events on their next poll.")
+	void unableToNotifyCommittedOutboxEvents(String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET + 27, value = "The maximum polling interval must be greater than or equal to the polling interval"
+			+ " i.e. in this case at least %s")
+	SearchException invalidPollingIntervalAndMaxPollingInterval(long pollingInterval);
+
+	@Message(id = ID_OFFSET + 28, value = "The minimum batch size must be lower than or equal to the batch size"
+			+ " i.e. in this case at most %s")
+	SearchException invalidBatchSizeAndMinBatchSize(int batchSize);
+
+	@Message(id = ID_OFFSET + 29, value = "The maximum batch size must be greater than or equal to the batch size"
+			+ " i.e. in this case at least %s")
+	SearchException invalidBatchSizeAndMaxBatchSize(int batchSize);
+
+	@Message(id = ID_OFFSET + 30, value = "This property cannot be set when using static sharding."
+			+ " With static sharding, one event processor agent is started for each assigned shard;"
+			+ " to run more agents on this application node, assign more shards to it through configuration property '%1$s'.")
+	SearchException agentCountWithStaticSharding(String assignedShardsPropertyKey);
+
 }
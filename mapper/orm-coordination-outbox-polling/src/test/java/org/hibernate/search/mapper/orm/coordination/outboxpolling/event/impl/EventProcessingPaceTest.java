@@ -0,0 +1,95 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class EventProcessingPaceTest {
+
+	@Test
+	public void fixed() {
+		EventProcessingPace pace = new EventProcessingPace( Duration.ofMillis( 100 ), Duration.ofMillis( 100 ),
+				50, 50, 50, Duration.ofSeconds( 1 ) );
+		assertThat( pace.pollingInterval() ).isEqualTo( 100 );
+		assertThat( pace.batchSize() ).isEqualTo( 50 );
+
+		pace.polled( false );
+		pace.polled( false );
+		assertThat( pace.pollingInterval() ).isEqualTo( 100 );
+
+		pace.batchProcessed( 50, 50, TimeUnit.MILLISECONDS.toNanos( 1 ) );
+		assertThat( pace.batchSize() ).isEqualTo( 50 );
+	}
+
+	@Test
+	public void pollingInterval_backOff() {
+		EventProcessingPace pace = new EventProcessingPace( Duration.ofMillis( 100 ), Duration.ofMillis( 1000 ),
+				50, 50, 50, Duration.ofSeconds( 1 ) );
+
+		pace.polled( false );
+		assertThat( pace.pollingInterval() ).isEqualTo( 200 );
+		pace.polled( false );
+		assertThat( pace.pollingInterval() ).isEqualTo( 400 );
+		pace.polled( false );
+		assertThat( pace.pollingInterval() ).isEqualTo( 800 );
+		pace.polled( false );
+		assertThat( pace.pollingInterval() ).isEqualTo( 1000 );
+		pace.polled( false );
+		assertThat( pace.pollingInterval() ).isEqualTo( 1000 );
+
+		pace.polled( true );
+		assertThat( pace.pollingInterval() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void batchSize_grow() {
+		EventProcessingPace pace = new EventProcessingPace( Duration.ofMillis( 100 ), Duration.ofMillis( 100 ),
+				50, 10, 1000, Duration.ofSeconds( 1 ) );
+
+		// 1ms per event: ideal batch size is 1000, move halfway
+		pace.batchProcessed( 50, 50, TimeUnit.MILLISECONDS.toNanos( 50 ) );
+		assertThat( pace.batchSize() ).isEqualTo( 525 );
+
+		// Clamped to the maximum
+		pace.batchProcessed( 525, 525, TimeUnit.MICROSECONDS.toNanos( 525 ) );
+		assertThat( pace.batchSize() ).isEqualTo( 1000 );
+	}
+
+	@Test
+	public void batchSize_grow_notFull() {
+		EventProcessingPace pace = new EventProcessingPace( Duration.ofMillis( 100 ), Duration.ofMillis( 100 ),
+				50, 10, 1000, Duration.ofSeconds( 1 ) );
+
+		// Fast processing, but the batch wasn't full: no need to grow
+		pace.batchProcessed( 50, 20, TimeUnit.MILLISECONDS.toNanos( 20 ) );
+		assertThat( pace.batchSize() ).isEqualTo( 50 );
+	}
+
+	@Test
+	public void batchSize_shrink() {
+		EventProcessingPace pace = new EventProcessingPace( Duration.ofMillis( 100 ), Duration.ofMillis( 100 ),
+				50, 10, 1000, Duration.ofSeconds( 1 ) );
+
+		// 100ms per event: ideal batch size is 10, move halfway
+		pace.batchProcessed( 50, 50, TimeUnit.MILLISECONDS.toNanos( 5000 ) );
+		assertThat( pace.batchSize() ).isEqualTo( 30 );
+
+		// 1s per event: ideal batch size is 1; shrinks even if the batch wasn't full
+		pace.batchProcessed( 30, 5, TimeUnit.SECONDS.toNanos( 5 ) );
+		assertThat( pace.batchSize() ).isEqualTo( 15 );
+
+		// Clamped to the minimum
+		pace.batchProcessed( 15, 5, TimeUnit.SECONDS.toNanos( 5 ) );
+		assertThat( pace.batchSize() ).isEqualTo( 10 );
+	}
+
+}
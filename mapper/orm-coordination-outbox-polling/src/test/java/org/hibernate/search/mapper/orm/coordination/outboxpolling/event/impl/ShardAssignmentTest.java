@@ -0,0 +1,81 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.ShardAssignmentDescriptor;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.common.data.RangeBoundInclusion;
+import org.hibernate.search.util.common.data.impl.RangeHashTable;
+
+import org.junit.Test;
+
+public class ShardAssignmentTest {
+
+	@Test
+	public void isAssigned_singleShard() {
+		ShardAssignment assignment = new ShardAssignment( new ShardAssignmentDescriptor( 1, 0 ), null );
+		for ( int hash : hashes() ) {
+			assertThat( assignment.isAssigned( hash ) ).isTrue();
+		}
+	}
+
+	@Test
+	public void isAssigned_multipleShards() {
+		int totalShardCount = 4;
+		RangeHashTable<Void> hashTable = new RangeHashTable<>( ShardAssignment.HASH_FUNCTION, totalShardCount );
+		List<ShardAssignment> assignments = new ArrayList<>();
+		for ( int i = 0; i < totalShardCount; i++ ) {
+			assignments.add( new ShardAssignment( new ShardAssignmentDescriptor( totalShardCount, i ), null ) );
+		}
+
+		for ( int hash : hashes() ) {
+			int assignedCount = 0;
+			for ( ShardAssignment assignment : assignments ) {
+				if ( assignment.isAssigned( hash ) ) {
+					assignedCount++;
+					// Must be consistent with the predicate used when polling for events
+					assertThat( contains( hashTable.rangeForBucket( assignment.descriptor.assignedShardIndex ), hash ) )
+							.as( "Hash %s in range of shard %s", hash, assignment.descriptor.assignedShardIndex )
+							.isTrue();
+				}
+			}
+			assertThat( assignedCount ).as( "Number of shards assigned to hash %s", hash ).isEqualTo( 1 );
+		}
+	}
+
+	private static List<Integer> hashes() {
+		List<Integer> hashes = new ArrayList<>( Arrays.asList( Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE ) );
+		Random random = new Random( 42L );
+		for ( int i = 0; i < 1000; i++ ) {
+			hashes.add( random.nextInt() );
+		}
+		return hashes;
+	}
+
+	private static boolean contains(Range<Integer> range, int value) {
+		if ( range.lowerBoundValue().isPresent() ) {
+			int lower = range.lowerBoundValue().get();
+			if ( range.lowerBoundInclusion() == RangeBoundInclusion.INCLUDED ? value < lower : value <= lower ) {
+				return false;
+			}
+		}
+		if ( range.upperBoundValue().isPresent() ) {
+			int upper = range.upperBoundValue().get();
+			if ( range.upperBoundInclusion() == RangeBoundInclusion.INCLUDED ? value > upper : value >= upper ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -14,6 +14,7 @@
 import javax.persistence.EntityManager;
 
 import org.hibernate.Session;
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.orm.automaticindexing.session.AutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.common.EntityReference;
@@ -65,6 +66,17 @@ public interface SearchSession {
 	 */
 	<T> SearchQuerySelectStep<?, EntityReference, T, SearchLoadingOptionsStep, ?, ?> search(SearchScope<T> scope);
 
+	/**
+	 * Create a {@link SearchQueryBatch}, to execute several independent search queries together.
+	 * <p>
+	 * Executing queries as a batch may be faster than executing each query separately,
+	 * e.g. by sending all queries in a single request to the backend.
+	 *
+	 * @return A new, empty {@link SearchQueryBatch}.
+	 * @see SearchQueryBatch
+	 */
+	SearchQueryBatch batch();
+
 	/**
 	 * Create a {@link SearchSchemaManager} for all indexes.
 	 *
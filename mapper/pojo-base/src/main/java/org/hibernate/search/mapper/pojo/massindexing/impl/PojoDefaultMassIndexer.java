@@ -46,6 +46,8 @@ public class PojoDefaultMassIndexer implements PojoMassIndexer {
 	private boolean dropAndCreateSchemaOnStart = false;
 	private boolean purgeAtStart = true;
 	private boolean mergeSegmentsAfterPurge = true;
+	private boolean buildThenSwap = false;
+	private boolean bulkIndexingSettings = false;
 
 	private MassIndexingFailureHandler failureHandler;
 	private MassIndexingMonitor monitor;
@@ -108,6 +110,18 @@ public PojoDefaultMassIndexer purgeAllOnStart(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public PojoDefaultMassIndexer buildThenSwap(boolean enable) {
+		this.buildThenSwap = enable;
+		return this;
+	}
+
+	@Override
+	public PojoDefaultMassIndexer bulkIndexingSettings(boolean enable) {
+		this.bulkIndexingSettings = enable;
+		return this;
+	}
+
 	@Override
 	public PojoDefaultMassIndexer monitor(MassIndexingMonitor monitor) {
 		this.monitor = monitor;
@@ -162,7 +176,7 @@ private PojoMassIndexingBatchCoordinator createCoordinator() {
 				typeGroupsToIndex, scopeSchemaManager, detachedSession, scopeWorkspace,
 				typesToIndexInParallel, documentBuilderThreads,
 				mergeSegmentsOnFinish, dropAndCreateSchemaOnStart,
-				purgeAtStart, mergeSegmentsAfterPurge
+				purgeAtStart, mergeSegmentsAfterPurge, buildThenSwap, bulkIndexingSettings
 		);
 	}
 
@@ -46,9 +46,13 @@ public class PojoMassIndexingBatchCoordinator extends PojoMassIndexingFailureHan
 	private final boolean dropAndCreateSchemaOnStart;
 	private final boolean purgeAtStart;
 	private final boolean mergeSegmentsAfterPurge;
+	private final boolean buildThenSwap;
+	private final boolean bulkIndexingSettings;
 
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
 	private PojoMassIndexerAgent agent;
+	private boolean rebuildStarted;
+	private boolean bulkIndexingSettingsApplied;
 
 	public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingContext,
 			PojoMassIndexingNotifier notifier,
@@ -57,7 +61,8 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 			DetachedBackendSessionContext detachedSession,
 			PojoScopeWorkspace scopeWorkspace,
 			int typesToIndexInParallel, int documentBuilderThreads, boolean mergeSegmentsOnFinish,
-			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge) {
+			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
+			boolean buildThenSwap, boolean bulkIndexingSettings) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.typeGroupsToIndex = typeGroupsToIndex;
@@ -71,6 +76,8 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
 		this.purgeAtStart = purgeAtStart;
 		this.mergeSegmentsAfterPurge = mergeSegmentsAfterPurge;
+		this.buildThenSwap = buildThenSwap;
+		this.bulkIndexingSettings = bulkIndexingSettings;
 	}
 
 	@Override
@@ -110,12 +117,29 @@ private void beforeBatch() throws InterruptedException {
 			failureCollector.checkNoFailure();
 		}
 
-		if ( purgeAtStart ) {
+		if ( buildThenSwap ) {
+			// Set this first, so that a rebuild that only started for some indexes is aborted on failure.
+			rebuildStarted = true;
+			// The new indexes start empty: no need to purge.
+			Futures.unwrappedExceptionGet( scopeWorkspace.startRebuild() );
+		}
+		else if ( purgeAtStart ) {
 			Futures.unwrappedExceptionGet( scopeWorkspace.purge( Collections.emptySet() ) );
 			if ( mergeSegmentsAfterPurge ) {
 				Futures.unwrappedExceptionGet( scopeWorkspace.mergeSegments() );
 			}
 		}
+
+		if ( bulkIndexingSettings ) {
+			// Do this after starting a rebuild, so that settings are applied to the indexes being rebuilt.
+			// Set this first, so that settings that were only applied to some indexes are restored on failure.
+			bulkIndexingSettingsApplied = true;
+			RootFailureCollector failureCollector = new RootFailureCollector(
+					PojoEventContextMessages.INSTANCE.schemaManagement()
+			);
+			Futures.unwrappedExceptionGet( scopeSchemaManager.prepareForBulkIndexing( failureCollector ) );
+			failureCollector.checkNoFailure();
+		}
 	}
 
 	/**
@@ -155,6 +179,14 @@ private void afterBatch() throws InterruptedException {
 		if ( mergeSegmentsOnFinish ) {
 			Futures.unwrappedExceptionGet( scopeWorkspace.mergeSegments() );
 		}
+		// Restore settings after merging segments, so that merged segments only get replicated once,
+		// but before swapping rebuilt indexes and refreshing,
+		// so that indexes only start serving searches with their original settings.
+		restoreIndexSettings();
+		if ( buildThenSwap ) {
+			Futures.unwrappedExceptionGet( scopeWorkspace.finishRebuild() );
+			rebuildStarted = false;
+		}
 		flushAndRefresh();
 		Futures.unwrappedExceptionGet( agent.preStop() );
 		agent.stop();
@@ -166,22 +198,53 @@ private void flushAndRefresh() throws InterruptedException {
 		Futures.unwrappedExceptionGet( scopeWorkspace.refresh() );
 	}
 
+	private void abortRebuild() throws InterruptedException {
+		if ( !rebuildStarted ) {
+			return;
+		}
+		rebuildStarted = false;
+		Futures.unwrappedExceptionGet( scopeWorkspace.abortRebuild() );
+	}
+
+	private void restoreIndexSettings() throws InterruptedException {
+		if ( !bulkIndexingSettingsApplied ) {
+			return;
+		}
+		bulkIndexingSettingsApplied = false;
+		RootFailureCollector failureCollector = new RootFailureCollector(
+				PojoEventContextMessages.INSTANCE.schemaManagement()
+		);
+		Futures.unwrappedExceptionGet( scopeSchemaManager.restoreAfterBulkIndexing( failureCollector ) );
+		failureCollector.checkNoFailure();
+	}
+
 	@Override
 	protected void cleanUpOnInterruption() throws InterruptedException {
 		try ( Closer<InterruptedException> closer = new Closer<>() ) {
 			closer.pushAll( this::cancelPendingTask, indexingFutures );
-			// Indexing performed before the exception must still be committed,
-			// in order to leave the index in a consistent state
-			closer.push( PojoMassIndexingBatchCoordinator::flushAndRefresh, this );
+			if ( rebuildStarted ) {
+				// The live indexes were left untouched: just discard the partially rebuilt indexes.
+				closer.push( PojoMassIndexingBatchCoordinator::restoreIndexSettings, this );
+				closer.push( PojoMassIndexingBatchCoordinator::abortRebuild, this );
+			}
+			else {
+				closer.push( PojoMassIndexingBatchCoordinator::restoreIndexSettings, this );
+				// Indexing performed before the exception must still be committed,
+				// in order to leave the index in a consistent state
+				closer.push( PojoMassIndexingBatchCoordinator::flushAndRefresh, this );
+			}
 			closer.push( PojoMassIndexerAgent::stop, agent );
 			agent = null;
 		}
 	}
 
 	@Override
-	protected void cleanUpOnFailure() {
-		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+	protected void cleanUpOnFailure() throws InterruptedException {
+		try ( Closer<InterruptedException> closer = new Closer<>() ) {
 			closer.pushAll( this::cancelPendingTask, indexingFutures );
+			// Restore settings first, as aborting a rebuild may drop the indexes they were applied to.
+			closer.push( PojoMassIndexingBatchCoordinator::restoreIndexSettings, this );
+			closer.push( PojoMassIndexingBatchCoordinator::abortRebuild, this );
 			closer.push( PojoMassIndexerAgent::stop, agent );
 			agent = null;
 		}
@@ -90,6 +90,42 @@ public interface PojoMassIndexer {
 	 */
 	PojoMassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Builds new indexes aside from the live indexes, then swaps them in place of the live indexes on finish.
+	 * <p>
+	 * Until indexing finishes, search queries keep targeting the live indexes, which are left untouched,
+	 * and documents indexed concurrently (automatic indexing, ...) are written to the new indexes.
+	 * If indexing fails or is interrupted, the new indexes are discarded.
+	 * <p>
+	 * When enabled, the new indexes start empty, so {@link #purgeAllOnStart(boolean) purgeAllOnStart}
+	 * and {@link #mergeSegmentsAfterPurge(boolean) mergeSegmentsAfterPurge} have no effect.
+	 * <p>
+	 * Not all backends support this; in particular, multi-tenant indexes cannot be rebuilt that way.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to enable this mode, {@code false} to disable it.
+	 * @return {@code this} for method chaining
+	 */
+	PojoMassIndexer buildThenSwap(boolean enable);
+
+	/**
+	 * Applies index settings optimized for bulk indexing before indexing starts,
+	 * then restores the original index settings after indexing, even if indexing fails.
+	 * <p>
+	 * With the Elasticsearch backend, this disables periodic refreshes and replication while indexing:
+	 * the original {@code refresh_interval} and number of replicas are restored on finish,
+	 * before the final refresh.
+	 * Searches will not see indexed documents until the mass indexer finishes,
+	 * and data will not be replicated until then.
+	 * <p>
+	 * Has no effect with backends that do not have such settings, e.g. the Lucene backend.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to enable this mode, {@code false} to disable it.
+	 * @return {@code this} for method chaining
+	 */
+	PojoMassIndexer bulkIndexingSettings(boolean enable);
+
 	/**
 	 * Starts the indexing process in background (asynchronous).
 	 * <p>
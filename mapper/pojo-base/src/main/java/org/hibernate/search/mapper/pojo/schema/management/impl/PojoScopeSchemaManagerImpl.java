@@ -60,6 +60,16 @@ public CompletableFuture<?> validate(FailureCollector failureCollector) {
 		return doOperationOnTypes( IndexSchemaManager::validate, failureCollector );
 	}
 
+	@Override
+	public CompletableFuture<?> prepareForBulkIndexing(FailureCollector failureCollector) {
+		return doOperationOnTypes( IndexSchemaManager::prepareForBulkIndexing, failureCollector );
+	}
+
+	@Override
+	public CompletableFuture<?> restoreAfterBulkIndexing(FailureCollector failureCollector) {
+		return doOperationOnTypes( IndexSchemaManager::restoreAfterBulkIndexing, failureCollector );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(
 			Function<IndexSchemaManager, CompletableFuture<?>> operation,
 			FailureCollector failureCollector) {
@@ -30,4 +30,8 @@ public interface PojoScopeSchemaManager {
 
 	CompletableFuture<?> validate(FailureCollector failureCollector);
 
+	CompletableFuture<?> prepareForBulkIndexing(FailureCollector failureCollector);
+
+	CompletableFuture<?> restoreAfterBulkIndexing(FailureCollector failureCollector);
+
 }
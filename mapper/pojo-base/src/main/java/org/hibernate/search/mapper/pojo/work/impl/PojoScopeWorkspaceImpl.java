@@ -47,6 +47,21 @@ public CompletableFuture<?> refresh() {
 		return doOperationOnTypes( IndexWorkspace::refresh );
 	}
 
+	@Override
+	public CompletableFuture<?> startRebuild() {
+		return doOperationOnTypes( IndexWorkspace::startRebuild );
+	}
+
+	@Override
+	public CompletableFuture<?> finishRebuild() {
+		return doOperationOnTypes( IndexWorkspace::finishRebuild );
+	}
+
+	@Override
+	public CompletableFuture<?> abortRebuild() {
+		return doOperationOnTypes( IndexWorkspace::abortRebuild );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(Function<IndexWorkspace, CompletableFuture<?>> operation) {
 		CompletableFuture<?>[] futures = new CompletableFuture<?>[delegates.size()];
 		int typeCounter = 0;
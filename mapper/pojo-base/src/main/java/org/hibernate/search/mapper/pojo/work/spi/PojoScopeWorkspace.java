@@ -19,4 +19,10 @@ public interface PojoScopeWorkspace {
 
 	CompletableFuture<?> refresh();
 
+	CompletableFuture<?> startRebuild();
+
+	CompletableFuture<?> finishRebuild();
+
+	CompletableFuture<?> abortRebuild();
+
 }
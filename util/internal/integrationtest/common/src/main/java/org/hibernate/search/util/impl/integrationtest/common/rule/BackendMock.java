@@ -525,6 +525,26 @@ public IndexScaleWorkCallListContext refresh(CompletableFuture<?> future) {
 			return indexScaleWork( StubIndexScaleWork.Type.REFRESH, future );
 		}
 
+		public IndexScaleWorkCallListContext startRebuild() {
+			return indexScaleWork( StubIndexScaleWork.Type.START_REBUILD );
+		}
+
+		public IndexScaleWorkCallListContext startRebuild(CompletableFuture<?> future) {
+			return indexScaleWork( StubIndexScaleWork.Type.START_REBUILD, future );
+		}
+
+		public IndexScaleWorkCallListContext finishRebuild() {
+			return indexScaleWork( StubIndexScaleWork.Type.FINISH_REBUILD );
+		}
+
+		public IndexScaleWorkCallListContext finishRebuild(CompletableFuture<?> future) {
+			return indexScaleWork( StubIndexScaleWork.Type.FINISH_REBUILD, future );
+		}
+
+		public IndexScaleWorkCallListContext abortRebuild() {
+			return indexScaleWork( StubIndexScaleWork.Type.ABORT_REBUILD );
+		}
+
 		public IndexScaleWorkCallListContext indexScaleWork(StubIndexScaleWork.Type type) {
 			return indexScaleWork( type, Collections.emptySet() );
 		}
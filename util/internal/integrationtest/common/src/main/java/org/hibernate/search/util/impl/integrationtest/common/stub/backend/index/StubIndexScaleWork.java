@@ -14,7 +14,7 @@
 public final class StubIndexScaleWork {
 
 	public enum Type {
-		MERGE_SEGMENTS, PURGE, FLUSH, REFRESH
+		MERGE_SEGMENTS, PURGE, FLUSH, REFRESH, START_REBUILD, FINISH_REBUILD, ABORT_REBUILD
 	}
 
 	public static Builder builder(Type type) {
@@ -14,7 +14,9 @@ public enum Type {
 		CREATE_OR_UPDATE,
 		DROP_IF_EXISTING,
 		DROP_AND_CREATE,
-		VALIDATE
+		VALIDATE,
+		PREPARE_FOR_BULK_INDEXING,
+		RESTORE_AFTER_BULK_INDEXING
 	}
 
 	public static Builder builder(Type type) {
@@ -58,4 +58,16 @@ public CompletableFuture<?> validate(ContextualFailureCollector failureCollector
 		StubSchemaManagementWork work = StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.VALIDATE ).build();
 		return behavior.executeSchemaManagementWork( indexName, work, failureCollector );
 	}
+
+	@Override
+	public CompletableFuture<?> prepareForBulkIndexing() {
+		StubSchemaManagementWork work = StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.PREPARE_FOR_BULK_INDEXING ).build();
+		return behavior.executeSchemaManagementWork( indexName, work, null );
+	}
+
+	@Override
+	public CompletableFuture<?> restoreAfterBulkIndexing() {
+		StubSchemaManagementWork work = StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.RESTORE_AFTER_BULK_INDEXING ).build();
+		return behavior.executeSchemaManagementWork( indexName, work, null );
+	}
 }
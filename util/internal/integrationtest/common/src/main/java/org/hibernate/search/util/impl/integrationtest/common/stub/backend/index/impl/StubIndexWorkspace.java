@@ -71,4 +71,27 @@ public CompletableFuture<?> refresh() {
 				.build();
 		return behavior.executeIndexScaleWork( indexName, work );
 	}
+
+	@Override
+	public CompletableFuture<?> startRebuild() {
+		return executeRebuildWork( StubIndexScaleWork.Type.START_REBUILD );
+	}
+
+	@Override
+	public CompletableFuture<?> finishRebuild() {
+		return executeRebuildWork( StubIndexScaleWork.Type.FINISH_REBUILD );
+	}
+
+	@Override
+	public CompletableFuture<?> abortRebuild() {
+		return executeRebuildWork( StubIndexScaleWork.Type.ABORT_REBUILD );
+	}
+
+	private CompletableFuture<?> executeRebuildWork(StubIndexScaleWork.Type type) {
+		StubIndexScaleWork work = StubIndexScaleWork.builder( type )
+				// Passing along the tenant identifier makes testing easier.
+				.tenantIdentifier( sessionContext.tenantIdentifier() )
+				.build();
+		return behavior.executeIndexScaleWork( indexName, work );
+	}
 }
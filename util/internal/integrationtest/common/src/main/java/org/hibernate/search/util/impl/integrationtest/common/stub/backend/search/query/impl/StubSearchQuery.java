@@ -8,15 +8,20 @@
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjectionContext;
@@ -71,6 +76,20 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 		return result;
 	}
 
+	@Override
+	public SearchResult<H> fetchAfter(SearchCursor cursor, Integer limit) {
+		if ( cursor != null ) {
+			throw new AssertionFailure( "Cursors are not supported in the stub backend." );
+		}
+		return fetch( null, limit );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		// Works are executed synchronously in the stub backend.
+		return Futures.create( () -> CompletableFuture.completedFuture( fetch( offset, limit ) ) );
+	}
+
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
 		return fetch( offset, limit ).hits();
@@ -81,6 +100,11 @@ public long fetchTotalHitCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
 
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchTotalHitCount() ) );
+	}
+
 	@Override
 	public SearchScroll<H> scroll(int chunkSize) {
 		return backend.getBehavior().executeScrollWork(